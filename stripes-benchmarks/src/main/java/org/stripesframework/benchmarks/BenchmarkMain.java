@@ -0,0 +1,24 @@
+package org.stripesframework.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the same arguments as {@link Main}, but writes the
+ * results as JSON to {@code jmh-result.json} unless a result format is given with {@code -rf}.
+ */
+public class BenchmarkMain {
+
+   public static void main( String[] args ) throws Exception {
+      List<String> arguments = new ArrayList<>(Arrays.asList(args));
+      if ( !arguments.contains("-rf") ) {
+         arguments.add(0, "-rf");
+         arguments.add(1, "json");
+      }
+      Main.main(arguments.toArray(new String[0]));
+   }
+}
@@ -0,0 +1,137 @@
+package org.stripesframework.benchmarks.action;
+
+import java.math.BigDecimal;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.RedirectResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.validation.Validate;
+
+
+/** A form with 50 validated fields of different types, bound to public fields. */
+@UrlBinding("/form/{$event}")
+public class FormActionBean implements ActionBean {
+
+   /** The number of fields of each type. */
+   public static final int TEXT_FIELDS   = 20;
+   public static final int NUMBER_FIELDS = 15;
+   public static final int AMOUNT_FIELDS = 10;
+   public static final int FLAG_FIELDS   = 5;
+
+   @Validate(required = true, maxlength = 50)
+   public String text01;
+   @Validate(required = true, maxlength = 50)
+   public String text02;
+   @Validate(required = true, maxlength = 50)
+   public String text03;
+   @Validate(required = true, maxlength = 50)
+   public String text04;
+   @Validate(required = true, maxlength = 50)
+   public String text05;
+   @Validate(required = true, maxlength = 50)
+   public String text06;
+   @Validate(required = true, maxlength = 50)
+   public String text07;
+   @Validate(required = true, maxlength = 50)
+   public String text08;
+   @Validate(required = true, maxlength = 50)
+   public String text09;
+   @Validate(required = true, maxlength = 50)
+   public String text10;
+   @Validate(required = true, maxlength = 50)
+   public String text11;
+   @Validate(required = true, maxlength = 50)
+   public String text12;
+   @Validate(required = true, maxlength = 50)
+   public String text13;
+   @Validate(required = true, maxlength = 50)
+   public String text14;
+   @Validate(required = true, maxlength = 50)
+   public String text15;
+   @Validate(required = true, maxlength = 50)
+   public String text16;
+   @Validate(required = true, maxlength = 50)
+   public String text17;
+   @Validate(required = true, maxlength = 50)
+   public String text18;
+   @Validate(required = true, maxlength = 50)
+   public String text19;
+   @Validate(required = true, maxlength = 50)
+   public String text20;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number01;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number02;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number03;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number04;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number05;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number06;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number07;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number08;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number09;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number10;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number11;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number12;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number13;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number14;
+   @Validate(required = true, minvalue = 0, maxvalue = 1000)
+   public Integer number15;
+   @Validate(minvalue = 0)
+   public BigDecimal amount01;
+   @Validate(minvalue = 0)
+   public BigDecimal amount02;
+   @Validate(minvalue = 0)
+   public BigDecimal amount03;
+   @Validate(minvalue = 0)
+   public BigDecimal amount04;
+   @Validate(minvalue = 0)
+   public BigDecimal amount05;
+   @Validate(minvalue = 0)
+   public BigDecimal amount06;
+   @Validate(minvalue = 0)
+   public BigDecimal amount07;
+   @Validate(minvalue = 0)
+   public BigDecimal amount08;
+   @Validate(minvalue = 0)
+   public BigDecimal amount09;
+   @Validate(minvalue = 0)
+   public BigDecimal amount10;
+   @Validate
+   public Boolean flag01;
+   @Validate
+   public Boolean flag02;
+   @Validate
+   public Boolean flag03;
+   @Validate
+   public Boolean flag04;
+   @Validate
+   public Boolean flag05;
+
+   private ActionBeanContext context;
+
+   @Override
+   public ActionBeanContext getContext() { return context; }
+
+   @DefaultHandler
+   public Resolution save() {
+      return new RedirectResolution(FormActionBean.class);
+   }
+
+   @Override
+   public void setContext( ActionBeanContext context ) { this.context = context; }
+}
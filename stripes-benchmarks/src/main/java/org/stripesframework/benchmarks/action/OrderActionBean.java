@@ -0,0 +1,102 @@
+package org.stripesframework.benchmarks.action;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.RedirectResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.validation.Validate;
+import org.stripesframework.web.validation.ValidateNestedProperties;
+
+
+/** An order with a nested customer and indexed items, which are created while binding. */
+@UrlBinding("/order/{$event}")
+public class OrderActionBean implements ActionBean {
+
+   private ActionBeanContext context;
+
+   @ValidateNestedProperties({ @Validate(field = "name", required = true, maxlength = 100), @Validate(field = "address.street"),
+                               @Validate(field = "address.city", required = true), @Validate(field = "address.zip", mask = "\\d{5}") })
+   private Customer customer;
+
+   @ValidateNestedProperties({ @Validate(field = "sku", required = true), @Validate(field = "quantity", required = true, minvalue = 1),
+                               @Validate(field = "price", minvalue = 0) })
+   private List<Item> items;
+
+   @Override
+   public ActionBeanContext getContext() { return context; }
+
+   public Customer getCustomer() { return customer; }
+
+   public List<Item> getItems() { return items; }
+
+   @DefaultHandler
+   public Resolution save() {
+      return new RedirectResolution(OrderActionBean.class);
+   }
+
+   @Override
+   public void setContext( ActionBeanContext context ) { this.context = context; }
+
+   public void setCustomer( Customer customer ) { this.customer = customer; }
+
+   public void setItems( List<Item> items ) { this.items = items; }
+
+   public static class Address {
+
+      private String street;
+      private String city;
+      private String zip;
+
+      public String getCity() { return city; }
+
+      public String getStreet() { return street; }
+
+      public String getZip() { return zip; }
+
+      public void setCity( String city ) { this.city = city; }
+
+      public void setStreet( String street ) { this.street = street; }
+
+      public void setZip( String zip ) { this.zip = zip; }
+   }
+
+
+   public static class Customer {
+
+      private String  name;
+      private Address address;
+
+      public Address getAddress() { return address; }
+
+      public String getName() { return name; }
+
+      public void setAddress( Address address ) { this.address = address; }
+
+      public void setName( String name ) { this.name = name; }
+   }
+
+
+   public static class Item {
+
+      private String     sku;
+      private Integer    quantity;
+      private BigDecimal price;
+
+      public BigDecimal getPrice() { return price; }
+
+      public Integer getQuantity() { return quantity; }
+
+      public String getSku() { return sku; }
+
+      public void setPrice( BigDecimal price ) { this.price = price; }
+
+      public void setQuantity( Integer quantity ) { this.quantity = quantity; }
+
+      public void setSku( String sku ) { this.sku = sku; }
+   }
+}
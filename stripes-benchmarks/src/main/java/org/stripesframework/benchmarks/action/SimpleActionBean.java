@@ -0,0 +1,56 @@
+package org.stripesframework.benchmarks.action;
+
+import java.io.ByteArrayInputStream;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.ForwardResolution;
+import org.stripesframework.web.action.HandlesEvent;
+import org.stripesframework.web.action.RedirectResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.SimpleMessage;
+import org.stripesframework.web.action.StreamingResolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.validation.Validate;
+
+
+/** Handles a plain GET, a download and a redirect that flashes a message. */
+@UrlBinding("/simple/{id}/{$event}")
+public class SimpleActionBean implements ActionBean {
+
+   /** The size of the file that is downloaded. */
+   public static final int DOWNLOAD_SIZE = 64 * 1024;
+
+   private static final byte[] DOWNLOAD = new byte[DOWNLOAD_SIZE];
+
+   private ActionBeanContext context;
+   @Validate(required = true)
+   private Long              id;
+
+   @HandlesEvent("download")
+   public Resolution download() {
+      return new StreamingResolution("application/octet-stream", new ByteArrayInputStream(DOWNLOAD)).setFilename("report-" + id + ".bin");
+   }
+
+   @HandlesEvent("flash")
+   public Resolution flash() {
+      getContext().getMessages().add(new SimpleMessage("Saved {0}", id));
+      return new RedirectResolution(SimpleActionBean.class).addParameter("id", id).flash(this);
+   }
+
+   @Override
+   public ActionBeanContext getContext() { return context; }
+
+   public Long getId() { return id; }
+
+   @Override
+   public void setContext( ActionBeanContext context ) { this.context = context; }
+
+   public void setId( Long id ) { this.id = id; }
+
+   @DefaultHandler
+   public Resolution view() {
+      return new ForwardResolution("/WEB-INF/simple.jsp");
+   }
+}
@@ -0,0 +1,135 @@
+package org.stripesframework.benchmarks.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.StreamingResolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.controller.DispatcherServlet;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockAsyncContext;
+import org.stripesframework.web.mock.MockHttpServletRequest;
+import org.stripesframework.web.mock.MockHttpServletResponse;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+/**
+ * Measures the throughput in requests per second of {@value #REQUESTS} concurrent requests to an
+ * event handler that blocks for {@value #BLOCKING_MILLIS}ms, as a backend call would. The mock
+ * container processes them on a pool of {@value #CONTAINER_THREADS} threads, like the default
+ * pool of common servlet containers. With {@link DispatcherServlet#DISPATCH_TO_VIRTUAL_THREADS}
+ * the container threads are released right away, which requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BlockingHandlerBenchmark.REQUESTS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingHandlerBenchmark {
+
+   static final int REQUESTS = 10_000;
+
+   private static final int BLOCKING_MILLIS   = 10;
+   private static final int CONTAINER_THREADS = 200;
+
+   @Param({ "false", "true" })
+   private boolean _virtualThreads;
+
+   private MockServletContext _servletContext;
+   private ExecutorService    _containerThreads;
+
+   @Benchmark
+   public int blockingRequests() throws Exception {
+      List<Future<MockHttpServletRequest>> dispatched = new ArrayList<>(REQUESTS);
+      for ( int i = 0; i < REQUESTS; i++ ) {
+         dispatched.add(_containerThreads.submit(this::dispatchRequest));
+      }
+
+      int completed = 0;
+      for ( Future<MockHttpServletRequest> future : dispatched ) {
+         MockHttpServletRequest request = future.get();
+         if ( request.getAsyncContext() != null ) {
+            ((MockAsyncContext)request.getAsyncContext()).awaitCompletion();
+         }
+         completed++;
+      }
+      return completed;
+   }
+
+   @Setup
+   public void setUp() throws Exception {
+      if ( _virtualThreads && Runtime.version().feature() < 21 ) {
+         throw new IllegalStateException("Processing requests on virtual threads requires Java 21 or later");
+      }
+
+      _servletContext = new MockServletContext("benchmarks").addFilter(StripesFilter.class, "StripesFilter",
+            Map.of("ActionResolver.Packages", "org.stripesframework.benchmarks.controller", DispatcherServlet.DISPATCH_TO_VIRTUAL_THREADS,
+                  String.valueOf(_virtualThreads))).setServlet(DispatcherServlet.class, "StripesDispatcher", null);
+      _containerThreads = Executors.newFixedThreadPool(CONTAINER_THREADS);
+
+      MockHttpServletRequest request = new MockHttpServletRequest("/benchmarks", "/blocking");
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      _servletContext.acceptRequest(request, response);
+      if ( !"done".equals(response.getOutputString()) ) {
+         throw new IllegalStateException("The request to the blocking event handler did not complete as expected");
+      }
+      if ( _virtualThreads && request.getAsyncContext() == null ) {
+         throw new IllegalStateException("The request was not processed on a virtual thread");
+      }
+   }
+
+   @TearDown
+   public void tearDown() {
+      _containerThreads.shutdown();
+      _servletContext.close();
+   }
+
+   /** Runs on a container thread, which returns once the request is processed or dispatched. */
+   private MockHttpServletRequest dispatchRequest() throws Exception {
+      MockHttpServletRequest request = new MockHttpServletRequest("/benchmarks", "/blocking");
+      _servletContext.dispatchRequest(request, new MockHttpServletResponse());
+      return request;
+   }
+
+   @UrlBinding("/blocking")
+   public static class BlockingActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @DefaultHandler
+      public Resolution block() throws InterruptedException {
+         Thread.sleep(BLOCKING_MILLIS);
+         return new StreamingResolution("text/plain", "done");
+      }
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+   }
+}
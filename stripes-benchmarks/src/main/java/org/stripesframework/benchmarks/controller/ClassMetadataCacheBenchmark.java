@@ -0,0 +1,76 @@
+package org.stripesframework.benchmarks.controller;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.controller.DispatcherHelper;
+import org.stripesframework.web.validation.ValidationErrors;
+import org.stripesframework.web.validation.ValidationMethod;
+
+
+/**
+ * Measures the throughput of looking up the custom validation methods of an ActionBean class,
+ * which every request does, at 1, 8 and 64 threads. A cache that serializes its readers shows a
+ * throughput that drops as the number of threads grows, a lock-free one scales with the available
+ * cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassMetadataCacheBenchmark {
+
+   @Benchmark
+   @Threads(1)
+   public Method[] customValidationMethods01() throws Exception {
+      return DispatcherHelper.findCustomValidationMethods(ValidatedActionBean.class);
+   }
+
+   @Benchmark
+   @Threads(8)
+   public Method[] customValidationMethods08() throws Exception {
+      return DispatcherHelper.findCustomValidationMethods(ValidatedActionBean.class);
+   }
+
+   @Benchmark
+   @Threads(64)
+   public Method[] customValidationMethods64() throws Exception {
+      return DispatcherHelper.findCustomValidationMethods(ValidatedActionBean.class);
+   }
+
+   public static class ValidatedActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @DefaultHandler
+      public Resolution save() { return null; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      @ValidationMethod(priority = 1)
+      public void validateFirst( ValidationErrors errors ) {}
+
+      @ValidationMethod(priority = 2)
+      public void validateSecond() {}
+   }
+}
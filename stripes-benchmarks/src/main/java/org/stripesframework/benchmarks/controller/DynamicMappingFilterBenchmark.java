@@ -0,0 +1,112 @@
+package org.stripesframework.benchmarks.controller;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.StreamingResolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.controller.DynamicMappingFilter;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockFilterConfig;
+import org.stripesframework.web.mock.MockHttpServletRequest;
+import org.stripesframework.web.mock.MockHttpServletResponse;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+/**
+ * Measures a request to an ActionBean through {@link DynamicMappingFilter} in the mock servlet
+ * container, with and without the direct dispatch mode. The container's default servlet is a stub
+ * that answers with a {@code 404} right away, so a real static resource lookup makes the regular
+ * mode slower than measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicMappingFilterBenchmark {
+
+   @Param({ "false", "true" })
+   private boolean _directDispatch;
+
+   private MockServletContext _servletContext;
+   private StripesFilter      _stripesFilter;
+
+   @Benchmark
+   public MockHttpServletResponse actionBeanRequest() throws Exception {
+      MockHttpServletRequest request = new MockHttpServletRequest("/benchmarks", "/benchmark/view");
+      request.setMethod("GET");
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      _servletContext.acceptRequest(request, response);
+      return response;
+   }
+
+   @Setup
+   public void setUp() throws Exception {
+      _servletContext = new MockServletContext("benchmarks");
+
+      MockFilterConfig filterConfig = new MockFilterConfig();
+      filterConfig.setFilterName("StripesFilter");
+      filterConfig.setServletContext(_servletContext);
+      filterConfig.addAllInitParameters(Map.of("ActionResolver.Packages", "org.stripesframework.benchmarks"));
+      _stripesFilter = new StripesFilter();
+      _stripesFilter.init(filterConfig);
+
+      _servletContext.addFilter(DynamicMappingFilter.class, "DynamicMappingFilter",
+            Map.of(DynamicMappingFilter.DIRECT_DISPATCH_PARAM, String.valueOf(_directDispatch))).setServlet(NotFoundServlet.class, "default", null);
+   }
+
+   @TearDown
+   public void tearDown() {
+      _servletContext.close();
+      _stripesFilter.destroy();
+   }
+
+   @UrlBinding("/benchmark/{$event}")
+   public static class DynamicMappingActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      @DefaultHandler
+      public Resolution view() {
+         return new StreamingResolution("text/plain", "view");
+      }
+   }
+
+
+   public static class NotFoundServlet extends HttpServlet {
+
+      @Override
+      protected void service( HttpServletRequest request, HttpServletResponse response ) throws IOException {
+         response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      }
+   }
+}
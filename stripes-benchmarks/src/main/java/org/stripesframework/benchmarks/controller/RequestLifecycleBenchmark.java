@@ -0,0 +1,165 @@
+package org.stripesframework.benchmarks.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.stripesframework.benchmarks.action.FormActionBean;
+import org.stripesframework.web.controller.ActionResolver;
+import org.stripesframework.web.controller.DispatcherServlet;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockRoundtrip;
+import org.stripesframework.web.mock.MockServletContext;
+import org.stripesframework.web.validation.ValidationError;
+
+
+/**
+ * Drives complete requests through {@link StripesFilter} and {@link DispatcherServlet} in the mock
+ * servlet container, one benchmark per representative kind of request. The ActionBeans are in
+ * {@code org.stripesframework.benchmarks.action}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestLifecycleBenchmark {
+
+   private static final String[] URIS = { "/simple/42", "/simple/42/download", "/form/", "/order/save", "/unmapped/path" };
+
+   private MockServletContext    _servletContext;
+   private ActionResolver        _actionResolver;
+   private Map<String, String[]> _validForm;
+   private Map<String, String[]> _invalidForm;
+   private Map<String, String[]> _order;
+
+   @Benchmark
+   public String flashScopeRedirect() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(_servletContext, "/simple/42/flash");
+      trip.execute();
+      return trip.getRedirectUrl();
+   }
+
+   @Benchmark
+   public String formBinding() throws Exception {
+      return execute("/form/", _validForm).getRedirectUrl();
+   }
+
+   @Benchmark
+   public String nestedBinding() throws Exception {
+      return execute("/order/save", _order).getRedirectUrl();
+   }
+
+   @Setup
+   public void setUp() throws Exception {
+      _servletContext = new MockServletContext("benchmarks").addFilter(StripesFilter.class, "StripesFilter",
+            Map.of("ActionResolver.Packages", "org.stripesframework.benchmarks.action")).setServlet(DispatcherServlet.class, "StripesDispatcher", null);
+      _actionResolver = ((StripesFilter)_servletContext.getFilters().get(0)).getInstanceConfiguration().getActionResolver();
+
+      _validForm = new LinkedHashMap<>();
+      _invalidForm = new LinkedHashMap<>();
+      for ( int i = 1; i <= FormActionBean.TEXT_FIELDS; i++ ) {
+         _validForm.put(String.format("text%02d", i), new String[] { "Some text " + i });
+         _invalidForm.put(String.format("text%02d", i), new String[] { i % 2 == 0 ? "" : "Some text " + i });
+      }
+      for ( int i = 1; i <= FormActionBean.NUMBER_FIELDS; i++ ) {
+         _validForm.put(String.format("number%02d", i), new String[] { String.valueOf(i * 10) });
+         _invalidForm.put(String.format("number%02d", i), new String[] { i % 2 == 0 ? "ten" : String.valueOf(i * 10) });
+      }
+      for ( int i = 1; i <= FormActionBean.AMOUNT_FIELDS; i++ ) {
+         _validForm.put(String.format("amount%02d", i), new String[] { i + ".99" });
+         _invalidForm.put(String.format("amount%02d", i), new String[] { "-" + i + ".99" });
+      }
+      for ( int i = 1; i <= FormActionBean.FLAG_FIELDS; i++ ) {
+         _validForm.put(String.format("flag%02d", i), new String[] { "true" });
+         _invalidForm.put(String.format("flag%02d", i), new String[] { "true" });
+      }
+
+      _order = new LinkedHashMap<>();
+      _order.put("customer.name", new String[] { "Jane Doe" });
+      _order.put("customer.address.street", new String[] { "1 Main Street" });
+      _order.put("customer.address.city", new String[] { "Springfield" });
+      _order.put("customer.address.zip", new String[] { "12345" });
+      for ( int i = 0; i < 10; i++ ) {
+         _order.put("items[" + i + "].sku", new String[] { "SKU-" + i });
+         _order.put("items[" + i + "].quantity", new String[] { String.valueOf(i + 1) });
+         _order.put("items[" + i + "].price", new String[] { "19.99" });
+      }
+
+      // a benchmark that silently measures a failing request is worse than none
+      if ( formBinding() == null || nestedBinding() == null || flashScopeRedirect() == null || simpleGet() == null ) {
+         throw new IllegalStateException("A request that should succeed did not complete as expected");
+      }
+      if ( execute("/form/", _invalidForm).getValidationErrors().isEmpty() ) {
+         throw new IllegalStateException("The invalid form submission passed validation");
+      }
+   }
+
+   @Benchmark
+   public String simpleGet() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(_servletContext, "/simple/42");
+      trip.getRequest().setMethod("GET");
+      trip.execute();
+      return trip.getForwardUrl();
+   }
+
+   @Benchmark
+   public byte[] streamingDownload() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(_servletContext, "/simple/42/download");
+      trip.getRequest().setMethod("GET");
+      trip.execute();
+      return trip.getOutputBytes();
+   }
+
+   @TearDown
+   public void tearDown() {
+      _servletContext.close();
+   }
+
+   @Benchmark
+   public void urlResolution( Blackhole blackhole ) {
+      for ( String uri : URIS ) {
+         blackhole.consume(_actionResolver.getActionBeanType(uri));
+      }
+   }
+
+   /** Submits the form with invalid values and renders the messages of the validation errors. */
+   @Benchmark
+   public void validationFailure( Blackhole blackhole ) throws Exception {
+      MockRoundtrip trip = execute("/form/", _invalidForm);
+      blackhole.consume(trip.getForwardUrl());
+
+      List<String> messages = new ArrayList<>();
+      for ( List<ValidationError> errors : trip.getValidationErrors().values() ) {
+         for ( ValidationError error : errors ) {
+            messages.add(error.getMessage(Locale.US));
+         }
+      }
+      blackhole.consume(messages);
+   }
+
+   private MockRoundtrip execute( String uri, Map<String, String[]> parameters ) throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(_servletContext, uri);
+      for ( Map.Entry<String, String[]> parameter : parameters.entrySet() ) {
+         trip.setParameter(parameter.getKey(), parameter.getValue());
+      }
+      trip.execute();
+      return trip;
+   }
+}
@@ -0,0 +1,146 @@
+package org.stripesframework.benchmarks.controller;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.controller.UrlBinding;
+import org.stripesframework.web.controller.UrlBindingFactory;
+
+
+/**
+ * Compares the trie based prefix lookup of {@link UrlBindingFactory} with the linear scan over all
+ * cached prefixes that it replaced, for a growing number of registered bindings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBindingFactoryBenchmark {
+
+   private static final String[] PATTERNS = { "", "/{id}", "/{id}/{$event}", "/{id}.json" };
+
+   @Param({ "100", "1000", "10000" })
+   private int _bindings;
+
+   private UrlBindingFactory _trie;
+   private UrlBindingFactory _linear;
+   private String[]          _uris;
+   private int               _index;
+
+   @Benchmark
+   public UrlBinding linearGetBinding() {
+      return _linear.getBinding(nextUri());
+   }
+
+   @Benchmark
+   public UrlBinding linearGetBindingPrototype() {
+      return _linear.getBindingPrototype(nextUri());
+   }
+
+   @Setup
+   public void setUp() {
+      _trie = new UrlBindingFactory();
+      _linear = new LinearScanUrlBindingFactory();
+
+      List<String> uris = new ArrayList<>();
+      for ( int i = 0; i < _bindings; i++ ) {
+         String path = "/app/module" + (i % 25) + "/entity" + i;
+         String pattern = path + PATTERNS[i % PATTERNS.length];
+         UrlBinding binding = UrlBindingFactory.parseUrlBinding(BenchmarkActionBean.class, pattern);
+         _trie.addBinding(BenchmarkActionBean.class, binding, false);
+         _linear.addBinding(BenchmarkActionBean.class, binding, false);
+
+         switch ( i % PATTERNS.length ) {
+         case 1:
+            uris.add(path + "/" + i);
+            break;
+         case 2:
+            uris.add(path + "/" + i + "/edit");
+            break;
+         case 3:
+            uris.add(path + "/" + i + ".json");
+            break;
+         default:
+            uris.add(path);
+         }
+      }
+
+      Random random = new Random(42);
+      _uris = new String[1024];
+      for ( int i = 0; i < _uris.length; i++ ) {
+         _uris[i] = uris.get(random.nextInt(uris.size()));
+      }
+   }
+
+   @Benchmark
+   public UrlBinding trieGetBinding() {
+      return _trie.getBinding(nextUri());
+   }
+
+   @Benchmark
+   public UrlBinding trieGetBindingPrototype() {
+      return _trie.getBindingPrototype(nextUri());
+   }
+
+   private String nextUri() {
+      return _uris[_index++ & (_uris.length - 1)];
+   }
+
+   public static class BenchmarkActionBean implements ActionBean {
+
+      private ActionBeanContext _context;
+
+      @Override
+      public ActionBeanContext getContext() { return _context; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { _context = context; }
+   }
+
+
+   /**
+    * Reproduces the prefix lookup used before the trie was introduced: a walk over all cached
+    * prefixes, sorted from longest to shortest, testing each with {@code startsWith}.
+    */
+   private static class LinearScanUrlBindingFactory extends UrlBindingFactory {
+
+      private final Map<String, Set<UrlBinding>> _prefixes = new TreeMap<>(Comparator.comparingInt(String::length).reversed().thenComparing(s -> s));
+
+      @Override
+      protected void cachePrefix( String prefix, UrlBinding binding ) {
+         super.cachePrefix(prefix, binding);
+         _prefixes.put(prefix, super.getPrefixCandidates(prefix));
+      }
+
+      @Override
+      protected Set<UrlBinding> getPrefixCandidates( String uri ) {
+         for ( Map.Entry<String, Set<UrlBinding>> entry : _prefixes.entrySet() ) {
+            if ( uri.startsWith(entry.getKey()) ) {
+               return entry.getValue();
+            }
+         }
+         return null;
+      }
+   }
+}
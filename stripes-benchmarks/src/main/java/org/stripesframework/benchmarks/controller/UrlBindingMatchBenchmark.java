@@ -0,0 +1,75 @@
+package org.stripesframework.benchmarks.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.stripesframework.benchmarks.controller.UrlBindingFactoryBenchmark.BenchmarkActionBean;
+import org.stripesframework.web.controller.UrlBinding;
+import org.stripesframework.web.controller.UrlBindingFactory;
+import org.stripesframework.web.controller.UrlBindingMatch;
+import org.stripesframework.web.controller.UrlBindingParameter;
+
+
+/**
+ * Compares extracting URI parameters through a copied "live" {@link UrlBinding} with reading them
+ * from a {@link UrlBindingMatch}. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBindingMatchBenchmark {
+
+   @Param({ "/product/list", "/product/1234/edit", "/product/1234/variant/56/view.html" })
+   private String _uri;
+
+   private UrlBindingFactory _factory;
+
+   @Benchmark
+   public void liveBinding( Blackhole blackhole ) {
+      UrlBinding binding = _factory.getBinding(_uri);
+      for ( UrlBindingParameter parameter : binding.getParameters() ) {
+         blackhole.consume(parameter.getName());
+         blackhole.consume(parameter.getValue());
+      }
+   }
+
+   @Benchmark
+   public void matchOnly( Blackhole blackhole ) {
+      UrlBindingMatch match = _factory.match(_uri);
+      for ( int i = 0; i < match.getParameterCount(); i++ ) {
+         blackhole.consume(match.hasParameterValue(i));
+      }
+   }
+
+   @Benchmark
+   public void matchReadingValues( Blackhole blackhole ) {
+      UrlBindingMatch match = _factory.match(_uri);
+      for ( int i = 0; i < match.getParameterCount(); i++ ) {
+         blackhole.consume(match.getParameter(i).getName());
+         blackhole.consume(match.getParameterValue(i));
+      }
+   }
+
+   @Setup
+   public void setUp() {
+      _factory = new UrlBindingFactory();
+      String[] patterns = { "/product/list", "/product/{id}/{$event}", "/product/{id}/variant/{variant}/{$event}.html" };
+      for ( String pattern : patterns ) {
+         _factory.addBinding(BenchmarkActionBean.class, UrlBindingFactory.parseUrlBinding(BenchmarkActionBean.class, pattern), false);
+      }
+   }
+}
@@ -0,0 +1,214 @@
+package org.stripesframework.benchmarks.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.util.ResolverUtil;
+
+
+/**
+ * Measures the time it takes {@link ResolverUtil} to find the ActionBeans among {@value #CLASSES}
+ * synthetic classes, spread over the given number of jars, as it does at startup. One in
+ * {@value #CLASSES_PER_ACTION_BEAN} classes implements ActionBean, the next one extends it. With
+ * {@code _loading} the classes are found by a custom test, which makes ResolverUtil load every
+ * class to test it, as it did before it read the class file headers. Each invocation uses a new
+ * class loader, so that no class is loaded already.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClasspathScanningBenchmark {
+
+   private static final int    CLASSES                 = 20_000;
+   private static final int    CLASSES_PER_ACTION_BEAN = 100;
+   private static final int    CLASSES_PER_PACKAGE     = 500;
+   private static final String PACKAGE                 = "com.example.synthetic";
+
+   /** Writes a class file without fields and methods, which is all the scanning needs. */
+   private static byte[] createClassFile( String name, String superName, String interfaceName, boolean annotated ) throws IOException {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0); // minor version
+      out.writeShort(55); // Java 11
+
+      out.writeShort(annotated ? 11 : 7);
+      out.writeByte(1); // #1 Utf8
+      out.writeUTF(name.replace('.', '/'));
+      out.writeByte(7); // #2 Class #1
+      out.writeShort(1);
+      out.writeByte(1); // #3 Utf8
+      out.writeUTF(superName.replace('.', '/'));
+      out.writeByte(7); // #4 Class #3
+      out.writeShort(3);
+      out.writeByte(1); // #5 Utf8
+      out.writeUTF(interfaceName.replace('.', '/'));
+      out.writeByte(7); // #6 Class #5
+      out.writeShort(5);
+      if ( annotated ) {
+         out.writeByte(1); // #7
+         out.writeUTF("RuntimeVisibleAnnotations");
+         out.writeByte(1); // #8
+         out.writeUTF("L" + UrlBinding.class.getName().replace('.', '/') + ";");
+         out.writeByte(1); // #9
+         out.writeUTF("value");
+         out.writeByte(1); // #10
+         out.writeUTF("/" + name.replace('.', '/'));
+      }
+
+      out.writeShort(0x0421); // public super abstract
+      out.writeShort(2); // this class
+      out.writeShort(4); // superclass
+      out.writeShort(1); // interfaces
+      out.writeShort(6);
+      out.writeShort(0); // fields
+      out.writeShort(0); // methods
+      if ( annotated ) {
+         out.writeShort(1);
+         out.writeShort(7);
+         out.writeInt(11);
+         out.writeShort(1); // annotations
+         out.writeShort(8);
+         out.writeShort(1); // element value pairs
+         out.writeShort(9);
+         out.writeByte('s');
+         out.writeShort(10);
+      } else {
+         out.writeShort(0);
+      }
+      out.flush();
+      return bytes.toByteArray();
+   }
+
+   @Param({ "1", "20" })
+   private int _jars;
+
+   @Param({ "false", "true" })
+   private boolean _loading;
+
+   private Path           _directory;
+   private URL[]          _classpath;
+   private URLClassLoader _classLoader;
+
+   @Benchmark
+   public int findActionBeans() {
+      Thread thread = Thread.currentThread();
+      ClassLoader previous = thread.getContextClassLoader();
+      thread.setContextClassLoader(_classLoader);
+      try {
+         ResolverUtil<ActionBean> resolver = new ResolverUtil<>();
+         if ( _loading ) {
+            ResolverUtil.Test isActionBean = new ResolverUtil.IsA(ActionBean.class);
+            resolver.find(isActionBean::matches, PACKAGE);
+         } else {
+            resolver.findImplementations(ActionBean.class, PACKAGE);
+         }
+         return resolver.getClasses().size();
+      }
+      finally {
+         thread.setContextClassLoader(previous);
+      }
+   }
+
+   @Setup(Level.Invocation)
+   public void setUpClassLoader() {
+      _classLoader = new URLClassLoader(_classpath, ActionBean.class.getClassLoader());
+   }
+
+   @Setup
+   public void setUpClasspath() throws IOException {
+      _directory = Files.createTempDirectory("stripes-classpath");
+      List<URL> classpath = new ArrayList<>();
+      int classesPerJar = CLASSES / _jars;
+      for ( int jar = 0; jar < _jars; jar++ ) {
+         Path file = _directory.resolve("synthetic-" + jar + ".jar");
+         try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file))) {
+            Set<String> directories = new HashSet<>();
+            for ( int i = jar * classesPerJar; i < (jar + 1) * classesPerJar; i++ ) {
+               String packageName = PACKAGE + ".p" + i / CLASSES_PER_PACKAGE;
+               String path = packageName.replace('.', '/');
+               // the class loader finds packages by their directory entries
+               for ( int end = path.indexOf('/'); end >= 0; end = path.indexOf('/', end + 1) ) {
+                  putDirectory(out, path.substring(0, end + 1), directories);
+               }
+               putDirectory(out, path + "/", directories);
+
+               byte[] classFile;
+               if ( i % CLASSES_PER_ACTION_BEAN == 0 ) {
+                  classFile = createClassFile(packageName + ".Class" + i, Object.class.getName(), ActionBean.class.getName(), true);
+               } else if ( i % CLASSES_PER_ACTION_BEAN == 1 ) {
+                  classFile = createClassFile(packageName + ".Class" + i, packageName + ".Class" + (i - 1), Serializable.class.getName(), true);
+               } else {
+                  classFile = createClassFile(packageName + ".Class" + i, Object.class.getName(), Serializable.class.getName(), false);
+               }
+               out.putNextEntry(new JarEntry(path + "/Class" + i + ".class"));
+               out.write(classFile);
+               out.closeEntry();
+            }
+         }
+         classpath.add(file.toUri().toURL());
+      }
+      _classpath = classpath.toArray(new URL[0]);
+
+      setUpClassLoader();
+      int found = findActionBeans();
+      tearDownClassLoader();
+      if ( found != 2 * CLASSES / CLASSES_PER_ACTION_BEAN ) {
+         throw new IllegalStateException("Found " + found + " ActionBeans in the synthetic classpath");
+      }
+   }
+
+   @TearDown
+   public void tearDownClasspath() throws IOException {
+      try (Stream<Path> files = Files.walk(_directory)) {
+         for ( Path file : (Iterable<Path>)files.sorted(Comparator.reverseOrder())::iterator ) {
+            Files.delete(file);
+         }
+      }
+   }
+
+   @TearDown(Level.Invocation)
+   public void tearDownClassLoader() throws IOException {
+      _classLoader.close();
+   }
+
+   private void putDirectory( JarOutputStream out, String name, Set<String> directories ) throws IOException {
+      if ( directories.add(name) ) {
+         out.putNextEntry(new JarEntry(name));
+         out.closeEntry();
+      }
+   }
+}
@@ -0,0 +1,69 @@
+package org.stripesframework.benchmarks.util;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.KeyGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockServletContext;
+import org.stripesframework.web.util.CryptoUtil;
+
+
+/**
+ * Measures encrypting and decrypting a value of the size of a typical {@code __fp} field with
+ * {@link CryptoUtil}, using a key of the given algorithm: AES keys are used with AES-GCM, DESede
+ * keys with the legacy DESede-CBC and HMAC scheme. A StripesFilter is initialized, so that
+ * CryptoUtil finds the configuration as it does during a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoUtilBenchmark {
+
+   private static final String INPUT = "||customer.name||customer.email||customer.address.street||customer.address.city||order.items[0].quantity||";
+
+   @Param({ "AES", "DESede" })
+   private String _algorithm;
+
+   private MockServletContext _servletContext;
+   private String             _encrypted;
+
+   @Benchmark
+   public String decrypt() {
+      return CryptoUtil.decrypt(_encrypted);
+   }
+
+   @Benchmark
+   public String encrypt() {
+      return CryptoUtil.encrypt(INPUT);
+   }
+
+   @Setup
+   public void setUp() throws Exception {
+      _servletContext = new MockServletContext("benchmarks").addFilter(StripesFilter.class, "StripesFilter",
+            Map.of("ActionResolver.Packages", "org.stripesframework.benchmarks"));
+      CryptoUtil.setSecretKey(KeyGenerator.getInstance(_algorithm).generateKey());
+      _encrypted = CryptoUtil.encrypt(INPUT);
+   }
+
+   @TearDown
+   public void tearDown() {
+      _servletContext.close();
+   }
+}
@@ -0,0 +1,46 @@
+package org.stripesframework.benchmarks.util;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.util.SimpleMessageFormat;
+
+
+/**
+ * Measures formatting messages the way validation errors are formatted with
+ * {@link SimpleMessageFormat}: {@link #formatText()} with text arguments only, and
+ * {@link #formatNumberAndDate()} with a number and a date as well. Run with {@code -prof gc}, the
+ * difference between the two is the allocation per number and date argument.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleMessageFormatBenchmark {
+
+   private static final String TEMPLATE = "{0} must be at most {2}, entered on {3} for {1}";
+
+   private final Date _date = new Date(1709645400000L);
+
+   @Benchmark
+   public String formatNumberAndDate() {
+      return SimpleMessageFormat.format(TEMPLATE, Locale.GERMANY, "Quantity", "order", 1234.5, _date);
+   }
+
+   @Benchmark
+   public String formatText() {
+      return SimpleMessageFormat.format(TEMPLATE, Locale.GERMANY, "Quantity", "order", "1.234,5", "05.03.24, 14:30");
+   }
+}
@@ -0,0 +1,122 @@
+package org.stripesframework.benchmarks.util.bean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stripesframework.web.util.bean.BeanUtil;
+import org.stripesframework.web.util.bean.PropertyExpression;
+import org.stripesframework.web.util.bean.PropertyExpressionEvaluation;
+
+
+/**
+ * Measures reading and writing nested property expressions, both through {@link BeanUtil}, which
+ * evaluates the expression from scratch, and through a reused
+ * {@link PropertyExpressionEvaluation}, which isolates the cost of the property accessors. Run
+ * with {@code -t 4} or more threads to expose contention in the accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyExpressionBenchmark {
+
+   private static final String NESTED = "order.items[3].product.price";
+   private static final String SIMPLE = "order";
+
+   private Holder                       _holder;
+   private BigDecimal                   _price;
+   private PropertyExpressionEvaluation _nestedEvaluation;
+
+   @Benchmark
+   public Object beanUtilGetNested() {
+      return BeanUtil.getPropertyValue(NESTED, _holder);
+   }
+
+   @Benchmark
+   public Object beanUtilGetSimple() {
+      return BeanUtil.getPropertyValue(SIMPLE, _holder);
+   }
+
+   @Benchmark
+   public void beanUtilSetNested() {
+      BeanUtil.setPropertyValue(NESTED, _holder, _price);
+   }
+
+   @Benchmark
+   public Object evaluationGetNested() {
+      return _nestedEvaluation.getValue();
+   }
+
+   @Benchmark
+   public void evaluationSetNested() {
+      _nestedEvaluation.setValue(_price);
+   }
+
+   @Setup
+   public void setUp() {
+      Order order = new Order();
+      for ( int i = 0; i < 5; i++ ) {
+         Item item = new Item();
+         item.setProduct(new Product());
+         item.getProduct().setPrice(BigDecimal.valueOf(i));
+         order.getItems().add(item);
+      }
+      _holder = new Holder();
+      _holder.setOrder(order);
+      _price = new BigDecimal("19.99");
+      _nestedEvaluation = new PropertyExpressionEvaluation(PropertyExpression.getExpression(NESTED), _holder);
+   }
+
+   public static class Holder {
+
+      private Order order;
+
+      public Order getOrder() { return order; }
+
+      public void setOrder( Order order ) { this.order = order; }
+   }
+
+
+   public static class Item {
+
+      private Product product;
+
+      public Product getProduct() { return product; }
+
+      public void setProduct( Product product ) { this.product = product; }
+   }
+
+
+   public static class Order {
+
+      private List<Item> items = new ArrayList<>();
+
+      public List<Item> getItems() { return items; }
+
+      public void setItems( List<Item> items ) { this.items = items; }
+   }
+
+
+   public static class Product {
+
+      private BigDecimal price;
+
+      public BigDecimal getPrice() { return price; }
+
+      public void setPrice( BigDecimal price ) { this.price = price; }
+   }
+}
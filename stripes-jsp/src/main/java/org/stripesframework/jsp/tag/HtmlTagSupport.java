@@ -268,7 +268,7 @@ public abstract class HtmlTagSupport extends StripesTagSupport implements Dynami
          writer.print(" ");
          writer.print(attr.getKey());
          writer.print("=\"");
-         writer.print(HtmlUtil.encode(value));
+         HtmlUtil.encode(value, writer);
          writer.print("\"");
       }
    }
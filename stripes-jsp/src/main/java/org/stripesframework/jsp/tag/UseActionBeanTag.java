@@ -106,11 +106,10 @@ public class UseActionBeanTag extends StripesTagSupport {
          if ( beanNotPresent ) {
             ActionBeanContext tempContext = config.getActionBeanContextFactory().getContextInstance(request, response);
             tempContext.setServletContext(getPageContext().getServletContext());
-            ctx.setLifecycleStage(LifecycleStage.ActionBeanResolution);
             ctx.setActionBeanContext(tempContext);
 
             // Run action bean resolution
-            ctx.setInterceptors(config.getInterceptors(LifecycleStage.ActionBeanResolution));
+            ctx.setLifecycleStage(LifecycleStage.ActionBeanResolution, config);
             resolution = ctx.wrap(new Interceptor() {
 
                @Override
@@ -127,8 +126,7 @@ public class UseActionBeanTag extends StripesTagSupport {
 
          // Then, if and only if an event was specified, run handler resolution
          if ( resolution == null && _event != null && (beanNotPresent || _alwaysExecuteEvent) ) {
-            ctx.setLifecycleStage(LifecycleStage.HandlerResolution);
-            ctx.setInterceptors(config.getInterceptors(LifecycleStage.HandlerResolution));
+            ctx.setLifecycleStage(LifecycleStage.HandlerResolution, config);
             resolution = ctx.wrap(new Interceptor() {
 
                @Override
@@ -0,0 +1,25 @@
+package org.stripesframework.jsp.tag.layout;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted by the {@link LayoutRenderTag} for each layout it renders, covering the execution of
+ * the layout definition with the components it renders.
+ */
+@Name("org.stripesframework.LayoutRender")
+@Label("Layout Rendering")
+@Category("Stripes")
+public final class LayoutRenderEvent extends Event {
+
+   /** The name of the layout. */
+   @Label("Layout")
+   public String layout;
+
+   /** The page that renders the layout. */
+   @Label("Render Page")
+   public String renderPage;
+}
@@ -68,6 +68,9 @@ public class LayoutRenderTag extends LayoutTag implements BodyTag, DynamicAttrib
          if ( _contextIsNew ) {
             log.debug("End layout init in ", _context.getRenderPage());
 
+            LayoutRenderEvent event = new LayoutRenderEvent();
+            event.begin();
+
             try {
                log.debug("Start layout exec in ", _context.getDefinitionPage());
                _context.getOut().setSilent(true, _pageContext);
@@ -79,6 +82,13 @@ public class LayoutRenderTag extends LayoutTag implements BodyTag, DynamicAttrib
                      + "'. The following information was supplied to the render " + "tag: " + _context.toString(), e);
             }
 
+            event.end();
+            if ( event.shouldCommit() ) {
+               event.layout = getName();
+               event.renderPage = _context.getRenderPage();
+               event.commit();
+            }
+
             // Check that the layout actually got rendered as some containers will
             // just quietly ignore includes of non-existent pages!
             if ( !_context.isRendered() ) {
@@ -0,0 +1,131 @@
+package org.stripesframework.processor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+
+/**
+ * <p>Writes the class index that {@code org.stripesframework.web.util.ResolverUtil} reads instead
+ * of scanning a jar or class directory, when {@code ClassIndex.Enabled} is set. For every compiled
+ * class that extends or implements a Stripes type, or is annotated with a Stripes annotation, the
+ * index lists those types and annotations, including the inherited ones.</p>
+ *
+ * <p>The processor is registered as a service, so adding this module to the annotation processor
+ * path of the compiler is all it takes. The index covers the classes of a single compilation;
+ * incremental compilers that only recompile changed classes may leave it incomplete, so the index
+ * should be written by a full build.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class ClassIndexProcessor extends AbstractProcessor {
+
+   /** The path of the index, the same as {@code org.stripesframework.web.util.ClassIndex.RESOURCE}. */
+   static final String RESOURCE = "META-INF/stripes/class-index";
+
+   /** The prefix of the names of the supertypes and annotations that are indexed. */
+   static final String INDEXED_PACKAGE = "org.stripesframework.";
+
+   /** The Stripes supertypes and annotations by the binary names of the compiled classes. */
+   private final Map<String, Set<String>> _index = new TreeMap<>();
+
+   @Override
+   public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+   }
+
+   @Override
+   public boolean process( Set<? extends TypeElement> annotations, RoundEnvironment roundEnv ) {
+      if ( roundEnv.processingOver() ) {
+         writeIndex();
+      } else {
+         for ( Element element : roundEnv.getRootElements() ) {
+            if ( element instanceof TypeElement ) {
+               indexType((TypeElement)element);
+            }
+         }
+      }
+      // the processor only reads the sources, other processors may claim their annotations
+      return false;
+   }
+
+   private void addIfIndexed( TypeElement type, Set<String> names ) {
+      String name = getBinaryName(type);
+      if ( name.startsWith(INDEXED_PACKAGE) ) {
+         names.add(name);
+      }
+   }
+
+   private void addSupertypes( TypeMirror type, Set<String> names ) {
+      for ( TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type) ) {
+         if ( supertype.getKind() == TypeKind.DECLARED ) {
+            addIfIndexed((TypeElement)((DeclaredType)supertype).asElement(), names);
+            addSupertypes(supertype, names);
+         }
+      }
+   }
+
+   private String getBinaryName( TypeElement type ) {
+      return processingEnv.getElementUtils().getBinaryName(type).toString();
+   }
+
+   private void indexType( TypeElement type ) {
+      Set<String> names = new TreeSet<>();
+      addSupertypes(type.asType(), names);
+      for ( AnnotationMirror annotation : processingEnv.getElementUtils().getAllAnnotationMirrors(type) ) {
+         addIfIndexed((TypeElement)annotation.getAnnotationType().asElement(), names);
+      }
+      if ( !names.isEmpty() ) {
+         _index.put(getBinaryName(type), names);
+      }
+
+      for ( Element member : type.getEnclosedElements() ) {
+         if ( member instanceof TypeElement ) {
+            indexType((TypeElement)member);
+         }
+      }
+   }
+
+   /**
+    * Writes the index, even if it is empty: an empty index tells ResolverUtil that there is
+    * nothing to find, while a missing one makes it scan the classes.
+    */
+   private void writeIndex() {
+      try {
+         FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE);
+         try (Writer writer = new BufferedWriter(new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+            writer.write("# Stripes class index, generated by " + getClass().getName() + "\n");
+            for ( Map.Entry<String, Set<String>> entry : _index.entrySet() ) {
+               writer.write(entry.getKey());
+               for ( String name : entry.getValue() ) {
+                  writer.write(' ');
+                  writer.write(name);
+               }
+               writer.write('\n');
+            }
+         }
+      }
+      catch ( IOException e ) {
+         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the Stripes class index " + RESOURCE + ": " + e);
+      }
+   }
+}
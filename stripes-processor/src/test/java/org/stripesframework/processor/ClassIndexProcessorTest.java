@@ -0,0 +1,96 @@
+package org.stripesframework.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.controller.Interceptor;
+import org.stripesframework.web.controller.Intercepts;
+import org.stripesframework.web.util.ClassIndex;
+
+
+public class ClassIndexProcessorTest {
+
+   @TempDir
+   Path _tempDir;
+
+   @Test
+   public void testIndexIsReadByClassIndex() throws Exception {
+      Path classes = whenCompiled();
+
+      ClassIndex index = ClassIndex.load(classes.resolve("com/example").toUri().toURL(), "com/example");
+
+      assertThat(index).isNotNull();
+      assertThat(index.getClassNames(ActionBean.class.getName(), "com.example")).containsExactlyInAnyOrder("com.example.action.HomeActionBean",
+            "com.example.action.HomeActionBean$NestedActionBean");
+      assertThat(index.getClassNames(Interceptor.class.getName(), "com.example")).containsExactly("com.example.ext.LoggingInterceptor");
+      assertThat(index.getClassNames(ActionBean.class.getName(), "com.example.ext")).isEmpty();
+   }
+
+   @Test
+   public void testIndexListsStripesTypesOnly() throws Exception {
+      Path classes = whenCompiled();
+
+      List<String> lines = Files.readAllLines(classes.resolve(ClassIndexProcessor.RESOURCE), StandardCharsets.UTF_8);
+
+      assertThat(lines.get(0)).startsWith("#");
+      assertThat(lines.subList(1, lines.size())).containsExactly( //
+            "com.example.action.HomeActionBean " + ActionBean.class.getName() + " " + UrlBinding.class.getName(),
+            "com.example.action.HomeActionBean$NestedActionBean " + ActionBean.class.getName(),
+            "com.example.ext.LoggingInterceptor " + Interceptor.class.getName() + " " + Intercepts.class.getName());
+   }
+
+   private Path givenSource( String name, String source ) throws IOException {
+      Path file = _tempDir.resolve("sources").resolve(name.replace('.', '/') + ".java");
+      Files.createDirectories(file.getParent());
+      Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+      return file;
+   }
+
+   private Path whenCompiled() throws IOException {
+      List<Path> sources = new ArrayList<>();
+      sources.add(givenSource("com.example.action.HomeActionBean", "package com.example.action;\n" //
+            + "import org.stripesframework.web.action.*;\n" //
+            + "@UrlBinding(\"/home\") @SuppressWarnings(\"unused\")\n" //
+            + "public class HomeActionBean implements ActionBean {\n" //
+            + "   public ActionBeanContext getContext() { return null; }\n" //
+            + "   public void setContext( ActionBeanContext context ) {}\n" //
+            + "   public static class NestedActionBean extends HomeActionBean {}\n" //
+            + "}\n"));
+      sources.add(givenSource("com.example.ext.LoggingInterceptor", "package com.example.ext;\n" //
+            + "import org.stripesframework.web.action.Resolution;\n" //
+            + "import org.stripesframework.web.controller.*;\n" //
+            + "@Intercepts(LifecycleStage.RequestInit)\n" //
+            + "public class LoggingInterceptor implements Interceptor {\n" //
+            + "   public Resolution intercept( ExecutionContext context ) throws Exception { return context.proceed(); }\n" //
+            + "}\n"));
+      sources.add(givenSource("com.example.util.Strings", "package com.example.util;\n" //
+            + "public class Strings implements java.io.Serializable {}\n"));
+
+      Path classes = Files.createDirectories(_tempDir.resolve("classes"));
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+         String classpath = new File(ActionBean.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+         Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sources);
+         JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, List.of("-d", classes.toString(), "-classpath", classpath), null, units);
+         task.setProcessors(List.of(new ClassIndexProcessor()));
+         assertThat(task.call()).describedAs("Compilation of the sample classes failed").isTrue();
+      }
+      return classes;
+   }
+}
@@ -40,6 +40,10 @@ import org.stripesframework.web.util.Log;
  * <p>You can optionally set an HTTP status code with {@link #setStatus(int)}, in which case a call
  * to {@code response.setStatus(status)} will be made when executing the resolution.</p>
  *
+ * <p>If the request is in asynchronous mode, because it is completed by an asynchronous event
+ * handler, the request is dispatched to the path with
+ * {@link javax.servlet.AsyncContext#dispatch(String)} instead of being forwarded.</p>
+ *
  * @see RedirectResolution
  * @author Tim Fennell
  */
@@ -95,7 +99,10 @@ public class ForwardResolution extends OnwardResolution<ForwardResolution> {
    }
 
    /**
-    * Attempts to forward the user to the specified path.
+    * Attempts to forward the user to the specified path. When it completes the request of an
+    * asynchronous event handler, the request is dispatched to the path through its
+    * {@link javax.servlet.AsyncContext} instead, which requires the StripesFilter to be mapped
+    * for the {@code ASYNC} dispatcher type.
     * @throws ServletException thrown when the Servlet container encounters an error
     * @throws IOException thrown when the Servlet container encounters an error
     */
@@ -115,6 +122,11 @@ public class ForwardResolution extends OnwardResolution<ForwardResolution> {
       if ( _autoInclude && request.getAttribute(StripesConstants.REQ_ATTR_INCLUDE_PATH) != null ) {
          log.trace("Including URL: ", path);
          request.getRequestDispatcher(path).include(request, response);
+      } else if ( request.isAsyncStarted() && request.getAttribute(StripesConstants.REQ_ATTR_ASYNC_DISPATCH) != null ) {
+         // The dispatch happens after this method returns, so the event name is left in place
+         log.trace("Dispatching asynchronous request to URL: ", path);
+         request.getAsyncContext().dispatch(path);
+         return;
       } else {
          log.trace("Forwarding to URL: ", path);
          request.getRequestDispatcher(path).forward(request, response);
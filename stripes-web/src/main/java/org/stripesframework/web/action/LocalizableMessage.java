@@ -15,9 +15,11 @@
 package org.stripesframework.web.action;
 
 import java.util.Locale;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.localization.LocalizationUtility;
 
 
 /**
@@ -96,6 +98,10 @@ public class LocalizableMessage extends SimpleMessage {
       ResourceBundle bundle = StripesFilter.getConfiguration().
             getLocalizationBundleFactory().getErrorMessageBundle(locale);
 
-      return bundle.getString(_messageKey);
+      String template = LocalizationUtility.getResource(bundle, _messageKey);
+      if ( template == null ) {
+         throw new MissingResourceException("Could not find a message with key: " + _messageKey, bundle.getClass().getName(), _messageKey);
+      }
+      return template;
    }
 }
@@ -56,6 +56,11 @@ public class BootstrapPropertyResolver {
    public static final String VFS_CLASSES = "VFS.Classes";
    /** The Configuration Key for looking up the comma separated list of extension packages. */
    public static final String PACKAGES    = "Extension.Packages";
+   /**
+    * The Configuration Key for looking up whether the class indexes written by the Stripes
+    * annotation processor are read instead of scanning packages for classes.
+    */
+   public static final String CLASS_INDEX = "ClassIndex.Enabled";
 
    private FilterConfig _filterConfig;
 
@@ -65,6 +70,18 @@ public class BootstrapPropertyResolver {
       initVFS();
    }
 
+   /**
+    * Creates a ResolverUtil to find classes in the configured packages, which uses class indexes
+    * if {@link #CLASS_INDEX} is enabled.
+    *
+    * @return a new ResolverUtil
+    */
+   public <T> ResolverUtil<T> createResolverUtil() {
+      ResolverUtil<T> resolver = new ResolverUtil<>();
+      resolver.setClassIndexUsed(Boolean.parseBoolean(getProperty(CLASS_INDEX)));
+      return resolver;
+   }
+
    /**
     * Attempts to find a class the user has specified in web.xml or by auto-discovery in packages
     * listed in web.xml under Extension.Packages. Classes specified in web.xml take precedence.
@@ -90,7 +107,7 @@ public class BootstrapPropertyResolver {
          }
       } else {
          // we didn't find it in web.xml so now we check any extension packages
-         ResolverUtil<T> resolver = new ResolverUtil<>();
+         ResolverUtil<T> resolver = createResolverUtil();
          String[] packages = StringUtil.standardSplit(getProperty(PACKAGES));
          resolver.findImplementations(targetType, packages);
          Set<Class<? extends T>> classes = resolver.getClasses();
@@ -145,7 +162,7 @@ public class BootstrapPropertyResolver {
     * @return a List of classes found
     */
    public <T> List<Class<? extends T>> getClassPropertyList( Class<T> targetType ) {
-      ResolverUtil<T> resolver = new ResolverUtil<>();
+      ResolverUtil<T> resolver = createResolverUtil();
       String[] packages = StringUtil.standardSplit(getProperty(PACKAGES));
       resolver.findImplementations(targetType, packages);
       Set<Class<? extends T>> classes = resolver.getClasses();
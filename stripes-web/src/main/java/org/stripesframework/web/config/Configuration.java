@@ -18,10 +18,12 @@ import java.util.Collection;
 
 import javax.servlet.ServletContext;
 
+import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.controller.ActionBeanContextFactory;
 import org.stripesframework.web.controller.ActionBeanPropertyBinder;
 import org.stripesframework.web.controller.ActionResolver;
 import org.stripesframework.web.controller.Interceptor;
+import org.stripesframework.web.controller.InterceptorChain;
 import org.stripesframework.web.controller.LifecycleStage;
 import org.stripesframework.web.controller.ObjectFactory;
 import org.stripesframework.web.controller.multipart.MultipartWrapperFactory;
@@ -30,6 +32,8 @@ import org.stripesframework.web.exception.StripesRuntimeException;
 import org.stripesframework.web.format.FormatterFactory;
 import org.stripesframework.web.localization.LocalePicker;
 import org.stripesframework.web.localization.LocalizationBundleFactory;
+import org.stripesframework.web.metrics.NoOpRequestMetrics;
+import org.stripesframework.web.metrics.RequestMetrics;
 import org.stripesframework.web.validation.TypeConverterFactory;
 import org.stripesframework.web.validation.ValidationMetadataProvider;
 
@@ -102,6 +106,20 @@ public interface Configuration {
     */
    FormatterFactory getFormatterFactory();
 
+   /**
+    * Returns the interceptors of {@link #getInterceptors(LifecycleStage)} that
+    * {@link Interceptor#appliesTo(LifecycleStage, Class) apply} to requests to an ActionBean class
+    * at a lifecycle stage, in the same order. The default implementation filters the interceptors
+    * on every call; implementations are encouraged to cache the chains.
+    *
+    * @param stage the lifecycle stage
+    * @param beanType the class of the ActionBean, or null if it is not known at the stage
+    * @return the chain of interceptors to be executed around the given lifecycle stage
+    */
+   default InterceptorChain getInterceptorChain( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+      return InterceptorChain.applicable(getInterceptors(stage), stage, beanType);
+   }
+
    /**
     * Fetches the interceptors that should be executed around the lifecycle stage applied.
     * Must return a non-null collection, but the collection may be empty. The Interceptors
@@ -148,6 +166,17 @@ public interface Configuration {
     */
    ObjectFactory getObjectFactory();
 
+   /**
+    * Returns the {@link RequestMetrics} that records the durations of the lifecycle stages and
+    * other figures of the requests processed.
+    *
+    * @return an instance of {@link RequestMetrics}, which may be disabled. The default
+    *         implementation returns a {@link NoOpRequestMetrics}, which records nothing.
+    */
+   default RequestMetrics getRequestMetrics() {
+      return NoOpRequestMetrics.INSTANCE;
+   }
+
    /**
     * Retrieves the ServletContext for the context within which the Stripes application
     * is executing.
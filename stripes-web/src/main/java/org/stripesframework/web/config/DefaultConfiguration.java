@@ -23,9 +23,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.ServletContext;
 
+import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.controller.ActionBeanContextFactory;
 import org.stripesframework.web.controller.ActionBeanPropertyBinder;
 import org.stripesframework.web.controller.ActionResolver;
@@ -35,6 +37,7 @@ import org.stripesframework.web.controller.DefaultActionBeanPropertyBinder;
 import org.stripesframework.web.controller.DefaultObjectFactory;
 import org.stripesframework.web.controller.HttpCacheInterceptor;
 import org.stripesframework.web.controller.Interceptor;
+import org.stripesframework.web.controller.InterceptorChain;
 import org.stripesframework.web.controller.Intercepts;
 import org.stripesframework.web.controller.LifecycleStage;
 import org.stripesframework.web.controller.NameBasedActionResolver;
@@ -51,6 +54,8 @@ import org.stripesframework.web.localization.DefaultLocalePicker;
 import org.stripesframework.web.localization.DefaultLocalizationBundleFactory;
 import org.stripesframework.web.localization.LocalePicker;
 import org.stripesframework.web.localization.LocalizationBundleFactory;
+import org.stripesframework.web.metrics.NoOpRequestMetrics;
+import org.stripesframework.web.metrics.RequestMetrics;
 import org.stripesframework.web.util.Log;
 import org.stripesframework.web.validation.DefaultTypeConverterFactory;
 import org.stripesframework.web.validation.DefaultValidationMetadataProvider;
@@ -97,6 +102,22 @@ public class DefaultConfiguration implements Configuration {
    private ExceptionHandler                             _exceptionHandler;
    private MultipartWrapperFactory                      _multipartWrapperFactory;
    private ValidationMetadataProvider                   _validationMetadataProvider;
+   private RequestMetrics                               _requestMetrics;
+
+   /** Whether a subclass overrides {@link #getInterceptors(LifecycleStage)}, so the chains must not be cached. */
+   private final boolean _interceptorsOverridden = isInterceptorsOverridden();
+
+   /** The interceptor chains of the stages at which the ActionBean is not known yet. */
+   private final Map<LifecycleStage, InterceptorChain> _interceptorChains = new ConcurrentHashMap<>();
+
+   /** The interceptor chains by ActionBean class and stage. */
+   private final ClassValue<Map<LifecycleStage, InterceptorChain>> _beanInterceptorChains = new ClassValue<>() {
+
+      @Override
+      protected Map<LifecycleStage, InterceptorChain> computeValue( Class<?> beanType ) {
+         return new ConcurrentHashMap<>();
+      }
+   };
 
    /**
     * Returns the configured ActionBeanContextFactory. Unless a subclass has configured a custom
@@ -150,10 +171,36 @@ public class DefaultConfiguration implements Configuration {
    @Override
    public FormatterFactory getFormatterFactory() { return _formatterFactory; }
 
+   /**
+    * Returns the chain of the interceptors that apply to the lifecycle stage and ActionBean class,
+    * which is built on first use and cached, unless a subclass overrides
+    * {@link #getInterceptors(LifecycleStage)}. In that case the chain is built on every call, as
+    * the interceptors may change.
+    */
+   @Override
+   public InterceptorChain getInterceptorChain( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+      if ( _interceptorsOverridden ) {
+         return InterceptorChain.applicable(getInterceptors(stage), stage, beanType);
+      }
+
+      Map<LifecycleStage, InterceptorChain> chains = beanType == null ? _interceptorChains : _beanInterceptorChains.get(beanType);
+      InterceptorChain chain = chains.get(stage);
+      if ( chain == null ) {
+         chain = InterceptorChain.applicable(getInterceptors(stage), stage, beanType);
+         log.debug("Interceptors at ", stage, " for ", beanType, ": ", chain);
+         chains.put(stage, chain);
+      }
+      return chain;
+   }
+
    /**
     * Returns a list of interceptors that should be executed around the lifecycle stage
     * indicated.  By default returns a single element list containing the
-    * {@link BeforeAfterMethodInterceptor}.
+    * {@link BeforeAfterMethodInterceptor}. The interceptors are configured once during
+    * {@link #init()}, so the chains built from them by
+    * {@link #getInterceptorChain(LifecycleStage, Class)} are cached for good. Subclasses that
+    * override this method disable that cache, and may override
+    * {@link #getInterceptorChain(LifecycleStage, Class)} as well to cache the chains themselves.
     */
    @Override
    public Collection<Interceptor> getInterceptors( LifecycleStage stage ) {
@@ -203,6 +250,15 @@ public class DefaultConfiguration implements Configuration {
       return _objectFactory;
    }
 
+   /**
+    * Returns the configured {@link RequestMetrics}. Unless a subclass has configured another one,
+    * it is a {@link NoOpRequestMetrics}, which records nothing.
+    */
+   @Override
+   public RequestMetrics getRequestMetrics() {
+      return _requestMetrics;
+   }
+
    /**
     * Retrieves the ServletContext for the context within which the Stripes application is
     * executing.
@@ -328,6 +384,12 @@ public class DefaultConfiguration implements Configuration {
             _validationMetadataProvider.init(this);
          }
 
+         _requestMetrics = initRequestMetrics();
+         if ( _requestMetrics == null ) {
+            _requestMetrics = new NoOpRequestMetrics();
+            _requestMetrics.init(this);
+         }
+
          _interceptors = new HashMap<>();
          Map<LifecycleStage, Collection<Interceptor>> map = initCoreInterceptors();
          if ( map != null ) {
@@ -455,6 +517,9 @@ public class DefaultConfiguration implements Configuration {
    /** Allows subclasses to initialize a non-default {@link ObjectFactory}. */
    protected ObjectFactory initObjectFactory() { return null; }
 
+   /** Allows subclasses to initialize a non-default {@link RequestMetrics}. */
+   protected RequestMetrics initRequestMetrics() { return null; }
+
    /** Allows subclasses to initialize a non-default TypeConverterFactory. */
    protected TypeConverterFactory initTypeConverterFactory() { return null; }
 
@@ -472,4 +537,13 @@ public class DefaultConfiguration implements Configuration {
          collection.addAll(entry.getValue());
       }
    }
+
+   private boolean isInterceptorsOverridden() {
+      try {
+         return getClass().getMethod("getInterceptors", LifecycleStage.class).getDeclaringClass() != DefaultConfiguration.class;
+      }
+      catch ( NoSuchMethodException e ) {
+         return true;
+      }
+   }
 }
@@ -33,8 +33,10 @@ import org.stripesframework.web.format.Formatter;
 import org.stripesframework.web.format.FormatterFactory;
 import org.stripesframework.web.localization.LocalePicker;
 import org.stripesframework.web.localization.LocalizationBundleFactory;
+import org.stripesframework.web.metrics.RequestMetrics;
 import org.stripesframework.web.util.Log;
 import org.stripesframework.web.util.ReflectUtil;
+import org.stripesframework.web.util.bean.PropertyExpression;
 import org.stripesframework.web.validation.TypeConverter;
 import org.stripesframework.web.validation.TypeConverterFactory;
 import org.stripesframework.web.validation.ValidationMetadataProvider;
@@ -96,20 +98,28 @@ public class RuntimeConfiguration extends DefaultConfiguration {
    /** The Configuration Key for looking up the name of the ValidationMetadataProvider class */
    public static final String VALIDATION_METADATA_PROVIDER = "ValidationMetadataProvider.Class";
 
+   /** The Configuration Key for looking up the name of the RequestMetrics class. */
+   public static final String REQUEST_METRICS = "RequestMetrics.Class";
+
    /** The Configuration Key for looking up the comma separated list of core interceptor classes. */
    public static final String CORE_INTERCEPTOR_LIST = "CoreInterceptor.Classes";
 
    /** The Configuration Key for looking up the comma separated list of interceptor classes. */
    public static final String INTERCEPTOR_LIST = "Interceptor.Classes";
 
+   /** The Configuration Key for looking up the capacity of the cache of parsed property expressions. */
+   public static final String PROPERTY_EXPRESSION_CACHE_SIZE = "PropertyExpression.CacheSize";
+
    /**
     * Calls super.init() then adds Formatters and TypeConverters found in
-    * packages listed in {@link BootstrapPropertyResolver#PACKAGES} to their respective factories.
+    * packages listed in {@link BootstrapPropertyResolver#PACKAGES} to their respective factories,
+    * and sizes the cache of parsed property expressions.
     */
    @SuppressWarnings("unchecked")
    @Override
    public void init() {
       super.init();
+      initPropertyExpressionCache();
 
       List<Class<? extends Formatter>> formatters = getBootstrapPropertyResolver().getClassPropertyList(Formatter.class);
       for ( Class<? extends Formatter> formatter : formatters ) {
@@ -277,6 +287,29 @@ public class RuntimeConfiguration extends DefaultConfiguration {
       return initializeComponent(ObjectFactory.class, OBJECT_FACTORY);
    }
 
+   /**
+    * Looks for the capacity of the cache of parsed property expressions in config and applies it,
+    * see {@link PropertyExpression#setCacheCapacity(int)}.
+    */
+   protected void initPropertyExpressionCache() {
+      String cacheSize = getBootstrapPropertyResolver().getProperty(PROPERTY_EXPRESSION_CACHE_SIZE);
+      if ( cacheSize != null ) {
+         try {
+            PropertyExpression.setCacheCapacity(Integer.parseInt(cacheSize.trim()));
+         }
+         catch ( IllegalArgumentException e ) {
+            log.error("Did not understand value of configuration parameter ", PROPERTY_EXPRESSION_CACHE_SIZE, ". You supplied: ", cacheSize,
+                  ". Valid values are positive integers. The capacity of the cache is left unchanged.");
+         }
+      }
+   }
+
+   /** Looks for a class name in config and uses that to create the component. */
+   @Override
+   protected RequestMetrics initRequestMetrics() {
+      return initializeComponent(RequestMetrics.class, REQUEST_METRICS);
+   }
+
    /** Looks for a class name in config and uses that to create the component. */
    @Override
    protected TypeConverterFactory initTypeConverterFactory() {
@@ -16,13 +16,11 @@ package org.stripesframework.web.controller;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -102,6 +100,9 @@ public class AnnotatedClassActionResolver implements ActionResolver {
       }
    };
 
+   /** The events of each ActionBean class by the names of the request parameters submitting them. */
+   private final Map<Class<? extends ActionBean>, EventNameIndex> _eventNameIndexes = new HashMap<>();
+
    /**
     * Gets the logical name of the ActionBean that should handle the request.  Implemented to look
     * up the name of the form based on the name assigned to the form in the form tag, and
@@ -401,6 +402,7 @@ public class AnnotatedClassActionResolver implements ActionResolver {
 
       // Put the event->method mapping for the class into the set of mappings
       _eventMappings.put(clazz, classMappings);
+      _eventNameIndexes.put(clazz, new EventNameIndex(classMappings.keySet()));
 
       if ( proto != null ) {
          proto.initDefaultValueWithDefaultHandlerIfNeeded(this);
@@ -468,7 +470,7 @@ public class AnnotatedClassActionResolver implements ActionResolver {
       }
 
       String[] pkgs = StringUtil.standardSplit(packages);
-      ResolverUtil<ActionBean> resolver = new ResolverUtil<>();
+      ResolverUtil<ActionBean> resolver = bootstrap.createResolverUtil();
       resolver.findImplementations(ActionBean.class, pkgs);
       return resolver.getClasses();
    }
@@ -552,34 +554,17 @@ public class AnnotatedClassActionResolver implements ActionResolver {
    }
 
    /**
-    * Loops through the set of known events for the ActionBean to see if the event
-    * names are present as parameter names in the request.  Returns the first event
-    * name found in the request, or null if none is found.
+    * Looks up the known events for the ActionBean among the parameter names in the request,
+    * including the {@code event.x} names submitted by image buttons. Returns the event name
+    * found in the request, or null if none is found. The events are indexed per ActionBean when
+    * it is added, so that the lookup does not depend on the number of events.
     *
     * @param bean the ActionBean type bound to the request
     * @param context the ActionBeanContext for the current request
     * @return String the name of the event submitted, or null if none can be found
     */
-   @SuppressWarnings("unchecked")
    protected String getEventNameFromRequestParams( Class<? extends ActionBean> bean, ActionBeanContext context ) {
-
-      List<String> eventParams = new ArrayList<>();
-      Map<String, String[]> parameterMap = context.getRequest().getParameterMap();
-      for ( String event : _eventMappings.get(bean).keySet() ) {
-         if ( parameterMap.containsKey(event) || parameterMap.containsKey(event + ".x") ) {
-            eventParams.add(event);
-         }
-      }
-
-      if ( eventParams.size() == 0 ) {
-         return null;
-      } else if ( eventParams.size() == 1 ) {
-         return eventParams.get(0);
-      } else {
-         throw new StripesRuntimeException(
-               "Multiple event parameters " + eventParams + " are present in this request. Only one event parameter may be specified "
-                     + "per request. Otherwise, Stripes would be unable to determine which event " + "to execute.");
-      }
+      return _eventNameIndexes.getOrDefault(bean, EventNameIndex.EMPTY).findEvent(context.getRequest().getParameterMap());
    }
 
    /**
@@ -648,6 +633,7 @@ public class AnnotatedClassActionResolver implements ActionResolver {
          getUrlBindingFactory().removeBinding(clazz);
       }
       _eventMappings.remove(clazz);
+      _eventNameIndexes.remove(clazz);
    }
 
    /**
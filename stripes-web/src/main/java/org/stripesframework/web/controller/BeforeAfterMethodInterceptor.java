@@ -24,7 +24,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.action.ActionBeanContext;
@@ -33,6 +32,7 @@ import org.stripesframework.web.action.Before;
 import org.stripesframework.web.action.Resolution;
 import org.stripesframework.web.util.CollectionUtil;
 import org.stripesframework.web.util.Log;
+import org.stripesframework.web.util.MethodInvoker;
 import org.stripesframework.web.util.ReflectUtil;
 
 
@@ -68,7 +68,28 @@ public class BeforeAfterMethodInterceptor implements Interceptor {
    private static final Log log = Log.getInstance(BeforeAfterMethodInterceptor.class);
 
    /** Cache of the FilterMethods for the different ActionBean classes */
-   private final Map<Class<? extends ActionBean>, FilterMethods> _filterMethodsCache = new ConcurrentHashMap<>();
+   private final ClassValue<FilterMethods> _filterMethodsCache = new ClassValue<>() {
+
+      @Override
+      @SuppressWarnings("unchecked")
+      protected FilterMethods computeValue( Class<?> beanClass ) {
+         return findFilterMethods((Class<? extends ActionBean>)beanClass);
+      }
+   };
+
+   /**
+    * Applies to the stages for which the ActionBean class has {@code @Before} or {@code @After}
+    * methods. As long as the ActionBean is not known, only {@code @After} methods of
+    * ActionBeanResolution can run.
+    */
+   @Override
+   public boolean appliesTo( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+      if ( beanType == null ) {
+         return stage == LifecycleStage.ActionBeanResolution;
+      }
+      FilterMethods filterMethods = getFilterMethods(beanType);
+      return !filterMethods.getBeforeMethods(stage).isEmpty() || !filterMethods.getAfterMethods(stage).isEmpty();
+   }
 
    /**
     * Does the main work of the interceptor as described in the class level javadoc.
@@ -134,61 +155,69 @@ public class BeforeAfterMethodInterceptor implements Interceptor {
    }
 
    /**
-    * Gets the Before/After methods for the ActionBean. Lazily examines the ActionBean
-    * and stores the information in a cache.  Looks for all non-abstract, no-arg methods
-    * that are annotated with either {@code @Before} or {@code @After}.
+    * Examines the ActionBean for its Before/After methods.  Looks for all non-abstract,
+    * no-arg methods that are annotated with either {@code @Before} or {@code @After}.
     *
     * @param beanClass The action bean class to get methods for.
     * @return The before and after methods for the ActionBean
     */
-   protected FilterMethods getFilterMethods( Class<? extends ActionBean> beanClass ) {
-      FilterMethods filterMethods = _filterMethodsCache.get(beanClass);
-      if ( filterMethods == null ) {
-         filterMethods = new FilterMethods();
-
-         // Look for @Before and @After annotations on the methods in the ActionBean class
-         Collection<Method> methods = ReflectUtil.getMethods(beanClass);
-         for ( Method method : methods ) {
-            if ( method.isAnnotationPresent(Before.class) || method.isAnnotationPresent(After.class) ) {
-               // Check to ensure that the method has an appropriate signature
-               int mods = method.getModifiers();
-               if ( method.getParameterTypes().length != 0 || Modifier.isAbstract(mods) ) {
-                  log.warn("Method '", beanClass.getName(), ".", method.getName(), "' is ", "annotated with @Before or @After but has an incompatible ",
-                        "signature. @Before/@After methods must be non-abstract ", "zero-argument methods.");
+   protected FilterMethods findFilterMethods( Class<? extends ActionBean> beanClass ) {
+      FilterMethods filterMethods = new FilterMethods();
+
+      // Look for @Before and @After annotations on the methods in the ActionBean class
+      Collection<Method> methods = ReflectUtil.getMethods(beanClass);
+      for ( Method method : methods ) {
+         if ( method.isAnnotationPresent(Before.class) || method.isAnnotationPresent(After.class) ) {
+            // Check to ensure that the method has an appropriate signature
+            int mods = method.getModifiers();
+            if ( method.getParameterTypes().length != 0 || Modifier.isAbstract(mods) ) {
+               log.warn("Method '", beanClass.getName(), ".", method.getName(), "' is ", "annotated with @Before or @After but has an incompatible ",
+                     "signature. @Before/@After methods must be non-abstract ", "zero-argument methods.");
+               continue;
+            }
+
+            // Now try and make private/protected/package methods callable
+            if ( !method.isAccessible() ) {
+               try {
+                  method.setAccessible(true);
+               }
+               catch ( SecurityException se ) {
+                  log.warn("Method '", beanClass.getName(), ".", method.getName(), "' is ", "annotated with @Before or @After but is not public and  ",
+                        "calling setAccessible(true) on it threw a SecurityException. ", "Please either declare the method as public, or change your ",
+                        "JVM security policy to allow Stripes code to call ", "Method.setAccessible() on your code base.");
                   continue;
                }
+            }
 
-               // Now try and make private/protected/package methods callable
-               if ( !method.isAccessible() ) {
-                  try {
-                     method.setAccessible(true);
-                  }
-                  catch ( SecurityException se ) {
-                     log.warn("Method '", beanClass.getName(), ".", method.getName(), "' is ", "annotated with @Before or @After but is not public and  ",
-                           "calling setAccessible(true) on it threw a SecurityException. ", "Please either declare the method as public, or change your ",
-                           "JVM security policy to allow Stripes code to call ", "Method.setAccessible() on your code base.");
-                     continue;
-                  }
-               }
+            // Bind the method to its handle now rather than on the first request
+            MethodInvoker.getInstance(method);
 
-               if ( method.isAnnotationPresent(Before.class) ) {
-                  Before annotation = method.getAnnotation(Before.class);
-                  filterMethods.addBeforeMethod(annotation.stages(), method);
-               }
+            if ( method.isAnnotationPresent(Before.class) ) {
+               Before annotation = method.getAnnotation(Before.class);
+               filterMethods.addBeforeMethod(annotation.stages(), method);
+            }
 
-               if ( method.isAnnotationPresent(After.class) ) {
-                  After annotation = method.getAnnotation(After.class);
-                  filterMethods.addAfterMethod(annotation.stages(), method);
-               }
+            if ( method.isAnnotationPresent(After.class) ) {
+               After annotation = method.getAnnotation(After.class);
+               filterMethods.addAfterMethod(annotation.stages(), method);
             }
          }
-
-         _filterMethodsCache.put(beanClass, filterMethods);
       }
 
       return filterMethods;
    }
 
+   /**
+    * Gets the Before/After methods for the ActionBean. Lazily examines the ActionBean
+    * by calling {@link #findFilterMethods(Class)} and stores the information in a cache.
+    *
+    * @param beanClass The action bean class to get methods for.
+    * @return The before and after methods for the ActionBean
+    */
+   protected FilterMethods getFilterMethods( Class<? extends ActionBean> beanClass ) {
+      return _filterMethodsCache.get(beanClass);
+   }
+
    /**
     * Helper method that will invoke the supplied method and manage any exceptions and
     * returns from the object.  Specifically it will log any exceptions except for
@@ -202,7 +231,7 @@ public class BeforeAfterMethodInterceptor implements Interceptor {
       log.debug("Calling @", when.getSimpleName(), " method '", m.getName(), "' at LifecycleStage '", stage, "' on ActionBean '", beanClass.getSimpleName(),
             "'");
       try {
-         retval = m.invoke(bean);
+         retval = MethodInvoker.getInstance(m).invoke(bean);
       }
       catch ( IllegalArgumentException e ) {
          log.error(e, "An InvalidArgumentException was raised when calling @", when.getSimpleName(), " method '", m.getName(), "' at LifecycleStage '", stage,
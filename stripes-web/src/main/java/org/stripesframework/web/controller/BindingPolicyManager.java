@@ -20,9 +20,11 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
@@ -51,11 +53,23 @@ public class BindingPolicyManager {
    private static final List<Class<?>> ILLEGAL_NODE_VALUE_TYPES = Arrays.asList(ActionBeanContext.class, Class.class, ClassLoader.class, HttpSession.class,
          ServletRequest.class, ServletResponse.class);
 
+   /** The maximum number of denied bindings that are logged per bean class and {@link #DENIAL_LOG_INTERVAL} */
+   private static final int DENIAL_LOG_LIMIT = 10;
+
+   /** The interval in milliseconds in which at most {@link #DENIAL_LOG_LIMIT} denied bindings are logged */
+   private static final long DENIAL_LOG_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
    /** Log */
    private static final Log log = Log.getInstance(BindingPolicyManager.class);
 
-   /** Cached instances */
-   private static final Map<Class<?>, BindingPolicyManager> instances = new ConcurrentHashMap<>();
+   /** Cached instances, which do not keep the bean classes from being unloaded */
+   private static final ClassValue<BindingPolicyManager> instances = new ClassValue<>() {
+
+      @Override
+      protected BindingPolicyManager computeValue( Class<?> beanType ) {
+         return new BindingPolicyManager(beanType);
+      }
+   };
 
    /**
     * Get the policy manager for the given class. Instances are cached and returned on subsequent
@@ -65,15 +79,20 @@ public class BindingPolicyManager {
     * @return a policy manager
     */
    public static BindingPolicyManager getInstance( Class<?> beanType ) {
-      return instances.computeIfAbsent(beanType, BindingPolicyManager::new);
+      return instances.get(beanType);
    }
 
    /** The class to which the binding policy applies */
    private final Class<?> _beanClass;
 
-   /** The set of properties with {@literal @Validate} */
+   /** The set of properties with {@literal @Validate}, keyed by their stripped names */
    private final Set<String> _validatedProperties;
 
+   /** The start of the current denial log interval, the denials logged and not logged in it */
+   private final AtomicLong    _denialLogIntervalStart = new AtomicLong();
+   private final AtomicInteger _denialsLogged          = new AtomicInteger();
+   private final LongAdder     _denialsSuppressed      = new LongAdder();
+
    /**
     * Create a new instance to handle binding security for the given type.
     *
@@ -113,15 +132,38 @@ public class BindingPolicyManager {
          return false;
       }
 
+      return isBindingAllowed(eval.getBean(), new ParameterName(eval.getExpression().getSource()));
+   }
+
+   /**
+    * Indicates if binding may be allowed for the given request parameter, judged by its name
+    * alone. This requires neither parsing nor evaluating the name, so it is meant to discard
+    * parameters before they are evaluated against the bean. A parameter that passes must still be
+    * checked with {@link #isBindingAllowed(PropertyExpressionEvaluation)} once it is evaluated.
+    *
+    * @param bean the bean the parameter is to be bound to
+    * @param name the name of the request parameter
+    * @return false if binding is denied; true if it may be allowed
+    */
+   public boolean isBindingAllowed( Object bean, ParameterName name ) {
       // check parameter name against access lists
-      String paramName = new ParameterName(eval.getExpression().getSource()).getStrippedName();
+      String paramName = name.getStrippedName();
       if ( _validatedProperties.contains(paramName) ) {
          return true;
       }
 
-      if ( isBindingDeniedLoggingRequired(eval.getBean(), paramName) ) {
-         log.warn("Binding denied for action ", eval.getBean().getClass(), ", param ", paramName,
-               " has no @Validate annotation. CAUTION: Before you allow binding with @Validate, take a step back and make sure that binding this parameter is safe.");
+      if ( log.getRealLog().isWarnEnabled() ) {
+         // check the limit first, so that floods of denied parameters are not inspected one by one
+         if ( isDenialLogLimitReached() ) {
+            _denialsSuppressed.increment();
+         } else if ( isBindingDeniedLoggingRequired(bean, paramName) ) {
+            long suppressed = countDenialLog();
+            if ( suppressed >= 0 ) {
+               log.warn("Binding denied for action ", bean.getClass(), ", param ", paramName,
+                     " has no @Validate annotation. CAUTION: Before you allow binding with @Validate, take a step back and make sure that binding this parameter is safe.",
+                     suppressed > 0 ? " " + suppressed + " more denials were not logged." : "");
+            }
+         }
       }
 
       return false;
@@ -143,6 +185,15 @@ public class BindingPolicyManager {
       return new HashSet<>(properties);
    }
 
+   /**
+    * Indicates if the denied binding of the given parameter is worth a warning. Denials are logged
+    * for nested parameters and for properties of the bean that could be bound, but not for names
+    * that are unknown to the bean. The number of warnings is limited per interval in any case.
+    *
+    * @param actionBean the bean the parameter was to be bound to
+    * @param paramName the stripped name of the parameter
+    * @return true if the denial should be logged
+    */
    protected boolean isBindingDeniedLoggingRequired( Object actionBean, String paramName ) {
       // Only track violation if there's an actual property on this actionBean we would bind...
       if ( paramName.contains(".") ) {
@@ -161,6 +212,33 @@ public class BindingPolicyManager {
       return true;
    }
 
+   /**
+    * Counts a denied binding that is to be logged against the limit of the current interval.
+    *
+    * @return -1 if the denial must not be logged, otherwise the number of denials that were not
+    *         logged since the last one that was
+    */
+   private long countDenialLog() {
+      if ( _denialsLogged.getAndIncrement() >= DENIAL_LOG_LIMIT ) {
+         _denialsSuppressed.increment();
+         return -1;
+      }
+      return _denialsSuppressed.sumThenReset();
+   }
+
+   /**
+    * Starts a new interval if the current one is over, and indicates if the denials logged in the
+    * current interval reached the limit.
+    */
+   private boolean isDenialLogLimitReached() {
+      long now = System.currentTimeMillis();
+      long start = _denialLogIntervalStart.get();
+      if ( now - start >= DENIAL_LOG_INTERVAL && _denialLogIntervalStart.compareAndSet(start, now) ) {
+         _denialsLogged.set(0);
+      }
+      return _denialsLogged.get() >= DENIAL_LOG_LIMIT;
+   }
+
    /**
     * Indicates if any node in the given {@link PropertyExpressionEvaluation} has a value type that is assignable from
     * any of the classes listed in {@link #ILLEGAL_NODE_VALUE_TYPES}.
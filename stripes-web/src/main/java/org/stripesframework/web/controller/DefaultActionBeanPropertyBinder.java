@@ -15,6 +15,7 @@
 package org.stripesframework.web.controller;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -37,6 +39,8 @@ import org.stripesframework.web.action.FileBean;
 import org.stripesframework.web.action.Wizard;
 import org.stripesframework.web.config.Configuration;
 import org.stripesframework.web.exception.StripesRuntimeException;
+import org.stripesframework.web.metrics.ParameterBindingEvent;
+import org.stripesframework.web.metrics.RequestMetrics;
 import org.stripesframework.web.util.CollectionUtil;
 import org.stripesframework.web.util.CryptoUtil;
 import org.stripesframework.web.util.HtmlUtil;
@@ -44,6 +48,8 @@ import org.stripesframework.web.util.Log;
 import org.stripesframework.web.util.bean.BeanUtil;
 import org.stripesframework.web.util.bean.ExpressionException;
 import org.stripesframework.web.util.bean.NoSuchPropertyException;
+import org.stripesframework.web.util.bean.NodeEvaluation;
+import org.stripesframework.web.util.bean.NodeType;
 import org.stripesframework.web.util.bean.PropertyExpression;
 import org.stripesframework.web.util.bean.PropertyExpressionEvaluation;
 import org.stripesframework.web.validation.ScopedLocalizableError;
@@ -77,6 +83,22 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
    /** Configuration instance passed in at initialization time. */
    private Configuration _configuration;
 
+   /**
+    * Whether parameters are discarded by {@link #isBindingAllowed(ActionBean, ParameterName)}
+    * before they are evaluated. This is not the case if a subclass overrides only
+    * {@link #isBindingAllowed(PropertyExpressionEvaluation)}, which must then see every parameter.
+    */
+   private final boolean _nameCheckApplied = isNameCheckApplied();
+
+   /** Cache of the BindingPlans for the different ActionBean classes */
+   private final ClassValue<BindingPlan> _bindingPlans = new ClassValue<>() {
+
+      @Override
+      protected BindingPlan computeValue( Class<?> beanClass ) {
+         return new BindingPlan();
+      }
+   };
+
    /**
     * <p>
     * Loops through the parameters contained in the request and attempts to bind each one to the
@@ -112,7 +134,12 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
       // validation go a little easier
       Map<ParameterName, List<Object>> allConvertedFields = new TreeMap<>();
 
+      // Counted for the RequestMetrics
+      int boundParameters = 0;
+      int conversionFailures = 0;
+
       // First we bind all the regular parameters
+      BindingPlan plan = getBindingPlan(bean.getClass());
       for ( Map.Entry<ParameterName, String[]> entry : parameters.entrySet() ) {
          List<Object> convertedValues = null;
          ParameterName name = entry.getKey();
@@ -122,21 +149,36 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
             if ( !StripesConstants.SPECIAL_URL_KEYS.contains(pname) && !fieldErrors.containsKey(pname) ) {
                log.trace("Running binding for property with name: ", name);
 
-               // Determine the target type
-               ValidationMetadata validationInfo = validationInfos.get(name.getStrippedName());
+               // Determine the target type, from the plan if the property was bound before
+               ValidationMetadata validationInfo;
                PropertyExpressionEvaluation eval;
-               try {
-                  eval = new PropertyExpressionEvaluation(PropertyExpression.getExpression(pname), bean);
-               }
-               catch ( Exception e ) {
-                  if ( pname.equals(context.getEventName()) ) {
-                     continue;
-                  } else {
-                     throw e;
+               Class<?> type;
+               Class<?> scalarType;
+               PropertyBinding binding = plan.getPropertyBinding(pname);
+               if ( binding != null ) {
+                  validationInfo = binding.getValidationMetadata();
+                  eval = binding.newEvaluation(bean);
+                  type = binding.getType();
+                  scalarType = binding.getScalarType();
+               } else if ( _nameCheckApplied && !isBindingAllowed(bean, name) ) {
+                  // Discarded by name, before the expression is evaluated against the bean
+                  continue;
+               } else {
+                  validationInfo = validationInfos.get(name.getStrippedName());
+                  try {
+                     eval = new PropertyExpressionEvaluation(PropertyExpression.getExpression(pname), bean);
+                  }
+                  catch ( Exception e ) {
+                     if ( pname.equals(context.getEventName()) ) {
+                        continue;
+                     } else {
+                        throw e;
+                     }
                   }
+                  type = eval.getType();
+                  scalarType = eval.getScalarType();
+                  plan.addPropertyBinding(name, eval, type, scalarType, validationInfo);
                }
-               Class<?> type = eval.getType();
-               Class<?> scalarType = eval.getScalarType();
 
                // Check to see if binding into this expression is permitted
                if ( !isBindingAllowed(eval) ) {
@@ -160,6 +202,9 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
                   continue;
                }
 
+               ParameterBindingEvent event = new ParameterBindingEvent();
+               event.begin();
+
                if ( validate && validationInfo != null ) {
                   doPreConversionValidations(name, values, validationInfo, errors);
                }
@@ -168,6 +213,9 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
                if ( errors.isEmpty() ) {
                   convertedValues = convert(bean, name, values, type, scalarType, validationInfo, errors);
                   allConvertedFields.put(name, convertedValues);
+                  if ( !errors.isEmpty() ) {
+                     conversionFailures++;
+                  }
                }
 
                // If we have errors, save them, otherwise bind the parameter to the form
@@ -175,8 +223,20 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
                   fieldErrors.addAll(name.getName(), errors);
                } else if ( convertedValues.size() > 0 ) {
                   bindNonNullValue(bean, eval, convertedValues, type, scalarType);
+                  boundParameters++;
                } else {
                   bindNullValue(bean, name.getName(), type);
+                  boundParameters++;
+               }
+
+               event.end();
+               if ( event.shouldCommit() ) {
+                  event.beanType = bean.getClass();
+                  event.parameter = pname;
+                  event.propertyType = type;
+                  event.values = values.length;
+                  event.errors = errors.size();
+                  event.commit();
                }
             }
          }
@@ -216,6 +276,11 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
          doPostConversionValidations(bean, allConvertedFields, fieldErrors);
       }
 
+      RequestMetrics metrics = _configuration.getRequestMetrics();
+      if ( metrics.isEnabled() ) {
+         metrics.recordBinding(bean.getClass(), context.getEventName(), boundParameters, conversionFailures);
+      }
+
       return fieldErrors;
    }
 
@@ -562,6 +627,17 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
       }
    }
 
+   /**
+    * Gets the {@link BindingPlan} for the given ActionBean class, creating an empty one if the
+    * class has not been bound before.
+    *
+    * @param beanClass the ActionBean class being bound
+    * @return the binding plan of the class
+    */
+   protected BindingPlan getBindingPlan( Class<? extends ActionBean> beanClass ) {
+      return _bindingPlans.get(beanClass);
+   }
+
    /** Returns the Configuration object that was passed to the init() method. */
    protected Configuration getConfiguration() { return _configuration; }
 
@@ -605,9 +681,12 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
       Map<String, String[]> requestParameters = bean.getContext().getRequest().getParameterMap();
       Map<String, ValidationMetadata> validations = StripesFilter.getConfiguration().getValidationMetadataProvider().getValidationMetadata(bean.getClass());
       SortedMap<ParameterName, String[]> parameters = new TreeMap<>();
+      BindingPlan plan = getBindingPlan(bean.getClass());
 
       for ( Map.Entry<String, String[]> entry : requestParameters.entrySet() ) {
-         ParameterName paramName = new ParameterName(entry.getKey().trim());
+         String key = entry.getKey().trim();
+         PropertyBinding binding = plan.getPropertyBinding(key);
+         ParameterName paramName = binding != null ? binding.getName() : new ParameterName(key);
          ValidationMetadata validation = validations.get(paramName.getStrippedName());
          parameters.put(paramName, trim(entry.getValue(), validation));
       }
@@ -637,6 +716,33 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
       }
    }
 
+   /**
+    * <p>
+    * Checks to see if binding may be permitted for the given request parameter, judged by its
+    * name alone. This is invoked before the name is evaluated against the ActionBean, so that
+    * parameters that can never be bound are discarded without parsing the expression or
+    * instantiating intermediate objects. Parameters that pass are evaluated and then checked with
+    * {@link #isBindingAllowed(PropertyExpressionEvaluation)}.
+    * </p>
+    *
+    * <p>
+    * If a subclass overrides {@link #isBindingAllowed(PropertyExpressionEvaluation)} but not this
+    * method, this method is not invoked, so that the overridden policy decides on every parameter.
+    * </p>
+    *
+    * <p>
+    * By default only parameters whose stripped names have {@link ValidationMetadata} may be bound,
+    * as decided by the {@link BindingPolicyManager} of the ActionBean class.
+    * </p>
+    *
+    * @param bean the ActionBean being bound to
+    * @param name the name of the request parameter
+    * @return false to veto binding, true if binding may proceed
+    */
+   protected boolean isBindingAllowed( ActionBean bean, ParameterName name ) {
+      return BindingPolicyManager.getInstance(bean.getClass()).isBindingAllowed(bean, name);
+   }
+
    /**
     * <p>
     * Checks to see if binding is permitted for the provided expression evaluation. Note that the
@@ -774,6 +880,130 @@ public class DefaultActionBeanPropertyBinder implements ActionBeanPropertyBinder
       }
    }
 
+   /**
+    * Indicates if parameters may be discarded by their names before they are evaluated, which is
+    * the case unless a subclass overrides only {@link #isBindingAllowed(PropertyExpressionEvaluation)}.
+    */
+   private boolean isNameCheckApplied() {
+      return isOverridden("isBindingAllowed", ActionBean.class, ParameterName.class) || !isOverridden("isBindingAllowed", PropertyExpressionEvaluation.class);
+   }
+
+   /** Indicates if a subclass overrides the given method of this class. */
+   private boolean isOverridden( String name, Class<?>... parameterTypes ) {
+      for ( Class<?> type = getClass(); type != DefaultActionBeanPropertyBinder.class; type = type.getSuperclass() ) {
+         try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+         }
+         catch ( NoSuchMethodException e ) {
+            // not declared by this class, so look at its superclass
+         }
+      }
+      return false;
+   }
+
+   /**
+    * <p>
+    * Records how the request parameters naming simple properties of an ActionBean class, i.e.
+    * properties that are neither nested nor indexed, are bound. Once such a parameter has been
+    * bound, the parsed expression, the type information of the property and its
+    * {@link ValidationMetadata} are reused for all later requests instead of examining the bean
+    * class again. Only these do not depend on the request; whether binding is allowed is checked
+    * for every request.
+    * </p>
+    *
+    * <p>
+    * Parameters that do not name a simple property are never added to the plan and are evaluated
+    * for every request. The size of the plan is therefore bounded by the number of properties of
+    * the class, regardless of the parameter names that are submitted.
+    * </p>
+    */
+   protected static class BindingPlan {
+
+      /** Map of PropertyBindings, keyed by the name of the request parameter. */
+      private final Map<String, PropertyBinding> _propertyBindings = new ConcurrentHashMap<>();
+
+      /**
+       * Adds the binding of a parameter to the plan, if the parameter names a simple property of
+       * the bean.
+       *
+       * @param name the name of the request parameter
+       * @param eval the evaluation of the parameter name against the bean
+       * @param type the declared type of the property
+       * @param scalarType the scalar type of the property
+       * @param validationInfo the validation metadata for the property if defined
+       */
+      public void addPropertyBinding( ParameterName name, PropertyExpressionEvaluation eval, Class<?> type, Class<?> scalarType,
+            ValidationMetadata validationInfo ) {
+         NodeEvaluation node = eval.getRootNode();
+         // Only record names that are exactly the property name, so that other spellings of the
+         // same expression (quoted, escaped) cannot grow the plan
+         if ( type != null && node != null && node.getNext() == null && node.getType() == NodeType.BeanProperty
+               && name.getName().equals(node.getNode().getStringValue()) ) {
+            _propertyBindings.put(name.getName(),
+                  new PropertyBinding(name, eval.getExpression(), node.getValueType(), type, scalarType, validationInfo));
+         }
+      }
+
+      /**
+       * Gets the recorded binding of a request parameter.
+       *
+       * @param name the name of the request parameter
+       * @return the binding, or null if the parameter was not bound before or does not name a
+       *         simple property
+       */
+      public PropertyBinding getPropertyBinding( String name ) {
+         return _propertyBindings.get(name);
+      }
+   }
+
+   /**
+    * The resolved binding of a request parameter to a simple property of an ActionBean class, as
+    * recorded in a {@link BindingPlan}.
+    */
+   protected static class PropertyBinding {
+
+      private final ParameterName      _name;
+      private final PropertyExpression _expression;
+      private final Type               _propertyType;
+      private final Class<?>           _type;
+      private final Class<?>           _scalarType;
+      private final ValidationMetadata _validationInfo;
+
+      PropertyBinding( ParameterName name, PropertyExpression expression, Type propertyType, Class<?> type, Class<?> scalarType,
+            ValidationMetadata validationInfo ) {
+         _name = name;
+         _expression = expression;
+         _propertyType = propertyType;
+         _type = type;
+         _scalarType = scalarType;
+         _validationInfo = validationInfo;
+      }
+
+      /** Returns the name of the request parameter. */
+      public ParameterName getName() { return _name; }
+
+      /** Returns the scalar type of the property. */
+      public Class<?> getScalarType() { return _scalarType; }
+
+      /** Returns the declared type of the property. */
+      public Class<?> getType() { return _type; }
+
+      /** Returns the validation metadata for the property, or null if none is defined. */
+      public ValidationMetadata getValidationMetadata() { return _validationInfo; }
+
+      /**
+       * Creates an evaluation of the property against the given bean, reusing the recorded type
+       * information.
+       *
+       * @param bean an instance of the ActionBean class the binding was recorded for
+       * @return a new evaluation of the property
+       */
+      public PropertyExpressionEvaluation newEvaluation( ActionBean bean ) {
+         return new PropertyExpressionEvaluation(_expression, bean, _propertyType);
+      }
+   }
+
    /**
     * An inner class that represents a "row" of form properties that all have the same index
     * so that we can validate all those properties together.
@@ -14,10 +14,8 @@
  */
 package org.stripesframework.web.controller;
 
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
@@ -25,7 +23,8 @@ import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -34,11 +33,14 @@ import org.stripesframework.web.action.ActionBeanContext;
 import org.stripesframework.web.action.DontBind;
 import org.stripesframework.web.action.DontValidate;
 import org.stripesframework.web.action.Resolution;
-import org.stripesframework.web.config.Configuration;
 import org.stripesframework.web.exception.StripesServletException;
+import org.stripesframework.web.metrics.CustomValidationEvent;
+import org.stripesframework.web.metrics.HandlerInvocationEvent;
+import org.stripesframework.web.metrics.ResolutionExecutionEvent;
 import org.stripesframework.web.util.CollectionUtil;
 import org.stripesframework.web.util.HtmlUtil;
 import org.stripesframework.web.util.Log;
+import org.stripesframework.web.util.MethodInvoker;
 import org.stripesframework.web.validation.ValidationError;
 import org.stripesframework.web.validation.ValidationErrorHandler;
 import org.stripesframework.web.validation.ValidationErrors;
@@ -56,13 +58,42 @@ public class DispatcherHelper {
 
    private static final Log log = Log.getInstance(DispatcherHelper.class);
 
+   /*
+    * The code wrapped by the interceptors of the stages. They take all they need from the
+    * ExecutionContext, so that no Interceptor is created per request.
+    */
+   private static final Interceptor BINDING                  = ctx -> bind(ctx, false);
+   private static final Interceptor BINDING_AND_VALIDATION   = ctx -> bind(ctx, true);
+   private static final Interceptor CUSTOM_VALIDATION        = ctx -> validate(ctx, false);
+   private static final Interceptor CUSTOM_VALIDATION_ALWAYS = ctx -> validate(ctx, true);
+
    /**
-    * A Map that is used to cache the validation method that are discovered for each
-    * ActionBean.  Entries are added to this map the first time that a request is made
-    * to a particular ActionBean.  The Map will contain a zero length array for ActionBeans
-    * that do not have any validation methods.
+    * Caches the validation methods that are discovered for each ActionBean. Values are computed
+    * the first time that a request is made to a particular ActionBean, and are a zero length array
+    * for ActionBeans that do not have any validation methods. Lookups do not lock, and the cached
+    * methods do not keep the ActionBean class or its class loader from being unloaded.
     */
-   private static final Map<Class<?>, WeakReference<Method[]>> customValidations = Collections.synchronizedMap(new WeakHashMap<>());
+   private static final ClassValue<Method[]> customValidations = new ClassValue<>() {
+
+      @Override
+      protected Method[] computeValue( Class<?> type ) {
+         return collectCustomValidationMethods(type);
+      }
+   };
+
+   /** Caches the invokers of the validation methods, in the order of {@link #customValidations}. */
+   private static final ClassValue<MethodInvoker[]> customValidationInvokers = new ClassValue<>() {
+
+      @Override
+      protected MethodInvoker[] computeValue( Class<?> type ) {
+         Method[] methods = customValidations.get(type);
+         MethodInvoker[] invokers = new MethodInvoker[methods.length];
+         for ( int i = 0; i < methods.length; i++ ) {
+            invokers[i] = MethodInvoker.getInstance(methods[i]);
+         }
+         return invokers;
+      }
+   };
 
    /**
     * <p>Determines if the ValidationMethod annotation should be applied to the named
@@ -97,27 +128,8 @@ public class DispatcherHelper {
     *         be aborted in favor of another Resolution, null otherwise.
     */
    public static Resolution doBindingAndValidation( final ExecutionContext ctx, final boolean validate ) throws Exception {
-      // Bind the value to the bean - this includes performing field level validation
-      final Method handler = ctx.getHandler();
-      final boolean doBind = handler == null || handler.getAnnotation(DontBind.class) == null;
-      final boolean doValidate = doBind && validate && (handler == null || handler.getAnnotation(DontValidate.class) == null);
-      final Configuration config = StripesFilter.getConfiguration();
-
-      ctx.setLifecycleStage(LifecycleStage.BindingAndValidation);
-      ctx.setInterceptors(config.getInterceptors(LifecycleStage.BindingAndValidation));
-
-      return ctx.wrap(new Interceptor() {
-
-         @Override
-         public Resolution intercept( ExecutionContext ctx ) throws Exception {
-            if ( doBind ) {
-               ActionBeanPropertyBinder binder = config.getActionBeanPropertyBinder();
-               binder.bind(ctx.getActionBean(), ctx.getActionBeanContext(), doValidate);
-               fillInValidationErrors(ctx);
-            }
-            return null;
-         }
-      });
+      ctx.setLifecycleStage(LifecycleStage.BindingAndValidation, StripesFilter.getConfiguration());
+      return ctx.wrap(validate ? BINDING_AND_VALIDATION : BINDING);
    }
 
    /**
@@ -130,47 +142,17 @@ public class DispatcherHelper {
     *         be aborted in favor of another Resolution, null otherwise.
     */
    public static Resolution doCustomValidation( final ExecutionContext ctx, final boolean alwaysInvokeValidate ) throws Exception {
-      final ValidationErrors errors = ctx.getActionBeanContext().getValidationErrors();
-      final ActionBean bean = ctx.getActionBean();
       final Method handler = ctx.getHandler();
       final boolean doBind = handler != null && handler.getAnnotation(DontBind.class) == null;
       final boolean doValidate = doBind && handler.getAnnotation(DontValidate.class) == null;
-      Configuration config = StripesFilter.getConfiguration();
 
       // Run the bean's methods annotated with @ValidateMethod if the following conditions are met:
       //   l. This event is not marked to bypass binding
       //   2. This event is not marked to bypass validation (doValidate == true)
       //   3. We have no errors so far OR alwaysInvokeValidate is true
       if ( doValidate ) {
-
-         ctx.setLifecycleStage(LifecycleStage.CustomValidation);
-         ctx.setInterceptors(config.getInterceptors(LifecycleStage.CustomValidation));
-
-         return ctx.wrap(new Interceptor() {
-
-            @Override
-            public Resolution intercept( ExecutionContext context ) throws Exception {
-               // Run any of the annotated validation methods
-               Method[] validations = findCustomValidationMethods(bean.getClass());
-               for ( Method validation : validations ) {
-                  ValidationMethod ann = validation.getAnnotation(ValidationMethod.class);
-
-                  boolean run = (ann.when() == ValidationState.ALWAYS) || (ann.when() == ValidationState.DEFAULT && alwaysInvokeValidate) || errors.isEmpty();
-
-                  if ( run && applies(ann, ctx.getActionBeanContext().getEventName()) ) {
-                     Class<?>[] args = validation.getParameterTypes();
-                     if ( args.length == 1 && args[0].equals(ValidationErrors.class) ) {
-                        validation.invoke(bean, errors);
-                     } else {
-                        validation.invoke(bean);
-                     }
-                  }
-               }
-
-               fillInValidationErrors(ctx);
-               return null;
-            }
-         });
+         ctx.setLifecycleStage(LifecycleStage.CustomValidation, StripesFilter.getConfiguration());
+         return ctx.wrap(alwaysInvokeValidate ? CUSTOM_VALIDATION_ALWAYS : CUSTOM_VALIDATION);
       } else {
          return null;
       }
@@ -187,26 +169,10 @@ public class DispatcherHelper {
     *        interceptor before calling ctx.proceed()
     */
    public static void executeResolution( ExecutionContext ctx, Resolution resolution ) throws Exception {
-      final Configuration config = StripesFilter.getConfiguration();
-
-      ctx.setLifecycleStage(LifecycleStage.ResolutionExecution);
-      ctx.setInterceptors(config.getInterceptors(LifecycleStage.ResolutionExecution));
+      ctx.setLifecycleStage(LifecycleStage.ResolutionExecution, StripesFilter.getConfiguration());
       ctx.setResolution(resolution);
 
-      Resolution retval = ctx.wrap(new Interceptor() {
-
-         @Override
-         public Resolution intercept( ExecutionContext context ) throws Exception {
-            ActionBeanContext abc = context.getActionBeanContext();
-            Resolution resolution = context.getResolution();
-
-            if ( resolution != null ) {
-               resolution.execute(abc.getRequest(), abc.getResponse());
-            }
-
-            return null;
-         }
-      });
+      Resolution retval = ctx.wrap(DispatcherHelper::execute);
 
       if ( retval != null ) {
          log.warn("An interceptor wrapping LifecycleStage.ResolutionExecution returned ",
@@ -261,65 +227,15 @@ public class DispatcherHelper {
    /**
     * Finds and returns all methods in the ActionBean class and it's superclasses that
     * are marked with the ValidationMethod annotation and returns them ordered by
-    * priority (and alphabetically within priorities).  Looks first in an instance level
-    * cache, and if that does not contain information for an ActionBean, examines the
-    * ActionBean and adds the information to the cache.
+    * priority (and alphabetically within priorities).  The methods are looked up in a
+    * cache, which examines the ActionBean the first time it is asked for it.
     *
     * @param type a Class representing an ActionBean
     * @return a Method[] containing all methods marked as custom validations. May return
     *         an empty array, but never null.
     */
    public static Method[] findCustomValidationMethods( Class<? extends ActionBean> type ) throws Exception {
-      Method[] validations = null;
-      WeakReference<Method[]> ref = customValidations.get(type);
-      if ( ref != null ) {
-         validations = ref.get();
-      }
-
-      // Lazily examine the ActionBean and collect this information
-      if ( validations == null ) {
-         // A sorted set with a custom comparator that will order the methods in
-         // the set based upon the priority in their custom validation annotation
-         SortedSet<Method> validationMethods = new TreeSet<>(new Comparator<>() {
-
-            @Override
-            public int compare( Method o1, Method o2 ) {
-               // If one of the methods overrides the others, return equal!
-               if ( o1.getName().equals(o2.getName()) && Arrays.equals(o1.getParameterTypes(), o2.getParameterTypes()) ) {
-                  return 0;
-               }
-
-               ValidationMethod ann1 = o1.getAnnotation(ValidationMethod.class);
-               ValidationMethod ann2 = o2.getAnnotation(ValidationMethod.class);
-               int returnValue = new Integer(ann1.priority()).compareTo(ann2.priority());
-
-               if ( returnValue == 0 ) {
-                  returnValue = o1.getName().compareTo(o2.getName());
-               }
-
-               return returnValue;
-            }
-         });
-
-         Class<?> temp = type;
-         while ( temp != null ) {
-            for ( Method method : temp.getDeclaredMethods() ) {
-               Class<?>[] args = method.getParameterTypes();
-
-               if ( (method.getAnnotation(ValidationMethod.class) != null) && ((args.length == 0) || (args.length == 1 && args[0].equals(
-                     ValidationErrors.class))) ) {
-                  validationMethods.add(method);
-               }
-            }
-
-            temp = temp.getSuperclass();
-         }
-
-         validations = validationMethods.toArray(new Method[validationMethods.size()]);
-         customValidations.put(type, new WeakReference<>(validations));
-      }
-
-      return validations;
+      return customValidations.get(type);
    }
 
    /**
@@ -360,43 +276,49 @@ public class DispatcherHelper {
       return resolution;
    }
 
+   /**
+    * Processes the value that an event handler returned, or that the CompletionStage or
+    * Callable of an asynchronous event handler completed with. Validation errors added by the
+    * handler are filled in, and the value is returned if it is a Resolution.
+    *
+    * @param ctx the ExecutionContext being used to process the current request
+    * @param returnValue the value provided by the event handler, possibly null
+    * @return the Resolution provided by the event handler, or null if it provided none
+    */
+   public static Resolution completeEventHandling( ExecutionContext ctx, Object returnValue ) {
+      fillInValidationErrors(ctx);
+
+      if ( returnValue != null && returnValue instanceof Resolution ) {
+         ctx.setResolutionFromHandler(true);
+         return (Resolution)returnValue;
+      } else if ( returnValue != null ) {
+         log.warn("Expected handler method ", ctx.getHandler().getName(), " on class ", ctx.getActionBean().getClass().getSimpleName(),
+               " to return a Resolution. Instead it ", "returned: ", returnValue);
+      }
+
+      return null;
+   }
+
    /**
     * Responsible for invoking the event handler identified.  This method will only be
     * called if an event handler was identified, and can assume that the bean and handler
     * are present in the ExecutionContext.
     *
+    * <p>If the handler is asynchronous, i.e. returns a {@link CompletionStage} or a
+    * {@link Callable} that provides the Resolution, the returned object is stored as the
+    * {@link ExecutionContext#getAsyncResult() async result} of the ExecutionContext and null is
+    * returned. It is up to the caller to wait for the Resolution, and to pass it to
+    * {@link #completeEventHandling(ExecutionContext, Object)}.</p>
+    *
     * @param ctx the ExecutionContext being used to process the current request
     *        type conversion should occur
     * @return a Resolution if the error handling code determines that some kind of resolution
     *         should be processed in favor of continuing on to handler invocation
     */
    public static Resolution invokeEventHandler( ExecutionContext ctx ) throws Exception {
-      final Configuration config = StripesFilter.getConfiguration();
-      final Method handler = ctx.getHandler();
-      final ActionBean bean = ctx.getActionBean();
-
       // Finally execute the handler method!
-      ctx.setLifecycleStage(LifecycleStage.EventHandling);
-      ctx.setInterceptors(config.getInterceptors(LifecycleStage.EventHandling));
-
-      return ctx.wrap(new Interceptor() {
-
-         @Override
-         public Resolution intercept( ExecutionContext ctx ) throws Exception {
-            Object returnValue = handler.invoke(bean);
-            fillInValidationErrors(ctx);
-
-            if ( returnValue != null && returnValue instanceof Resolution ) {
-               ctx.setResolutionFromHandler(true);
-               return (Resolution)returnValue;
-            } else if ( returnValue != null ) {
-               log.warn("Expected handler method ", handler.getName(), " on class ", bean.getClass().getSimpleName(), " to return a Resolution. Instead it ",
-                     "returned: ", returnValue);
-            }
-
-            return null;
-         }
-      });
+      ctx.setLifecycleStage(LifecycleStage.EventHandling, StripesFilter.getConfiguration());
+      return ctx.wrap(DispatcherHelper::invokeHandler);
    }
 
    /** Log validation errors at DEBUG to help during development. */
@@ -435,35 +357,8 @@ public class DispatcherHelper {
     *         be aborted in favor of another Resolution, null otherwise.
     */
    public static Resolution resolveActionBean( final ExecutionContext ctx ) throws Exception {
-      final Configuration config = StripesFilter.getConfiguration();
-      ctx.setLifecycleStage(LifecycleStage.ActionBeanResolution);
-      ctx.setInterceptors(config.getInterceptors(LifecycleStage.ActionBeanResolution));
-      return ctx.wrap(new Interceptor() {
-
-         @Override
-         public Resolution intercept( ExecutionContext ctx ) throws Exception {
-            // Look up the ActionBean and set it on the context
-            ActionBeanContext context = ctx.getActionBeanContext();
-            ActionBean bean = StripesFilter.getConfiguration().getActionResolver().getActionBean(context);
-            ctx.setActionBean(bean);
-
-            // Prefer the context from the resolved bean if it differs from the ExecutionContext
-            if ( context != bean.getContext() ) {
-               ActionBeanContext other = bean.getContext();
-               other.setEventName(context.getEventName());
-               other.setRequest(context.getRequest());
-               other.setResponse(context.getResponse());
-
-               context = other;
-               ctx.setActionBeanContext(context);
-            }
-
-            // Then register it in the Request as THE ActionBean for this request
-            HttpServletRequest request = context.getRequest();
-            request.setAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN, bean);
-            return null;
-         }
-      });
+      ctx.setLifecycleStage(LifecycleStage.ActionBeanResolution, StripesFilter.getConfiguration());
+      return ctx.wrap(DispatcherHelper::lookUpActionBean);
    }
 
    /**
@@ -477,43 +372,198 @@ public class DispatcherHelper {
     *         be aborted in favor of another Resolution, null otherwise.
     */
    public static Resolution resolveHandler( final ExecutionContext ctx ) throws Exception {
-      final Configuration config = StripesFilter.getConfiguration();
-      ctx.setLifecycleStage(LifecycleStage.HandlerResolution);
-      ctx.setInterceptors(config.getInterceptors(LifecycleStage.HandlerResolution));
+      ctx.setLifecycleStage(LifecycleStage.HandlerResolution, StripesFilter.getConfiguration());
+      return ctx.wrap(DispatcherHelper::lookUpHandler);
+   }
 
-      return ctx.wrap(new Interceptor() {
+   /**
+    * Examines the ActionBean class and its superclasses for methods marked with the
+    * ValidationMethod annotation, ordered by priority and name.
+    */
+   private static Method[] collectCustomValidationMethods( Class<?> type ) {
+      // A sorted set with a custom comparator that will order the methods in
+      // the set based upon the priority in their custom validation annotation
+      SortedSet<Method> validationMethods = new TreeSet<>(new Comparator<>() {
 
          @Override
-         public Resolution intercept( ExecutionContext ctx ) throws Exception {
-            ActionBean bean = ctx.getActionBean();
-            ActionBeanContext context = ctx.getActionBeanContext();
-            ActionResolver resolver = config.getActionResolver();
-
-            // Then lookup the event name and handler method etc.
-            String eventName = resolver.getEventName(bean.getClass(), context);
-            context.setEventName(eventName);
-
-            final Method handler;
-            if ( eventName != null ) {
-               handler = resolver.getHandler(bean.getClass(), eventName);
-            } else {
-               handler = resolver.getDefaultHandler(bean.getClass());
-               if ( handler != null ) {
-                  context.setEventName(resolver.getHandledEvent(handler));
-               }
+         public int compare( Method o1, Method o2 ) {
+            // If one of the methods overrides the others, return equal!
+            if ( o1.getName().equals(o2.getName()) && Arrays.equals(o1.getParameterTypes(), o2.getParameterTypes()) ) {
+               return 0;
             }
 
-            // Insist that we have a handler
-            if ( handler == null ) {
-               throw new StripesServletException(
-                     "No handler method found for request with  ActionBean [" + bean.getClass().getName() + "] and eventName [ " + eventName + "]");
-            }
+            ValidationMethod ann1 = o1.getAnnotation(ValidationMethod.class);
+            ValidationMethod ann2 = o2.getAnnotation(ValidationMethod.class);
+            int returnValue = new Integer(ann1.priority()).compareTo(ann2.priority());
 
-            log.debug("Resolved event: ", context.getEventName(), "; will invoke: ", bean.getClass().getSimpleName(), ".", handler.getName(), "()");
+            if ( returnValue == 0 ) {
+               returnValue = o1.getName().compareTo(o2.getName());
+            }
 
-            ctx.setHandler(handler);
-            return null;
+            return returnValue;
          }
       });
+
+      Class<?> temp = type;
+      while ( temp != null ) {
+         for ( Method method : temp.getDeclaredMethods() ) {
+            Class<?>[] args = method.getParameterTypes();
+
+            if ( (method.getAnnotation(ValidationMethod.class) != null) && ((args.length == 0) || (args.length == 1 && args[0].equals(
+                  ValidationErrors.class))) ) {
+               validationMethods.add(method);
+            }
+         }
+
+         temp = temp.getSuperclass();
+      }
+
+      return validationMethods.toArray(new Method[validationMethods.size()]);
+   }
+
+   private static Resolution bind( ExecutionContext ctx, boolean validate ) throws Exception {
+      // Bind the value to the bean - this includes performing field level validation
+      Method handler = ctx.getHandler();
+      boolean doBind = handler == null || handler.getAnnotation(DontBind.class) == null;
+      boolean doValidate = doBind && validate && (handler == null || handler.getAnnotation(DontValidate.class) == null);
+
+      if ( doBind ) {
+         ActionBeanPropertyBinder binder = StripesFilter.getConfiguration().getActionBeanPropertyBinder();
+         binder.bind(ctx.getActionBean(), ctx.getActionBeanContext(), doValidate);
+         fillInValidationErrors(ctx);
+      }
+      return null;
+   }
+
+   private static Resolution execute( ExecutionContext ctx ) throws Exception {
+      ActionBeanContext abc = ctx.getActionBeanContext();
+      Resolution resolution = ctx.getResolution();
+
+      if ( resolution != null ) {
+         ResolutionExecutionEvent event = new ResolutionExecutionEvent();
+         event.begin();
+
+         resolution.execute(abc.getRequest(), abc.getResponse());
+
+         event.end();
+         if ( event.shouldCommit() ) {
+            event.beanType = ctx.getActionBean() == null ? null : ctx.getActionBean().getClass();
+            event.resolutionType = resolution.getClass();
+            event.commit();
+         }
+      }
+
+      return null;
+   }
+
+   private static Resolution invokeHandler( ExecutionContext ctx ) throws Exception {
+      HandlerInvocationEvent event = new HandlerInvocationEvent();
+      event.begin();
+
+      Object returnValue = MethodInvoker.getInstance(ctx.getHandler()).invoke(ctx.getActionBean());
+
+      event.end();
+      if ( event.shouldCommit() ) {
+         event.beanType = ctx.getActionBean().getClass();
+         event.eventName = ctx.getActionBeanContext().getEventName();
+         event.method = ctx.getHandler().getName();
+         event.commit();
+      }
+
+      if ( returnValue instanceof CompletionStage || returnValue instanceof Callable ) {
+         ctx.setAsyncResult(returnValue);
+         return null;
+      }
+
+      return completeEventHandling(ctx, returnValue);
+   }
+
+   private static Resolution lookUpActionBean( ExecutionContext ctx ) throws Exception {
+      // Look up the ActionBean and set it on the context
+      ActionBeanContext context = ctx.getActionBeanContext();
+      ActionBean bean = StripesFilter.getConfiguration().getActionResolver().getActionBean(context);
+      ctx.setActionBean(bean);
+
+      // Prefer the context from the resolved bean if it differs from the ExecutionContext
+      if ( context != bean.getContext() ) {
+         ActionBeanContext other = bean.getContext();
+         other.setEventName(context.getEventName());
+         other.setRequest(context.getRequest());
+         other.setResponse(context.getResponse());
+
+         context = other;
+         ctx.setActionBeanContext(context);
+      }
+
+      // Then register it in the Request as THE ActionBean for this request
+      HttpServletRequest request = context.getRequest();
+      request.setAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN, bean);
+      return null;
+   }
+
+   private static Resolution lookUpHandler( ExecutionContext ctx ) throws Exception {
+      ActionBean bean = ctx.getActionBean();
+      ActionBeanContext context = ctx.getActionBeanContext();
+      ActionResolver resolver = StripesFilter.getConfiguration().getActionResolver();
+
+      // Then lookup the event name and handler method etc.
+      String eventName = resolver.getEventName(bean.getClass(), context);
+      context.setEventName(eventName);
+
+      final Method handler;
+      if ( eventName != null ) {
+         handler = resolver.getHandler(bean.getClass(), eventName);
+      } else {
+         handler = resolver.getDefaultHandler(bean.getClass());
+         if ( handler != null ) {
+            context.setEventName(resolver.getHandledEvent(handler));
+         }
+      }
+
+      // Insist that we have a handler
+      if ( handler == null ) {
+         throw new StripesServletException(
+               "No handler method found for request with  ActionBean [" + bean.getClass().getName() + "] and eventName [ " + eventName + "]");
+      }
+
+      log.debug("Resolved event: ", context.getEventName(), "; will invoke: ", bean.getClass().getSimpleName(), ".", handler.getName(), "()");
+
+      ctx.setHandler(handler);
+      return null;
+   }
+
+   private static Resolution validate( ExecutionContext ctx, boolean alwaysInvokeValidate ) throws Exception {
+      ValidationErrors errors = ctx.getActionBeanContext().getValidationErrors();
+      ActionBean bean = ctx.getActionBean();
+
+      // Run any of the annotated validation methods
+      for ( MethodInvoker invoker : customValidationInvokers.get(bean.getClass()) ) {
+         Method validation = invoker.getMethod();
+         ValidationMethod ann = validation.getAnnotation(ValidationMethod.class);
+
+         boolean run = (ann.when() == ValidationState.ALWAYS) || (ann.when() == ValidationState.DEFAULT && alwaysInvokeValidate) || errors.isEmpty();
+
+         if ( run && applies(ann, ctx.getActionBeanContext().getEventName()) ) {
+            CustomValidationEvent event = new CustomValidationEvent();
+            event.begin();
+
+            // Validation methods take either no parameter or the ValidationErrors
+            if ( validation.getParameterCount() == 1 ) {
+               invoker.invoke(bean, errors);
+            } else {
+               invoker.invoke(bean);
+            }
+
+            event.end();
+            if ( event.shouldCommit() ) {
+               event.beanType = bean.getClass();
+               event.method = validation.getName();
+               event.commit();
+            }
+         }
+      }
+
+      fillInValidationErrors(ctx);
+      return null;
    }
 }
@@ -14,9 +14,30 @@
  */
 package org.stripesframework.web.controller;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
 import java.util.Stack;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -25,11 +46,14 @@ import javax.servlet.http.HttpServletResponse;
 import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.action.ActionBeanContext;
 import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.config.BootstrapPropertyResolver;
 import org.stripesframework.web.config.Configuration;
 import org.stripesframework.web.exception.StripesServletException;
+import org.stripesframework.web.metrics.RequestMetrics;
 import org.stripesframework.web.util.HttpUtil;
 import org.stripesframework.web.util.Log;
 import org.stripesframework.web.validation.BooleanTypeConverter;
+import org.stripesframework.web.validation.ValidationError;
 
 
 /**
@@ -40,6 +64,32 @@ import org.stripesframework.web.validation.BooleanTypeConverter;
  * <p>While the DispatcherServlet is structured so that it can be easily subclassed and
  * overridden much of the processing work is delegated to the {@link DispatcherHelper} class.</p>
  *
+ * <p>Event handlers may return a {@link CompletionStage} or a {@link Callable} that provides the
+ * Resolution instead of the Resolution itself. If the container supports asynchronous processing
+ * for the request, the request thread is then released: a Callable is run on a container thread
+ * through {@link AsyncContext#start(Runnable)}, and once it returns or the CompletionStage
+ * completes, the {@link LifecycleStage#ResolutionExecution} and
+ * {@link LifecycleStage#RequestComplete} stages run on a container thread as well. If the
+ * request times out or fails in the meantime, the ExceptionHandler is invoked and the request
+ * is completed without the Resolution. Otherwise the request thread waits for the Resolution.
+ * A {@link org.stripesframework.web.action.ForwardResolution} that completes an asynchronous
+ * request dispatches it back to the container with {@link AsyncContext#dispatch(String)}. The
+ * page it dispatches to is rendered after the RequestComplete stage, and the StripesFilter must
+ * be mapped for the {@code ASYNC} dispatcher type as well, i.e. with
+ * {@code <dispatcher>ASYNC</dispatcher>} in addition to {@code REQUEST} and {@code FORWARD}.
+ * Asynchronous handlers must be annotated with
+ * {@link org.stripesframework.web.action.HandlesEvent} or
+ * {@link org.stripesframework.web.action.DefaultHandler}, and the container's timeout for
+ * asynchronous requests applies to them.</p>
+ *
+ * <p>If {@link #DISPATCH_TO_VIRTUAL_THREADS} is enabled and the Java runtime supports virtual
+ * threads, each request is processed on a virtual thread of its own in asynchronous mode, and the
+ * container's thread is released right away. Event handlers may then block, e.g. on I/O, without
+ * tying up a container thread. A ForwardResolution forwards the request on the virtual thread,
+ * before the request is completed, as it does on the container's thread. Requests the container
+ * does not support asynchronous processing for, as well as forwards and includes, are processed
+ * on the container's thread.</p>
+ *
  * @author Tim Fennell
  */
 public class DispatcherServlet extends HttpServlet {
@@ -53,9 +103,62 @@ public class DispatcherServlet extends HttpServlet {
     */
    public static final String RUN_CUSTOM_VALIDATION_WHEN_ERRORS = "Validation.InvokeValidateWhenErrorsExist";
 
+   /**
+    * Configuration key used to lookup up a property that determines whether or not requests are
+    * processed on virtual threads. Has no effect on Java runtimes that do not support them.
+    */
+   public static final String DISPATCH_TO_VIRTUAL_THREADS = "Dispatcher.VirtualThreads";
+
+   /**
+    * Configuration key used to lookup up the name of a request header that turns on tracing for
+    * the requests carrying it with the value of the {@link #TRACE_SECRET}. The lifecycle stages of
+    * a traced request are timed and reported in a {@code Server-Timing} response header, which is
+    * added before the resolution is executed, so that it does not contain
+    * {@link LifecycleStage#ResolutionExecution} and the stages after it.
+    */
+   public static final String TRACE_HEADER = "Dispatcher.TraceHeader";
+
+   /**
+    * Configuration key used to lookup up the value the {@link #TRACE_HEADER} must have for a
+    * request to be traced, so that clients who do not know it cannot read the timings. Not set,
+    * the trace header is ignored.
+    */
+   public static final String TRACE_SECRET = "Dispatcher.TraceSecret";
+
+   /**
+    * Configuration key used to lookup up the fraction of requests, from 0 to 1, that are traced
+    * whether or not they carry the {@link #TRACE_HEADER}. Not set, no requests are sampled.
+    */
+   public static final String TRACE_SAMPLE_RATE = "Dispatcher.TraceSampleRate";
+
+   /**
+    * Configuration key used to lookup up a duration in milliseconds. Traced requests that take
+    * longer, from their first to their last lifecycle stage, are logged with the time spent in
+    * each stage. Not set, traced requests are not logged.
+    */
+   public static final String TRACE_LOG_THRESHOLD = "Dispatcher.TraceLogThreshold";
+
    private static final Log log = Log.getInstance(DispatcherServlet.class);
 
-   private Boolean _alwaysInvokeValidate;
+   private static final LifecycleStage[] STAGES = LifecycleStage.values();
+
+   private final    Lock            _configurationLock = new ReentrantLock();
+   private volatile Boolean         _alwaysInvokeValidate;
+   private          ExecutorService _dispatchExecutor;
+   private          boolean         _tracing;
+   private          String          _traceHeader;
+   private          byte[]          _traceSecret;
+   private          double          _traceSampleRate;
+   private          long            _traceLogThresholdNanos = -1L;
+
+   /** Shuts down the executor that processes requests on virtual threads, if there is one. */
+   @Override
+   public void destroy() {
+      if ( _dispatchExecutor != null ) {
+         _dispatchExecutor.shutdown();
+      }
+      super.destroy();
+   }
 
    /**
     * Responsible for executing binding and validation for the current request. Delegates to
@@ -73,6 +176,35 @@ public class DispatcherServlet extends HttpServlet {
       return DispatcherHelper.doCustomValidation(ctx, _alwaysInvokeValidate);
    }
 
+   /**
+    * Puts the request into asynchronous mode and processes it on a thread of the dispatch
+    * executor, releasing the container's thread. Exceptions are handed to the ExceptionHandler,
+    * as the StripesFilter does for requests processed on the container's thread.
+    *
+    * @param request the current HttpServletRequest
+    * @param response the current HttpServletResponse
+    */
+   protected void dispatchToExecutor( final HttpServletRequest request, final HttpServletResponse response ) {
+      final Configuration configuration = StripesFilter.getConfiguration();
+      final AsyncContext asyncContext = request.startAsync(request, response);
+
+      _dispatchExecutor.execute(() -> StripesFilter.runWithConfiguration(configuration, () -> {
+         try {
+            processRequest(request, response);
+         }
+         catch ( Exception e ) {
+            handleAsyncException(configuration, e, request, response);
+         }
+         finally {
+            ExecutionContext.setCurrentContext(null);
+
+            if ( request.isAsyncStarted() ) {
+               asyncContext.complete();
+            }
+         }
+      }));
+   }
+
    /**
     * Responsible for executing the Resolution for the current request. Delegates to
     * {@link DispatcherHelper#executeResolution(ExecutionContext, Resolution)}.
@@ -81,6 +213,23 @@ public class DispatcherServlet extends HttpServlet {
       DispatcherHelper.executeResolution(ctx, resolution);
    }
 
+   /**
+    * Creates the executor that processes requests if {@link #DISPATCH_TO_VIRTUAL_THREADS} is
+    * enabled, which starts a virtual thread per request. The executor is looked up reflectively,
+    * so that Stripes still runs on Java runtimes without virtual threads.
+    *
+    * @return the executor, or null if the Java runtime does not support virtual threads
+    */
+   protected ExecutorService createDispatchExecutor() {
+      try {
+         return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      }
+      catch ( ReflectiveOperationException e ) {
+         log.warn("Virtual threads are not supported by this Java runtime, requests are processed on the container's threads. ", e);
+         return null;
+      }
+   }
+
    /**
     * Fetches, and lazily creates if required, a Stack in the request to store ActionBeans
     * should the current request involve forwards or includes to other ActionBeans.
@@ -116,47 +265,50 @@ public class DispatcherServlet extends HttpServlet {
    }
 
    /**
-    * Responsible for resolving the ActionBean for the current request. Delegates to
-    * {@link DispatcherHelper#resolveActionBean(ExecutionContext)}.
-    */
-   protected Resolution resolveActionBean( ExecutionContext ctx ) throws Exception {
-      return DispatcherHelper.resolveActionBean(ctx);
-   }
-
-   /**
-    * Responsible for resolving the event handler method for the current request. Delegates to
-    * {@link DispatcherHelper#resolveHandler(ExecutionContext)}.
+    * Indicates if the request may be completed asynchronously. This requires that the container
+    * supports asynchronous processing for the request, that the request is not processed
+    * asynchronously already, and that it neither is an include nor is nested in the processing
+    * of another ActionBean.
+    *
+    * @param request the current HttpServletRequest
+    * @return true if the request thread may be released while an asynchronous handler runs
     */
-   protected Resolution resolveHandler( ExecutionContext ctx ) throws Exception {
-      return DispatcherHelper.resolveHandler(ctx);
+   protected boolean isAsyncPossible( HttpServletRequest request ) {
+      Stack<ActionBean> stack = getActionBeanStack(request, false);
+      return request.isAsyncSupported() && !request.isAsyncStarted() && request.getDispatcherType() != DispatcherType.INCLUDE && (stack == null
+            || stack.isEmpty());
    }
 
    /**
-    * Restores the previous value of the 'actionBean' attribute in the request. If no
-    * ActionBeans have been saved using {@link #saveActionBean(HttpServletRequest)} then this
-    * method has no effect.
+    * Indicates if the request is handed to the dispatch executor. Only requests coming from the
+    * client are, and only if the container supports asynchronous processing for them.
     *
     * @param request the current HttpServletRequest
+    * @return true if the request is processed by the dispatch executor
     */
-   protected void restoreActionBean( HttpServletRequest request ) {
-      Stack<ActionBean> stack = getActionBeanStack(request, false);
-      if ( stack != null && !stack.empty() ) {
-         request.setAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN, stack.pop());
-      }
+   protected boolean isDispatchedToExecutor( HttpServletRequest request ) {
+      return _dispatchExecutor != null && request.getDispatcherType() == DispatcherType.REQUEST && request.isAsyncSupported() && !request.isAsyncStarted();
    }
 
    /**
-    * Saves the current value of the 'actionBean' attribute in the request so that it
-    * can be restored at a later date by calling {@link #restoreActionBean(HttpServletRequest)}.
-    * If no ActionBean is currently stored in the request, nothing is changed.
+    * Indicates if the request is traced, because it carries the {@link #TRACE_HEADER} with the
+    * {@link #TRACE_SECRET} or is sampled according to the {@link #TRACE_SAMPLE_RATE}. Only requests coming from the client
+    * are traced, not those forwarded or included, which are part of the request they come from.
     *
     * @param request the current HttpServletRequest
+    * @return true if the lifecycle stages of the request are timed and reported
     */
-   protected void saveActionBean( HttpServletRequest request ) {
-      if ( request.getAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN) != null ) {
-         Stack<ActionBean> stack = getActionBeanStack(request, true);
-         stack.push((ActionBean)request.getAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN));
+   protected boolean isTraced( HttpServletRequest request ) {
+      if ( request.getDispatcherType() != DispatcherType.REQUEST ) {
+         return false;
       }
+      if ( _traceHeader != null ) {
+         String secret = request.getHeader(_traceHeader);
+         if ( secret != null && MessageDigest.isEqual(_traceSecret, secret.getBytes(StandardCharsets.UTF_8)) ) {
+            return true;
+         }
+      }
+      return _traceSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < _traceSampleRate;
    }
 
    /**
@@ -179,19 +331,11 @@ public class DispatcherServlet extends HttpServlet {
     * @param response the HttpServletResponse paired to the request
     * @throws ServletException thrown when the system fails to process the request in any way
     */
-   @Override
-   protected void service( final HttpServletRequest request, final HttpServletResponse response ) throws ServletException {
-
-      // It sucks that we have to do this here (in the request cycle), but there doesn't
-      // seem to be a good way to get at the Configuration from the Filter in init()
-      doOneTimeConfiguration();
-
-      ///////////////////////////////////////////////////////////////////////
-      // Here beings the real processing of the request!
-      ///////////////////////////////////////////////////////////////////////
+   protected void processRequest( final HttpServletRequest request, final HttpServletResponse response ) throws ServletException {
       log.trace("Dispatching request to URL: ", HttpUtil.getRequestedPath(request));
 
       final ExecutionContext ctx = new ExecutionContext();
+      boolean async = false;
 
       try {
          final Configuration config = StripesFilter.getConfiguration();
@@ -202,6 +346,10 @@ public class DispatcherServlet extends HttpServlet {
 
          // Then setup the ExecutionContext that we'll use to process this request
          ctx.setActionBeanContext(context);
+         ctx.setStageTimed(config.getRequestMetrics().isEnabled());
+         if ( _tracing && isTraced(request) ) {
+            ctx.startTrace();
+         }
 
          // Resolve the ActionBean, and if an interceptor returns a resolution, bail now
          saveActionBean(request);
@@ -236,6 +384,22 @@ public class DispatcherServlet extends HttpServlet {
             }
          }
 
+         // An asynchronous event handler provides the resolution later on
+         Object asyncResult = ctx.getAsyncResult();
+         if ( resolution == null && asyncResult != null ) {
+            if ( !isDone(asyncResult) && isAsyncPossible(request) ) {
+               startAsync(ctx, request, response);
+               async = true;
+               return;
+            }
+            resolution = DispatcherHelper.completeEventHandling(ctx, awaitAsyncResult(asyncResult));
+         }
+
+         // The resolution is likely to commit the response, so report the stages up to here
+         if ( ctx.isTraced() ) {
+            response.addHeader(ServerTiming.HEADER, ServerTiming.getHeaderValue(ctx));
+         }
+
          // Whatever stage it came from, execute the resolution
          if ( resolution != null ) {
             executeResolution(ctx, resolution);
@@ -256,10 +420,264 @@ public class DispatcherServlet extends HttpServlet {
       catch ( Exception e ) {
          throw new StripesServletException("Exception encountered processing request.", e);
       }
+      finally {
+         if ( async ) {
+            // The thread that completes the request takes over the execution context
+            ExecutionContext.setCurrentContext(null);
+         } else {
+            requestComplete(ctx);
+
+            restoreActionBean(request);
+         }
+      }
+   }
+
+   /**
+    * Responsible for resolving the ActionBean for the current request. Delegates to
+    * {@link DispatcherHelper#resolveActionBean(ExecutionContext)}.
+    */
+   protected Resolution resolveActionBean( ExecutionContext ctx ) throws Exception {
+      return DispatcherHelper.resolveActionBean(ctx);
+   }
+
+   /**
+    * Responsible for resolving the event handler method for the current request. Delegates to
+    * {@link DispatcherHelper#resolveHandler(ExecutionContext)}.
+    */
+   protected Resolution resolveHandler( ExecutionContext ctx ) throws Exception {
+      return DispatcherHelper.resolveHandler(ctx);
+   }
+
+   /**
+    * Restores the previous value of the 'actionBean' attribute in the request. If no
+    * ActionBeans have been saved using {@link #saveActionBean(HttpServletRequest)} then this
+    * method has no effect.
+    *
+    * @param request the current HttpServletRequest
+    */
+   protected void restoreActionBean( HttpServletRequest request ) {
+      Stack<ActionBean> stack = getActionBeanStack(request, false);
+      if ( stack != null && !stack.empty() ) {
+         request.setAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN, stack.pop());
+      }
+   }
+
+   /**
+    * Saves the current value of the 'actionBean' attribute in the request so that it
+    * can be restored at a later date by calling {@link #restoreActionBean(HttpServletRequest)}.
+    * If no ActionBean is currently stored in the request, nothing is changed.
+    *
+    * @param request the current HttpServletRequest
+    */
+   protected void saveActionBean( HttpServletRequest request ) {
+      if ( request.getAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN) != null ) {
+         Stack<ActionBean> stack = getActionBeanStack(request, true);
+         stack.push((ActionBean)request.getAttribute(StripesConstants.REQ_ATTR_ACTION_BEAN));
+      }
+   }
+
+   /**
+    * Performs the one time configuration, and processes the request either on the container's
+    * thread by calling {@link #processRequest(HttpServletRequest, HttpServletResponse)} or hands
+    * it to the dispatch executor.
+    *
+    * @param request the HttpServletRequest handed to the class by the container
+    * @param response the HttpServletResponse paired to the request
+    * @throws ServletException thrown when the system fails to process the request in any way
+    */
+   @Override
+   protected void service( final HttpServletRequest request, final HttpServletResponse response ) throws ServletException {
+
+      // It sucks that we have to do this here (in the request cycle), but there doesn't
+      // seem to be a good way to get at the Configuration from the Filter in init()
+      doOneTimeConfiguration();
+
+      if ( isDispatchedToExecutor(request) ) {
+         dispatchToExecutor(request, response);
+      } else {
+         processRequest(request, response);
+      }
+   }
+
+   /**
+    * Puts the request into asynchronous mode, and arranges for it to be completed once the
+    * CompletionStage or Callable returned by the event handler provides the Resolution. The
+    * remaining lifecycle stages then run on a container thread, through
+    * {@link AsyncContext#start(Runnable)}. If the request times out or fails before, the exception
+    * is handed to the ExceptionHandler, the request is completed, and the Resolution provided
+    * later on is ignored.
+    *
+    * @param ctx the ExecutionContext of the request, holding the result of the event handler
+    * @param request the current HttpServletRequest
+    * @param response the current HttpServletResponse
+    */
+   protected void startAsync( final ExecutionContext ctx, HttpServletRequest request, HttpServletResponse response ) {
+      final Configuration configuration = StripesFilter.getConfiguration();
+      final AsyncContext asyncContext = request.startAsync(request, response);
+      final AtomicBoolean done = new AtomicBoolean();
+      request.setAttribute(StripesConstants.REQ_ATTR_ASYNC_DISPATCH, Boolean.TRUE);
+
+      asyncContext.addListener(new AsyncListener() {
+
+         @Override
+         public void onComplete( AsyncEvent event ) {}
+
+         @Override
+         public void onError( AsyncEvent event ) {
+            fail(event.getThrowable());
+         }
+
+         @Override
+         public void onStartAsync( AsyncEvent event ) {}
+
+         @Override
+         public void onTimeout( AsyncEvent event ) {
+            fail(new TimeoutException("Asynchronous request timed out after " + asyncContext.getTimeout() + "ms"));
+         }
+
+         private void fail( Throwable failure ) {
+            if ( done.compareAndSet(false, true) ) {
+               StripesFilter.runWithConfiguration(configuration, () -> completeAsync(ctx, asyncContext, configuration, null, failure));
+            }
+         }
+      });
+
+      if ( ctx.getAsyncResult() instanceof CompletionStage ) {
+         ((CompletionStage<?>)ctx.getAsyncResult()).whenComplete(( result, failure ) -> {
+            if ( done.compareAndSet(false, true) ) {
+               asyncContext.start(() -> StripesFilter.runWithConfiguration(configuration, () -> completeAsync(ctx, asyncContext, configuration, result, failure)));
+            }
+         });
+      } else {
+         final Callable<?> callable = (Callable<?>)ctx.getAsyncResult();
+         asyncContext.start(() -> StripesFilter.runWithConfiguration(configuration, () -> {
+            Object result = null;
+            Throwable failure = null;
+            try {
+               result = callable.call();
+            }
+            catch ( Throwable t ) {
+               failure = t;
+            }
+            if ( done.compareAndSet(false, true) ) {
+               completeAsync(ctx, asyncContext, configuration, result, failure);
+            }
+         }));
+      }
+   }
+
+   /**
+    * Waits for the CompletionStage or calls the Callable returned by an asynchronous event
+    * handler on the request thread. Exceptions are wrapped like those thrown by the handler
+    * method itself.
+    */
+   private Object awaitAsyncResult( Object asyncResult ) throws Exception {
+      try {
+         if ( asyncResult instanceof Callable ) {
+            return ((Callable<?>)asyncResult).call();
+         }
+         return ((CompletionStage<?>)asyncResult).toCompletableFuture().get();
+      }
+      catch ( ExecutionException e ) {
+         throw new InvocationTargetException(e.getCause());
+      }
+      catch ( InterruptedException e ) {
+         Thread.currentThread().interrupt();
+         throw e;
+      }
+      catch ( Exception e ) {
+         throw new InvocationTargetException(e);
+      }
+   }
+
+   /**
+    * Runs the remaining lifecycle stages of an asynchronous request on a container thread, and
+    * completes the request unless the Resolution dispatched it. Called once per request, with the
+    * result of the event handler or with the failure that ended the request.
+    */
+   private void completeAsync( ExecutionContext ctx, AsyncContext asyncContext, Configuration configuration, Object result, Throwable failure ) {
+      HttpServletRequest request = (HttpServletRequest)asyncContext.getRequest();
+      HttpServletResponse response = (HttpServletResponse)asyncContext.getResponse();
+      ExecutionContext.setCurrentContext(ctx);
+
+      try {
+         Throwable throwable = failure;
+         if ( throwable == null ) {
+            try {
+               Resolution resolution = DispatcherHelper.completeEventHandling(ctx, result);
+               if ( ctx.isTraced() ) {
+                  response.addHeader(ServerTiming.HEADER, ServerTiming.getHeaderValue(ctx));
+               }
+               if ( resolution != null ) {
+                  executeResolution(ctx, resolution);
+               }
+            }
+            catch ( Exception e ) {
+               throwable = e;
+            }
+         }
+
+         if ( throwable != null ) {
+            handleAsyncException(configuration, throwable, request, response);
+         }
+      }
       finally {
          requestComplete(ctx);
 
          restoreActionBean(request);
+         request.removeAttribute(StripesConstants.REQ_ATTR_ASYNC_DISPATCH);
+
+         if ( request.isAsyncStarted() ) {
+            asyncContext.complete();
+         }
+
+         ExecutionContext.setCurrentContext(null);
+      }
+   }
+
+   /** Reads the properties that determine which requests are traced, and which are logged. */
+   private void configureTracing( BootstrapPropertyResolver bootstrap ) {
+      _traceHeader = bootstrap.getProperty(TRACE_HEADER);
+      if ( _traceHeader != null ) {
+         _traceHeader = _traceHeader.trim();
+         _traceHeader = _traceHeader.isEmpty() ? null : _traceHeader;
+      }
+      if ( _traceHeader != null ) {
+         String secret = bootstrap.getProperty(TRACE_SECRET);
+         if ( secret == null || secret.trim().isEmpty() ) {
+            log.error("Configuration parameter ", TRACE_HEADER, " requires ", TRACE_SECRET, " to be set as well. Requests are not traced by header.");
+            _traceHeader = null;
+         } else {
+            _traceSecret = secret.trim().getBytes(StandardCharsets.UTF_8);
+         }
+      }
+
+      String sampleRate = bootstrap.getProperty(TRACE_SAMPLE_RATE);
+      if ( sampleRate != null ) {
+         try {
+            _traceSampleRate = Double.parseDouble(sampleRate.trim());
+         }
+         catch ( NumberFormatException e ) {
+            log.error("Did not understand value of configuration parameter ", TRACE_SAMPLE_RATE, ". You supplied: ", sampleRate,
+                  ". Valid values are numbers from 0 to 1. No requests are sampled.");
+         }
+      }
+
+      String logThreshold = bootstrap.getProperty(TRACE_LOG_THRESHOLD);
+      if ( logThreshold != null ) {
+         try {
+            _traceLogThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(logThreshold.trim()));
+         }
+         catch ( NumberFormatException e ) {
+            log.error("Did not understand value of configuration parameter ", TRACE_LOG_THRESHOLD, ". You supplied: ", logThreshold,
+                  ". Valid values are durations in milliseconds. Traced requests are not logged.");
+         }
+      }
+
+      _tracing = _traceHeader != null || _traceSampleRate > 0.0;
+      if ( _tracing ) {
+         log.info("Tracing requests with header ", _traceHeader, " and sample rate ", _traceSampleRate, ", logging those taking longer than ",
+               logThreshold == null ? "-" : logThreshold.trim(), "ms");
       }
    }
 
@@ -269,19 +687,112 @@ public class DispatcherServlet extends HttpServlet {
     */
    private void doOneTimeConfiguration() {
       if ( _alwaysInvokeValidate == null ) {
-         // Check to see if, in this application, validate() methods should always be run
-         // even when validation errors already exist
-         String callValidateWhenErrorsExist = StripesFilter.getConfiguration().getBootstrapPropertyResolver().getProperty(RUN_CUSTOM_VALIDATION_WHEN_ERRORS);
+         _configurationLock.lock();
+         try {
+            if ( _alwaysInvokeValidate == null ) {
+               BootstrapPropertyResolver bootstrap = StripesFilter.getConfiguration().getBootstrapPropertyResolver();
+               BooleanTypeConverter c = new BooleanTypeConverter();
+
+               // Check to see if requests should be processed on virtual threads
+               String dispatchToVirtualThreads = bootstrap.getProperty(DISPATCH_TO_VIRTUAL_THREADS);
+               if ( dispatchToVirtualThreads != null && Boolean.TRUE.equals(c.convert(dispatchToVirtualThreads, Boolean.class, null)) ) {
+                  _dispatchExecutor = createDispatchExecutor();
+               }
 
-         if ( callValidateWhenErrorsExist != null ) {
-            BooleanTypeConverter c = new BooleanTypeConverter();
-            _alwaysInvokeValidate = c.convert(callValidateWhenErrorsExist, Boolean.class, null);
-         } else {
-            _alwaysInvokeValidate = false; // Default behaviour
+               configureTracing(bootstrap);
+
+               // Check to see if, in this application, validate() methods should always be run
+               // even when validation errors already exist
+               String callValidateWhenErrorsExist = bootstrap.getProperty(RUN_CUSTOM_VALIDATION_WHEN_ERRORS);
+
+               if ( callValidateWhenErrorsExist != null ) {
+                  _alwaysInvokeValidate = c.convert(callValidateWhenErrorsExist, Boolean.class, null);
+               } else {
+                  _alwaysInvokeValidate = false; // Default behaviour
+               }
+            }
+         }
+         finally {
+            _configurationLock.unlock();
          }
       }
    }
 
+   /**
+    * Hands an exception raised while completing an asynchronous request to the ExceptionHandler,
+    * as the StripesFilter does for synchronous requests. Exceptions the handler does not handle
+    * result in an error response, because no filter is left to pass them to the container.
+    */
+   private void handleAsyncException( Configuration configuration, Throwable throwable, HttpServletRequest request, HttpServletResponse response ) {
+      if ( throwable instanceof CompletionException && throwable.getCause() != null ) {
+         throwable = throwable.getCause();
+      }
+
+      try {
+         configuration.getExceptionHandler().handle(throwable, request, response);
+      }
+      catch ( Exception e ) {
+         log.error(e, "Unhandled exception completing asynchronous request to URL: ", HttpUtil.getRequestedPath(request));
+         try {
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+         }
+         catch ( IOException | IllegalStateException ee ) {
+            log.debug(ee, "Could not send error response, the response is probably committed");
+         }
+      }
+   }
+
+   /** Indicates if the result of an asynchronous event handler is available without waiting. */
+   private boolean isDone( Object asyncResult ) {
+      return asyncResult instanceof Future && ((Future<?>)asyncResult).isDone();
+   }
+
+   /**
+    * Logs the time spent in each lifecycle stage of a traced request, if the request took longer
+    * than the {@link #TRACE_LOG_THRESHOLD}.
+    */
+   private void logTrace( ExecutionContext ctx ) {
+      long totalNanos = System.nanoTime() - ctx.getTraceStart();
+      if ( _traceLogThresholdNanos < 0 || totalNanos <= _traceLogThresholdNanos ) {
+         return;
+      }
+      ActionBeanContext context = ctx.getActionBeanContext();
+      String path = context == null ? "-" : HttpUtil.getRequestedPath(context.getRequest());
+      log.warn("Slow request: ", ServerTiming.getLogLine(ctx, path, totalNanos));
+   }
+
+   /**
+    * Hands the time spent in each lifecycle stage, the number of validation errors and the type
+    * of the resolution executed to the {@link RequestMetrics}, once the request is complete.
+    */
+   private void recordMetrics( ExecutionContext ctx, RequestMetrics metrics ) {
+      if ( !metrics.isEnabled() ) {
+         return;
+      }
+
+      ActionBean bean = ctx.getActionBean();
+      Class<? extends ActionBean> beanType = bean == null ? null : bean.getClass();
+      ActionBeanContext context = ctx.getActionBeanContext();
+      String event = context == null ? null : context.getEventName();
+
+      for ( LifecycleStage stage : STAGES ) {
+         long nanos = ctx.getStageNanos(stage);
+         if ( nanos >= 0 ) {
+            metrics.recordStage(beanType, event, stage, nanos);
+         }
+      }
+      if ( bean != null && context != null ) {
+         int errors = 0;
+         for ( List<ValidationError> fieldErrors : context.getValidationErrors().values() ) {
+            errors += fieldErrors.size();
+         }
+         metrics.recordValidationErrors(beanType, event, errors);
+      }
+      if ( ctx.getResolution() != null ) {
+         metrics.recordResolution(beanType, event, ctx.getResolution().getClass());
+      }
+   }
+
    /**
     * Calls interceptors listening for RequestComplete. There is no Stripes code
     * that executes for this lifecycle stage. In addition, any response from
@@ -289,14 +800,9 @@ public class DispatcherServlet extends HttpServlet {
     * this point.
     */
    private void requestComplete( ExecutionContext ctx ) {
-      ctx.setLifecycleStage(LifecycleStage.RequestComplete);
-      ctx.setInterceptors(StripesFilter.getConfiguration().getInterceptors(LifecycleStage.RequestComplete));
+      ctx.setLifecycleStage(LifecycleStage.RequestComplete, StripesFilter.getConfiguration());
       try {
-         Resolution resolution = ctx.wrap(new Interceptor() {
-
-            @Override
-            public Resolution intercept( ExecutionContext context ) throws Exception {return null;}
-         });
+         Resolution resolution = ctx.wrap(context -> null);
          if ( resolution != null ) {
             log.warn("Resolutions returned from interceptors for ", ctx.getLifecycleStage(), " are ignored because it is too late to execute them.");
          }
@@ -304,6 +810,10 @@ public class DispatcherServlet extends HttpServlet {
       catch ( Exception e ) {
          log.error(e);
       }
+      recordMetrics(ctx, StripesFilter.getConfiguration().getRequestMetrics());
+      if ( ctx.isTraced() ) {
+         logTrace(ctx);
+      }
    }
 
    /**
@@ -311,12 +821,7 @@ public class DispatcherServlet extends HttpServlet {
     * executes for this lifecycle stage.
     */
    private Resolution requestInit( ExecutionContext ctx ) throws Exception {
-      ctx.setLifecycleStage(LifecycleStage.RequestInit);
-      ctx.setInterceptors(StripesFilter.getConfiguration().getInterceptors(LifecycleStage.RequestInit));
-      return ctx.wrap(new Interceptor() {
-
-         @Override
-         public Resolution intercept( ExecutionContext context ) throws Exception {return null;}
-      });
+      ctx.setLifecycleStage(LifecycleStage.RequestInit, StripesFilter.getConfiguration());
+      return ctx.wrap(context -> null);
    }
 }
\ No newline at end of file
@@ -106,6 +106,19 @@ import org.xml.sax.SAXException;
  * The {@code IncludeBufferSize} initialization parameter (optional, default 1024) sets the number
  * of characters to be buffered by {@link TempBufferWriter} for include requests. See
  * {@link TempBufferWriter} for more information.
+ * </p>
+ * <p>
+ * The {@code DirectDispatch} initialization parameter (optional, default false) enables the direct
+ * dispatch mode. In this mode the {@link ActionResolver} is checked first, and a request whose URL
+ * is mapped to an {@link ActionBean} is dispatched to {@link StripesFilter} and
+ * {@link DispatcherServlet} right away, without the trapped round trip through the rest of the
+ * filter chain. All other requests are processed as described above. This saves a failed lookup of
+ * a static resource for every request to an {@link ActionBean}, but it means that an
+ * {@link ActionBean} takes precedence over a static resource at the same URL. Only enable it if
+ * no {@link ActionBean} is mapped to a URL that also serves static resources, like {@code /user}
+ * in the example above, or a binding on the root of the application. Include requests and
+ * requests that arrive before {@link StripesFilter} is initialized always take the regular path.
+ * </p>
  * <p>
  * This is the suggested mapping for this filter in {@code web.xml}.
  * </p>
@@ -144,6 +157,11 @@ public class DynamicMappingFilter implements Filter {
     * {@link TempBufferWriter} before it overflows.
     */
    public static final  String INCLUDE_BUFFER_SIZE_PARAM  = "IncludeBufferSize";
+   /**
+    * The name of the init-param that enables dispatching requests that are mapped to an
+    * {@link ActionBean} before passing them down the filter chain.
+    */
+   public static final  String DIRECT_DISPATCH_PARAM      = "DirectDispatch";
    /**
     * The attribute name used to store a reference to {@link StripesFilter} in the servlet context.
     */
@@ -165,6 +183,7 @@ public class DynamicMappingFilter implements Filter {
    private DispatcherServlet _stripesDispatcher;
    private boolean           _stripesFilterIsInternal;
    private boolean           _initializing;
+   private boolean           _directDispatch;
 
    @Override
    public void destroy() {
@@ -189,6 +208,10 @@ public class DynamicMappingFilter implements Filter {
 
    @Override
    public void doFilter( ServletRequest request, ServletResponse response, FilterChain chain ) throws IOException, ServletException {
+      if ( _directDispatch && dispatchDirectly((HttpServletRequest)request, response) ) {
+         return;
+      }
+
       // Wrap the response in a wrapper that catches errors (but not exceptions)
       final ErrorTrappingResponseWrapper wrapper = new ErrorTrappingResponseWrapper((HttpServletResponse)response);
       wrapper.setInclude(request.getAttribute(StripesConstants.REQ_ATTR_INCLUDE_PATH) != null);
@@ -273,6 +296,12 @@ public class DynamicMappingFilter implements Filter {
                "'. Using default value ", includeBufferSize, ".");
       }
 
+      String directDispatch = config.getInitParameter(DIRECT_DISPATCH_PARAM);
+      _directDispatch = directDispatch != null && Boolean.parseBoolean(directDispatch.trim());
+      if ( _directDispatch ) {
+         log.info(getClass().getSimpleName(), " dispatches requests mapped to an ActionBean directly");
+      }
+
       _filterConfig = config;
       _servletContext = config.getServletContext();
       _stripesDispatcher = new DispatcherServlet();
@@ -360,6 +389,37 @@ public class DynamicMappingFilter implements Filter {
       _stripesFilterIsInternal = true;
    }
 
+   /**
+    * Dispatches the request to {@link StripesFilter} and {@link DispatcherServlet} without passing
+    * it down the filter chain first, if an {@link ActionBean} is mapped to its URL. Include
+    * requests, requests forcing the initialization of {@link StripesFilter} and requests that
+    * arrive before it is initialized are left to the regular processing.
+    *
+    * @param request The current request
+    * @param response The current response
+    * @return true if the request was dispatched, false if it still needs to be processed
+    * @throws IOException If thrown by {@link StripesFilter} or {@link DispatcherServlet}
+    * @throws ServletException If thrown by {@link StripesFilter} or {@link DispatcherServlet}
+    */
+   protected boolean dispatchDirectly( HttpServletRequest request, ServletResponse response ) throws IOException, ServletException {
+      if ( _initializing || request.getHeader(REQ_HEADER_INIT_FLAG) != null || request.getAttribute(StripesConstants.REQ_ATTR_INCLUDE_PATH) != null ) {
+         return false;
+      }
+
+      StripesFilter sf = getStripesFilter();
+      if ( sf == null ) {
+         return false;
+      }
+
+      String uri = HttpUtil.getRequestedPath(request);
+      if ( sf.getInstanceConfiguration().getActionResolver().getActionBeanType(uri) == null ) {
+         return false;
+      }
+
+      sf.doFilter(request, response, ( req, resp ) -> _stripesDispatcher.service(req, resp));
+      return true;
+   }
+
    /**
     * Evaluate an xpath expression against a DOM {@link Node} and return the result.
     *
@@ -0,0 +1,106 @@
+package org.stripesframework.web.controller;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.stripesframework.web.exception.StripesRuntimeException;
+
+
+/**
+ * Finds the event of an ActionBean that is submitted as a request parameter, either named like
+ * the event or, for image buttons, like the event followed by {@code .x}. The parameter names are
+ * computed once per ActionBean class, and the request parameters are matched against them from
+ * whichever side has fewer names, so that the cost does not grow with the number of events of
+ * the ActionBean, nor with the number of request parameters.
+ */
+final class EventNameIndex {
+
+   /** The index of an ActionBean class without events. */
+   static final EventNameIndex EMPTY = new EventNameIndex(Collections.emptySet());
+
+   private final String[]            _events;
+   private final String[]            _imageParameters;
+   private final Map<String, String> _eventsByParameter;
+
+   EventNameIndex( Collection<String> events ) {
+      _events = events.toArray(new String[0]);
+      _imageParameters = new String[_events.length];
+      _eventsByParameter = new HashMap<>(_events.length * 4);
+      for ( int i = 0; i < _events.length; i++ ) {
+         _imageParameters[i] = _events[i] + ".x";
+         _eventsByParameter.put(_events[i], _events[i]);
+         _eventsByParameter.put(_imageParameters[i], _events[i]);
+      }
+   }
+
+   /**
+    * Returns the event submitted with the request parameters.
+    *
+    * @param parameters the parameter map of the request
+    * @return the name of the event, or null if none of the events is submitted
+    * @throws StripesRuntimeException if more than one event is submitted
+    */
+   String findEvent( Map<String, String[]> parameters ) {
+      if ( _events.length == 0 ) {
+         return null;
+      }
+
+      if ( parameters instanceof MergedParameterMap ) {
+         // Counting the names of a merged map would merge them, so look at the maps it merges
+         Map<String, String[]> requestParameters = ((MergedParameterMap)parameters).getParameterMap();
+         Map<String, String[]> uriParameters = ((MergedParameterMap)parameters).getUriParameterMap();
+         if ( requestParameters.size() + uriParameters.size() <= _eventsByParameter.size() ) {
+            String event = findEvent(requestParameters.keySet(), null, parameters);
+            return findEvent(uriParameters.keySet(), event, parameters);
+         }
+      } else if ( parameters.size() <= _eventsByParameter.size() ) {
+         return findEvent(parameters.keySet(), null, parameters);
+      }
+
+      String event = null;
+      for ( int i = 0; i < _events.length; i++ ) {
+         if ( parameters.containsKey(_events[i]) || parameters.containsKey(_imageParameters[i]) ) {
+            if ( event != null ) {
+               throw newMultipleEventsException(parameters);
+            }
+            event = _events[i];
+         }
+      }
+      return event;
+   }
+
+   /**
+    * Looks up the events of the given parameter names.
+    *
+    * @param event the event found before, or null
+    * @return the event found, or null
+    */
+   private String findEvent( Collection<String> names, String event, Map<String, String[]> parameters ) {
+      for ( String name : names ) {
+         String found = _eventsByParameter.get(name);
+         if ( found != null ) {
+            if ( event != null && !event.equals(found) ) {
+               throw newMultipleEventsException(parameters);
+            }
+            event = found;
+         }
+      }
+      return event;
+   }
+
+   private StripesRuntimeException newMultipleEventsException( Map<String, String[]> parameters ) {
+      List<String> eventParams = new ArrayList<>();
+      for ( int i = 0; i < _events.length; i++ ) {
+         if ( parameters.containsKey(_events[i]) || parameters.containsKey(_imageParameters[i]) ) {
+            eventParams.add(_events[i]);
+         }
+      }
+      return new StripesRuntimeException(
+            "Multiple event parameters " + eventParams + " are present in this request. Only one event parameter may be specified "
+                  + "per request. Otherwise, Stripes would be unable to determine which event to execute.");
+   }
+}
@@ -15,12 +15,13 @@
 package org.stripesframework.web.controller;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 
 import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.action.ActionBeanContext;
 import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.config.Configuration;
 import org.stripesframework.web.util.Log;
 
 
@@ -47,15 +48,33 @@ public class ExecutionContext {
       return currentContext.get();
    }
 
-   private Collection<Interceptor> _interceptors;
-   private Iterator<Interceptor>   _iterator;
-   private Interceptor             _target;
-   private ActionBeanContext       _actionBeanContext;
-   private ActionBean              _actionBean;
-   private Method                  _handler;
-   private Resolution              _resolution;
-   private LifecycleStage          _lifecycleStage;
-   private boolean                 _resolutionFromHandler = false;
+   /**
+    * Sets the execution context for the current thread, or clears it if null. Used to move the
+    * execution of an asynchronous request from the request thread to the thread completing it.
+    */
+   static void setCurrentContext( ExecutionContext context ) {
+      if ( context == null ) {
+         currentContext.remove();
+      } else {
+         currentContext.set(context);
+      }
+   }
+
+   private InterceptorChain  _interceptorChain      = InterceptorChain.EMPTY;
+   /** The position of the next interceptor in the chain, or -1 before the stage is entered. */
+   private int               _position              = -1;
+   private Interceptor       _target;
+   private ActionBeanContext _actionBeanContext;
+   private ActionBean        _actionBean;
+   private Method            _handler;
+   private Resolution        _resolution;
+   private LifecycleStage    _lifecycleStage;
+   private boolean           _resolutionFromHandler = false;
+   private Object            _asyncResult;
+   /** The nanoseconds spent in each stage, by ordinal, or null if the stages are not timed. */
+   private long[]            _stageNanos;
+   private boolean           _traced;
+   private long              _traceStart;
 
    /**
     * Retrieves the ActionBean instance that is associated with the current request. Available
@@ -75,6 +94,16 @@ public class ExecutionContext {
       return _actionBeanContext;
    }
 
+   /**
+    * Retrieves what an asynchronous event handler returned, i.e. the
+    * {@link java.util.concurrent.CompletionStage} or {@link java.util.concurrent.Callable} that
+    * will provide the Resolution. Available to interceptors only after
+    * {@link LifecycleStage#EventHandling} has occurred.
+    *
+    * @return the result of an asynchronous event handler, or null if the handler is synchronous
+    */
+   public Object getAsyncResult() { return _asyncResult; }
+
    /**
     * Retrieves the handler Method that is targeted by the current request. Available
     * to interceptors only after {@link LifecycleStage#HandlerResolution} has occurred.
@@ -101,10 +130,34 @@ public class ExecutionContext {
     */
    public Resolution getResolution() { return _resolution; }
 
+   /**
+    * Gets the time spent in a lifecycle stage, including its interceptors, if the stages are
+    * timed, see {@link #setStageTimed(boolean)}.
+    *
+    * @param stage the lifecycle stage
+    * @return the duration in nanoseconds, or -1 if the stages are not timed or the stage has not
+    *         been executed
+    */
+   public long getStageNanos( LifecycleStage stage ) {
+      return _stageNanos == null ? -1L : _stageNanos[stage.ordinal()];
+   }
+
+   /**
+    * Gets the value of {@link System#nanoTime()} when tracing of the request started, see
+    * {@link #startTrace()}. Only meaningful if {@link #isTraced()}.
+    */
+   public long getTraceStart() { return _traceStart; }
+
    public boolean isResolutionFromHandler() {
       return _resolutionFromHandler;
    }
 
+   /**
+    * Indicates if the request is traced, in which case its stages are timed and reported in a
+    * {@code Server-Timing} response header, see {@link DispatcherServlet#TRACE_HEADER}.
+    */
+   public boolean isTraced() { return _traced; }
+
    /**
     * Continues the flow of execution. If there are more interceptors in the stack intercepting
     * the current lifecycle stage then the flow continues by calling the next interceptor. If
@@ -114,13 +167,13 @@ public class ExecutionContext {
     * @throws Exception if the lifecycle code or one of the interceptors throws one
     */
    public Resolution proceed() throws Exception {
-      if ( _iterator == null ) {
+      if ( _position < 0 ) {
          log.debug("Transitioning to lifecycle stage ", _lifecycleStage);
-         _iterator = _interceptors.iterator();
+         _position = 0;
       }
 
-      if ( _iterator.hasNext() ) {
-         return _iterator.next().intercept(this);
+      if ( _position < _interceptorChain.size() ) {
+         return _interceptorChain.get(_position++).intercept(this);
       } else {
          return _target.intercept(this);
       }
@@ -134,17 +187,27 @@ public class ExecutionContext {
        _actionBeanContext = actionBeanContext;
    }
 
+   /** Sets the CompletionStage or Callable returned by an asynchronous event handler. */
+   public void setAsyncResult( Object asyncResult ) { _asyncResult = asyncResult; }
+
    /** Sets the handler method that will be invoked to process the current request. */
    public void setHandler( Method handler ) { _handler = handler; }
 
+   /** Sets the chain of {@link Interceptor}s which should wrap the current {@link LifecycleStage}. */
+   public void setInterceptorChain( InterceptorChain interceptorChain ) {
+      _interceptorChain = interceptorChain;
+   }
+
    /**
     * Used by the {@link DispatcherServlet} to initialize and/or swap out the list of
     * {@link Interceptor} instances which should wrap the current {@link LifecycleStage}.
+    * All of them are invoked, whether they {@link Interceptor#appliesTo(LifecycleStage, Class)
+    * apply} or not.
     *
     * @param stack a non-null (though possibly empty) ordered collection of interceptors
     */
    public void setInterceptors( Collection<Interceptor> stack ) {
-      _interceptors = stack;
+      _interceptorChain = new InterceptorChain(stack);
    }
 
    /** Sets the current stage in the request processing lifecycle. */
@@ -152,6 +215,19 @@ public class ExecutionContext {
        _lifecycleStage = lifecycleStage;
    }
 
+   /**
+    * Sets the current stage in the request processing lifecycle, together with the chain of the
+    * interceptors of the configuration that apply to the stage and to the class of the
+    * ActionBean, if it is resolved already.
+    *
+    * @param lifecycleStage the stage to transition to
+    * @param configuration the configuration providing the interceptors
+    */
+   public void setLifecycleStage( LifecycleStage lifecycleStage, Configuration configuration ) {
+      _lifecycleStage = lifecycleStage;
+      _interceptorChain = configuration.getInterceptorChain(lifecycleStage, _actionBean == null ? null : _actionBean.getClass());
+   }
+
    /** Sets the Resolution that will be executed to terminate this execution. */
    public void setResolution( Resolution resolution ) { _resolution = resolution; }
 
@@ -159,6 +235,30 @@ public class ExecutionContext {
        _resolutionFromHandler = resolutionFromHandler;
    }
 
+   /**
+    * Used by the {@link DispatcherServlet} to measure the time spent in each lifecycle stage, for
+    * the {@link org.stripesframework.web.metrics.RequestMetrics} of the configuration. Stages are
+    * not timed unless enabled, to spare reading the clock.
+    */
+   public void setStageTimed( boolean timed ) {
+      if ( !timed ) {
+         _stageNanos = null;
+      } else if ( _stageNanos == null ) {
+         _stageNanos = new long[LifecycleStage.values().length];
+         Arrays.fill(_stageNanos, -1L);
+      }
+   }
+
+   /**
+    * Used by the {@link DispatcherServlet} to trace the request, which times its stages from
+    * now on.
+    */
+   public void startTrace() {
+      setStageTimed(true);
+      _traced = true;
+      _traceStart = System.nanoTime();
+   }
+
    /**
     * Used by the {@link DispatcherServlet} to wrap a block of lifecycle code in
     * {@link Interceptor} calls.
@@ -170,21 +270,29 @@ public class ExecutionContext {
     * @throws Exception if the lifecycle code or an interceptor throws an Exception
     */
    public Resolution wrap( Interceptor target ) throws Exception {
-       _target = target;
-      _iterator = null;
+      _target = target;
+      _position = -1;
 
       // Before executing RequestInit, set this as the current execution context
       if ( _lifecycleStage == LifecycleStage.RequestInit ) {
          currentContext.set(this);
       }
 
+      LifecycleStage stage = _lifecycleStage;
+      long start = _stageNanos == null ? 0L : System.nanoTime();
       try {
          return proceed();
       }
       finally {
+         if ( _stageNanos != null ) {
+            long nanos = System.nanoTime() - start;
+            int index = stage.ordinal();
+            _stageNanos[index] = _stageNanos[index] < 0 ? nanos : _stageNanos[index] + nanos;
+         }
+
          // Make sure the current execution context gets cleared after RequestComplete
          if ( LifecycleStage.RequestComplete == getLifecycleStage() ) {
-            currentContext.set(null);
+            currentContext.remove();
          }
       }
    }
@@ -24,6 +24,8 @@ import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -33,6 +35,7 @@ import org.stripesframework.web.action.RedirectResolution;
 import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.action.ActionBeanContext;
 import org.stripesframework.web.exception.StripesRuntimeException;
+import org.stripesframework.web.metrics.FlashScopeEvent;
 import org.stripesframework.web.util.Log;
 
 
@@ -94,6 +97,9 @@ public class FlashScope extends HashMap<String, Object> {
 
    private static final Random random = new Random();
 
+   /** Guards creating the scopes map in the session, without pinning virtual threads. */
+   private static final Lock containerLock = new ReentrantLock();
+
    /**
     * Gets the collection of all flash scopes present in the current session.
     * @param req the current request, needed to get access to the session
@@ -117,8 +123,8 @@ public class FlashScope extends HashMap<String, Object> {
     * </p>
     * <p>
     * It is assumed that the request object will be used by only one thread so access to the
-    * request is not synchronized. Access to the scopes map that is stored in the session and the
-    * static {@link Random} that is used to generate the keys for the map is synchronized.
+    * request is not synchronized. The scopes map that is stored in the session is a concurrent
+    * map, and creating it is guarded by a lock.
     * </p>
     *
     * @param req the current request
@@ -136,14 +142,11 @@ public class FlashScope extends HashMap<String, Object> {
          if ( key != null ) {
             scope = scopes.get(key);
          } else if ( create ) {
-            synchronized ( random ) {
-               do {
-                  key = random.nextInt();
-               }
-               while ( scopes.containsKey(key) );
+            do {
+               key = random.nextInt();
                scope = new FlashScope(req, key);
-               scopes.put(scope.key(), scope);
             }
+            while ( scopes.putIfAbsent(key, scope) != null );
             req.setAttribute(StripesConstants.REQ_ATTR_CURRENT_FLASH_SCOPE, key);
          }
 
@@ -198,7 +201,8 @@ public class FlashScope extends HashMap<String, Object> {
             scopes = getContainer(session);
 
             if ( scopes == null && create ) {
-               synchronized ( FlashScope.class ) {
+               containerLock.lock();
+               try {
                   // after obtaining a lock, try looking it up again
                   scopes = getContainer(session);
 
@@ -208,6 +212,9 @@ public class FlashScope extends HashMap<String, Object> {
                      session.setAttribute(StripesConstants.REQ_ATTR_FLASH_SCOPE_LOCATION, scopes);
                   }
                }
+               finally {
+                  containerLock.unlock();
+               }
             }
          }
 
@@ -279,6 +286,9 @@ public class FlashScope extends HashMap<String, Object> {
     * @param request The request to copy the flash scope attributes to
     */
    public void beginRequest( HttpServletRequest request ) {
+      FlashScopeEvent event = new FlashScopeEvent();
+      event.begin();
+
       boolean acquired = false;
       try {
          // Acquire the permit from the semaphore with a 1 second timeout for safety
@@ -318,6 +328,13 @@ public class FlashScope extends HashMap<String, Object> {
          if ( acquired ) {
             getSemaphore().release();
          }
+
+         event.end();
+         if ( event.shouldCommit() ) {
+            event.operation = "beginRequest";
+            event.attributes = size();
+            event.commit();
+         }
       }
    }
 
@@ -331,6 +348,9 @@ public class FlashScope extends HashMap<String, Object> {
     * request was not made) after a period of time, so that it can be removed from session.</p>
     */
    public void completeRequest() {
+      FlashScopeEvent event = new FlashScopeEvent();
+      event.begin();
+
       // Clean up any old-age flash scopes
       Map<Integer, FlashScope> scopes = getContainer(request, false);
       if ( scopes != null && !scopes.isEmpty() ) {
@@ -361,6 +381,13 @@ public class FlashScope extends HashMap<String, Object> {
       startTime = System.currentTimeMillis();
       request = null;
       semaphore.release();
+
+      event.end();
+      if ( event.shouldCommit() ) {
+         event.operation = "completeRequest";
+         event.attributes = size();
+         event.commit();
+      }
    }
 
    /** Returns the timeout in seconds after which the flash scope will be discarded. */
@@ -24,6 +24,7 @@ import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.action.HttpCache;
 import org.stripesframework.web.action.Resolution;
 import org.stripesframework.web.util.Log;
+import org.stripesframework.web.util.ReflectUtil;
 
 
 /**
@@ -44,6 +45,23 @@ public class HttpCacheInterceptor implements Interceptor {
 
    private final Map<CacheKey, HttpCache> _cache = new ConcurrentHashMap<>(128);
 
+   /**
+    * Applies to the ActionBean classes for which {@link #getAnnotation(Method, Class)} finds an
+    * {@link HttpCache} annotation for at least one of their methods.
+    */
+   @Override
+   public boolean appliesTo( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+      if ( beanType == null ) {
+         return false;
+      }
+      for ( Method method : ReflectUtil.getMethods(beanType) ) {
+         if ( getAnnotation(method, beanType) != null ) {
+            return true;
+         }
+      }
+      return false;
+   }
+
    @Override
    public Resolution intercept( ExecutionContext ctx ) throws Exception {
       final ActionBean actionBean = ctx.getActionBean();
@@ -117,7 +135,7 @@ public class HttpCacheInterceptor implements Interceptor {
       }
 
       _cache.put(cacheKey, annotation);
-      return annotation;
+      return annotation == NULL_CACHE ? null : annotation;
    }
 
    @HttpCache
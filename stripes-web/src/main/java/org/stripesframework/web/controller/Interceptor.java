@@ -14,6 +14,7 @@
  */
 package org.stripesframework.web.controller;
 
+import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.action.Resolution;
 import org.stripesframework.web.config.ConfigurableComponent;
 import org.stripesframework.web.config.Configuration;
@@ -81,6 +82,23 @@ import org.stripesframework.web.config.RuntimeConfiguration;
  */
 public interface Interceptor {
 
+   /**
+    * <p>Indicates whether the interceptor has anything to do at a lifecycle stage for requests to
+    * an ActionBean class. Interceptors that do not apply are left out of the
+    * {@link InterceptorChain} of the stage and the class, and are not invoked for it.</p>
+    *
+    * <p>The result is cached for each stage and class, so it must not depend on the request. The
+    * default implementation returns true.</p>
+    *
+    * @param stage one of the stages named by the {@link Intercepts} annotation of the interceptor
+    * @param beanType the class of the ActionBean, or null if it is not known at the stage, i.e.
+    *        before {@link LifecycleStage#ActionBeanResolution} is complete
+    * @return false if calling the interceptor would only proceed
+    */
+   default boolean appliesTo( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+      return true;
+   }
+
    /**
     * Invoked when intercepting the flow of execution.
     *
@@ -0,0 +1,77 @@
+package org.stripesframework.web.controller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.stripesframework.web.action.ActionBean;
+
+
+/**
+ * An immutable, ordered sequence of the {@link Interceptor}s that wrap a {@link LifecycleStage}.
+ * The {@link ExecutionContext} walks it by index, so that proceeding to the next interceptor
+ * neither allocates an iterator nor calls interceptors that do not apply.
+ *
+ * @see org.stripesframework.web.config.Configuration#getInterceptorChain(LifecycleStage, Class)
+ */
+public final class InterceptorChain {
+
+   /** The chain without interceptors. */
+   public static final InterceptorChain EMPTY = new InterceptorChain(new Interceptor[0]);
+
+   /**
+    * Creates the chain of the interceptors that {@link Interceptor#appliesTo(LifecycleStage, Class)
+    * apply} to a stage and an ActionBean class.
+    *
+    * @param interceptors the interceptors configured for the stage, in order
+    * @param stage the lifecycle stage
+    * @param beanType the class of the ActionBean, or null if it is not known at the stage
+    * @return the chain of the applicable interceptors, in the same order
+    */
+   public static InterceptorChain applicable( Collection<Interceptor> interceptors, LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+      List<Interceptor> applicable = new ArrayList<>(interceptors.size());
+      for ( Interceptor interceptor : interceptors ) {
+         if ( interceptor.appliesTo(stage, beanType) ) {
+            applicable.add(interceptor);
+         }
+      }
+      return applicable.isEmpty() ? EMPTY : new InterceptorChain(applicable.toArray(new Interceptor[0]));
+   }
+
+   private final Interceptor[] _interceptors;
+
+   /**
+    * Creates the chain of all the given interceptors, whether they apply or not.
+    *
+    * @param interceptors the interceptors, in order
+    */
+   public InterceptorChain( Collection<Interceptor> interceptors ) {
+      this(interceptors.toArray(new Interceptor[0]));
+   }
+
+   private InterceptorChain( Interceptor[] interceptors ) {
+      _interceptors = interceptors;
+   }
+
+   /** Returns the interceptor at a position of the chain. */
+   public Interceptor get( int index ) {
+      return _interceptors[index];
+   }
+
+   /** Returns the interceptors of the chain, in order. */
+   public List<Interceptor> getInterceptors() {
+      return Collections.unmodifiableList(Arrays.asList(_interceptors));
+   }
+
+   /** Returns the number of interceptors in the chain. */
+   public int size() {
+      return _interceptors.length;
+   }
+
+   @Override
+   public String toString() {
+      return Arrays.toString(_interceptors);
+   }
+}
@@ -47,8 +47,10 @@ public class ParameterName implements Comparable<ParameterName> {
     */
    public ParameterName( String name ) {
       _name = name;
-      Matcher matcher = pattern.matcher(_name);
-      _indexed = matcher.find();
+
+      // Most names have no indexing, which is detected without matching the regular expression
+      Matcher matcher = _name.indexOf('[') < 0 ? null : pattern.matcher(_name);
+      _indexed = matcher != null && matcher.find();
 
       if ( _indexed ) {
          _strippedName = matcher.replaceAll("");
@@ -0,0 +1,82 @@
+package org.stripesframework.web.controller;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+
+
+/**
+ * Formats the lifecycle stage timings of a traced request, see
+ * {@link DispatcherServlet#TRACE_HEADER}, as the value of a {@code Server-Timing} response header
+ * and as a log line. Durations are given in milliseconds with three decimals, independently of
+ * the default locale.
+ */
+final class ServerTiming {
+
+   /** The name of the response header that carries the stage timings. */
+   static final String HEADER = "Server-Timing";
+
+   private static final LifecycleStage[] STAGES = LifecycleStage.values();
+
+   /**
+    * Returns the stage timings recorded so far, e.g.
+    * {@code RequestInit;dur=0.012, ActionBeanResolution;dur=0.210}.
+    *
+    * @return the header value, or an empty String if no stage has been timed
+    */
+   static String getHeaderValue( ExecutionContext ctx ) {
+      StringBuilder value = new StringBuilder(192);
+      for ( LifecycleStage stage : STAGES ) {
+         long nanos = ctx.getStageNanos(stage);
+         if ( nanos >= 0 ) {
+            if ( value.length() > 0 ) {
+               value.append(", ");
+            }
+            value.append(stage.name()).append(";dur=");
+            appendMillis(value, nanos);
+         }
+      }
+      return value.toString();
+   }
+
+   /**
+    * Returns a log line of space separated key=value pairs holding the requested path, the
+    * ActionBean class, the event, the total duration and the duration of each stage that was
+    * timed, e.g. {@code path=/Foo.action bean=com.example.FooAction event=save total=12.345ms
+    * RequestInit=0.012ms ...}.
+    *
+    * @param path the requested path
+    * @param totalNanos the time since tracing of the request started
+    */
+   static String getLogLine( ExecutionContext ctx, String path, long totalNanos ) {
+      ActionBean bean = ctx.getActionBean();
+      ActionBeanContext context = ctx.getActionBeanContext();
+      String event = context == null ? null : context.getEventName();
+
+      StringBuilder line = new StringBuilder(256);
+      line.append("path=").append(path);
+      line.append(" bean=").append(bean == null ? "-" : bean.getClass().getName());
+      line.append(" event=").append(event == null ? "-" : event);
+      line.append(" total=");
+      appendMillis(line, totalNanos).append("ms");
+      for ( LifecycleStage stage : STAGES ) {
+         long nanos = ctx.getStageNanos(stage);
+         if ( nanos >= 0 ) {
+            line.append(' ').append(stage.name()).append('=');
+            appendMillis(line, nanos).append("ms");
+         }
+      }
+      return line.toString();
+   }
+
+   private static StringBuilder appendMillis( StringBuilder builder, long nanos ) {
+      long micros = Math.max(nanos, 0L) / 1000L;
+      long fraction = micros % 1000L;
+      builder.append(micros / 1000L).append('.');
+      if ( fraction < 100L ) {
+         builder.append(fraction < 10L ? "00" : "0");
+      }
+      return builder.append(fraction);
+   }
+
+   private ServerTiming() {}
+}
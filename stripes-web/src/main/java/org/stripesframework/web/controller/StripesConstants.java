@@ -99,6 +99,13 @@ public interface StripesConstants {
     */
    String REQ_ATTR_EVENT_NAME = "__stripes_event_name";
 
+   /**
+    * The name of a request attribute that is set while an asynchronous request is completed with
+    * the Resolution of an asynchronous event handler. A ForwardResolution then dispatches the
+    * request through its AsyncContext instead of forwarding it.
+    */
+   String REQ_ATTR_ASYNC_DISPATCH = "__stripes_async_dispatch";
+
    /**
     * Request attribute key defined by the servlet spec for storing the included servlet
     * path when processing a server side include.
@@ -17,11 +17,12 @@ package org.stripesframework.web.controller;
 import java.beans.Introspector;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collection;
 import java.util.Locale;
-import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -57,28 +58,29 @@ public class StripesFilter implements Filter {
    public static final String CONFIG_CLASS = "Configuration.Class";
 
    /** Log used throughout the class. */
-   private static final Log                               log                = Log.getInstance(StripesFilter.class);
+   private static final Log                                      log                = Log.getInstance(StripesFilter.class);
    /**
     * A place to stash the Configuration object so that other classes in Stripes can access it
     * without resorting to ferrying it, or the request, to every class that needs access to the
     * Configuration.  Doing this allows multiple Stripes Configurations to exist in a single
     * Classloader since the Configuration is not located statically.
     */
-   private static final ThreadLocal<Configuration>        configurationStash = new ThreadLocal<>();
+   private static final ThreadLocal<Configuration>               configurationStash = new ThreadLocal<>();
    /**
     * A set of weak references to all the Configuration objects that this class has ever
     * seen. Uses weak references to allow garbage collection to reap these objects if this
     * is the only reference left.  Used to determine if there is only one active Configuration
     * for the VM, and if so return it even when the Configuration isn't set in the thread local.
+    * Reading it takes no lock, so that threads looking up the Configuration never block.
     */
-   private static final Set<WeakReference<Configuration>> configurations     = new HashSet<>();
+   private static final Collection<WeakReference<Configuration>> configurations     = new CopyOnWriteArrayList<>();
    /**
     * Some operations should only be done if the current invocation of
     * {@link #doFilter(ServletRequest, ServletResponse, FilterChain)} is the
     * first in the filter chain. This {@link ThreadLocal} keeps track of
     * whether such operations should be done or not.
     */
-   private static final ThreadLocal<Boolean>              initialInvocation  = ThreadLocal.withInitial(() -> true);
+   private static final ThreadLocal<Boolean>                     initialInvocation  = ThreadLocal.withInitial(() -> true);
 
    /**
     * Returns the Configuration that is being used to process the current request.
@@ -89,20 +91,22 @@ public class StripesFilter implements Filter {
       // If the configuration wasn't available in thread local, check to see if we only
       // know about one configuration in total, and if so use that one
       if ( configuration == null ) {
-         synchronized ( StripesFilter.configurations ) {
-            // Remove any references from the set that have been cleared
-            Iterator<WeakReference<Configuration>> iterator = StripesFilter.configurations.iterator();
-            while ( iterator.hasNext() ) {
-               WeakReference<Configuration> ref = iterator.next();
-               if ( ref.get() == null ) {
-                  iterator.remove();
-               }
+         Configuration active = null;
+         int count = 0;
+         for ( WeakReference<Configuration> ref : StripesFilter.configurations ) {
+            Configuration candidate = ref.get();
+            if ( candidate == null ) {
+               // Remove any references that have been cleared
+               StripesFilter.configurations.remove(ref);
+            } else {
+               active = candidate;
+               count++;
             }
+         }
 
-            // If there is one and only one Configuration active, take it
-            if ( StripesFilter.configurations.size() == 1 ) {
-               configuration = StripesFilter.configurations.iterator().next().get();
-            }
+         // If there is one and only one Configuration active, take it
+         if ( count == 1 ) {
+            configuration = active;
          }
       }
 
@@ -149,6 +153,35 @@ public class StripesFilter implements Filter {
       }
    }
 
+   /**
+    * Runs the given task with the given Configuration as the one returned by
+    * {@link #getConfiguration()} on the current thread. Used to process asynchronous requests
+    * on threads that were not routed through the StripesFilter. Includes made by the task are
+    * treated like subsequent invocations of the filter for the request.
+    *
+    * @param configuration the Configuration of the request that is processed by the task
+    * @param task the task to run
+    */
+   static void runWithConfiguration( Configuration configuration, Runnable task ) {
+      Configuration previous = StripesFilter.configurationStash.get();
+      boolean initial = StripesFilter.initialInvocation.get();
+      StripesFilter.configurationStash.set(configuration);
+      StripesFilter.initialInvocation.set(false);
+      try {
+         task.run();
+      }
+      finally {
+         if ( initial ) {
+            StripesFilter.initialInvocation.remove();
+         }
+         if ( previous == null ) {
+            StripesFilter.configurationStash.remove();
+         } else {
+            StripesFilter.configurationStash.set(previous);
+         }
+      }
+   }
+
    /** The configuration instance for Stripes. */
    private Configuration  configuration;
    /** The servlet context */
@@ -230,7 +263,12 @@ public class StripesFilter implements Filter {
             StripesFilter.initialInvocation.remove();
             StripesFilter.configurationStash.remove();
 
-            flashOutbound(httpRequest);
+            if ( httpRequest.isAsyncStarted() ) {
+               // The request is completed on another thread, and so is the flash scope
+               flashOutboundOnComplete(httpRequest);
+            } else {
+               flashOutbound(httpRequest);
+            }
          } else {
             // restore URI parameters to their previous state
             StripesRequestWrapper.findStripesWrapper(httpRequest).popUriParameters();
@@ -295,6 +333,29 @@ public class StripesFilter implements Filter {
       }
    }
 
+   /**
+    * Defers {@link #flashOutbound(HttpServletRequest)} until an asynchronous request is
+    * completed, since the flash scope may still be filled on the thread that completes it.
+    */
+   protected void flashOutboundOnComplete( final HttpServletRequest req ) {
+      req.getAsyncContext().addListener(new AsyncListener() {
+
+         @Override
+         public void onComplete( AsyncEvent event ) {
+            flashOutbound(req);
+         }
+
+         @Override
+         public void onError( AsyncEvent event ) {}
+
+         @Override
+         public void onStartAsync( AsyncEvent event ) {}
+
+         @Override
+         public void onTimeout( AsyncEvent event ) {}
+      });
+   }
+
    /**
     * Wraps the HttpServletRequest with a StripesServletRequest.  This is done to ensure that any
     * form posts that contain file uploads get handled appropriately.
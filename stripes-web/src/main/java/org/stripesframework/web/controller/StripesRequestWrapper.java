@@ -411,6 +411,11 @@ class MergedParameterMap implements Map<String, String[]> {
       return _request == null ? Collections.emptyMap() : _request.getRequest().getParameterMap();
    }
 
+   /** Get the parameters embedded in the URI, merged with the multipart parameters, if any. */
+   Map<String, String[]> getUriParameterMap() {
+      return _uriParams;
+   }
+
    /**
     * Extract any parameters embedded in the URI of the given {@code request} and return them in a
     * {@link Map}. If no parameters are present in the URI, then return null.
@@ -421,20 +426,25 @@ class MergedParameterMap implements Map<String, String[]> {
          return null;
       }
 
-      UrlBinding binding = null;
+      UrlBindingMatch match = null;
       try {
-         binding = ((AnnotatedClassActionResolver)resolver).getUrlBindingFactory().getBinding(request);
+         match = ((AnnotatedClassActionResolver)resolver).getUrlBindingFactory().match(request);
       }
       catch ( UrlBindingConflictException e ) {
          // This can be safely ignored
       }
 
       Map<String, String[]> params = null;
-      if ( binding != null && binding.getParameters().size() > 0 ) {
-         for ( UrlBindingParameter p : binding.getParameters() ) {
+      if ( match != null ) {
+         for ( int i = 0, count = match.getParameterCount(); i < count; i++ ) {
+            if ( !match.isParameterIncluded(i) ) {
+               continue;
+            }
+
+            UrlBindingParameter p = match.getParameter(i);
             String name = p.getName();
             if ( name != null ) {
-               String value = p.getValue();
+               String value = match.getParameterValue(i);
                if ( UrlBindingParameter.PARAMETER_NAME_EVENT.equals(name) ) {
                   if ( value == null ) {
                      // Don't provide the default event name. The dispatcher will handle that
@@ -19,19 +19,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.TreeSet;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.exception.UrlBindingConflictException;
+import org.stripesframework.web.metrics.UrlBindingResolutionEvent;
 import org.stripesframework.web.util.HttpUtil;
 import org.stripesframework.web.util.Log;
 import org.stripesframework.web.util.bean.ParseException;
@@ -221,15 +220,10 @@ public class UrlBindingFactory {
    private final Map<String, UrlBinding>                            _pathCache                = new HashMap<>();
    /** Keeps a list of all the paths that could not be cached due to conflicts between URL bindings */
    private final Map<String, List<UrlBinding>>                      _pathConflicts            = new HashMap<>();
-   /** Holds the set of paths that are cached, sorted from longest to shortest */
-   private final Map<String, Set<UrlBinding>>                       _prefixCache              = new TreeMap<>(new Comparator<>() {
-
-      @Override
-      public int compare( String a, String b ) {
-         int cmp = b.length() - a.length();
-         return cmp == 0 ? a.compareTo(b) : cmp;
-      }
-   });
+   /** Maps path prefixes to the {@link UrlBinding}s that could match a URI starting with the prefix */
+   private final Map<String, Set<UrlBinding>>                       _prefixCache              = new HashMap<>();
+   /** Indexes the keys of {@link #_prefixCache} for longest prefix lookups */
+   private final UrlBindingPrefixTrie                               _prefixTrie               = new UrlBindingPrefixTrie();
 
    /**
     * Map an {@link ActionBean} to a URL.
@@ -270,76 +264,8 @@ public class UrlBindingFactory {
     * @return a binding prototype, or null if the URI does not match
     */
    public UrlBinding getBinding( String uri ) {
-      UrlBinding prototype = getBindingPrototype(uri);
-      if ( prototype == null ) {
-         return null;
-      }
-
-      // check for literal suffix in prototype and ignore it if found
-      int length = uri.length();
-      String suffix = prototype.getSuffix();
-      if ( suffix != null && uri.endsWith(suffix) ) {
-         length -= suffix.length();
-      }
-
-      // ignore trailing slashes in the URI
-      while ( length > 0 && uri.charAt(length - 1) == '/' ) {
-         --length;
-      }
-
-      // extract the request parameters and add to new binding object
-      ArrayList<Object> components = new ArrayList<>(prototype.getComponents().size());
-      int index = prototype.getPath().length();
-      UrlBindingParameter current = null;
-      String value = null;
-      Iterator<Object> iter = prototype.getComponents().iterator();
-      while ( index < length && iter.hasNext() ) {
-         Object component = iter.next();
-         if ( component instanceof String ) {
-            // extract the parameter value from the URI
-            String literal = (String)component;
-            int end = uri.indexOf(literal, index);
-            if ( end >= 0 ) {
-               value = uri.substring(index, end);
-               index = end + literal.length();
-            } else {
-               value = uri.substring(index, length);
-               index = length;
-            }
-
-            // add to the binding
-            if ( current != null && value != null && value.length() > 0 ) {
-               components.add(new UrlBindingParameter(current, value));
-               components.add(component);
-               current = null;
-               value = null;
-            }
-         } else if ( component instanceof UrlBindingParameter ) {
-            current = (UrlBindingParameter)component;
-         }
-      }
-
-      // if component iterator ended before end of string, then grab remainder of string
-      if ( index < length ) {
-         value = uri.substring(index, length);
-      }
-
-      // parameter was last component in list
-      if ( current != null && value != null && value.length() > 0 ) {
-         components.add(new UrlBindingParameter(current, value));
-      }
-
-      // ensure all components are included so default parameter values are available
-      while ( iter.hasNext() ) {
-         Object component = iter.next();
-         if ( component instanceof UrlBindingParameter ) {
-            components.add(new UrlBindingParameter((UrlBindingParameter)component));
-         } else {
-            components.add(component);
-         }
-      }
-
-      return new UrlBinding(prototype.getBeanType(), prototype.getPath(), components);
+      UrlBindingMatch match = match(uri);
+      return match == null ? null : match.toUrlBinding();
    }
 
    /**
@@ -381,94 +307,17 @@ public class UrlBindingFactory {
     * @return a binding prototype, or null if the URI does not match
     */
    public UrlBinding getBindingPrototype( String uri ) {
-      // Look for an exact match to the URI first
-      UrlBinding prototype = _pathCache.get(uri);
-      if ( prototype != null ) {
-         log.debug("Matched ", uri, " to ", prototype);
-         return prototype;
-      } else if ( _pathConflicts.containsKey(uri) ) {
-         List<String> strings = new ArrayList<>();
-         for ( UrlBinding conflict : _pathConflicts.get(uri) ) {
-            strings.add(conflict.toString());
-         }
-         throw new UrlBindingConflictException(uri, strings);
-      }
-
-      // Get all the bindings whose prefix matches the URI
-      Set<UrlBinding> candidates = null;
-      for ( Entry<String, Set<UrlBinding>> entry : _prefixCache.entrySet() ) {
-         if ( uri.startsWith(entry.getKey()) ) {
-            candidates = entry.getValue();
-            break;
-         }
-      }
+      UrlBindingResolutionEvent event = new UrlBindingResolutionEvent();
+      event.begin();
 
-      // If none matched or exactly one matched then return now
-      if ( candidates == null ) {
-         log.debug("No URL binding matches ", uri);
-         return null;
-      } else if ( candidates.size() == 1 ) {
-         log.debug("Matched ", uri, " to ", candidates);
-         return candidates.iterator().next();
-      }
+      UrlBinding prototype = findBindingPrototype(uri);
 
-      // Now find the one that matches deepest into the URI with the fewest components
-      int maxIndex = 0, minComponentCount = Integer.MAX_VALUE, maxComponentMatch = 0;
-      List<String> conflicts = null;
-      for ( UrlBinding binding : candidates ) {
-         int idx = binding.getPath().length();
-         List<Object> components = binding.getComponents();
-         int componentCount = components.size(), componentMatch = 0;
-
-         for ( Object component : components ) {
-            if ( !(component instanceof String) ) {
-               continue;
-            }
-
-            String string = (String)component;
-            int at = uri.indexOf(string, idx);
-            if ( at >= 0 ) {
-               idx = at + string.length();
-               ++componentMatch;
-            } else if ( binding.getSuffix() != null ) {
-               // Prefer suffix matches
-               string = binding.getSuffix();
-               at = uri.indexOf(string, idx);
-               if ( at >= 0 ) {
-                  idx = at + string.length();
-                  ++componentMatch;
-               }
-               break;
-            } else {
-               break;
-            }
-         }
-
-         boolean betterMatch = idx > maxIndex || (idx == maxIndex && (componentCount < minComponentCount || componentMatch > maxComponentMatch));
-
-         if ( betterMatch ) {
-            if ( conflicts != null ) {
-               conflicts.clear();
-            }
-            prototype = binding;
-            maxIndex = idx;
-            minComponentCount = componentCount;
-            maxComponentMatch = componentMatch;
-         } else if ( idx == maxIndex && componentCount == minComponentCount ) {
-            if ( conflicts == null ) {
-               conflicts = new ArrayList<>(candidates.size());
-               conflicts.add(prototype.toString());
-            }
-            conflicts.add(binding.toString());
-            prototype = null;
-         }
-      }
-
-      log.debug("Matched @", maxIndex, " ", uri, " to ", prototype == null ? conflicts : prototype);
-      if ( prototype == null ) {
-         throw new UrlBindingConflictException(uri, conflicts);
+      event.end();
+      if ( event.shouldCommit() ) {
+         event.path = uri;
+         event.beanType = prototype == null ? null : prototype.getBeanType();
+         event.commit();
       }
-
       return prototype;
    }
 
@@ -544,6 +393,7 @@ public class UrlBindingFactory {
                bindings.remove(binding);
                if ( bindings.isEmpty() ) {
                   _prefixCache.remove(prefix);
+                  _prefixTrie.remove(prefix);
                }
             }
          }
@@ -562,6 +412,32 @@ public class UrlBindingFactory {
       _classBindingCache.remove(beanType);
    }
 
+   /**
+    * Examines a URI (as returned by {@link HttpUtil#getRequestedPath(HttpServletRequest)}) and
+    * returns a {@link UrlBindingMatch} for the associated binding, if any. Unlike
+    * {@link #getBinding(String)}, this does not copy the binding or its parameters; the match only
+    * records where the parameter values are found in the URI.
+    *
+    * @param uri a request URI
+    * @return a match for the binding prototype, or null if the URI does not match
+    */
+   public UrlBindingMatch match( String uri ) {
+      UrlBinding prototype = getBindingPrototype(uri);
+      return prototype == null ? null : new UrlBindingMatch(prototype, uri);
+   }
+
+   /**
+    * Examines a servlet request and returns a {@link UrlBindingMatch} for the associated binding,
+    * if any.
+    *
+    * @param request a servlet request
+    * @return a match for the binding prototype, or null if the request URI does not match
+    * @see #match(String)
+    */
+   public UrlBindingMatch match( HttpServletRequest request ) {
+      return match(HttpUtil.getRequestedPath(request));
+   }
+
    @Override
    public String toString() {
       return String.valueOf(_classPrimaryBindingCache);
@@ -674,12 +550,25 @@ public class UrlBindingFactory {
             }
          });
          _prefixCache.put(prefix, bindings);
+         _prefixTrie.put(prefix, bindings);
       }
 
       // Add the binding to the set
       bindings.add(binding);
    }
 
+   /**
+    * Get the set of bindings mapped to the longest cached prefix of the given URI. The lookup walks
+    * a trie of the cached prefixes, so its cost depends on the length of the URI and not on the
+    * number of bindings.
+    *
+    * @param uri a request URI
+    * @return the candidate bindings, or null if no cached prefix matches the URI
+    */
+   protected Set<UrlBinding> getPrefixCandidates( String uri ) {
+      return _prefixTrie.getLongestPrefixMatch(uri);
+   }
+
    /**
     * Get a list of the request paths that will be wired directly to an ActionBean. In some cases,
     * a single path might be valid for more than one ActionBean. In such a case, a warning will be
@@ -725,4 +614,91 @@ public class UrlBindingFactory {
 
       return prefixes;
    }
+
+   /** Looks up the binding prototype of a URI, see {@link #getBindingPrototype(String)}. */
+   private UrlBinding findBindingPrototype( String uri ) {
+      // Look for an exact match to the URI first
+      UrlBinding prototype = _pathCache.get(uri);
+      if ( prototype != null ) {
+         log.debug("Matched ", uri, " to ", prototype);
+         return prototype;
+      } else if ( _pathConflicts.containsKey(uri) ) {
+         List<String> strings = new ArrayList<>();
+         for ( UrlBinding conflict : _pathConflicts.get(uri) ) {
+            strings.add(conflict.toString());
+         }
+         throw new UrlBindingConflictException(uri, strings);
+      }
+
+      // Get all the bindings whose prefix matches the URI
+      Set<UrlBinding> candidates = getPrefixCandidates(uri);
+
+      // If none matched or exactly one matched then return now
+      if ( candidates == null ) {
+         log.debug("No URL binding matches ", uri);
+         return null;
+      } else if ( candidates.size() == 1 ) {
+         log.debug("Matched ", uri, " to ", candidates);
+         return candidates.iterator().next();
+      }
+
+      // Now find the one that matches deepest into the URI with the fewest components
+      int maxIndex = 0, minComponentCount = Integer.MAX_VALUE, maxComponentMatch = 0;
+      List<String> conflicts = null;
+      for ( UrlBinding binding : candidates ) {
+         int idx = binding.getPath().length();
+         List<Object> components = binding.getComponents();
+         int componentCount = components.size(), componentMatch = 0;
+
+         for ( Object component : components ) {
+            if ( !(component instanceof String) ) {
+               continue;
+            }
+
+            String string = (String)component;
+            int at = uri.indexOf(string, idx);
+            if ( at >= 0 ) {
+               idx = at + string.length();
+               ++componentMatch;
+            } else if ( binding.getSuffix() != null ) {
+               // Prefer suffix matches
+               string = binding.getSuffix();
+               at = uri.indexOf(string, idx);
+               if ( at >= 0 ) {
+                  idx = at + string.length();
+                  ++componentMatch;
+               }
+               break;
+            } else {
+               break;
+            }
+         }
+
+         boolean betterMatch = idx > maxIndex || (idx == maxIndex && (componentCount < minComponentCount || componentMatch > maxComponentMatch));
+
+         if ( betterMatch ) {
+            if ( conflicts != null ) {
+               conflicts.clear();
+            }
+            prototype = binding;
+            maxIndex = idx;
+            minComponentCount = componentCount;
+            maxComponentMatch = componentMatch;
+         } else if ( idx == maxIndex && componentCount == minComponentCount ) {
+            if ( conflicts == null ) {
+               conflicts = new ArrayList<>(candidates.size());
+               conflicts.add(prototype.toString());
+            }
+            conflicts.add(binding.toString());
+            prototype = null;
+         }
+      }
+
+      log.debug("Matched @", maxIndex, " ", uri, " to ", prototype == null ? conflicts : prototype);
+      if ( prototype == null ) {
+         throw new UrlBindingConflictException(uri, conflicts);
+      }
+
+      return prototype;
+   }
 }
@@ -0,0 +1,242 @@
+package org.stripesframework.web.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.stripesframework.web.action.ActionBean;
+
+
+/**
+ * <p>
+ * The result of matching a request URI against a {@link UrlBinding} prototype. Instead of copying
+ * the prototype and its {@link UrlBindingParameter}s for every request, a match only records the
+ * offsets at which each parameter value occurs in the URI. Parameter values are extracted from the
+ * URI when they are read, so inspecting a match for bindings without parameters, or reading only
+ * some of the parameters, does not create any strings.
+ * </p>
+ * <p>
+ * Parameters are addressed by their index in {@link UrlBinding#getParameters()} of the prototype.
+ * A parameter may be absent from the match: if the URI ends before the parameter's position its
+ * default value applies, but if the URI skipped over it without supplying a value it is omitted
+ * entirely, exactly as it is omitted from the live binding returned by {@link #toUrlBinding()}.
+ * </p>
+ *
+ * @see UrlBindingFactory#match(String)
+ */
+public class UrlBindingMatch {
+
+   /** Marks a parameter that is part of the match but has no value in the URI. */
+   private static final int   NO_VALUE  = -1;
+   /** Marks a parameter that was skipped and is not part of the match. */
+   private static final int   OMITTED   = -2;
+   private static final int[] NO_BOUNDS = new int[0];
+
+   private final UrlBinding _prototype;
+   private final String     _uri;
+   /** Start and end offsets of each parameter value, or {@link #NO_VALUE}/{@link #OMITTED} */
+   private final int[]      _bounds;
+   /** Index of the first component that was not reached while extracting values */
+   private int              _remaining;
+
+   /**
+    * Match the URI against the prototype, recording the offsets of the parameter values. The URI
+    * must be one for which {@link UrlBindingFactory#getBindingPrototype(String)} returned the
+    * prototype.
+    *
+    * @param prototype the binding prototype matching the URI
+    * @param uri the request URI
+    */
+   UrlBindingMatch( UrlBinding prototype, String uri ) {
+      _prototype = prototype;
+      _uri = uri;
+
+      List<Object> components = prototype.getComponents();
+      int parameterCount = prototype.getParameters().size();
+      if ( parameterCount == 0 ) {
+         _bounds = NO_BOUNDS;
+         _remaining = 0;
+         return;
+      }
+      _bounds = new int[parameterCount * 2];
+
+      // check for literal suffix in prototype and ignore it if found
+      int length = uri.length();
+      String suffix = prototype.getSuffix();
+      if ( suffix != null && uri.endsWith(suffix) ) {
+         length -= suffix.length();
+      }
+
+      // ignore trailing slashes in the URI
+      while ( length > 0 && uri.charAt(length - 1) == '/' ) {
+         --length;
+      }
+
+      // find the parameter values between the literals
+      int index = prototype.getPath().length();
+      int componentIndex = 0, parameterIndex = -1, current = -1;
+      int valueStart = -1, valueEnd = -1;
+      for ( ; index < length && componentIndex < components.size(); componentIndex++ ) {
+         Object component = components.get(componentIndex);
+         if ( component instanceof String ) {
+            String literal = (String)component;
+            int end = uri.indexOf(literal, index);
+            valueStart = index;
+            if ( end >= 0 ) {
+               valueEnd = end;
+               index = end + literal.length();
+            } else {
+               valueEnd = length;
+               index = length;
+            }
+
+            if ( current >= 0 && valueEnd > valueStart ) {
+               setBounds(current, valueStart, valueEnd);
+               current = -1;
+               valueStart = -1;
+            }
+         } else {
+            // a parameter that is replaced before it receives a value is omitted
+            if ( current >= 0 ) {
+               setBounds(current, OMITTED, OMITTED);
+            }
+            current = ++parameterIndex;
+         }
+      }
+      _remaining = componentIndex;
+
+      // if component iterator ended before end of string, then grab remainder of string
+      if ( index < length ) {
+         valueStart = index;
+         valueEnd = length;
+      }
+
+      // parameter was last component in list
+      if ( current >= 0 ) {
+         if ( valueStart >= 0 && valueEnd > valueStart ) {
+            setBounds(current, valueStart, valueEnd);
+         } else {
+            setBounds(current, OMITTED, OMITTED);
+         }
+      }
+
+      // all parameters not reached are included so default parameter values are available
+      for ( int i = parameterIndex + 1; i < parameterCount; i++ ) {
+         setBounds(i, NO_VALUE, NO_VALUE);
+      }
+   }
+
+   /** Get the {@link ActionBean} class to which the matched binding applies. */
+   public Class<? extends ActionBean> getBeanType() {
+      return _prototype.getBeanType();
+   }
+
+   /**
+    * Get the prototype of the given parameter, which provides its name and default value.
+    *
+    * @param index the index of the parameter in the prototype's parameter list
+    */
+   public UrlBindingParameter getParameter( int index ) {
+      return _prototype.getParameters().get(index);
+   }
+
+   /** Get the number of parameters declared by the matched binding. */
+   public int getParameterCount() {
+      return _prototype.getParameters().size();
+   }
+
+   /**
+    * Get the value of the given parameter as extracted from the URI. The string is created on
+    * each call.
+    *
+    * @param index the index of the parameter in the prototype's parameter list
+    * @return the value, or null if the URI does not provide a value for the parameter
+    */
+   public String getParameterValue( int index ) {
+      int start = _bounds[index * 2];
+      return start < 0 ? null : _uri.substring(start, _bounds[index * 2 + 1]);
+   }
+
+   /**
+    * Get the value of the first included parameter with the given name.
+    *
+    * @param name the parameter name
+    * @return the value, or null if no such parameter has a value in the URI
+    */
+   public String getParameterValue( String name ) {
+      List<UrlBindingParameter> parameters = _prototype.getParameters();
+      for ( int i = 0; i < parameters.size(); i++ ) {
+         if ( isParameterIncluded(i) && parameters.get(i).getName().equals(name) ) {
+            return getParameterValue(i);
+         }
+      }
+      return null;
+   }
+
+   /** Get the binding prototype that matched the URI. */
+   public UrlBinding getPrototype() {
+      return _prototype;
+   }
+
+   /** Get the URI that was matched. */
+   public String getUri() {
+      return _uri;
+   }
+
+   /**
+    * Check if the URI provides a value for the given parameter.
+    *
+    * @param index the index of the parameter in the prototype's parameter list
+    */
+   public boolean hasParameterValue( int index ) {
+      return _bounds[index * 2] >= 0;
+   }
+
+   /**
+    * Check if the given parameter is part of the match, either with a value from the URI or
+    * without one so that its default value applies.
+    *
+    * @param index the index of the parameter in the prototype's parameter list
+    */
+   public boolean isParameterIncluded( int index ) {
+      return _bounds[index * 2] != OMITTED;
+   }
+
+   /**
+    * Create a "live" {@link UrlBinding} whose {@link UrlBindingParameter}s carry the values
+    * extracted from the URI, as described in {@link UrlBindingFactory}.
+    */
+   public UrlBinding toUrlBinding() {
+      List<Object> prototypeComponents = _prototype.getComponents();
+      List<Object> components = new ArrayList<>(prototypeComponents.size());
+      boolean previousHasValue = false;
+      for ( int i = 0, parameterIndex = 0; i < prototypeComponents.size(); i++ ) {
+         Object component = prototypeComponents.get(i);
+         if ( component instanceof UrlBindingParameter ) {
+            previousHasValue = hasParameterValue(parameterIndex);
+            if ( previousHasValue ) {
+               components.add(new UrlBindingParameter((UrlBindingParameter)component, getParameterValue(parameterIndex)));
+            } else if ( isParameterIncluded(parameterIndex) ) {
+               components.add(new UrlBindingParameter((UrlBindingParameter)component));
+            }
+            ++parameterIndex;
+         } else {
+            // a literal is included if it terminated a parameter value or was not reached
+            if ( previousHasValue || i >= _remaining ) {
+               components.add(component);
+            }
+            previousHasValue = false;
+         }
+      }
+      return new UrlBinding(_prototype.getBeanType(), _prototype.getPath(), components);
+   }
+
+   @Override
+   public String toString() {
+      return _uri + " -> " + _prototype;
+   }
+
+   private void setBounds( int parameterIndex, int start, int end ) {
+      _bounds[parameterIndex * 2] = start;
+      _bounds[parameterIndex * 2 + 1] = end;
+   }
+}
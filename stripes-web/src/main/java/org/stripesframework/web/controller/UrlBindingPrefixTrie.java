@@ -0,0 +1,138 @@
+package org.stripesframework.web.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+
+
+/**
+ * <p>
+ * A character trie that maps the request path prefixes used by {@link UrlBindingFactory} to the
+ * set of {@link UrlBinding}s that are candidates for a URI starting with that prefix. Looking up
+ * the longest registered prefix of a URI walks the trie once, so the cost is bounded by the length
+ * of the URI rather than by the number of registered bindings.
+ * </p>
+ * <p>
+ * Children of each node are kept in a sorted array and located by binary search, which keeps the
+ * structure compact for the typical case of a handful of children per node. Instances are not
+ * thread safe for modification; like the other caches in {@link UrlBindingFactory} they are
+ * populated at startup and read concurrently afterwards.
+ * </p>
+ */
+class UrlBindingPrefixTrie {
+
+   private static final char[] NO_CHARS = new char[0];
+   private static final Node[] NO_NODES = new Node[0];
+
+   private final Node _root = new Node();
+
+   /**
+    * Find the candidate bindings associated with the longest registered prefix of the given URI.
+    *
+    * @param uri a request URI
+    * @return the bindings mapped to the longest matching prefix, or null if no prefix matches
+    */
+   public Set<UrlBinding> getLongestPrefixMatch( String uri ) {
+      Set<UrlBinding> match = _root._bindings;
+      Node node = _root;
+      for ( int i = 0, length = uri.length(); i < length; i++ ) {
+         node = node.getChild(uri.charAt(i));
+         if ( node == null ) {
+            break;
+         }
+         if ( node._bindings != null ) {
+            match = node._bindings;
+         }
+      }
+      return match;
+   }
+
+   /**
+    * Associate a set of bindings with a prefix, replacing any set that was previously associated
+    * with it.
+    *
+    * @param prefix the prefix to map
+    * @param bindings the candidate bindings for the prefix
+    */
+   public void put( String prefix, Set<UrlBinding> bindings ) {
+      Node node = _root;
+      for ( int i = 0, length = prefix.length(); i < length; i++ ) {
+         node = node.getOrAddChild(prefix.charAt(i));
+      }
+      node._bindings = bindings;
+   }
+
+   /**
+    * Remove the bindings associated with a prefix. Nodes that no longer lead to any bindings are
+    * pruned from the trie.
+    *
+    * @param prefix the prefix to remove
+    */
+   public void remove( String prefix ) {
+      remove(_root, prefix, 0);
+   }
+
+   /** Recursively clear the prefix and report whether the given node may be pruned. */
+   private boolean remove( Node node, String prefix, int index ) {
+      if ( index == prefix.length() ) {
+         node._bindings = null;
+      } else {
+         char c = prefix.charAt(index);
+         Node child = node.getChild(c);
+         if ( child != null && remove(child, prefix, index + 1) ) {
+            node.removeChild(c);
+         }
+      }
+      return node._bindings == null && node._keys.length == 0;
+   }
+
+   /** A node in the trie, holding its child nodes keyed by character. */
+   private static class Node {
+
+      private char[]          _keys     = NO_CHARS;
+      private Node[]          _children = NO_NODES;
+      private Set<UrlBinding> _bindings;
+
+      Node getChild( char c ) {
+         int index = Arrays.binarySearch(_keys, c);
+         return index < 0 ? null : _children[index];
+      }
+
+      Node getOrAddChild( char c ) {
+         int index = Arrays.binarySearch(_keys, c);
+         if ( index >= 0 ) {
+            return _children[index];
+         }
+
+         int insert = -(index + 1);
+         char[] keys = new char[_keys.length + 1];
+         Node[] children = new Node[_children.length + 1];
+         System.arraycopy(_keys, 0, keys, 0, insert);
+         System.arraycopy(_children, 0, children, 0, insert);
+         System.arraycopy(_keys, insert, keys, insert + 1, _keys.length - insert);
+         System.arraycopy(_children, insert, children, insert + 1, _children.length - insert);
+
+         Node child = new Node();
+         keys[insert] = c;
+         children[insert] = child;
+         _keys = keys;
+         _children = children;
+         return child;
+      }
+
+      void removeChild( char c ) {
+         int index = Arrays.binarySearch(_keys, c);
+         if ( index < 0 ) {
+            return;
+         }
+
+         char[] keys = new char[_keys.length - 1];
+         Node[] children = new Node[_children.length - 1];
+         System.arraycopy(_keys, 0, keys, 0, index);
+         System.arraycopy(_children, 0, children, 0, index);
+         System.arraycopy(_keys, index + 1, keys, index, _keys.length - index - 1);
+         System.arraycopy(_children, index + 1, children, index, _children.length - index - 1);
+         _keys = keys;
+         _children = children;
+      }
+   }
+}
@@ -41,6 +41,7 @@ import org.stripesframework.web.controller.FileUploadLimitExceededException;
 import org.stripesframework.web.controller.StripesConstants;
 import org.stripesframework.web.controller.StripesRequestWrapper;
 import org.stripesframework.web.util.Log;
+import org.stripesframework.web.util.MethodInvoker;
 import org.stripesframework.web.util.ReflectUtil;
 import org.stripesframework.web.validation.LocalizableError;
 
@@ -429,19 +430,21 @@ public class DefaultExceptionHandler implements ExceptionHandler {
     */
    protected static class HandlerProxy {
 
-      private Object handler;
-      private Method handlerMethod;
+      private Object        handler;
+      private Method        handlerMethod;
+      private MethodInvoker handlerInvoker;
 
       /** Constructs a new HandlerProxy that will tie together the instance and method used. */
       public HandlerProxy( Object handler, Method handlerMethod ) {
          this.handler = handler;
          this.handlerMethod = handlerMethod;
+         handlerInvoker = MethodInvoker.getInstance(handlerMethod);
       }
 
       /** Invokes the handler and executes the resolution if one is returned. */
       public void handle( Throwable t, HttpServletRequest req, HttpServletResponse res ) throws Exception {
          try {
-            Object resolution = handlerMethod.invoke(handler, t, req, res);
+            Object resolution = handlerInvoker.invoke(handler, t, req, res);
             if ( resolution != null && resolution instanceof Resolution ) {
                ((Resolution)resolution).execute(req, res);
             }
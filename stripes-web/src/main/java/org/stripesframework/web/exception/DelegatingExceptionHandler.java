@@ -129,7 +129,7 @@ public class DelegatingExceptionHandler extends DefaultExceptionHandler {
       }
 
       if ( packages != null && packages.length > 0 ) {
-         ResolverUtil<AutoExceptionHandler> resolver = new ResolverUtil<>();
+         ResolverUtil<AutoExceptionHandler> resolver = bootstrap.createResolverUtil();
          resolver.findImplementations(AutoExceptionHandler.class, packages);
          return resolver.getClasses();
       } else {
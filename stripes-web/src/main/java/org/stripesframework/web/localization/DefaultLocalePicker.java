@@ -57,6 +57,27 @@ public class DefaultLocalePicker implements LocalePicker {
    /** Log instance for use within the class. */
    private static final Log log = Log.getInstance(DefaultLocalePicker.class);
 
+   /**
+    * Parses a locale made up of up to three segments, e.g. en_US_PC.
+    *
+    * @return the locale, or null if the value splits into more than three segments
+    */
+   static Locale parseLocale( String value ) {
+      String[] parts = value.split("[-_]");
+
+      if ( parts.length == 1 ) {
+         return new Locale(parts[0].trim().toLowerCase());
+      } else if ( parts.length == 2 ) {
+         return new Locale(parts[0].trim().toLowerCase(), parts[1].trim().toUpperCase());
+      } else if ( parts.length == 3 ) {
+         return new Locale(parts[0].trim().toLowerCase(), parts[1].trim().toUpperCase(), parts[2].trim());
+      } else {
+         log.error("Configuration property ", LOCALE_LIST, " contained a locale value ", "that split into more than three parts! The parts were: ",
+               parts);
+         return null;
+      }
+   }
+
    /** Stores a reference to the configuration passed in at initialization. */
    protected Configuration _configuration;
 
@@ -88,19 +109,7 @@ public class DefaultLocalePicker implements LocalePicker {
             // and the locale can be made up of up to three segment, e.g. en_US_PC
 
             String[] halves = localeString.split(":");
-            String[] parts = halves[0].split("[-_]");
-            Locale locale = null;
-
-            if ( parts.length == 1 ) {
-               locale = new Locale(parts[0].trim().toLowerCase());
-            } else if ( parts.length == 2 ) {
-               locale = new Locale(parts[0].trim().toLowerCase(), parts[1].trim().toUpperCase());
-            } else if ( parts.length == 3 ) {
-               locale = new Locale(parts[0].trim().toLowerCase(), parts[1].trim().toUpperCase(), parts[2].trim());
-            } else {
-               log.error("Configuration property ", LOCALE_LIST, " contained a locale value ", "that split into more than three parts! The parts were: ",
-                     parts);
-            }
+            Locale locale = parseLocale(halves[0]);
 
             _locales.add(locale);
 
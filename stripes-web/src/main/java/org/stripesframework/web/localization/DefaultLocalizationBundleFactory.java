@@ -128,6 +128,16 @@ public class DefaultLocalizationBundleFactory implements LocalizationBundleFacto
       return _configuration;
    }
 
+   /** Returns the name of the bundle in which to look for error messages. */
+   protected String getErrorBundleName() {
+      return _errorBundleName;
+   }
+
+   /** Returns the name of the bundle in which to look for form field names. */
+   protected String getFieldBundleName() {
+      return _fieldBundleName;
+   }
+
    protected void setConfiguration( Configuration configuration ) {
       _configuration = configuration;
    }
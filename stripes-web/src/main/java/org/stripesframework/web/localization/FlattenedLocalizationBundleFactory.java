@@ -0,0 +1,123 @@
+package org.stripesframework.web.localization;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.stripesframework.web.config.Configuration;
+import org.stripesframework.web.util.Log;
+import org.stripesframework.web.util.StringUtil;
+
+
+/**
+ * <p>A bundle factory that flattens the error message and field name bundles of each locale into
+ * a {@link FlattenedResourceBundle} the first time they are used, so that lookups do not walk the
+ * chain of parent bundles and missing keys can be detected without an exception. The bundle
+ * names are configured as for the {@link DefaultLocalizationBundleFactory}.</p>
+ *
+ * <p>If the configuration parameter "LocalizationBundleFactory.Preload" is true, the bundles of
+ * the locales listed in "LocalePicker.Locales" are flattened during initialization. In debug
+ * mode the bundles are read from the properties files each time they are requested, so that
+ * changes show up without a restart. Otherwise they can be reloaded on demand by calling
+ * {@link #reload()}.</p>
+ */
+public class FlattenedLocalizationBundleFactory extends DefaultLocalizationBundleFactory {
+
+   /** The configuration parameter for flattening the bundles of all configured locales at startup. */
+   public static final String PRELOAD = "LocalizationBundleFactory.Preload";
+
+   private static final Log log = Log.getInstance(FlattenedLocalizationBundleFactory.class);
+
+   private final Map<Locale, FlattenedResourceBundle> _errorMessageBundles = new ConcurrentHashMap<>();
+   private Map<Locale, FlattenedResourceBundle>       _formFieldBundles    = new ConcurrentHashMap<>();
+
+   /**
+    * Returns the flattened error message bundle of a locale.
+    *
+    * @param locale an optional locale, may be null.
+    * @throws MissingResourceException if a suitable bundle cannot be found
+    */
+   @Override
+   public ResourceBundle getErrorMessageBundle( Locale locale ) throws MissingResourceException {
+      return getBundle(_errorMessageBundles, locale, super::getErrorMessageBundle);
+   }
+
+   /**
+    * Returns the flattened form field bundle of a locale.
+    *
+    * @param locale an optional locale, may be null.
+    * @throws MissingResourceException if a suitable bundle cannot be found
+    */
+   @Override
+   public ResourceBundle getFormFieldBundle( Locale locale ) throws MissingResourceException {
+      return getBundle(_formFieldBundles, locale, super::getFormFieldBundle);
+   }
+
+   /** Looks up the bundle names, and flattens the bundles of the configured locales if requested. */
+   @Override
+   public void init( Configuration configuration ) throws Exception {
+      super.init(configuration);
+
+      if ( getErrorBundleName().equals(getFieldBundleName()) ) {
+         _formFieldBundles = _errorMessageBundles;
+      }
+
+      if ( Boolean.parseBoolean(configuration.getBootstrapPropertyResolver().getProperty(PRELOAD)) && !isDebugMode() ) {
+         String configuredLocales = configuration.getBootstrapPropertyResolver().getProperty(DefaultLocalePicker.LOCALE_LIST);
+         if ( configuredLocales == null || configuredLocales.equals("") ) {
+            preload(Locale.getDefault());
+         } else {
+            for ( String localeString : StringUtil.standardSplit(configuredLocales) ) {
+               Locale locale = DefaultLocalePicker.parseLocale(localeString.split(":")[0]);
+               if ( locale != null ) {
+                  preload(locale);
+               }
+            }
+         }
+      }
+   }
+
+   /**
+    * Discards the flattened bundles, including the bundles cached by {@link ResourceBundle}, so
+    * that they are read again when they are requested next.
+    */
+   public void reload() {
+      ResourceBundle.clearCache();
+      _errorMessageBundles.clear();
+      _formFieldBundles.clear();
+   }
+
+   /**
+    * Gets the flattened bundle of a locale from the given map, flattening it if it was not
+    * requested before. In debug mode the bundle is read and flattened each time.
+    */
+   private FlattenedResourceBundle getBundle( Map<Locale, FlattenedResourceBundle> bundles, Locale locale, Function<Locale, ResourceBundle> loader ) {
+      if ( locale == null ) {
+         locale = Locale.getDefault();
+      }
+      if ( isDebugMode() ) {
+         ResourceBundle.clearCache();
+         return new FlattenedResourceBundle(loader.apply(locale));
+      }
+      return bundles.computeIfAbsent(locale, l -> new FlattenedResourceBundle(loader.apply(l)));
+   }
+
+   private boolean isDebugMode() {
+      Configuration configuration = getConfiguration();
+      return configuration != null && configuration.isDebugMode();
+   }
+
+   private void preload( Locale locale ) {
+      try {
+         getErrorMessageBundle(locale);
+         getFormFieldBundle(locale);
+         log.debug("Flattened the localization bundles of locale ", locale);
+      }
+      catch ( MissingResourceException mre ) {
+         log.warn(mre, "Could not flatten the localization bundles of locale ", locale);
+      }
+   }
+}
@@ -0,0 +1,89 @@
+package org.stripesframework.web.localization;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * An immutable copy of a resource bundle, including the resources it inherits from its parent
+ * bundles. Resources are looked up in a single hash map, and {@link #getResource(String)} returns
+ * null for missing keys rather than throwing an exception.
+ *
+ * @see FlattenedLocalizationBundleFactory
+ */
+public final class FlattenedResourceBundle extends ResourceBundle {
+
+   private final Locale              _locale;
+   private final Map<String, Object> _resources;
+   private final Map<Object, Object> _lookups = new ConcurrentHashMap<>();
+
+   /**
+    * Copies the resources of a bundle and of its parents.
+    *
+    * @param bundle the bundle to copy
+    */
+   public FlattenedResourceBundle( ResourceBundle bundle ) {
+      _locale = bundle.getLocale();
+      Set<String> keys = bundle.keySet();
+      Map<String, Object> resources = new HashMap<>(keys.size() * 4 / 3 + 1);
+      for ( String key : keys ) {
+         resources.put(key, bundle.getObject(key));
+      }
+      _resources = resources;
+   }
+
+   @Override
+   public boolean containsKey( String key ) {
+      return _resources.containsKey(key);
+   }
+
+   @Override
+   public Enumeration<String> getKeys() {
+      return Collections.enumeration(_resources.keySet());
+   }
+
+   @Override
+   public Locale getLocale() {
+      return _locale;
+   }
+
+   /**
+    * Gets a string resource.
+    *
+    * @param key the exact resource key to lookup
+    * @return the resource String or null if the bundle does not contain the key
+    * @throws ClassCastException if the resource is not a String
+    */
+   public String getResource( String key ) {
+      return (String)_resources.get(key);
+   }
+
+   @Override
+   public Set<String> keySet() {
+      return Collections.unmodifiableSet(_resources.keySet());
+   }
+
+   @Override
+   protected Object handleGetObject( String key ) {
+      return _resources.get(key);
+   }
+
+   @Override
+   protected Set<String> handleKeySet() {
+      return keySet();
+   }
+
+   /**
+    * Returns the outcome of the lookups in this bundle that {@link LocalizationUtility} caches,
+    * which are discarded along with the bundle.
+    */
+   Map<Object, Object> getLookups() {
+      return _lookups;
+   }
+}
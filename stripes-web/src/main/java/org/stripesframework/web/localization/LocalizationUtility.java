@@ -14,9 +14,14 @@
  */
 package org.stripesframework.web.localization;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.stripesframework.web.action.ActionBean;
 import org.stripesframework.web.config.Configuration;
@@ -37,6 +42,26 @@ public class LocalizationUtility {
 
    private static final Log log = Log.getInstance(LocalizationUtility.class);
 
+   /** Stands for a resource that is missing from a bundle in the cached lookups. */
+   private static final Object MISSING = new Object();
+
+   /**
+    * The outcome of the lookups in each bundle other than a {@link FlattenedResourceBundle}, which
+    * caches its own, including those that found nothing. The lookups are kept by bundle name and
+    * locale, and belong to a single bundle instance, so a bundle that is reloaded, e.g. after
+    * {@link ResourceBundle#clearCache()}, replaces the lookups of the bundle it was reloaded from.
+    */
+   private static final Map<List<Object>, BundleLookups> lookups = new ConcurrentHashMap<>();
+
+   /**
+    * Forgets the outcome of all lookups in bundles other than a {@link FlattenedResourceBundle}.
+    * Reloaded bundles are not looked up in the cache anyway, so this is only needed when a bundle
+    * changes its resources without being replaced.
+    */
+   public static void clearCache() {
+      lookups.clear();
+   }
+
    /**
     * Looks up the specified key in the error message resource bundle. If the
     * bundle is missing or if the resource cannot be found, will return null
@@ -47,14 +72,25 @@ public class LocalizationUtility {
     * @return the resource String or null
     */
    public static String getErrorMessage( Locale locale, String key ) {
-      try {
-         Configuration config = StripesFilter.getConfiguration();
-         ResourceBundle bundle = config.getLocalizationBundleFactory().getErrorMessageBundle(locale);
-         return bundle.getString(key);
-      }
-      catch ( MissingResourceException mre ) {
-         return null;
-      }
+      ResourceBundle bundle = getErrorMessageBundle(locale);
+      return bundle == null ? null : getResource(bundle, key);
+   }
+
+   /**
+    * Looks up the first of several keys that is present in the error message resource bundle.
+    * The outcome is cached per bundle under the cache key, so that the keys need to be built and
+    * looked up only once. If the bundle is missing or none of the keys can be found, will return
+    * null instead of throwing an exception.
+    *
+    * @param locale the locale in which to lookup the resource
+    * @param cacheKey identifies the keys within the bundle, e.g. by the name of the calling class
+    *        followed by the values the keys are built from; its elements may be null
+    * @param keys supplies the keys to lookup, in order of precedence
+    * @return the resource String or null
+    */
+   public static String getErrorMessage( Locale locale, List<?> cacheKey, Supplier<String[]> keys ) {
+      ResourceBundle bundle = getErrorMessageBundle(locale);
+      return bundle == null ? null : getResource(bundle, cacheKey, keys);
    }
 
    /**
@@ -75,7 +111,7 @@ public class LocalizationUtility {
 
       ParameterName parameterName = new ParameterName(fieldName);
       String strippedName = parameterName.getStrippedName();
-      String localizedValue = null;
+      String localizedValue;
       ResourceBundle bundle;
 
       try {
@@ -86,19 +122,9 @@ public class LocalizationUtility {
          return null;
       }
 
-      // First with field prefix
-      try {
-         localizedValue = bundle.getString("field." + strippedName);
-      }
-      catch ( MissingResourceException mre ) { /* do nothing */ }
-
-      // Then all by itself
-      if ( localizedValue == null ) {
-         try {
-            localizedValue = bundle.getString(strippedName);
-         }
-         catch ( MissingResourceException mre2 ) { /* do nothing */ }
-      }
+      // First with field prefix, then all by itself
+      localizedValue = getResource(bundle, Arrays.asList(LocalizationUtility.class.getName(), strippedName),
+            () -> new String[] { "field." + strippedName, strippedName });
 
       // Lastly, check @Validate on the ActionBean property
       if ( localizedValue == null && beanclass != null ) {
@@ -111,6 +137,29 @@ public class LocalizationUtility {
       return localizedValue;
    }
 
+   /**
+    * Looks up the specified key in a resource bundle. The outcome is cached per bundle, so that
+    * keys missing from the bundle are not looked up again, unless the bundle is a
+    * {@link FlattenedResourceBundle} that can tell without an exception. Returns null instead of
+    * throwing an exception if the resource cannot be found.
+    *
+    * @param bundle the bundle in which to lookup the resource
+    * @param key the exact resource key to lookup
+    * @return the resource String or null
+    */
+   public static String getResource( ResourceBundle bundle, String key ) {
+      if ( bundle instanceof FlattenedResourceBundle ) {
+         return ((FlattenedResourceBundle)bundle).getResource(key);
+      }
+      Map<Object, Object> bundleLookups = getLookups(bundle);
+      Object resource = bundleLookups.get(key);
+      if ( resource == null ) {
+         resource = lookup(bundle, key);
+         bundleLookups.put(key, resource);
+      }
+      return resource == MISSING ? null : (String)resource;
+   }
+
    /**
     * Gets the simple name of a class for use as a key to look up a resource. This is usually the
     * same as {@link Class#getSimpleName()}, but static inner classes are handled such that the
@@ -161,6 +210,61 @@ public class LocalizationUtility {
       return builder.toString();
    }
 
+   /** Gets the error message bundle, or null if it is missing. */
+   private static ResourceBundle getErrorMessageBundle( Locale locale ) {
+      try {
+         Configuration config = StripesFilter.getConfiguration();
+         return config.getLocalizationBundleFactory().getErrorMessageBundle(locale);
+      }
+      catch ( MissingResourceException mre ) {
+         return null;
+      }
+   }
+
+   /** Gets the cached outcome of the lookups in a bundle, replacing those of a reloaded bundle. */
+   private static Map<Object, Object> getLookups( ResourceBundle bundle ) {
+      if ( bundle instanceof FlattenedResourceBundle ) {
+         return ((FlattenedResourceBundle)bundle).getLookups();
+      }
+      List<Object> key = Arrays.asList(bundle.getBaseBundleName(), bundle.getLocale());
+      BundleLookups bundleLookups = lookups.get(key);
+      if ( bundleLookups == null || bundleLookups._bundle != bundle ) {
+         bundleLookups = new BundleLookups(bundle);
+         lookups.put(key, bundleLookups);
+      }
+      return bundleLookups._lookups;
+   }
+
+   /** Gets the first of several resources from a bundle, or null if all of them are missing. */
+   private static String getResource( ResourceBundle bundle, List<?> cacheKey, Supplier<String[]> keys ) {
+      Map<Object, Object> bundleLookups = getLookups(bundle);
+      Object resource = bundleLookups.get(cacheKey);
+      if ( resource == null ) {
+         resource = MISSING;
+         for ( String key : keys.get() ) {
+            resource = lookup(bundle, key);
+            if ( resource != MISSING ) {
+               break;
+            }
+         }
+         bundleLookups.put(cacheKey, resource);
+      }
+      return resource == MISSING ? null : (String)resource;
+   }
+
+   private static Object lookup( ResourceBundle bundle, String key ) {
+      if ( bundle instanceof FlattenedResourceBundle ) {
+         String resource = ((FlattenedResourceBundle)bundle).getResource(key);
+         return resource == null ? MISSING : resource;
+      }
+      try {
+         return bundle.getString(key);
+      }
+      catch ( MissingResourceException mre ) {
+         return MISSING;
+      }
+   }
+
    /** A recursive method used by {@link #getSimpleName(Class)}. */
    private static StringBuilder prefixSimpleName( StringBuilder s, Class<?> c ) {
       if ( c.getEnclosingClass() != null ) {
@@ -168,4 +272,16 @@ public class LocalizationUtility {
       }
       return s.append(c.getSimpleName());
    }
+
+
+   /** The outcome of the lookups in one bundle instance. */
+   private static class BundleLookups {
+
+      private final ResourceBundle      _bundle;
+      private final Map<Object, Object> _lookups = new ConcurrentHashMap<>();
+
+      private BundleLookups( ResourceBundle bundle ) {
+         _bundle = bundle;
+      }
+   }
 }
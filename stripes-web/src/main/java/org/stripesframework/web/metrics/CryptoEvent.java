@@ -0,0 +1,29 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted for each value encrypted or decrypted by
+ * {@link org.stripesframework.web.util.CryptoUtil}.
+ */
+@Name("org.stripesframework.Crypto")
+@Label("Encryption")
+@Category("Stripes")
+public final class CryptoEvent extends Event {
+
+   /** The method called, encrypt or decrypt. */
+   @Label("Operation")
+   public String operation;
+
+   /** The length of the input. */
+   @Label("Length")
+   public int length;
+
+   /** False if the input could not be decrypted. */
+   @Label("Succeeded")
+   public boolean succeeded;
+}
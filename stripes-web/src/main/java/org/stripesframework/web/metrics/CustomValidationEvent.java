@@ -0,0 +1,25 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted for each {@link org.stripesframework.web.validation.ValidationMethod} invoked on an
+ * ActionBean.
+ */
+@Name("org.stripesframework.CustomValidation")
+@Label("Custom Validation")
+@Category("Stripes")
+public final class CustomValidationEvent extends Event {
+
+   /** The class of the ActionBean. */
+   @Label("ActionBean")
+   public Class<?> beanType;
+
+   /** The name of the validation method. */
+   @Label("Method")
+   public String method;
+}
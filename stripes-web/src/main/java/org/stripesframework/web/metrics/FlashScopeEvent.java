@@ -0,0 +1,25 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted when a {@link org.stripesframework.web.controller.FlashScope} is copied into the request
+ * that it was kept for, or prepared to be kept once the request that filled it is complete.
+ */
+@Name("org.stripesframework.FlashScope")
+@Label("Flash Scope")
+@Category("Stripes")
+public final class FlashScopeEvent extends Event {
+
+   /** The method called, beginRequest or completeRequest. */
+   @Label("Operation")
+   public String operation;
+
+   /** The number of attributes in the flash scope. */
+   @Label("Attributes")
+   public int attributes;
+}
@@ -0,0 +1,29 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted for each invocation of the event handler method of an ActionBean. For asynchronous
+ * handlers, it only covers the call of the method.
+ */
+@Name("org.stripesframework.HandlerInvocation")
+@Label("Event Handler Invocation")
+@Category("Stripes")
+public final class HandlerInvocationEvent extends Event {
+
+   /** The class of the ActionBean. */
+   @Label("ActionBean")
+   public Class<?> beanType;
+
+   /** The name of the event, or null. */
+   @Label("Event")
+   public String eventName;
+
+   /** The name of the handler method. */
+   @Label("Method")
+   public String method;
+}
@@ -0,0 +1,159 @@
+package org.stripesframework.web.metrics;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.config.Configuration;
+import org.stripesframework.web.controller.LifecycleStage;
+
+
+/**
+ * <p>A {@link RequestMetrics} that keeps the metrics in memory, for as long as the application
+ * runs, so that they can be read with {@link #getSnapshot()}, e.g. to publish them to a
+ * monitoring system periodically. The durations of the stages are kept in
+ * {@link LatencyHistogram}s, the counts in {@link LongAdder}s, so that recording does not
+ * lock.</p>
+ *
+ * <p>The metrics are kept per ActionBean class and event. Applications that take event names
+ * from the request, e.g. with {@code @DefaultHandler} methods, may want to map the names to a
+ * limited set first, by overriding {@link #getEventKey(Class, String)}.</p>
+ */
+public class InMemoryRequestMetrics implements RequestMetrics {
+
+   private static final String           NO_EVENT = "";
+   private static final LifecycleStage[] STAGES   = LifecycleStage.values();
+
+   /** The metrics of requests that did not resolve to an ActionBean, by event. */
+   private final ConcurrentMap<String, Recorder> _unresolved = new ConcurrentHashMap<>();
+
+   /** The metrics by ActionBean class and event. */
+   private final ConcurrentMap<Class<? extends ActionBean>, ConcurrentMap<String, Recorder>> _recorders = new ConcurrentHashMap<>();
+
+   @Override
+   public RequestMetricsSnapshot getSnapshot() {
+      List<RequestMetricsSnapshot.EventMetrics> events = new ArrayList<>();
+      addSnapshots(events, null, _unresolved);
+      for ( Map.Entry<Class<? extends ActionBean>, ConcurrentMap<String, Recorder>> entry : _recorders.entrySet() ) {
+         addSnapshots(events, entry.getKey(), entry.getValue());
+      }
+      return new RequestMetricsSnapshot(events);
+   }
+
+   @Override
+   public void init( Configuration configuration ) {
+   }
+
+   /** Returns true. */
+   @Override
+   public boolean isEnabled() {
+      return true;
+   }
+
+   @Override
+   public void recordBinding( Class<? extends ActionBean> beanType, String event, int boundParameters, int conversionFailures ) {
+      Recorder recorder = getRecorder(beanType, event);
+      recorder._boundParameters.add(boundParameters);
+      recorder._conversionFailures.add(conversionFailures);
+   }
+
+   @Override
+   public void recordResolution( Class<? extends ActionBean> beanType, String event, Class<? extends Resolution> resolutionType ) {
+      getRecorder(beanType, event)._resolutions.computeIfAbsent(resolutionType, type -> new LongAdder()).increment();
+   }
+
+   @Override
+   public void recordStage( Class<? extends ActionBean> beanType, String event, LifecycleStage stage, long nanos ) {
+      getRecorder(beanType, event).getStage(stage).record(nanos);
+   }
+
+   @Override
+   public void recordValidationErrors( Class<? extends ActionBean> beanType, String event, int errors ) {
+      getRecorder(beanType, event)._validationErrors.add(errors);
+   }
+
+   /** Removes all metrics recorded so far. */
+   public void reset() {
+      _unresolved.clear();
+      _recorders.clear();
+   }
+
+   /**
+    * Returns the name under which the metrics of an event are kept. The default implementation
+    * returns the event name itself.
+    *
+    * @param beanType the class of the ActionBean, or null
+    * @param event the name of the event, never null
+    */
+   protected String getEventKey( Class<? extends ActionBean> beanType, String event ) {
+      return event;
+   }
+
+   private void addSnapshots( List<RequestMetricsSnapshot.EventMetrics> events, Class<? extends ActionBean> beanType, Map<String, Recorder> recorders ) {
+      for ( Map.Entry<String, Recorder> entry : recorders.entrySet() ) {
+         String event = NO_EVENT.equals(entry.getKey()) ? null : entry.getKey();
+         events.add(entry.getValue().getSnapshot(beanType, event));
+      }
+   }
+
+   private Recorder getRecorder( Class<? extends ActionBean> beanType, String event ) {
+      String key = event == null ? NO_EVENT : getEventKey(beanType, event);
+      ConcurrentMap<String, Recorder> recorders = _unresolved;
+      if ( beanType != null ) {
+         recorders = _recorders.get(beanType);
+         if ( recorders == null ) {
+            recorders = _recorders.computeIfAbsent(beanType, type -> new ConcurrentHashMap<>());
+         }
+      }
+      Recorder recorder = recorders.get(key);
+      if ( recorder == null ) {
+         recorder = recorders.computeIfAbsent(key, k -> new Recorder());
+      }
+      return recorder;
+   }
+
+
+   /** The metrics of one event of an ActionBean class. */
+   private static class Recorder {
+
+      private final AtomicReferenceArray<LatencyHistogram>                _stages             = new AtomicReferenceArray<>(STAGES.length);
+      private final LongAdder                                             _boundParameters    = new LongAdder();
+      private final LongAdder                                             _conversionFailures = new LongAdder();
+      private final LongAdder                                             _validationErrors   = new LongAdder();
+      private final ConcurrentMap<Class<? extends Resolution>, LongAdder> _resolutions        = new ConcurrentHashMap<>();
+
+      RequestMetricsSnapshot.EventMetrics getSnapshot( Class<? extends ActionBean> beanType, String event ) {
+         Map<LifecycleStage, LatencyHistogram.Snapshot> stages = new EnumMap<>(LifecycleStage.class);
+         for ( LifecycleStage stage : STAGES ) {
+            LatencyHistogram histogram = _stages.get(stage.ordinal());
+            if ( histogram != null ) {
+               stages.put(stage, histogram.getSnapshot());
+            }
+         }
+         Map<Class<? extends Resolution>, Long> resolutions = new HashMap<>();
+         for ( Map.Entry<Class<? extends Resolution>, LongAdder> entry : _resolutions.entrySet() ) {
+            resolutions.put(entry.getKey(), entry.getValue().sum());
+         }
+         return new RequestMetricsSnapshot.EventMetrics(beanType, event, stages, _boundParameters.sum(), _conversionFailures.sum(), _validationErrors.sum(),
+               resolutions);
+      }
+
+      /** Returns the histogram of a stage, which is only created once the stage is recorded. */
+      LatencyHistogram getStage( LifecycleStage stage ) {
+         LatencyHistogram histogram = _stages.get(stage.ordinal());
+         if ( histogram == null ) {
+            _stages.compareAndSet(stage.ordinal(), null, new LatencyHistogram());
+            histogram = _stages.get(stage.ordinal());
+         }
+         return histogram;
+      }
+   }
+}
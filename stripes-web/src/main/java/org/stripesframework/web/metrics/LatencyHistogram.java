@@ -0,0 +1,138 @@
+package org.stripesframework.web.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>A histogram of durations in nanoseconds that can be recorded concurrently without locking.
+ * Durations are counted in logarithmic buckets: each power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so that a percentile is accurate to within 12.5% of its
+ * value, like an HdrHistogram with one significant digit. Durations above
+ * {@value #MAX_EXPONENT} powers of two nanoseconds (about 18 minutes) are counted in the last
+ * bucket.</p>
+ *
+ * <p>Recording a duration takes a few atomic additions and does not allocate.</p>
+ */
+public final class LatencyHistogram {
+
+   private static final int SUB_BUCKET_BITS = 3;
+   private static final int SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+   private static final int MAX_EXPONENT    = 40;
+   private static final int BUCKETS         = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+   /** Returns the index of the bucket that counts a duration. */
+   static int getBucket( long nanos ) {
+      if ( nanos < SUB_BUCKETS ) {
+         return (int)Math.max(nanos, 0);
+      }
+      int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+      if ( exponent >= MAX_EXPONENT ) {
+         return BUCKETS - 1;
+      }
+      int subBucket = (int)(nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+   }
+
+   /** Returns the largest duration counted in a bucket. */
+   static long getBucketLimit( int bucket ) {
+      if ( bucket < SUB_BUCKETS ) {
+         return bucket;
+      }
+      int shift = bucket / SUB_BUCKETS - 1;
+      long lowest = (long)(SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+      return lowest + (1L << shift) - 1;
+   }
+
+   private final AtomicLongArray _buckets = new AtomicLongArray(BUCKETS);
+   private final LongAdder       _count   = new LongAdder();
+   private final LongAdder       _total   = new LongAdder();
+   private final LongAccumulator _max     = new LongAccumulator(Math::max, 0L);
+
+   /** Returns a copy of the counts recorded so far. */
+   public Snapshot getSnapshot() {
+      long[] buckets = new long[BUCKETS];
+      for ( int i = 0; i < BUCKETS; i++ ) {
+         buckets[i] = _buckets.get(i);
+      }
+      return new Snapshot(buckets, _count.sum(), _total.sum(), _max.get());
+   }
+
+   /** Records a duration in nanoseconds. Negative durations are recorded as 0. */
+   public void record( long nanos ) {
+      long duration = Math.max(nanos, 0L);
+      _buckets.incrementAndGet(getBucket(duration));
+      _count.increment();
+      _total.add(duration);
+      _max.accumulate(duration);
+   }
+
+
+   /**
+    * The counts of a {@link LatencyHistogram} at one point in time. Since the buckets, the count
+    * and the total are read one after the other while durations are recorded, they may disagree
+    * by the durations recorded in between.
+    */
+   public static final class Snapshot {
+
+      private final long[] _buckets;
+      private final long   _count;
+      private final long   _totalNanos;
+      private final long   _maxNanos;
+
+      Snapshot( long[] buckets, long count, long totalNanos, long maxNanos ) {
+         _buckets = buckets;
+         _count = count;
+         _totalNanos = totalNanos;
+         _maxNanos = maxNanos;
+      }
+
+      /** Returns the number of durations recorded. */
+      public long getCount() { return _count; }
+
+      /** Returns the largest duration recorded, in nanoseconds. */
+      public long getMaxNanos() { return _maxNanos; }
+
+      /** Returns the mean duration in nanoseconds, or 0 if none was recorded. */
+      public double getMeanNanos() {
+         return _count == 0 ? 0.0 : (double)_totalNanos / _count;
+      }
+
+      /** Returns the sum of the durations recorded, in nanoseconds. */
+      public long getTotalNanos() { return _totalNanos; }
+
+      /**
+       * Returns the duration that the given percentage of the recorded durations do not exceed,
+       * rounded up to the limit of its bucket.
+       *
+       * @param percentile the percentage, from 0 to 100
+       * @return the duration in nanoseconds, or 0 if none was recorded
+       */
+      public long getValueAtPercentile( double percentile ) {
+         long total = 0;
+         for ( long bucket : _buckets ) {
+            total += bucket;
+         }
+         if ( total == 0 ) {
+            return 0L;
+         }
+         long rank = Math.max(1L, (long)Math.ceil(Math.min(Math.max(percentile, 0.0), 100.0) / 100.0 * total));
+         long counted = 0;
+         for ( int i = 0; i < _buckets.length; i++ ) {
+            counted += _buckets[i];
+            if ( counted >= rank ) {
+               // the last bucket also counts the durations beyond its limit
+               return i == _buckets.length - 1 ? _maxNanos : Math.min(getBucketLimit(i), _maxNanos);
+            }
+         }
+         return _maxNanos;
+      }
+
+      @Override
+      public String toString() {
+         return "count=" + _count + ", mean=" + (long)getMeanNanos() + "ns, p50=" + getValueAtPercentile(50) + "ns, p99=" + getValueAtPercentile(99) + "ns, max="
+               + _maxNanos + "ns";
+      }
+   }
+}
@@ -0,0 +1,47 @@
+package org.stripesframework.web.metrics;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.config.Configuration;
+import org.stripesframework.web.controller.LifecycleStage;
+
+
+/**
+ * The {@link RequestMetrics} used unless another implementation is configured. It is disabled,
+ * so that Stripes does not measure anything, and ignores whatever it is handed.
+ */
+public class NoOpRequestMetrics implements RequestMetrics {
+
+   /** An instance for configurations that do not initialize one, which is possible as it is stateless. */
+   public static final NoOpRequestMetrics INSTANCE = new NoOpRequestMetrics();
+
+   @Override
+   public RequestMetricsSnapshot getSnapshot() {
+      return RequestMetricsSnapshot.EMPTY;
+   }
+
+   @Override
+   public void init( Configuration configuration ) {
+   }
+
+   @Override
+   public boolean isEnabled() {
+      return false;
+   }
+
+   @Override
+   public void recordBinding( Class<? extends ActionBean> beanType, String event, int boundParameters, int conversionFailures ) {
+   }
+
+   @Override
+   public void recordResolution( Class<? extends ActionBean> beanType, String event, Class<? extends Resolution> resolutionType ) {
+   }
+
+   @Override
+   public void recordStage( Class<? extends ActionBean> beanType, String event, LifecycleStage stage, long nanos ) {
+   }
+
+   @Override
+   public void recordValidationErrors( Class<? extends ActionBean> beanType, String event, int errors ) {
+   }
+}
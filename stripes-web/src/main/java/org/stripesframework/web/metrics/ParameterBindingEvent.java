@@ -0,0 +1,37 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted by the {@link org.stripesframework.web.controller.DefaultActionBeanPropertyBinder} for
+ * each request parameter it validates, converts and binds to a property of an ActionBean.
+ */
+@Name("org.stripesframework.ParameterBinding")
+@Label("Parameter Binding")
+@Category("Stripes")
+public final class ParameterBindingEvent extends Event {
+
+   /** The class of the ActionBean. */
+   @Label("ActionBean")
+   public Class<?> beanType;
+
+   /** The name of the request parameter. */
+   @Label("Parameter")
+   public String parameter;
+
+   /** The type of the property bound to. */
+   @Label("Property Type")
+   public Class<?> propertyType;
+
+   /** The number of values of the parameter. */
+   @Label("Values")
+   public int values;
+
+   /** The number of validation and conversion errors. */
+   @Label("Errors")
+   public int errors;
+}
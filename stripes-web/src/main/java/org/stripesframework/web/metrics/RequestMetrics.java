@@ -0,0 +1,83 @@
+package org.stripesframework.web.metrics;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.config.ConfigurableComponent;
+import org.stripesframework.web.controller.LifecycleStage;
+
+
+/**
+ * <p>Records where Stripes spends its time and what it does per ActionBean and event: the
+ * duration of each {@link LifecycleStage}, the number of parameters bound, conversion failures,
+ * validation errors and the types of the resolutions executed. Implementations can keep the
+ * values themselves, like {@link InMemoryRequestMetrics}, or pass them on to a monitoring
+ * system.</p>
+ *
+ * <p>The methods are called on the request threads, concurrently, and must return quickly. The
+ * ActionBean class is null for requests that did not resolve to an ActionBean, and the event is
+ * null for requests without an event handler, e.g. when ActionBean resolution failed.</p>
+ *
+ * <p>The durations of the stages are recorded when the request completes, since the ActionBean
+ * and the event are not known at the first stages. The duration of a stage includes its
+ * interceptors. For an event handler that completes asynchronously, EventHandling only covers
+ * the call of the handler.</p>
+ *
+ * <p>The implementation in use is configured with the {@code RequestMetrics.Class} property; by
+ * default nothing is recorded.</p>
+ *
+ * <p>Independently of the RequestMetrics, Stripes emits JDK Flight Recorder events in the
+ * category "Stripes" for the operations within the stages, e.g.
+ * {@link UrlBindingResolutionEvent} and {@link ParameterBindingEvent}. They cost next to nothing
+ * unless a recording enables them, so that they can be recorded continuously in production.</p>
+ */
+public interface RequestMetrics extends ConfigurableComponent {
+
+   /** Returns a copy of the metrics recorded so far, or an empty snapshot if they are not kept. */
+   RequestMetricsSnapshot getSnapshot();
+
+   /**
+    * Returns false if the metrics are not recorded at all, so that Stripes does not measure
+    * them. All other methods may still be called.
+    */
+   boolean isEnabled();
+
+   /**
+    * Records the binding of the request parameters to an ActionBean.
+    *
+    * @param beanType the class of the ActionBean
+    * @param event the name of the event, or null
+    * @param boundParameters the number of parameters bound to properties of the bean
+    * @param conversionFailures the number of parameters that could not be converted to the type
+    *        of their property
+    */
+   void recordBinding( Class<? extends ActionBean> beanType, String event, int boundParameters, int conversionFailures );
+
+   /**
+    * Records the resolution executed for a request.
+    *
+    * @param beanType the class of the ActionBean, or null
+    * @param event the name of the event, or null
+    * @param resolutionType the class of the resolution
+    */
+   void recordResolution( Class<? extends ActionBean> beanType, String event, Class<? extends Resolution> resolutionType );
+
+   /**
+    * Records the duration of a lifecycle stage of a request, including its interceptors.
+    *
+    * @param beanType the class of the ActionBean, or null
+    * @param event the name of the event, or null
+    * @param stage the lifecycle stage
+    * @param nanos the duration in nanoseconds
+    */
+   void recordStage( Class<? extends ActionBean> beanType, String event, LifecycleStage stage, long nanos );
+
+   /**
+    * Records the number of validation errors of a request, which is called for every request to
+    * an ActionBean, including those without errors.
+    *
+    * @param beanType the class of the ActionBean
+    * @param event the name of the event, or null
+    * @param errors the number of validation errors, field errors and global errors together
+    */
+   void recordValidationErrors( Class<? extends ActionBean> beanType, String event, int errors );
+}
@@ -0,0 +1,108 @@
+package org.stripesframework.web.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.controller.LifecycleStage;
+
+
+/**
+ * The metrics recorded by a {@link RequestMetrics} at one point in time, by ActionBean class and
+ * event. It only holds plain values, so that it can be handed to any monitoring system.
+ */
+public final class RequestMetricsSnapshot {
+
+   /** The snapshot without metrics. */
+   public static final RequestMetricsSnapshot EMPTY = new RequestMetricsSnapshot(Collections.emptyList());
+
+   private final List<EventMetrics> _events;
+
+   public RequestMetricsSnapshot( List<EventMetrics> events ) {
+      _events = Collections.unmodifiableList(events);
+   }
+
+   /**
+    * Returns the metrics of an event of an ActionBean class.
+    *
+    * @param beanType the class of the ActionBean, or null for requests without one
+    * @param event the name of the event, or null for requests without one
+    * @return the metrics, or null if nothing was recorded for the event
+    */
+   public EventMetrics getEvent( Class<? extends ActionBean> beanType, String event ) {
+      for ( EventMetrics metrics : _events ) {
+         if ( metrics.getBeanType() == beanType && Objects.equals(metrics.getEvent(), event) ) {
+            return metrics;
+         }
+      }
+      return null;
+   }
+
+   /** Returns the metrics of all events that something was recorded for. */
+   public List<EventMetrics> getEvents() {
+      return _events;
+   }
+
+   @Override
+   public String toString() {
+      return _events.toString();
+   }
+
+
+   /** The metrics of one event of an ActionBean class. */
+   public static final class EventMetrics {
+
+      private final Class<? extends ActionBean>                    _beanType;
+      private final String                                         _event;
+      private final Map<LifecycleStage, LatencyHistogram.Snapshot> _stages;
+      private final long                                           _boundParameters;
+      private final long                                           _conversionFailures;
+      private final long                                           _validationErrors;
+      private final Map<Class<? extends Resolution>, Long>         _resolutions;
+
+      public EventMetrics( Class<? extends ActionBean> beanType, String event, Map<LifecycleStage, LatencyHistogram.Snapshot> stages, long boundParameters,
+            long conversionFailures, long validationErrors, Map<Class<? extends Resolution>, Long> resolutions ) {
+         _beanType = beanType;
+         _event = event;
+         _stages = Collections.unmodifiableMap(stages);
+         _boundParameters = boundParameters;
+         _conversionFailures = conversionFailures;
+         _validationErrors = validationErrors;
+         _resolutions = Collections.unmodifiableMap(resolutions);
+      }
+
+      /** Returns the class of the ActionBean, or null for requests that did not resolve to one. */
+      public Class<? extends ActionBean> getBeanType() { return _beanType; }
+
+      /** Returns the total number of request parameters bound. */
+      public long getBoundParameters() { return _boundParameters; }
+
+      /** Returns the total number of request parameters that could not be converted. */
+      public long getConversionFailures() { return _conversionFailures; }
+
+      /** Returns the name of the event, or null for requests without one. */
+      public String getEvent() { return _event; }
+
+      /** Returns the number of times each type of resolution was executed. */
+      public Map<Class<? extends Resolution>, Long> getResolutions() { return _resolutions; }
+
+      /** Returns the durations of a lifecycle stage, or null if the stage was not recorded. */
+      public LatencyHistogram.Snapshot getStage( LifecycleStage stage ) {
+         return _stages.get(stage);
+      }
+
+      /** Returns the durations of the lifecycle stages that were recorded. */
+      public Map<LifecycleStage, LatencyHistogram.Snapshot> getStages() { return _stages; }
+
+      /** Returns the total number of validation errors. */
+      public long getValidationErrors() { return _validationErrors; }
+
+      @Override
+      public String toString() {
+         return (_beanType == null ? "-" : _beanType.getName()) + "." + (_event == null ? "-" : _event) + _stages;
+      }
+   }
+}
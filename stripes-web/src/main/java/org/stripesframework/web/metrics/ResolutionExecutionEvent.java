@@ -0,0 +1,25 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted for each {@link org.stripesframework.web.action.Resolution} executed to complete a
+ * request, e.g. for forwarding to a JSP and rendering it.
+ */
+@Name("org.stripesframework.ResolutionExecution")
+@Label("Resolution Execution")
+@Category("Stripes")
+public final class ResolutionExecutionEvent extends Event {
+
+   /** The class of the ActionBean, or null. */
+   @Label("ActionBean")
+   public Class<?> beanType;
+
+   /** The class of the resolution. */
+   @Label("Resolution")
+   public Class<?> resolutionType;
+}
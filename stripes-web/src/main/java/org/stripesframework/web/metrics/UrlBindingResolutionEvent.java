@@ -0,0 +1,25 @@
+package org.stripesframework.web.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Emitted by the {@link org.stripesframework.web.controller.UrlBindingFactory} for each lookup of
+ * the URL binding a requested path matches.
+ */
+@Name("org.stripesframework.UrlBindingResolution")
+@Label("URL Binding Resolution")
+@Category("Stripes")
+public final class UrlBindingResolutionEvent extends Event {
+
+   /** The path looked up. */
+   @Label("Path")
+   public String path;
+
+   /** The class of the ActionBean bound to the path, or null if none is. */
+   @Label("ActionBean")
+   public Class<?> beanType;
+}
@@ -0,0 +1,247 @@
+package org.stripesframework.web.util;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * <p>
+ * A concurrent cache holding at most a fixed number of entries, intended for caches whose keys are
+ * derived from request data, such as parameter names, which must not grow without bound.
+ * </p>
+ * <p>
+ * Eviction follows a segmented LRU policy: new entries are admitted to a probationary segment and
+ * are promoted to the protected segment, which holds up to 80% of the capacity, once they are read
+ * again. Entries that are used only once therefore never displace frequently used ones. Recency is
+ * approximated with a reference bit per entry (CLOCK), so reads never take a lock; only inserting
+ * an entry synchronizes with other writers.
+ * </p>
+ * <p>
+ * Hits, misses and evictions are counted and can be read through {@link #getStats()}.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class BoundedCache<K, V> {
+
+   private final int                     _capacity;
+   private final int                     _protectedCapacity;
+   private final Map<K, Entry<K, V>>     _entries;
+   private final ArrayDeque<Entry<K, V>> _probation         = new ArrayDeque<>();
+   private final ArrayDeque<Entry<K, V>> _protected         = new ArrayDeque<>();
+   private final Object                  _lock              = new Object();
+   private final LongAdder               _hits              = new LongAdder();
+   private final LongAdder               _misses            = new LongAdder();
+   private final LongAdder               _evictions         = new LongAdder();
+
+   /**
+    * Creates an empty cache.
+    *
+    * @param capacity the maximum number of entries, at least 1
+    */
+   public BoundedCache( int capacity ) {
+      if ( capacity < 1 ) {
+         throw new IllegalArgumentException("The capacity of a cache must be at least 1, but was " + capacity);
+      }
+      _capacity = capacity;
+      _protectedCapacity = capacity - Math.max(1, capacity / 5);
+      _entries = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+   }
+
+   /** Removes all entries from the cache. The statistics are kept. */
+   public void clear() {
+      synchronized ( _lock ) {
+         _entries.clear();
+         _probation.clear();
+         _protected.clear();
+      }
+   }
+
+   /**
+    * Gets the value for the key, creating and caching it if it is not cached yet. Two threads
+    * missing the same key at the same time may both create a value, but only the first one is
+    * cached and returned to both.
+    *
+    * @param key the key
+    * @param mappingFunction creates the value for the key, must not return null
+    * @return the cached value
+    */
+   public V computeIfAbsent( K key, Function<? super K, ? extends V> mappingFunction ) {
+      V value = get(key);
+      if ( value == null ) {
+         value = putIfAbsent(key, mappingFunction.apply(key));
+      }
+      return value;
+   }
+
+   /**
+    * Gets the cached value for the key.
+    *
+    * @param key the key
+    * @return the value, or null if it is not cached
+    */
+   public V get( K key ) {
+      Entry<K, V> entry = _entries.get(key);
+      if ( entry == null ) {
+         _misses.increment();
+         return null;
+      }
+
+      _hits.increment();
+      if ( !entry._referenced ) {
+         entry._referenced = true;
+      }
+      return entry._value;
+   }
+
+   /** Returns the maximum number of entries. */
+   public int getCapacity() {
+      return _capacity;
+   }
+
+   /** Returns a snapshot of the statistics of this cache. */
+   public Stats getStats() {
+      return new Stats(_hits.sum(), _misses.sum(), _evictions.sum(), size(), _capacity);
+   }
+
+   /**
+    * Caches the value for the key unless a value is already cached, evicting an entry if the
+    * cache is full.
+    *
+    * @param key the key
+    * @param value the value, not null
+    * @return the value already cached for the key, or the given value
+    */
+   public V putIfAbsent( K key, V value ) {
+      Entry<K, V> entry = new Entry<>(key, value);
+      synchronized ( _lock ) {
+         Entry<K, V> existing = _entries.putIfAbsent(key, entry);
+         if ( existing != null ) {
+            return existing._value;
+         }
+
+         _probation.addLast(entry);
+         while ( _entries.size() > _capacity && evict() ) {
+            // evict until the cache is within its capacity
+         }
+      }
+      return value;
+   }
+
+   /** Returns the current number of entries. */
+   public int size() {
+      return _entries.size();
+   }
+
+   @Override
+   public String toString() {
+      return getClass().getSimpleName() + getStats();
+   }
+
+   /**
+    * Moves the least recently used protected entry to probation. Must be called holding the lock.
+    *
+    * @return false if the protected segment is empty, so there is nothing to demote
+    */
+   boolean demote() {
+      Entry<K, V> entry;
+      while ( (entry = _protected.pollFirst()) != null && entry._referenced ) {
+         entry._referenced = false;
+         _protected.addLast(entry);
+      }
+      if ( entry == null ) {
+         return false;
+      }
+      _probation.addLast(entry);
+      return true;
+   }
+
+   /**
+    * Evicts one entry. Referenced entries on probation are promoted instead of evicted, and the
+    * protected segment overflows back into probation, where its entries get another chance.
+    *
+    * @return false if both segments are empty, so there is nothing to evict
+    */
+   private boolean evict() {
+      while ( true ) {
+         Entry<K, V> entry = _probation.pollFirst();
+         if ( entry == null ) {
+            if ( !demote() ) {
+               return false;
+            }
+         } else if ( entry._referenced ) {
+            entry._referenced = false;
+            _protected.addLast(entry);
+            if ( _protected.size() > _protectedCapacity ) {
+               demote();
+            }
+         } else {
+            _entries.remove(entry._key, entry);
+            _evictions.increment();
+            return true;
+         }
+      }
+   }
+
+   /** A cached value and its reference bit. */
+   private static class Entry<K, V> {
+
+      private final    K       _key;
+      private final    V       _value;
+      private volatile boolean _referenced;
+
+      Entry( K key, V value ) {
+         _key = key;
+         _value = value;
+      }
+   }
+
+
+   /** An immutable snapshot of the statistics of a {@link BoundedCache}. */
+   public static class Stats {
+
+      private final long _hitCount;
+      private final long _missCount;
+      private final long _evictionCount;
+      private final int  _size;
+      private final int  _capacity;
+
+      public Stats( long hitCount, long missCount, long evictionCount, int size, int capacity ) {
+         _hitCount = hitCount;
+         _missCount = missCount;
+         _evictionCount = evictionCount;
+         _size = size;
+         _capacity = capacity;
+      }
+
+      /** Returns the maximum number of entries of the cache. */
+      public int getCapacity() { return _capacity; }
+
+      /** Returns the number of entries evicted to make room for new ones. */
+      public long getEvictionCount() { return _evictionCount; }
+
+      /** Returns the number of lookups that found a cached value. */
+      public long getHitCount() { return _hitCount; }
+
+      /** Returns the ratio of hits to lookups, or 1 if there were no lookups yet. */
+      public double getHitRate() {
+         long lookups = _hitCount + _missCount;
+         return lookups == 0 ? 1.0 : (double)_hitCount / lookups;
+      }
+
+      /** Returns the number of lookups that did not find a cached value. */
+      public long getMissCount() { return _missCount; }
+
+      /** Returns the number of entries of the cache. */
+      public int getSize() { return _size; }
+
+      @Override
+      public String toString() {
+         return "[size=" + _size + ", capacity=" + _capacity + ", hits=" + _hitCount + ", misses=" + _missCount + ", evictions=" + _evictionCount + "]";
+      }
+   }
+}
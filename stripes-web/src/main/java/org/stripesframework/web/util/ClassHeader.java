@@ -0,0 +1,240 @@
+package org.stripesframework.web.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * <p>The header of a class file: the name of the class, its superclass and interfaces, and the
+ * runtime-visible annotations of the class. {@link ResolverUtil} reads the headers of the classes
+ * it scans to decide which of them can match a search, so that it does not have to load the
+ * others.</p>
+ *
+ * <p>All names are binary names, as returned by {@link Class#getName()}.</p>
+ */
+class ClassHeader {
+
+   private static final int MAGIC = 0xCAFEBABE;
+
+   private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+   /**
+    * Parses the header of a class file. The stream is read to its end in one go, since reading
+    * the header field by field from an unbuffered stream, such as the entry of a jar, is far
+    * slower; it is not closed.
+    *
+    * @param in the content of the class file
+    * @param withAnnotations whether the annotations of the class are read; if false,
+    *        {@link #getAnnotationNames()} returns an empty set and parsing stops after the
+    *        interfaces
+    * @return the header
+    * @throws IOException if the stream cannot be read or does not contain a class file
+    */
+   static ClassHeader read( InputStream in, boolean withAnnotations ) throws IOException {
+      DataInputStream data = new DataInputStream(new ByteArrayInputStream(in.readAllBytes()));
+      if ( data.readInt() != MAGIC ) {
+         throw new IOException("Not a class file");
+      }
+      data.readUnsignedShort(); // minor version
+      data.readUnsignedShort(); // major version
+
+      // Keep the UTF-8 entries and the name indexes of the class entries, skip everything else
+      int constantCount = data.readUnsignedShort();
+      String[] utf8 = new String[constantCount];
+      int[] classNames = new int[constantCount];
+      for ( int i = 1; i < constantCount; i++ ) {
+         int tag = data.readUnsignedByte();
+         switch ( tag ) {
+         case 1: // Utf8
+            utf8[i] = data.readUTF();
+            break;
+         case 7: // Class
+            classNames[i] = data.readUnsignedShort();
+            break;
+         case 8: // String
+         case 16: // MethodType
+         case 19: // Module
+         case 20: // Package
+            skip(data, 2);
+            break;
+         case 15: // MethodHandle
+            skip(data, 3);
+            break;
+         case 3: // Integer
+         case 4: // Float
+         case 9: // Fieldref
+         case 10: // Methodref
+         case 11: // InterfaceMethodref
+         case 12: // NameAndType
+         case 17: // Dynamic
+         case 18: // InvokeDynamic
+            skip(data, 4);
+            break;
+         case 5: // Long
+         case 6: // Double
+            skip(data, 8);
+            i++; // takes two entries
+            break;
+         default:
+            throw new IOException("Unknown constant pool tag " + tag);
+         }
+      }
+
+      data.readUnsignedShort(); // access flags
+      String name = getClassName(utf8, classNames, data.readUnsignedShort());
+      String superName = getClassName(utf8, classNames, data.readUnsignedShort());
+      int interfaceCount = data.readUnsignedShort();
+      List<String> interfaceNames = new ArrayList<>(interfaceCount);
+      for ( int i = 0; i < interfaceCount; i++ ) {
+         interfaceNames.add(getClassName(utf8, classNames, data.readUnsignedShort()));
+      }
+
+      Set<String> annotationNames = Collections.emptySet();
+      if ( withAnnotations ) {
+         skipMembers(data); // fields
+         skipMembers(data); // methods
+         int attributeCount = data.readUnsignedShort();
+         for ( int i = 0; i < attributeCount; i++ ) {
+            String attributeName = utf8[data.readUnsignedShort()];
+            int length = data.readInt();
+            if ( RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName) ) {
+               annotationNames = readAnnotationNames(data, utf8);
+            } else {
+               skip(data, length);
+            }
+         }
+      }
+
+      return new ClassHeader(name, superName, interfaceNames, annotationNames);
+   }
+
+   /** Returns the binary name of the class entry at an index of the constant pool, or null for 0. */
+   private static String getClassName( String[] utf8, int[] classNames, int index ) throws IOException {
+      if ( index == 0 ) {
+         return null;
+      }
+      String name = utf8[classNames[index]];
+      if ( name == null ) {
+         throw new IOException("Invalid class reference " + index);
+      }
+      return name.replace('/', '.');
+   }
+
+   private static Set<String> readAnnotationNames( DataInputStream data, String[] utf8 ) throws IOException {
+      int annotationCount = data.readUnsignedShort();
+      Set<String> names = new HashSet<>();
+      for ( int i = 0; i < annotationCount; i++ ) {
+         String descriptor = utf8[data.readUnsignedShort()];
+         if ( descriptor != null && descriptor.startsWith("L") && descriptor.endsWith(";") ) {
+            names.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+         }
+         skipElementValuePairs(data);
+      }
+      return names;
+   }
+
+   private static void skip( DataInputStream data, int length ) throws IOException {
+      while ( length > 0 ) {
+         int skipped = data.skipBytes(length);
+         if ( skipped <= 0 ) {
+            // skipBytes returns 0 at the end of the stream as well as when it cannot skip
+            data.readByte();
+            skipped = 1;
+         }
+         length -= skipped;
+      }
+   }
+
+   private static void skipElementValue( DataInputStream data ) throws IOException {
+      int tag = data.readUnsignedByte();
+      switch ( tag ) {
+      case 'e': // enum constant
+         skip(data, 4);
+         break;
+      case '@': // nested annotation
+         skip(data, 2);
+         skipElementValuePairs(data);
+         break;
+      case '[': { // array
+         int valueCount = data.readUnsignedShort();
+         for ( int i = 0; i < valueCount; i++ ) {
+            skipElementValue(data);
+         }
+         break;
+      }
+      case 'B':
+      case 'C':
+      case 'D':
+      case 'F':
+      case 'I':
+      case 'J':
+      case 'S':
+      case 'Z':
+      case 's':
+      case 'c':
+         skip(data, 2);
+         break;
+      default:
+         throw new IOException("Unknown annotation element tag " + tag);
+      }
+   }
+
+   private static void skipElementValuePairs( DataInputStream data ) throws IOException {
+      int pairCount = data.readUnsignedShort();
+      for ( int i = 0; i < pairCount; i++ ) {
+         skip(data, 2); // element name
+         skipElementValue(data);
+      }
+   }
+
+   private static void skipMembers( DataInputStream data ) throws IOException {
+      int memberCount = data.readUnsignedShort();
+      for ( int i = 0; i < memberCount; i++ ) {
+         skip(data, 6); // access flags, name and descriptor
+         int attributeCount = data.readUnsignedShort();
+         for ( int j = 0; j < attributeCount; j++ ) {
+            skip(data, 2);
+            skip(data, data.readInt());
+         }
+      }
+   }
+
+   private final String       _name;
+   private final String       _superName;
+   private final List<String> _interfaceNames;
+   private final Set<String>  _annotationNames;
+
+   ClassHeader( String name, String superName, List<String> interfaceNames, Set<String> annotationNames ) {
+      _name = name;
+      _superName = superName;
+      _interfaceNames = interfaceNames;
+      _annotationNames = annotationNames;
+   }
+
+   /** Returns the names of the runtime-visible annotations of the class, if they were read. */
+   Set<String> getAnnotationNames() {
+      return _annotationNames;
+   }
+
+   /** Returns the names of the interfaces the class implements directly. */
+   List<String> getInterfaceNames() {
+      return _interfaceNames;
+   }
+
+   /** Returns the name of the class. */
+   String getName() {
+      return _name;
+   }
+
+   /** Returns the name of the superclass, or null for {@code java.lang.Object} and modules. */
+   String getSuperName() {
+      return _superName;
+   }
+}
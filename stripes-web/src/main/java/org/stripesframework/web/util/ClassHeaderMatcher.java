@@ -0,0 +1,123 @@
+package org.stripesframework.web.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Decides from the {@link ClassHeader}s of classes whether they can be assignable to a type, or
+ * annotated with an annotation, without loading them. The headers of supertypes outside the
+ * scanned packages are read from the class files found by the class loader. If the header of a
+ * class or one of its supertypes cannot be read, the class is considered a possible match, to be
+ * loaded and tested by {@link ResolverUtil}.
+ */
+class ClassHeaderMatcher {
+
+   private static final Log log = Log.getInstance(ClassHeaderMatcher.class);
+
+   /** Creates a matcher for classes that can be annotated with an annotation. */
+   static ClassHeaderMatcher annotatedWith( Class<? extends Annotation> annotation, ClassLoader classLoader ) {
+      return new ClassHeaderMatcher(annotation.getName(), true, annotation.isAnnotationPresent(Inherited.class), classLoader);
+   }
+
+   /** Creates a matcher for classes that can be assignable to a type. */
+   static ClassHeaderMatcher assignableTo( Class<?> type, ClassLoader classLoader ) {
+      return new ClassHeaderMatcher(type.getName(), false, false, classLoader);
+   }
+
+   private final String                   _typeName;
+   private final boolean                  _annotation;
+   private final boolean                  _inherited;
+   private final ClassLoader              _classLoader;
+   private final Map<String, ClassHeader> _headers = new HashMap<>();
+   /** TRUE, FALSE or null if unknown, by class name. */
+   private final Map<String, Boolean>     _matches = new HashMap<>();
+
+   private ClassHeaderMatcher( String typeName, boolean annotation, boolean inherited, ClassLoader classLoader ) {
+      _typeName = typeName;
+      _annotation = annotation;
+      _inherited = inherited;
+      _classLoader = classLoader;
+   }
+
+   /** Adds the header of a scanned class, so that it need not be read again as a supertype. */
+   void addHeader( ClassHeader header ) {
+      _headers.put(header.getName(), header);
+   }
+
+   /** Returns true if the annotations of the classes are needed to match them. */
+   boolean isAnnotationRead() {
+      return _annotation;
+   }
+
+   /** Returns false only if the class cannot match. */
+   boolean mayMatch( String className ) {
+      return !Boolean.FALSE.equals(matches(className));
+   }
+
+   private ClassHeader getHeader( String className ) {
+      ClassHeader header = _headers.get(className);
+      if ( header == null ) {
+         try (InputStream in = _classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if ( in != null ) {
+               header = ClassHeader.read(in, _annotation);
+               _headers.put(className, header);
+            }
+         }
+         catch ( IOException e ) {
+            log.debug("Could not read the class file of ", className, ": ", e.getMessage());
+         }
+      }
+      return header;
+   }
+
+   private Boolean matches( String className ) {
+      if ( !_annotation && className.equals(_typeName) ) {
+         return Boolean.TRUE;
+      }
+      // Classes of the Java runtime do not extend or carry types of applications
+      if ( className.startsWith("java.") && !_typeName.startsWith("java.") ) {
+         return Boolean.FALSE;
+      }
+      if ( _matches.containsKey(className) ) {
+         return _matches.get(className);
+      }
+
+      _matches.put(className, null); // unknown until decided
+      ClassHeader header = getHeader(className);
+      Boolean matches = null;
+      if ( header != null && _annotation ) {
+         if ( header.getAnnotationNames().contains(_typeName) ) {
+            matches = Boolean.TRUE;
+         } else if ( _inherited && header.getSuperName() != null ) {
+            matches = matches(header.getSuperName());
+         } else {
+            matches = Boolean.FALSE;
+         }
+      } else if ( header != null ) {
+         List<String> supertypeNames = new ArrayList<>(header.getInterfaceNames());
+         if ( header.getSuperName() != null ) {
+            supertypeNames.add(0, header.getSuperName());
+         }
+         matches = Boolean.FALSE;
+         for ( String supertypeName : supertypeNames ) {
+            Boolean supertypeMatches = matches(supertypeName);
+            if ( Boolean.TRUE.equals(supertypeMatches) ) {
+               matches = Boolean.TRUE;
+               break;
+            }
+            if ( supertypeMatches == null ) {
+               matches = null;
+            }
+         }
+      }
+      _matches.put(className, matches);
+      return matches;
+   }
+}
@@ -0,0 +1,133 @@
+package org.stripesframework.web.util;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * <p>An index of the classes in a single jar or class directory, written at compile time by the
+ * annotation processor of the {@code stripes-processor} module. For each class that extends or
+ * implements a Stripes type, or that is annotated with a Stripes annotation, the index lists those
+ * types and annotations. This allows {@link ResolverUtil} to find ActionBeans and extensions
+ * without listing and loading every class in the scanned packages.</p>
+ *
+ * <p>The index is stored at {@value #RESOURCE} in the root of the jar or class directory. It is a
+ * UTF-8 text file with one line per class: the binary name of the class, followed by the names of
+ * its Stripes supertypes and annotations, separated by spaces. Lines starting with {@code #} are
+ * comments. Only types in packages starting with {@value #INDEXED_PACKAGE} are indexed.</p>
+ */
+public class ClassIndex {
+
+   /** The path of the index within a jar or class directory. */
+   public static final String RESOURCE = "META-INF/stripes/class-index";
+
+   /** The prefix of the names of the supertypes and annotations that are indexed. */
+   public static final String INDEXED_PACKAGE = "org.stripesframework.";
+
+   private static final Log log = Log.getInstance(ClassIndex.class);
+
+   /**
+    * Indicates if the index can answer a query for the type, i.e. whether implementations of the
+    * type, or classes annotated with it, are recorded in the index.
+    *
+    * @param type a class, interface or annotation type
+    * @return true if the type is indexed
+    */
+   public static boolean isIndexed( Class<?> type ) {
+      return type.getName().startsWith(INDEXED_PACKAGE);
+   }
+
+   /**
+    * Loads the index of the jar or class directory that contains a package.
+    *
+    * @param location the URL of the package, as returned by {@link ClassLoader#getResources(String)}
+    * @param path the path of the package, e.g. {@code com/example/action}
+    * @return the index, or null if the jar or class directory contains none
+    * @throws IOException if the index exists but cannot be read
+    */
+   public static ClassIndex load( URL location, String path ) throws IOException {
+      URL url = getIndexUrl(location, path);
+      if ( url == null ) {
+         return null;
+      }
+
+      Map<String, List<String>> classes = new HashMap<>();
+      try {
+         URLConnection connection = url.openConnection();
+         connection.setUseCaches(false);
+         try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ( (line = reader.readLine()) != null ) {
+               line = line.trim();
+               if ( line.isEmpty() || line.startsWith("#") ) {
+                  continue;
+               }
+
+               String[] names = line.split("\\s+");
+               for ( int i = 1; i < names.length; i++ ) {
+                  classes.computeIfAbsent(names[i], n -> new ArrayList<>()).add(names[0]);
+               }
+            }
+         }
+      }
+      catch ( FileNotFoundException e ) {
+         return null;
+      }
+
+      log.debug("Loaded class index ", url);
+      return new ClassIndex(classes);
+   }
+
+   /**
+    * Derives the URL of the index from the URL of a package in the same jar or class directory.
+    * Returns null if the URL of the package does not end with its path.
+    */
+   private static URL getIndexUrl( URL location, String path ) throws MalformedURLException {
+      String url = location.toExternalForm();
+      if ( url.endsWith("/") ) {
+         url = url.substring(0, url.length() - 1);
+      }
+      if ( !url.endsWith(path) ) {
+         return null;
+      }
+      return new URL(url.substring(0, url.length() - path.length()) + RESOURCE);
+   }
+
+   /** The names of the indexed classes by the names of their Stripes supertypes and annotations. */
+   private final Map<String, List<String>> _classes;
+
+   private ClassIndex( Map<String, List<String>> classes ) {
+      _classes = classes;
+   }
+
+   /**
+    * Returns the names of the indexed classes that extend, implement or are annotated with a
+    * type, and are in a package or its subpackages.
+    *
+    * @param type the name of a type for which {@link #isIndexed(Class)} is true
+    * @param packageName the name of the package
+    * @return the binary names of the classes, possibly empty
+    */
+   public List<String> getClassNames( String type, String packageName ) {
+      List<String> names = _classes.getOrDefault(type, Collections.emptyList());
+      String prefix = packageName + ".";
+      List<String> matches = new ArrayList<>(names.size());
+      for ( String name : names ) {
+         if ( name.startsWith(prefix) ) {
+            matches.add(name);
+         }
+      }
+      return matches;
+   }
+}
@@ -14,8 +14,14 @@
  */
 package org.stripesframework.web.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -24,16 +30,19 @@ import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.DESedeKeySpec;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 import org.stripesframework.web.config.Configuration;
 import org.stripesframework.web.controller.StripesFilter;
 import org.stripesframework.web.exception.StripesRuntimeException;
+import org.stripesframework.web.metrics.CryptoEvent;
 
 
 /**
  * <p>Cryptographic utility that can encrypt and decrypt Strings using a key stored in
- * HttpSession.  Strings are encrypted by default using a 168bit DEDede (triple DES) key
+ * HttpSession.  Strings are encrypted by default using a 256bit AES key in GCM mode
  * and then Base 64 encoded in a way that is compatible with being inserte into web pages.</p>
  *
  * <p>A single encryption key is used to encrypt values for all sessions in the web application.
@@ -48,14 +57,29 @@ import org.stripesframework.web.exception.StripesRuntimeException;
  *
  * <p>Finally a key can be specified by calling {@link #setSecretKey(javax.crypto.SecretKey)} and
  * providing your own {@link SecretKey} instance. This method allows the specification of any
- * key from any source.  In addition the provided key can be for any algorithm supported by
- * the JVM in which it is constructed.  CryptoUtil will then use the algorithm returned by
- * {@link javax.crypto.SecretKey#getAlgorithm()}.  If using this method, the key should be set
- * before any requests are made, e.g. in a {@link javax.servlet.ServletContextListener}.</p>
+ * key from any source.  AES keys are used with GCM, keys for any other algorithm supported by
+ * the JVM are used with the legacy scheme described below.  CryptoUtil will then use the
+ * algorithm returned by {@link javax.crypto.SecretKey#getAlgorithm()}.  If using this method,
+ * the key should be set before any requests are made, e.g. in a
+ * {@link javax.servlet.ServletContextListener}.</p>
  *
  * <p>Stripes originally performed a broken authentication scheme. It was rewritten in STS-934
  * to perform the Encrypt-then-Mac pattern. Also the encryption mode was changed from ECB to CBC.</p>
  *
+ * <p>Values are now encrypted with AES-GCM, which authenticates the ciphertext itself. The
+ * encrypted bytes start with a version byte, followed by the nonce and the ciphertext including
+ * the authentication tag. Values encrypted with the legacy scheme, DESede in CBC mode followed by
+ * an HMAC, are still decrypted with a DESede key derived from the same key material, so values
+ * that were rendered before an upgrade remain valid. Once those values have expired, set the
+ * configuration parameter <code>Stripes.LegacyDecryption</code> to false to reject values that
+ * are not encrypted with AES-GCM, including those encrypted with a legacy key passed to
+ * {@link #setSecretKey(SecretKey, SecretKey)}.</p>
+ *
+ * <p>Creating Cipher and Mac instances is expensive, so they are kept in pools, borrowed by one
+ * thread at a time and only reinitialized for each value. Unlike instances kept per thread,
+ * pooled instances are reused when every request runs on a new virtual thread. Initialization
+ * vectors and nonces are drawn from a single shared SecureRandom.</p>
+ *
  * @author Tim Fennell
  * @since Stripes 1.2
  * @see https://en.wikipedia.org/wiki/Authenticated_encryption
@@ -64,24 +88,57 @@ public class CryptoUtil {
 
    private static final Log log = Log.getInstance(CryptoUtil.class);
 
-   /** The algorithm that is used to encrypt values. */
+   /** The algorithm that is used to encrypt values with the legacy scheme. */
    protected static final String ALGORITHM             = "DESede";
    protected static final String CIPHER_MODE_MODIFIER  = "/CBC/PKCS5Padding";
    protected static final int    CIPHER_BLOCK_LENGTH   = 8;
    private static final   String CIPHER_HMAC_ALGORITHM = "HmacSHA256";
    private static final   int    CIPHER_HMAC_LENGTH    = 32;
 
+   /** The algorithm that is used to encrypt values with AES-GCM. */
+   protected static final String GCM_ALGORITHM      = "AES";
+   private static final   String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+   private static final   int    GCM_NONCE_LENGTH   = 12;
+   private static final   int    GCM_TAG_LENGTH     = 16;
+
+   /** The first byte of values encrypted with AES-GCM. */
+   private static final byte VERSION_GCM = 1;
+
    /** Key used to look up the location of a secret key. */
    public static final String CONFIG_ENCRYPTION_KEY = "Stripes.EncryptionKey";
 
+   /**
+    * Key used to look up whether values encrypted with the legacy scheme are still decrypted while
+    * values are encrypted with AES-GCM. Defaults to true.
+    */
+   public static final String CONFIG_LEGACY_DECRYPTION = "Stripes.LegacyDecryption";
+
    /** Minimum number of bytes to raise the key material to before generating a key. */
    private static final int MIN_KEY_BYTES = 128;
 
    /** The options used for Base64 Encoding. */
    private static final int BASE64_OPTIONS = Base64.URL_SAFE | Base64.DONT_BREAK_LINES;
 
-   /** Secret key to be used o encrypt and decrypt values. */
-   private static SecretKey secretKey;
+   /** Generates initialization vectors, nonces and key material. SecureRandom is thread safe. */
+   private static final SecureRandom random = new SecureRandom();
+
+   /** The AES-GCM Ciphers, borrowed by one thread at a time. */
+   private static final InstancePool<Cipher> gcmCiphers = new InstancePool<>(() -> newCipher(GCM_TRANSFORMATION));
+
+   /** The legacy scheme Ciphers by transformation, borrowed by one thread at a time. */
+   private static final Map<String, InstancePool<Cipher>> legacyCiphers = new ConcurrentHashMap<>();
+
+   /** The HMACs, borrowed by one thread at a time. */
+   private static final InstancePool<Mac> macs = new InstancePool<>(CryptoUtil::newMac);
+
+   /** Secret keys to be used to encrypt and decrypt values. */
+   private static volatile Keys keys;
+
+   /**
+    * Guards setting and generating the keys. A lock rather than a monitor, since generating
+    * the keys may block on the entropy source, which would pin a virtual thread to its carrier.
+    */
+   private static final Lock keysLock = new ReentrantLock();
 
    /**
     * Takes in a base64 encoded and encrypted String that was generated by a call to
@@ -102,73 +159,19 @@ public class CryptoUtil {
          return input;
       }
 
-      // First un-base64 the String
-      byte[] bytes = Base64.decode(input, BASE64_OPTIONS);
-      if ( bytes == null || bytes.length < 1 ) {
-         log.warn("Input is not Base64 encoded: ", input);
-         return null;
-      }
+      CryptoEvent event = new CryptoEvent();
+      event.begin();
 
-      if ( bytes.length < CIPHER_BLOCK_LENGTH * 2 + CIPHER_HMAC_LENGTH ) {
-         log.warn("Input is too short: ", input);
-         return null;
-      }
-
-      SecretKey key = getSecretKey();
+      String output = decryptInput(input);
 
-      /*
-       * HMAC: validate ciphertext integrity.
-       * invalid hmac = choosen ciphertext attack against system.
-       *
-       * Encrypt-then-Mac (EtM) pattern, HMAC must be validated before the dangerous decrypt operation.
-       *
-       */
-
-      byte[] mac = new byte[CIPHER_HMAC_LENGTH];
-      try {
-         hmac(key, bytes, 0, bytes.length - CIPHER_HMAC_LENGTH, mac, 0);
-      }
-      catch ( Exception e1 ) {
-         log.warn("Unexpected error performing hmac on: ", input);
-         return null;
-      }
-
-      boolean validCiphertext;
-      try {
-         validCiphertext = hmacEquals(key, bytes, bytes.length - CIPHER_HMAC_LENGTH, mac, 0);
-      }
-      catch ( Exception e1 ) {
-         log.warn("Unexpected error validating hmac of: ", input);
-         return null;
-      }
-      if ( !validCiphertext ) {
-         log.warn("Input was not encrypted with the current encryption key (bad HMAC): ", input);
-         return null;
+      event.end();
+      if ( event.shouldCommit() ) {
+         event.operation = "decrypt";
+         event.length = input.length();
+         event.succeeded = output != null;
+         event.commit();
       }
-
-      /*
-       * Encrypt-then-Mac pattern;
-       * If validation success, ciphertext is assumed to be friendly and safe to process.
-       * Padding attacks, wrong blocklength etc is not expected from this point.
-       *
-       */
-
-      // Then fetch a cipher and decrypt the bytes
-      Cipher cipher = getCipher(key, Cipher.DECRYPT_MODE, bytes, 0, CIPHER_BLOCK_LENGTH);
-      byte[] output;
-      try {
-         output = cipher.doFinal(bytes, CIPHER_BLOCK_LENGTH, bytes.length - CIPHER_HMAC_LENGTH - CIPHER_BLOCK_LENGTH);
-      }
-      catch ( IllegalBlockSizeException e ) {
-         log.warn("Unexpected IllegalBlockSizeException on: ", input);
-         return null;
-      }
-      catch ( BadPaddingException e ) {
-         log.warn("Unexpected BadPaddingException on: ", input);
-         return null;
-      }
-
-      return new String(output);
+      return output;
    }
 
    /**
@@ -191,38 +194,29 @@ public class CryptoUtil {
          return input;
       }
 
-      try {
-         byte[] inbytes = input.getBytes();
-         final int inputLength = inbytes.length;
-         byte[] output = new byte[calculateCipherbytes(inputLength) + CIPHER_HMAC_LENGTH];
+      CryptoEvent event = new CryptoEvent();
+      event.begin();
 
-         //key required by cipher and hmac
+      String encoded;
+      try {
          SecretKey key = getSecretKey();
-
-         /*
-          * Generate an initialization vector required by block cipher modes
-          */
-         byte[] iv = generateInitializationVector();
-         System.arraycopy(iv, 0, output, 0, CIPHER_BLOCK_LENGTH);
-
-         /*
-          * Encrypt-then-Mac (EtM) pattern, first encrypt plaintext
-          */
-
-         Cipher cipher = getCipher(key, Cipher.ENCRYPT_MODE, iv, 0, CIPHER_BLOCK_LENGTH);
-         cipher.doFinal(inbytes, 0, inbytes.length, output, CIPHER_BLOCK_LENGTH);
-
-         /*
-          * Encrypt-then-Mac (EtM) pattern, authenticate ciphertext
-          */
-         hmac(key, output, 0, output.length - CIPHER_HMAC_LENGTH, output, output.length - CIPHER_HMAC_LENGTH);
+         byte[] output = isGcmKey(key) ? encryptGcm(key, input) : encryptLegacy(key, input);
 
          // Then base64 encode the bytes
-         return Base64.encodeBytes(output, BASE64_OPTIONS);
+         encoded = Base64.encodeBytes(output, BASE64_OPTIONS);
       }
       catch ( Exception e ) {
          throw new StripesRuntimeException("Could not encrypt value.", e);
       }
+
+      event.end();
+      if ( event.shouldCommit() ) {
+         event.operation = "encrypt";
+         event.length = input.length();
+         event.succeeded = true;
+         event.commit();
+      }
+      return encoded;
    }
 
    /**
@@ -234,12 +228,35 @@ public class CryptoUtil {
     *
     * @param key the secret key to be used to encrypt and decrypt values going forward
     */
-   public static synchronized void setSecretKey( SecretKey key ) {
-      CryptoUtil.secretKey = key;
+   public static void setSecretKey( SecretKey key ) {
+      setSecretKey(key, isGcmKey(key) ? null : key);
    }
 
    /**
-    * Generates a cipher based on a key and an initialization vector
+    * Sets the secret key that will be used by the CryptoUtil to perform encryption and decryption,
+    * and the key that decrypts values encrypted with the legacy scheme. Allows to switch from a
+    * key for the legacy scheme to an AES key while values encrypted with the old key are still
+    * in use.
+    *
+    * @param key the secret key to be used to encrypt and decrypt values going forward
+    * @param legacyKey the secret key to decrypt values encrypted with the legacy scheme, or null
+    *        if such values are rejected
+    */
+   public static void setSecretKey( SecretKey key, SecretKey legacyKey ) {
+      keysLock.lock();
+      try {
+         CryptoUtil.keys = key == null ? null : new Keys(key, legacyKey);
+      }
+      finally {
+         keysLock.unlock();
+      }
+   }
+
+   /**
+    * Initializes the cipher of the legacy scheme for a key and an initialization vector. The
+    * cipher is borrowed from a pool, and is used by the calling thread only. CryptoUtil returns it
+    * to the pool once it is done with it; a cipher that is not returned is not reused.
+    *
     * @param key the crypto key
     * @param mode Cipher.ENCRYPT_MODE or Cipher.DECRYPT_MODE
     * @param iv the initialization vector
@@ -251,8 +268,8 @@ public class CryptoUtil {
     */
    protected static Cipher getCipher( SecretKey key, int mode, byte[] iv, int ivpos, int ivlength ) {
       try {
-         // Then build a cipher for the correct mode
-         Cipher cipher = Cipher.getInstance(key.getAlgorithm() + CIPHER_MODE_MODIFIER);
+         // Then build a cipher for the correct mode, unless the pool has one
+         Cipher cipher = getLegacyCiphers(key.getAlgorithm() + CIPHER_MODE_MODIFIER).borrow();
          IvParameterSpec ivps = new IvParameterSpec(iv, ivpos, ivlength);
          cipher.init(mode, key, ivps);
          return cipher;
@@ -295,39 +312,32 @@ public class CryptoUtil {
     *
     * @return SecretKey the secret key used to encrypt and decrypt values
     */
-   protected static synchronized SecretKey getSecretKey() {
+   protected static SecretKey getSecretKey() {
+      return getKeys()._key;
+   }
+
+   /**
+    * Indicates if values encrypted with the legacy scheme are decrypted while values are encrypted
+    * with AES-GCM, which is the case unless {@value #CONFIG_LEGACY_DECRYPTION} is false. If it is
+    * not, no legacy key is generated from the key material either.
+    *
+    * @return false if only values encrypted with AES-GCM are accepted
+    */
+   protected static boolean isLegacyDecryptionEnabled() {
       try {
-         if ( CryptoUtil.secretKey == null ) {
-            // Check to see if a key location was specified in config
-            byte[] material = getKeyMaterialFromConfig();
-
-            // If there wasn't a key string in config, make one
-            if ( material == null ) {
-               material = new byte[MIN_KEY_BYTES];
-               new SecureRandom().nextBytes(material);
-            }
-            // Hash the key string given in config
-            else {
-               MessageDigest digest = MessageDigest.getInstance("SHA1");
-               int length = digest.getDigestLength();
-               byte[] hashed = new byte[MIN_KEY_BYTES];
-               for ( int i = 0; i < hashed.length; i += length ) {
-                  material = digest.digest(material);
-                  System.arraycopy(material, 0, hashed, i, Math.min(length, MIN_KEY_BYTES - i));
-               }
-               material = hashed;
+         Configuration config = StripesFilter.getConfiguration();
+         if ( config != null ) {
+            String enabled = config.getBootstrapPropertyResolver().getProperty(CONFIG_LEGACY_DECRYPTION);
+            if ( enabled != null ) {
+               return !"false".equalsIgnoreCase(enabled.trim());
             }
-
-            // Now manufacture the actual Secret Key instance
-            SecretKeyFactory factory = SecretKeyFactory.getInstance(CryptoUtil.ALGORITHM);
-            CryptoUtil.secretKey = factory.generateSecret(new DESedeKeySpec(material));
          }
       }
       catch ( Exception e ) {
-         throw new StripesRuntimeException("Could not generate a secret key.", e);
+         log.warn("Could not load the legacy decryption setting from configuration.", e);
       }
 
-      return CryptoUtil.secretKey;
+      return true;
    }
 
    /**
@@ -341,6 +351,191 @@ public class CryptoUtil {
       return blocks * CIPHER_BLOCK_LENGTH;
    }
 
+   /**
+    * Decrypts a value encrypted with AES-GCM.
+    *
+    * @return the decrypted String, or null if the value was not encrypted with the key
+    */
+   private static String decryptGcm( SecretKey key, byte[] bytes ) {
+      if ( bytes.length < 1 + GCM_NONCE_LENGTH + GCM_TAG_LENGTH ) {
+         return null;
+      }
+
+      try {
+         // The tag authenticates the version byte along with the ciphertext
+         Cipher cipher = gcmCiphers.borrow();
+         try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH * 8, bytes, 1, GCM_NONCE_LENGTH));
+            cipher.updateAAD(bytes, 0, 1);
+            byte[] output = cipher.doFinal(bytes, 1 + GCM_NONCE_LENGTH, bytes.length - 1 - GCM_NONCE_LENGTH);
+            return new String(output, StandardCharsets.UTF_8);
+         }
+         finally {
+            gcmCiphers.release(cipher);
+         }
+      }
+      catch ( GeneralSecurityException e ) {
+         return null;
+      }
+   }
+
+   /** Decodes and decrypts a value, see {@link #decrypt(String)}. */
+   private static String decryptInput( String input ) {
+      // First un-base64 the String
+      byte[] bytes = Base64.decode(input, BASE64_OPTIONS);
+      if ( bytes == null || bytes.length < 1 ) {
+         log.warn("Input is not Base64 encoded: ", input);
+         return null;
+      }
+
+      Keys keys = getKeys();
+
+      // A legacy value starts with a random IV, so it may look like a versioned one by chance
+      if ( bytes[0] == VERSION_GCM && isGcmKey(keys._key) ) {
+         String output = decryptGcm(keys._key, bytes);
+         if ( output != null ) {
+            return output;
+         }
+      }
+
+      if ( keys._legacyKey == null || (isGcmKey(keys._key) && !isLegacyDecryptionEnabled()) ) {
+         log.warn("Input was not encrypted with the current encryption key: ", input);
+         return null;
+      }
+      return decryptLegacy(keys._legacyKey, bytes, input);
+   }
+
+   /**
+    * Decrypts a value encrypted with the legacy scheme, validating its HMAC first.
+    *
+    * @return the decrypted String, or null if the value was not encrypted with the key
+    */
+   private static String decryptLegacy( SecretKey key, byte[] bytes, String input ) {
+      if ( bytes.length < CIPHER_BLOCK_LENGTH * 2 + CIPHER_HMAC_LENGTH ) {
+         log.warn("Input is too short: ", input);
+         return null;
+      }
+
+      /*
+       * HMAC: validate ciphertext integrity.
+       * invalid hmac = choosen ciphertext attack against system.
+       *
+       * Encrypt-then-Mac (EtM) pattern, HMAC must be validated before the dangerous decrypt operation.
+       *
+       */
+
+      byte[] mac = new byte[CIPHER_HMAC_LENGTH];
+      try {
+         hmac(key, bytes, 0, bytes.length - CIPHER_HMAC_LENGTH, mac, 0);
+      }
+      catch ( Exception e1 ) {
+         log.warn("Unexpected error performing hmac on: ", input);
+         return null;
+      }
+
+      boolean validCiphertext;
+      try {
+         validCiphertext = hmacEquals(key, bytes, bytes.length - CIPHER_HMAC_LENGTH, mac, 0);
+      }
+      catch ( Exception e1 ) {
+         log.warn("Unexpected error validating hmac of: ", input);
+         return null;
+      }
+      if ( !validCiphertext ) {
+         log.warn("Input was not encrypted with the current encryption key (bad HMAC): ", input);
+         return null;
+      }
+
+      /*
+       * Encrypt-then-Mac pattern;
+       * If validation success, ciphertext is assumed to be friendly and safe to process.
+       * Padding attacks, wrong blocklength etc is not expected from this point.
+       *
+       */
+
+      // Then fetch a cipher and decrypt the bytes
+      Cipher cipher = getCipher(key, Cipher.DECRYPT_MODE, bytes, 0, CIPHER_BLOCK_LENGTH);
+      byte[] output;
+      try {
+         output = cipher.doFinal(bytes, CIPHER_BLOCK_LENGTH, bytes.length - CIPHER_HMAC_LENGTH - CIPHER_BLOCK_LENGTH);
+      }
+      catch ( IllegalBlockSizeException e ) {
+         log.warn("Unexpected IllegalBlockSizeException on: ", input);
+         return null;
+      }
+      catch ( BadPaddingException e ) {
+         log.warn("Unexpected BadPaddingException on: ", input);
+         return null;
+      }
+      finally {
+         releaseLegacyCipher(cipher);
+      }
+
+      return new String(output);
+   }
+
+   /**
+    * Encrypts a String with AES-GCM, using a random nonce.
+    *
+    * @return the version byte, the nonce and the ciphertext including the authentication tag
+    */
+   private static byte[] encryptGcm( SecretKey key, String input ) throws GeneralSecurityException {
+      byte[] inbytes = input.getBytes(StandardCharsets.UTF_8);
+      byte[] output = new byte[1 + GCM_NONCE_LENGTH + inbytes.length + GCM_TAG_LENGTH];
+      output[0] = VERSION_GCM;
+
+      byte[] nonce = new byte[GCM_NONCE_LENGTH];
+      random.nextBytes(nonce);
+      System.arraycopy(nonce, 0, output, 1, GCM_NONCE_LENGTH);
+
+      Cipher cipher = gcmCiphers.borrow();
+      try {
+         cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH * 8, nonce));
+         cipher.updateAAD(output, 0, 1);
+         cipher.doFinal(inbytes, 0, inbytes.length, output, 1 + GCM_NONCE_LENGTH);
+      }
+      finally {
+         gcmCiphers.release(cipher);
+      }
+      return output;
+   }
+
+   /**
+    * Encrypts a String with the legacy scheme: the key's algorithm in CBC mode followed by an HMAC
+    * of the initialization vector and the ciphertext.
+    *
+    * @return the initialization vector, the ciphertext and the HMAC
+    */
+   private static byte[] encryptLegacy( SecretKey key, String input ) throws Exception {
+      byte[] inbytes = input.getBytes();
+      final int inputLength = inbytes.length;
+      byte[] output = new byte[calculateCipherbytes(inputLength) + CIPHER_HMAC_LENGTH];
+
+      /*
+       * Generate an initialization vector required by block cipher modes
+       */
+      byte[] iv = generateInitializationVector();
+      System.arraycopy(iv, 0, output, 0, CIPHER_BLOCK_LENGTH);
+
+      /*
+       * Encrypt-then-Mac (EtM) pattern, first encrypt plaintext
+       */
+
+      Cipher cipher = getCipher(key, Cipher.ENCRYPT_MODE, iv, 0, CIPHER_BLOCK_LENGTH);
+      try {
+         cipher.doFinal(inbytes, 0, inbytes.length, output, CIPHER_BLOCK_LENGTH);
+      }
+      finally {
+         releaseLegacyCipher(cipher);
+      }
+
+      /*
+       * Encrypt-then-Mac (EtM) pattern, authenticate ciphertext
+       */
+      hmac(key, output, 0, output.length - CIPHER_HMAC_LENGTH, output, output.length - CIPHER_HMAC_LENGTH);
+      return output;
+   }
+
    /**
     * Generates IV, random start bytes required by most block cipher modes,
     * which is intended to prevent analyzing a cipher mode as an xor substitution cipher.
@@ -348,13 +543,83 @@ public class CryptoUtil {
     * @return CIPHER_BLOCK_LENGTH bytes of random data
     */
    private static byte[] generateInitializationVector() {
-      // always create a new SecureRandom; get new OS/JVM random bytes instead of cycling the prng.
-      SecureRandom random = new SecureRandom();
       byte[] iv = new byte[CIPHER_BLOCK_LENGTH];
       random.nextBytes(iv);
       return iv;
    }
 
+   /**
+    * Generates the secret keys from the configured key material, or from random key material if
+    * none is configured. The AES key is the SHA-256 hash of the material, the legacy DESede key is
+    * made from the material itself, as it always was, unless legacy decryption is disabled.
+    */
+   private static Keys generateKeys() throws Exception {
+      // Check to see if a key location was specified in config
+      byte[] material = getKeyMaterialFromConfig();
+
+      // If there wasn't a key string in config, make one
+      if ( material == null ) {
+         material = new byte[MIN_KEY_BYTES];
+         random.nextBytes(material);
+      }
+      // Hash the key string given in config
+      else {
+         MessageDigest digest = MessageDigest.getInstance("SHA1");
+         int length = digest.getDigestLength();
+         byte[] hashed = new byte[MIN_KEY_BYTES];
+         for ( int i = 0; i < hashed.length; i += length ) {
+            material = digest.digest(material);
+            System.arraycopy(material, 0, hashed, i, Math.min(length, MIN_KEY_BYTES - i));
+         }
+         material = hashed;
+      }
+
+      // Now manufacture the actual Secret Key instances
+      SecretKey legacyKey = null;
+      if ( isLegacyDecryptionEnabled() ) {
+         SecretKeyFactory factory = SecretKeyFactory.getInstance(CryptoUtil.ALGORITHM);
+         legacyKey = factory.generateSecret(new DESedeKeySpec(material));
+      }
+
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(GCM_TRANSFORMATION.getBytes(StandardCharsets.US_ASCII));
+      SecretKey key = new SecretKeySpec(digest.digest(material), GCM_ALGORITHM);
+
+      return new Keys(key, legacyKey);
+   }
+
+   /**
+    * Returns the secret keys, generating them the first time they are requested unless a key was
+    * set. Only the generation is locked.
+    */
+   private static Keys getKeys() {
+      Keys keys = CryptoUtil.keys;
+      if ( keys == null ) {
+         keysLock.lock();
+         try {
+            keys = CryptoUtil.keys;
+            if ( keys == null ) {
+               try {
+                  keys = generateKeys();
+               }
+               catch ( Exception e ) {
+                  throw new StripesRuntimeException("Could not generate a secret key.", e);
+               }
+               CryptoUtil.keys = keys;
+            }
+         }
+         finally {
+            keysLock.unlock();
+         }
+      }
+      return keys;
+   }
+
+   /** Returns the pool of legacy scheme Ciphers for a transformation. */
+   private static InstancePool<Cipher> getLegacyCiphers( String transformation ) {
+      return legacyCiphers.computeIfAbsent(transformation, t -> new InstancePool<>(() -> newCipher(t)));
+   }
+
    /**
     * Performs keyed authentication using HMAC.
     * Note: When building ciphertext+hmac array, data and mac will be the same array, and dataLength == macPos.
@@ -366,10 +631,15 @@ public class CryptoUtil {
     * @param macPos the position to write the hmac to
     */
    private static void hmac( SecretKey key, byte[] data, int dataPos, int dataLength, byte[] mac, int macPos ) throws Exception {
-      Mac m = Mac.getInstance(CIPHER_HMAC_ALGORITHM);
-      m.init(key);
-      m.update(data, dataPos, dataLength);
-      m.doFinal(mac, macPos);
+      Mac m = macs.borrow();
+      try {
+         m.init(key);
+         m.update(data, dataPos, dataLength);
+         m.doFinal(mac, macPos);
+      }
+      finally {
+         macs.release(m);
+      }
    }
 
    /**
@@ -394,4 +664,43 @@ public class CryptoUtil {
       return true;
    }
 
+   /** Returns true if values are encrypted with AES-GCM when using the key. */
+   private static boolean isGcmKey( SecretKey key ) {
+      return key != null && GCM_ALGORITHM.equals(key.getAlgorithm());
+   }
+
+   private static Cipher newCipher( String transformation ) {
+      try {
+         return Cipher.getInstance(transformation);
+      }
+      catch ( GeneralSecurityException e ) {
+         throw new StripesRuntimeException("Could not generate a Cipher.", e);
+      }
+   }
+
+   private static Mac newMac() {
+      try {
+         return Mac.getInstance(CIPHER_HMAC_ALGORITHM);
+      }
+      catch ( GeneralSecurityException e ) {
+         throw new StripesRuntimeException("Could not generate a Mac.", e);
+      }
+   }
+
+   /** Returns a Cipher obtained from {@link #getCipher(SecretKey, int, byte[], int, int)} to its pool. */
+   private static void releaseLegacyCipher( Cipher cipher ) {
+      getLegacyCiphers(cipher.getAlgorithm()).release(cipher);
+   }
+
+   /** The secret key used to encrypt values, and the key to decrypt legacy values with, if any. */
+   private static class Keys {
+
+      private final SecretKey _key;
+      private final SecretKey _legacyKey;
+
+      Keys( SecretKey key, SecretKey legacyKey ) {
+         _key = key;
+         _legacyKey = legacyKey;
+      }
+   }
 }
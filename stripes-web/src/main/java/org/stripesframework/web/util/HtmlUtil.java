@@ -14,6 +14,8 @@
  */
 package org.stripesframework.web.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -58,41 +60,61 @@ public class HtmlUtil {
     * String could be longer than the one passed in.
     *
     * @param fragment a String fragment that might have HTML special characters in it
-    * @return the fragment with special characters escaped
+    * @return the fragment with special characters escaped, or the fragment itself if it does
+    *         not contain any special characters
     */
    public static String encode( String fragment ) {
       // If the input is null, then the output is null
-       if ( fragment == null ) {
-           return null;
-       }
+      if ( fragment == null ) {
+         return null;
+      }
+
+      int index = indexOfSpecialCharacter(fragment, 0);
+      if ( index < 0 ) {
+         return fragment;
+      }
 
       StringBuilder builder = new StringBuilder(fragment.length() + 10); // a little wiggle room
-      char[] characters = fragment.toCharArray();
-
-      // This loop used to also look for and replace single ticks with &apos; but it
-      // turns out that it's not strictly necessary since Stripes uses double-quotes
-      // around all form fields, and stupid IE6 will render &apos; verbatim instead
-      // of as a single quote.
-      for ( int i = 0; i < characters.length; ++i ) {
-         switch ( characters[i] ) {
-         case '<':
-            builder.append("&lt;");
-            break;
-         case '>':
-            builder.append("&gt;");
-            break;
-         case '"':
-            builder.append("&quot;");
-            break;
-         case '&':
-            builder.append("&amp;");
-            break;
-         default:
-            builder.append(characters[i]);
-         }
+      int start = 0;
+      do {
+         builder.append(fragment, start, index).append(getEscapeCode(fragment.charAt(index)));
+         start = index + 1;
+         index = indexOfSpecialCharacter(fragment, start);
+      }
+      while ( index >= 0 );
+
+      return builder.append(fragment, start, fragment.length()).toString();
+   }
+
+   /**
+    * Writes a fragment with the special HTML characters replaced as by {@link #encode(String)}.
+    * Fragments without special characters are written as they are, and the escaped form is never
+    * built as a String, so no garbage is produced.
+    *
+    * @param fragment a String fragment that might have HTML special characters in it, may be
+    *        null in which case nothing is written
+    * @param writer the writer to write the escaped fragment to
+    * @throws IOException if the writer causes an exception
+    */
+   public static void encode( String fragment, Writer writer ) throws IOException {
+      if ( fragment == null ) {
+         return;
+      }
+
+      int start = 0;
+      int index = indexOfSpecialCharacter(fragment, 0);
+      while ( index >= 0 ) {
+         writer.write(fragment, start, index - start);
+         writer.write(getEscapeCode(fragment.charAt(index)));
+         start = index + 1;
+         index = indexOfSpecialCharacter(fragment, start);
       }
 
-      return builder.toString();
+      if ( start == 0 ) {
+         writer.write(fragment);
+      } else {
+         writer.write(fragment, start, fragment.length() - start);
+      }
    }
 
    /**
@@ -112,4 +134,34 @@ public class HtmlUtil {
          return Arrays.asList(splits);
       }
    }
+
+   private static String getEscapeCode( char c ) {
+      switch ( c ) {
+      case '<':
+         return "&lt;";
+      case '>':
+         return "&gt;";
+      case '"':
+         return "&quot;";
+      default:
+         return "&amp;";
+      }
+   }
+
+   /**
+    * Returns the index of the first character at or after the given index that needs to be
+    * escaped, or -1 if there is none.
+    */
+   private static int indexOfSpecialCharacter( String fragment, int fromIndex ) {
+      // This used to also look for and replace single ticks with &apos; but it turns out
+      // that it's not strictly necessary since Stripes uses double-quotes around all form
+      // fields, and stupid IE6 will render &apos; verbatim instead of as a single quote.
+      for ( int i = fromIndex; i < fragment.length(); i++ ) {
+         char c = fragment.charAt(i);
+         if ( c == '<' || c == '>' || c == '"' || c == '&' ) {
+            return i;
+         }
+      }
+      return -1;
+   }
 }
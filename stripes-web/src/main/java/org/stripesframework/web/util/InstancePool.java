@@ -0,0 +1,86 @@
+package org.stripesframework.web.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+
+/**
+ * <p>
+ * A bounded pool of instances that are not thread safe and expensive to create, such as Ciphers
+ * or NumberFormats. An instance is borrowed by one thread, used without being shared, and
+ * released again, so that other threads can reuse it. If the pool is empty, a new instance is
+ * created; if it is full, a released instance is dropped.
+ * </p>
+ * <p>
+ * Unlike a ThreadLocal, the pool keeps its instances when threads come and go, as virtual threads
+ * do for every request, and does not keep the class loader of the web application reachable from
+ * the threads of the container.
+ * </p>
+ *
+ * @param <T> the type of the pooled instances
+ */
+public class InstancePool<T> {
+
+   /** The default capacity, the number of threads that may run at the same time, twice over. */
+   public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+   private final Supplier<T>   _factory;
+   private final int           _capacity;
+   private final Queue<T>      _instances = new ConcurrentLinkedQueue<>();
+   private final AtomicInteger _size      = new AtomicInteger();
+
+   /**
+    * Creates an empty pool with the {@link #DEFAULT_CAPACITY}.
+    *
+    * @param factory creates an instance when the pool is empty
+    */
+   public InstancePool( Supplier<T> factory ) {
+      this(factory, DEFAULT_CAPACITY);
+   }
+
+   /**
+    * Creates an empty pool.
+    *
+    * @param factory creates an instance when the pool is empty
+    * @param capacity the maximum number of instances kept, at least 1
+    */
+   public InstancePool( Supplier<T> factory, int capacity ) {
+      if ( capacity < 1 ) {
+         throw new IllegalArgumentException("The capacity of a pool must be at least 1, but was " + capacity);
+      }
+      _factory = factory;
+      _capacity = capacity;
+   }
+
+   /**
+    * Takes an instance from the pool, or creates one if the pool is empty. The instance must not
+    * be used by any other thread until it is {@link #release(Object) released}.
+    *
+    * @return an instance that is not used by any other thread
+    */
+   public T borrow() {
+      T instance = _instances.poll();
+      if ( instance == null ) {
+         return _factory.get();
+      }
+      _size.decrementAndGet();
+      return instance;
+   }
+
+   /**
+    * Returns an instance to the pool, unless the pool is full. The instance must not be used after
+    * it is released.
+    *
+    * @param instance an instance {@link #borrow() borrowed} from this pool
+    */
+   public void release( T instance ) {
+      // the size is counted separately, since ConcurrentLinkedQueue.size() traverses the queue
+      if ( _size.incrementAndGet() <= _capacity ) {
+         _instances.offer(instance);
+      } else {
+         _size.decrementAndGet();
+      }
+   }
+}
@@ -0,0 +1,198 @@
+package org.stripesframework.web.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * <p>
+ * Invokes a method, such as an event handler, a {@code @Before}/{@code @After} method, a
+ * validation method or an exception handler, through a {@link MethodHandle} that is created once
+ * per method. Calls neither pass through {@link Method#invoke(Object, Object...)} nor create an
+ * argument array, so that the JIT compiler can inline them.
+ * </p>
+ * <p>
+ * The exceptions are those of {@link Method#invoke(Object, Object...)}: anything thrown by the
+ * method is wrapped in an {@link InvocationTargetException}, a null target of an instance method
+ * raises a {@link NullPointerException}, and targets or arguments of the wrong type or number
+ * raise an {@link IllegalArgumentException}. Methods that cannot be unreflected, e.g. non-public
+ * methods that were not made accessible, are invoked reflectively, so that they fail exactly as
+ * they did before.
+ * </p>
+ */
+public final class MethodInvoker {
+
+   private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+   /**
+    * Caches the invokers by the class declaring their methods. Lookups do not lock, and the
+    * cached invokers do not keep the classes or their class loader from being unloaded.
+    */
+   private static final ClassValue<Map<Method, MethodInvoker>> invokers = new ClassValue<>() {
+
+      @Override
+      protected Map<Method, MethodInvoker> computeValue( Class<?> type ) {
+         return new ConcurrentHashMap<>();
+      }
+   };
+
+   /**
+    * Gets the invoker of a method, creating it if the method is invoked for the first time.
+    *
+    * @param method the method to invoke
+    * @return the invoker, never null
+    */
+   public static MethodInvoker getInstance( Method method ) {
+      Map<Method, MethodInvoker> classInvokers = invokers.get(method.getDeclaringClass());
+      MethodInvoker invoker = classInvokers.get(method);
+      if ( invoker == null ) {
+         invoker = new MethodInvoker(method);
+         if ( invoker._handle == null ) {
+            // not cached, since an equal method may have been made accessible in the meantime
+            return invoker;
+         }
+         MethodInvoker existing = classInvokers.putIfAbsent(method, invoker);
+         if ( existing != null ) {
+            invoker = existing;
+         }
+      }
+      return invoker;
+   }
+
+   private static MethodHandle unreflect( Method method ) {
+      MethodHandle handle;
+      try {
+         handle = LOOKUP.unreflect(method);
+      }
+      catch ( IllegalAccessException e ) {
+         return null;
+      }
+      if ( Modifier.isStatic(method.getModifiers()) ) {
+         handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      return handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1));
+   }
+
+   private final Method       _method;
+   private final Class<?>     _declaringClass;
+   private final boolean      _static;
+   private final int          _parameterCount;
+   /** Takes the target and the arguments as Objects, or null if the method is invoked reflectively. */
+   private final MethodHandle _handle;
+
+   private MethodInvoker( Method method ) {
+      _method = method;
+      _declaringClass = method.getDeclaringClass();
+      _static = Modifier.isStatic(method.getModifiers());
+      _parameterCount = method.getParameterCount();
+      _handle = unreflect(method);
+   }
+
+   /** Returns the method that is invoked. */
+   public Method getMethod() { return _method; }
+
+   /**
+    * Invokes a method without parameters.
+    *
+    * @param target the object to invoke the method on, ignored for static methods
+    * @return the value returned by the method, or null if it returns void
+    */
+   public Object invoke( Object target ) throws IllegalAccessException, InvocationTargetException {
+      if ( _handle == null || _parameterCount != 0 ) {
+         return _method.invoke(target);
+      }
+      checkTarget(target);
+      try {
+         return _handle.invokeExact(target);
+      }
+      catch ( Throwable t ) {
+         throw new InvocationTargetException(t);
+      }
+   }
+
+   /**
+    * Invokes a method with one parameter.
+    *
+    * @param target the object to invoke the method on, ignored for static methods
+    * @param arg the argument
+    * @return the value returned by the method, or null if it returns void
+    */
+   public Object invoke( Object target, Object arg ) throws IllegalAccessException, InvocationTargetException {
+      if ( _handle == null || _parameterCount != 1 ) {
+         return _method.invoke(target, arg);
+      }
+      checkTarget(target);
+      try {
+         return _handle.invokeExact(target, arg);
+      }
+      catch ( Throwable t ) {
+         throw wrap(t, arg);
+      }
+   }
+
+   /**
+    * Invokes a method with three parameters.
+    *
+    * @param target the object to invoke the method on, ignored for static methods
+    * @param arg1 the first argument
+    * @param arg2 the second argument
+    * @param arg3 the third argument
+    * @return the value returned by the method, or null if it returns void
+    */
+   public Object invoke( Object target, Object arg1, Object arg2, Object arg3 ) throws IllegalAccessException, InvocationTargetException {
+      if ( _handle == null || _parameterCount != 3 ) {
+         return _method.invoke(target, arg1, arg2, arg3);
+      }
+      checkTarget(target);
+      try {
+         return _handle.invokeExact(target, arg1, arg2, arg3);
+      }
+      catch ( Throwable t ) {
+         throw wrap(t, arg1, arg2, arg3);
+      }
+   }
+
+   @Override
+   public String toString() {
+      return _method.toString();
+   }
+
+   /** Indicates if the arguments can be passed to the method without a conversion failing. */
+   private boolean accepts( Object... args ) {
+      Class<?>[] types = _method.getParameterTypes();
+      for ( int i = 0; i < args.length; i++ ) {
+         if ( args[i] == null ? types[i].isPrimitive() : !MethodType.methodType(types[i]).wrap().returnType().isInstance(args[i]) ) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private void checkTarget( Object target ) {
+      if ( !_static && !_declaringClass.isInstance(target) ) {
+         if ( target == null ) {
+            throw new NullPointerException();
+         }
+         throw new IllegalArgumentException("object is not an instance of declaring class");
+      }
+   }
+
+   /**
+    * Wraps an exception thrown by the method in an InvocationTargetException.
+    *
+    * @throws IllegalArgumentException if the exception was raised by converting the arguments
+    *         rather than by the method
+    */
+   private InvocationTargetException wrap( Throwable t, Object... args ) {
+      if ( (t instanceof ClassCastException || t instanceof NullPointerException) && !accepts(args) ) {
+         throw new IllegalArgumentException("argument type mismatch", t);
+      }
+      return new InvocationTargetException(t);
+   }
+}
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -337,38 +338,53 @@ public class ReflectUtil {
       // A subclass that is aware of bridge methods
       class BridgedPropertyDescriptor extends PropertyDescriptor {
 
-         private Method readMethod, writeMethod;
-         private Class<?> propertyType;
+         // volatile rather than synchronized accessors, these are read far more often than written
+         private volatile Method readMethod, writeMethod;
+         private final Class<?> propertyType;
 
          public BridgedPropertyDescriptor( PropertyDescriptor pd ) throws IntrospectionException {
             super(pd.getName(), pd.getReadMethod(), pd.getWriteMethod());
             readMethod = resolveBridgedReadMethod(pd);
             writeMethod = resolveBridgedWriteMethod(pd);
             propertyType = resolvePropertyType(this);
+
+            // Keep what the BeanInfo says about the property
+            setBound(pd.isBound());
+            setConstrained(pd.isConstrained());
+            setDisplayName(pd.getDisplayName());
+            setExpert(pd.isExpert());
+            setHidden(pd.isHidden());
+            setPreferred(pd.isPreferred());
+            setPropertyEditorClass(pd.getPropertyEditorClass());
+            setShortDescription(pd.getShortDescription());
+            for ( Enumeration<String> names = pd.attributeNames(); names.hasMoreElements(); ) {
+               String name = names.nextElement();
+               setValue(name, pd.getValue(name));
+            }
          }
 
          @Override
-         public synchronized Class<?> getPropertyType() {
+         public Class<?> getPropertyType() {
             return propertyType;
          }
 
          @Override
-         public synchronized Method getReadMethod() {
+         public Method getReadMethod() {
             return readMethod;
          }
 
          @Override
-         public synchronized Method getWriteMethod() {
+         public Method getWriteMethod() {
             return writeMethod;
          }
 
          @Override
-         public synchronized void setReadMethod( Method readMethod ) {
+         public void setReadMethod( Method readMethod ) {
             this.readMethod = readMethod;
          }
 
          @Override
-         public synchronized void setWriteMethod( Method writeMethod ) {
+         public void setWriteMethod( Method writeMethod ) {
             this.writeMethod = writeMethod;
          }
       }
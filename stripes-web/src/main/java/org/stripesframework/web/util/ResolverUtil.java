@@ -16,9 +16,15 @@ package org.stripesframework.web.util;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.stripesframework.web.vfs.VFS;
 
@@ -31,11 +37,18 @@ import org.stripesframework.web.vfs.VFS;
  *
  * <p>A ClassLoader is used to locate all locations (directories and jar files) in the class
  * path that contain classes within certain packages, and then to load those classes and
- * check them. By default the ClassLoader returned by
+ * check them. For the {@link IsA} and {@link AnnotatedWith} tests, the headers of the class files
+ * are read first, reading several locations in parallel, and only the classes whose superclass,
+ * interfaces or annotations allow them to match are loaded. By default the ClassLoader returned by
  *  {@code Thread.currentThread().getContextClassLoader()} is used, but this can be overridden
  * by calling {@link #setClassLoader(ClassLoader)} prior to invoking any of the {@code find()}
  * methods.</p>
  *
+ * <p>If {@link #setClassIndexUsed(boolean) enabled}, searches for implementations of Stripes types
+ * and for classes annotated with Stripes annotations read the {@link ClassIndex} of each jar and
+ * class directory instead of scanning it, and load only the classes listed in the index. Jars and
+ * class directories without an index are scanned.</p>
+ *
  * <p>General searches are initiated by calling the
  * {@link #find(ResolverUtil.Test, String)} ()} method and supplying
  * a package name and a Test instance. This will cause the named package <b>and all sub-packages</b>
@@ -69,6 +82,9 @@ public class ResolverUtil<T> {
     */
    private ClassLoader _classLoader;
 
+   /** Whether the class indexes of jars and class directories are used instead of scanning them. */
+   private boolean _classIndexUsed;
+
    /**
     * Scans for classes starting at the package provided and descending into subpackages.
     * Each class is offered up to the Test as it is discovered, and if the Test returns
@@ -81,13 +97,42 @@ public class ResolverUtil<T> {
     */
    public ResolverUtil<T> find( Test test, String packageName ) {
       String path = getPackagePath(packageName);
+      String indexedType = _classIndexUsed ? getIndexedType(test) : null;
+      ClassHeaderMatcher matcher = createHeaderMatcher(test);
 
       try {
-         List<String> children = VFS.getInstance().list(path);
-         for ( String child : children ) {
-            if ( child.endsWith(".class") ) {
-               addIfMatching(test, child);
+         VFS vfs = VFS.getInstance();
+         if ( indexedType == null && matcher == null ) {
+            // Nothing to read but the class names, so the locations need not be told apart
+            for ( String child : vfs.list(path) ) {
+               if ( child.endsWith(".class") ) {
+                  addIfMatching(test, child);
+               }
             }
+            return this;
+         }
+
+         List<URL> scanned = new ArrayList<>();
+         for ( URL location : vfs.getLocations(path) ) {
+            ClassIndex index = indexedType == null ? null : ClassIndex.load(location, path);
+            if ( index != null ) {
+               log.debug("Using the class index to find classes ", test, " in ", location);
+               for ( String className : index.getClassNames(indexedType, packageName) ) {
+                  addClassIfMatching(test, className);
+               }
+            } else if ( matcher != null ) {
+               scanned.add(location);
+            } else {
+               for ( String child : vfs.listLocation(location, path) ) {
+                  if ( child.endsWith(".class") ) {
+                     addIfMatching(test, child);
+                  }
+               }
+            }
+         }
+
+         if ( !scanned.isEmpty() ) {
+            addMatchingHeaders(test, matcher, vfs, scanned, path);
          }
       }
       catch ( IOException ioe ) {
@@ -159,6 +204,11 @@ public class ResolverUtil<T> {
       return _matches;
    }
 
+   /** Returns true if class indexes are used instead of scanning where possible. */
+   public boolean isClassIndexUsed() {
+      return _classIndexUsed;
+   }
+
    /**
     * Sets an explicit ClassLoader that should be used when scanning for classes. If none
     * is set then the context classloader will be used.
@@ -167,6 +217,15 @@ public class ResolverUtil<T> {
     */
    public void setClassLoader( ClassLoader classloader ) { _classLoader = classloader; }
 
+   /**
+    * Sets whether the {@link ClassIndex} of a jar or class directory is used instead of scanning
+    * it, if it has one. Only searches for implementations of Stripes types and for classes
+    * annotated with Stripes annotations can use the index.
+    *
+    * @param classIndexUsed true to use class indexes
+    */
+   public void setClassIndexUsed( boolean classIndexUsed ) { _classIndexUsed = classIndexUsed; }
+
    /**
     * Add the class designated by the fully qualified class name provided to the set of
     * resolved classes if and only if it is approved by the Test supplied.
@@ -174,10 +233,20 @@ public class ResolverUtil<T> {
     * @param test the test used to determine if the class matches
     * @param fqn the fully qualified name of a class
     */
-   @SuppressWarnings("unchecked")
    protected void addIfMatching( Test test, String fqn ) {
+      addClassIfMatching(test, fqn.substring(0, fqn.indexOf('.')).replace('/', '.'));
+   }
+
+   /**
+    * Add the class with the binary name provided to the set of resolved classes if and only if it
+    * is approved by the Test supplied.
+    *
+    * @param test the test used to determine if the class matches
+    * @param externalName the binary name of a class, e.g. {@code com.example.Outer$Inner}
+    */
+   @SuppressWarnings("unchecked")
+   protected void addClassIfMatching( Test test, String externalName ) {
       try {
-         String externalName = fqn.substring(0, fqn.indexOf('.')).replace('/', '.');
          ClassLoader loader = getClassLoader();
          log.trace("Checking to see if class ", externalName, " matches criteria [", test, "]");
 
@@ -187,7 +256,7 @@ public class ResolverUtil<T> {
          }
       }
       catch ( Throwable t ) {
-         log.warn("Could not examine class '", fqn, "'", " due to a ", t.getClass().getName(), " with message: ", t.getMessage());
+         log.warn("Could not examine class '", externalName, "'", " due to a ", t.getClass().getName(), " with message: ", t.getMessage());
       }
    }
 
@@ -201,6 +270,92 @@ public class ResolverUtil<T> {
       return packageName == null ? null : packageName.replace('.', '/');
    }
 
+   /**
+    * Reads the class headers of the scanned jars and class directories, in parallel if there is
+    * more than one, and loads and tests only the classes the headers allow to match. Classes
+    * whose headers cannot be read are loaded and tested as well.
+    */
+   private void addMatchingHeaders( Test test, ClassHeaderMatcher matcher, VFS vfs, List<URL> locations, String path ) {
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      Queue<String> unreadable = new ConcurrentLinkedQueue<>();
+      Stream<URL> stream = locations.size() > 1 ? locations.parallelStream() : locations.stream();
+      List<ClassHeader> headers = stream.flatMap(
+            location -> readClassHeaders(vfs, location, path, matcher.isAnnotationRead(), contextClassLoader, unreadable).stream())
+            .collect(Collectors.toList());
+
+      for ( ClassHeader header : headers ) {
+         matcher.addHeader(header);
+      }
+      for ( ClassHeader header : headers ) {
+         if ( matcher.mayMatch(header.getName()) ) {
+            addClassIfMatching(test, header.getName());
+         }
+      }
+      for ( String name : unreadable ) {
+         addIfMatching(test, name);
+      }
+   }
+
+   /**
+    * Returns a matcher that tests the class headers of the candidates for a test, or null if the
+    * candidates must be loaded to be tested.
+    */
+   private ClassHeaderMatcher createHeaderMatcher( Test test ) {
+      if ( test.getClass() == IsA.class ) {
+         return ClassHeaderMatcher.assignableTo(((IsA)test)._parent, getClassLoader());
+      }
+      if ( test.getClass() == AnnotatedWith.class ) {
+         return ClassHeaderMatcher.annotatedWith(((AnnotatedWith)test)._annotation, getClassLoader());
+      }
+      return null;
+   }
+
+   /**
+    * Returns the name of the type a {@link ClassIndex} is queried for to find the classes
+    * matching a test, or null if the test cannot be answered by an index.
+    */
+   private String getIndexedType( Test test ) {
+      Class<?> type = null;
+      if ( test.getClass() == IsA.class ) {
+         type = ((IsA)test)._parent;
+      } else if ( test.getClass() == AnnotatedWith.class ) {
+         type = ((AnnotatedWith)test)._annotation;
+      }
+      return type != null && ClassIndex.isIndexed(type) ? type.getName() : null;
+   }
+
+   /**
+    * Reads the headers of the class files in a jar or class directory. This may run on another
+    * thread than {@link #find(Test, String)}, so the context ClassLoader of the caller, which the
+    * {@link VFS} may use, is passed along.
+    */
+   private List<ClassHeader> readClassHeaders( VFS vfs, URL location, String path, boolean withAnnotations, ClassLoader contextClassLoader,
+         Queue<String> unreadable ) {
+      Thread thread = Thread.currentThread();
+      ClassLoader threadClassLoader = thread.getContextClassLoader();
+      thread.setContextClassLoader(contextClassLoader);
+
+      List<ClassHeader> headers = new ArrayList<>();
+      try {
+         vfs.readLocation(location, path, name -> name.endsWith(".class"), ( name, in ) -> {
+            try {
+               headers.add(ClassHeader.read(in, withAnnotations));
+            }
+            catch ( IOException e ) {
+               log.debug("Could not read the header of class file ", name, ": ", e.getMessage());
+               unreadable.add(name);
+            }
+         });
+      }
+      catch ( IOException ioe ) {
+         log.warn("Could not read package: ", path, " in ", location, " -- ", ioe);
+      }
+      finally {
+         thread.setContextClassLoader(threadClassLoader);
+      }
+      return headers;
+   }
+
    /**
     * A simple interface that specifies how to test classes to determine if they
     * are to be included in the results produced by the ResolverUtil.
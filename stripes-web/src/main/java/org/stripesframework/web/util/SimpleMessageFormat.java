@@ -1,49 +1,74 @@
 package org.stripesframework.web.util;
 
-import java.text.DateFormat;
 import java.text.NumberFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class SimpleMessageFormat {
 
-   private static final Pattern PATTERN = Pattern.compile("\\{(\\d+)}");
+   /** The default capacity of the cache of compiled templates. */
+   public static final int DEFAULT_CACHE_CAPACITY = 1000;
 
-   public static String format( String pattern, Locale locale, Object... params ) {
-      Matcher matcher = PATTERN.matcher(pattern);
-      if ( matcher.find() ) {
-         StringBuilder output = createStringBuilder(pattern, params);
-
-         int startIndex = 0;
-         do {
-            output.append(pattern, startIndex, matcher.start());
-            startIndex = matcher.end();
-
-            int argumentIndex = Integer.parseInt(matcher.group(1));
-            if ( argumentIndex < params.length ) {
-               Object param = params[argumentIndex];
-               appendParam(output, locale, param);
-            }
-         }
-         while ( matcher.find() );
+   /**
+    * A cache of compiled templates. Templates may embed arbitrary text, e.g. when a message is
+    * built from user input, so the cache is bounded.
+    */
+   private static final BoundedCache<String, SimpleMessageFormat> templates = new BoundedCache<>(DEFAULT_CACHE_CAPACITY);
+
+   /**
+    * The number formats by locale. They are not thread safe, so each is borrowed by one thread at
+    * a time from the pool of its locale.
+    */
+   private static final Map<Locale, InstancePool<NumberFormat>> numberFormats = new ConcurrentHashMap<>();
 
-         output.append(pattern, startIndex, pattern.length());
-         return output.toString();
-      } else {
+   /** The short date and time formats by locale, which are immutable and thread safe. */
+   private static final Map<Locale, DateTimeFormatter> dateFormats = new ConcurrentHashMap<>();
+
+   public static String format( String pattern, Locale locale, Object... params ) {
+      SimpleMessageFormat template = templates.computeIfAbsent(pattern, SimpleMessageFormat::new);
+      if ( template._arguments.length == 0 ) {
          return pattern;
       }
+      return template.format(locale, params);
+   }
+
+   /**
+    * Returns a snapshot of the statistics of the cache of compiled templates.
+    *
+    * @return the number of hits, misses and evictions and the size of the cache
+    */
+   public static BoundedCache.Stats getCacheStats() {
+      return templates.getStats();
    }
 
    private static void appendParam( StringBuilder output, Locale locale, Object param ) {
       if ( param != null ) {
          if ( locale != null ) {
             if ( param instanceof Number ) {
-               output.append(NumberFormat.getInstance(locale).format(param));
+               InstancePool<NumberFormat> pool = getNumberFormats(locale);
+               NumberFormat format = pool.borrow();
+               try {
+                  output.append(formatNumber(format, (Number)param));
+               }
+               finally {
+                  pool.release(format);
+               }
             } else if ( param instanceof Date ) {
-               output.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(param));
+               // java.sql.Date does not support toInstant()
+               ZonedDateTime dateTime = Instant.ofEpochMilli(((Date)param).getTime()).atZone(ZoneId.systemDefault());
+               getDateFormat(locale).formatTo(dateTime, output);
             } else {
                output.append(param);
             }
@@ -65,4 +90,89 @@ public class SimpleMessageFormat {
       }
       return new StringBuilder(capacity);
    }
+
+   /**
+    * Returns the index after an argument like {2} that starts at the given index of the
+    * template, or -1 if there is no argument.
+    */
+   private static int getArgumentEnd( String pattern, int start ) {
+      int i = start + 1;
+      while ( i < pattern.length() && pattern.charAt(i) >= '0' && pattern.charAt(i) <= '9' ) {
+         i++;
+      }
+      return i > start + 1 && i < pattern.length() && pattern.charAt(i) == '}' ? i + 1 : -1;
+   }
+
+   /**
+    * Formats a number, taking the fast path of the format for primitive values, which does not
+    * allocate a buffer per call.
+    */
+   private static String formatNumber( NumberFormat format, Number number ) {
+      if ( number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte ) {
+         return format.format(number.longValue());
+      }
+      if ( number instanceof Double || number instanceof Float ) {
+         return format.format(number.doubleValue());
+      }
+      return format.format(number);
+   }
+
+   /**
+    * Returns the short date and time format of the locale. The localized pattern is resolved once,
+    * since a localized formatter looks it up on every call.
+    */
+   private static DateTimeFormatter getDateFormat( Locale locale ) {
+      return dateFormats.computeIfAbsent(locale, l -> DateTimeFormatter.ofPattern(
+            DateTimeFormatterBuilder.getLocalizedDateTimePattern(FormatStyle.SHORT, FormatStyle.SHORT, IsoChronology.INSTANCE, l), l));
+   }
+
+   /** Returns the pool of number formats of the locale. */
+   private static InstancePool<NumberFormat> getNumberFormats( Locale locale ) {
+      return numberFormats.computeIfAbsent(locale, l -> new InstancePool<>(() -> NumberFormat.getInstance(l)));
+   }
+
+   /** The source of the template. */
+   private final String   _pattern;
+   /** The text before each argument, and the text after the last argument. */
+   private final String[] _literals;
+   /** The index of the parameter to insert for each argument, e.g. 2 for {2}. */
+   private final int[]    _arguments;
+
+   /** Compiles a template into the text between the arguments and the arguments. */
+   private SimpleMessageFormat( String pattern ) {
+      _pattern = pattern;
+
+      List<String> literals = new ArrayList<>();
+      List<Integer> arguments = new ArrayList<>();
+      int startIndex = 0;
+      int index = pattern.indexOf('{');
+      while ( index >= 0 ) {
+         int end = getArgumentEnd(pattern, index);
+         if ( end > 0 ) {
+            literals.add(pattern.substring(startIndex, index));
+            arguments.add(Integer.parseInt(pattern.substring(index + 1, end - 1)));
+            startIndex = end;
+         }
+         index = pattern.indexOf('{', Math.max(end, index + 1));
+      }
+      literals.add(pattern.substring(startIndex));
+
+      _literals = literals.toArray(new String[0]);
+      _arguments = new int[arguments.size()];
+      for ( int i = 0; i < _arguments.length; i++ ) {
+         _arguments[i] = arguments.get(i);
+      }
+   }
+
+   private String format( Locale locale, Object... params ) {
+      StringBuilder output = createStringBuilder(_pattern, params);
+      for ( int i = 0; i < _arguments.length; i++ ) {
+         output.append(_literals[i]);
+         if ( _arguments[i] < params.length ) {
+            appendParam(output, locale, params[_arguments[i]]);
+         }
+      }
+      output.append(_literals[_arguments.length]);
+      return output.toString();
+   }
 }
@@ -14,18 +14,12 @@
  */
 package org.stripesframework.web.util.bean;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-
-import org.stripesframework.web.util.ReflectUtil;
-
-
 /**
  * Implementation of {@link PropertyAccessor} for reading JavaBean properties from
  * JavaBeans.  Will attempt property access first using the standard PropertyDescriptor,
  * but if no PropertyDescriptor is present then falls back to attempting Field access for
- * public fields.
+ * public fields. The accessors are compiled into method handles once per class and property,
+ * see {@link PropertyHandle}.
  *
  * @author Tim Fennell
  * @since Stripes 1.4
@@ -43,32 +37,17 @@ public class JavaBeanPropertyAccessor implements PropertyAccessor<Object> {
    @Override
    public Object getValue( NodeEvaluation evaluation, Object bean ) throws NoSuchPropertyException, EvaluationException {
       String property = evaluation.getNode().getStringValue();
-      PropertyDescriptor pd = ReflectUtil.getPropertyDescriptor(bean.getClass(), property);
+      PropertyHandle handle = getPropertyHandle(bean, property);
+      if ( !handle.isReadable() ) {
+         throw new EvaluationException("Could not read write-only property '" + property + "' on bean of type " + bean.getClass().getName());
+      }
 
       try {
-         if ( pd != null ) {
-            Method m = pd.getReadMethod();
-            if ( m != null ) {
-               m = ReflectUtil.findAccessibleMethod(m);
-               return m.invoke(bean);
-            } else {
-               throw new EvaluationException("Could not read write-only property '" + property + "' on bean of type " + bean.getClass().getName());
-            }
-         } else {
-            Field field = ReflectUtil.getField(bean.getClass(), property);
-            if ( field != null ) {
-               return field.get(bean);
-            } else {
-               throw new NoSuchPropertyException("Bean class " + bean.getClass().getName() + " does not contain a property called '" + property + "'.");
-            }
-         }
+         return handle.getValue(bean);
       }
-      catch ( EvaluationException ee ) {
-         throw ee;
-      }
-      catch ( Exception e ) {
+      catch ( Throwable t ) {
          throw new EvaluationException(
-               "Could not read value of property '" + property + "' on bean of type " + bean.getClass().getName() + " due to an exception.", e);
+               "Could not read value of property '" + property + "' on bean of type " + bean.getClass().getName() + " due to an exception.", t);
       }
    }
 
@@ -83,32 +62,29 @@ public class JavaBeanPropertyAccessor implements PropertyAccessor<Object> {
    @Override
    public void setValue( NodeEvaluation evaluation, Object bean, Object value ) {
       String property = evaluation.getNode().getStringValue();
-      PropertyDescriptor pd = ReflectUtil.getPropertyDescriptor(bean.getClass(), property);
+      PropertyHandle handle = getPropertyHandle(bean, property);
+      if ( !handle.isWritable() ) {
+         throw new EvaluationException("Could not write read-only property '" + property + "' on bean of type " + bean.getClass().getName());
+      }
 
       try {
-         if ( pd != null ) {
-            Method m = pd.getWriteMethod();
-            if ( m != null ) {
-               m = ReflectUtil.findAccessibleMethod(m);
-               m.invoke(bean, value);
-            } else {
-               throw new EvaluationException("Could not write read-only property '" + property + "' on bean of type " + bean.getClass().getName());
-            }
-         } else {
-            Field field = ReflectUtil.getField(bean.getClass(), property);
-            if ( field != null ) {
-               field.set(bean, value);
-            } else {
-               throw new NoSuchPropertyException("Bean class " + bean.getClass().getName() + " does not contain a property called '" + property + "'.");
-            }
-         }
-      }
-      catch ( EvaluationException ee ) {
-         throw ee;
+         handle.setValue(bean, value);
       }
-      catch ( Exception e ) {
+      catch ( Throwable t ) {
          throw new EvaluationException(
-               "Could not write value of property '" + property + "' on bean of type " + bean.getClass().getName() + " due to an exception.", e);
+               "Could not write value of property '" + property + "' on bean of type " + bean.getClass().getName() + " due to an exception.", t);
+      }
+   }
+
+   /**
+    * Looks up the compiled accessors of the named property of the bean's class.
+    * @throws NoSuchPropertyException if there is no property with the supplied name
+    */
+   private PropertyHandle getPropertyHandle( Object bean, String property ) throws NoSuchPropertyException {
+      PropertyHandle handle = PropertyHandle.getInstance(bean.getClass(), property);
+      if ( handle == null ) {
+         throw new NoSuchPropertyException("Bean class " + bean.getClass().getName() + " does not contain a property called '" + property + "'.");
       }
+      return handle;
    }
 }
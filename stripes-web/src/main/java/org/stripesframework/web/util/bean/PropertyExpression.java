@@ -14,11 +14,11 @@
  */
 package org.stripesframework.web.util.bean;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.stripesframework.web.util.BoundedCache;
+
 
 /**
  * <p>An expression representing a property, nested property or indexed property of a JavaBean, or
@@ -43,8 +43,23 @@ public class PropertyExpression {
    /** The set of characters which can terminate an expression node in one way or another. */
    private static final String TERMINATOR_CHARS = ".[]";
 
-   /** A static cache of parse expressions. */
-   private static final Map<String, PropertyExpression> expressions = new ConcurrentHashMap<>();
+   /** The default capacity of the cache of parsed expressions. */
+   public static final int DEFAULT_CACHE_CAPACITY = 10000;
+
+   /**
+    * A static cache of parsed expressions. Expressions are parsed from request parameter names, so
+    * the cache is bounded to keep arbitrary names from filling the heap.
+    */
+   private static volatile BoundedCache<String, PropertyExpression> expressions = new BoundedCache<>(DEFAULT_CACHE_CAPACITY);
+
+   /**
+    * Returns a snapshot of the statistics of the cache of parsed expressions.
+    *
+    * @return the number of hits, misses and evictions and the size of the cache
+    */
+   public static BoundedCache.Stats getCacheStats() {
+      return expressions.getStats();
+   }
 
    /**
     * Factory method for retrieving PropertyExpression objects for expression strings.
@@ -53,13 +68,20 @@ public class PropertyExpression {
     * @return PropertyExpression the parsed form of the expression passed in
     */
    public static PropertyExpression getExpression( String expression ) throws ParseException {
-      PropertyExpression parsed = PropertyExpression.expressions.get(expression);
-      if ( parsed == null ) {
-         parsed = new PropertyExpression(expression);
-         PropertyExpression.expressions.put(expression, parsed);
-      }
+      return expressions.computeIfAbsent(expression, PropertyExpression::new);
+   }
 
-      return parsed;
+   /**
+    * Sets the maximum number of parsed expressions that are cached. Replaces the cache, so the
+    * expressions cached so far and the statistics are discarded. Usually invoked during
+    * configuration, see {@link org.stripesframework.web.config.RuntimeConfiguration#PROPERTY_EXPRESSION_CACHE_SIZE}.
+    *
+    * @param capacity the maximum number of cached expressions, at least 1
+    */
+   public static void setCacheCapacity( int capacity ) {
+      if ( capacity != expressions.getCapacity() ) {
+         expressions = new BoundedCache<>(capacity);
+      }
    }
 
    /** The original property string, or 'source' of the expression. */
@@ -79,6 +79,31 @@ public class PropertyExpressionEvaluation {
       validateTypeInformation();
    }
 
+   /**
+    * Constructs a new PropertyExpressionEvaluation for a simple expression consisting of a single
+    * bean property whose type is already known, e.g. from an earlier evaluation of the same
+    * expression against another instance of the bean's class. The bean's class is not examined
+    * for type information again.
+    *
+    * @param expression a PropertyExpression naming a single, non-bracketed property
+    * @param bean a non-null bean against which to evaluate the expression
+    * @param propertyType the generic type of the property on the bean's class
+    * @throws IllegalArgumentException if the expression is not a simple property expression
+    */
+   public PropertyExpressionEvaluation( PropertyExpression expression, Object bean, Type propertyType ) {
+      Node node = expression.getRootNode();
+      if ( node == null || node.getNext() != null || node.isBracketed() ) {
+         throw new IllegalArgumentException("The expression \"" + expression.getSource() + "\" is not a simple property expression");
+      }
+
+      _expression = expression;
+      _bean = bean;
+      _root = new NodeEvaluation(this, node);
+      _root.setValueType(propertyType);
+      _root.setType(NodeType.BeanProperty);
+      _leaf = _root;
+   }
+
    /**
     * Fetches the bean which was supplied as the starting point for evaluation in the
     * constructor to this evaluation.
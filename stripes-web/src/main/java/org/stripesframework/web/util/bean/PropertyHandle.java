@@ -0,0 +1,171 @@
+package org.stripesframework.web.util.bean;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.stripesframework.web.util.ReflectUtil;
+
+
+/**
+ * <p>
+ * Reads and writes a single property of a JavaBean class on behalf of
+ * {@link JavaBeanPropertyAccessor}. The read and write methods of the property, or the public
+ * field if there is no {@link PropertyDescriptor} for it, are resolved once per class and property
+ * and compiled into {@link MethodHandle}s. Accessing the property afterwards involves neither a
+ * property descriptor lookup nor reflective invocation.
+ * </p>
+ * <p>
+ * Members that cannot be unreflected, e.g. public methods of a non-public class without a public
+ * counterpart, are invoked reflectively, so that accessing them fails exactly as it did before.
+ * Only existing properties are cached, so the cache is bounded by the properties of the classes
+ * in use.
+ * </p>
+ */
+class PropertyHandle {
+
+   private static final MethodHandles.Lookup LOOKUP      = MethodHandles.lookup();
+   private static final MethodType           GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+   private static final MethodType           SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+   private static final MethodHandle         METHOD_INVOKE;
+   private static final MethodHandle         FIELD_GET;
+   private static final MethodHandle         FIELD_SET;
+
+   static {
+      try {
+         METHOD_INVOKE = LOOKUP.findVirtual(Method.class, "invoke", MethodType.methodType(Object.class, Object.class, Object[].class));
+         FIELD_GET = LOOKUP.findVirtual(Field.class, "get", GETTER_TYPE);
+         FIELD_SET = LOOKUP.findVirtual(Field.class, "set", SETTER_TYPE);
+      }
+      catch ( ReflectiveOperationException e ) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   /** Cache of the handles of the existing properties of each class. */
+   private static final Map<Class<?>, Map<String, PropertyHandle>> handles = new ConcurrentHashMap<>();
+
+   /**
+    * Gets the handle for the named property of the given class.
+    *
+    * @param beanClass the class of the bean
+    * @param property the name of the property
+    * @return the handle, or null if the class has neither a property descriptor nor a public
+    *         field with the given name
+    */
+   static PropertyHandle getInstance( Class<?> beanClass, String property ) {
+      Map<String, PropertyHandle> classHandles = handles.computeIfAbsent(beanClass, c -> new ConcurrentHashMap<>());
+      PropertyHandle handle = classHandles.get(property);
+      if ( handle == null ) {
+         handle = create(beanClass, property);
+         if ( handle != null ) {
+            classHandles.putIfAbsent(property, handle);
+         }
+      }
+      return handle;
+   }
+
+   private static PropertyHandle create( Class<?> beanClass, String property ) {
+      PropertyDescriptor pd = ReflectUtil.getPropertyDescriptor(beanClass, property);
+      if ( pd != null ) {
+         Method readMethod = pd.getReadMethod();
+         Method writeMethod = pd.getWriteMethod();
+         return new PropertyHandle(readMethod == null ? null : getter(ReflectUtil.findAccessibleMethod(readMethod)),
+               writeMethod == null ? null : setter(ReflectUtil.findAccessibleMethod(writeMethod)));
+      }
+
+      Field field = ReflectUtil.getField(beanClass, property);
+      if ( field != null ) {
+         return new PropertyHandle(getter(field), setter(field));
+      }
+      return null;
+   }
+
+   private static MethodHandle getter( Method method ) {
+      MethodHandle handle;
+      try {
+         handle = LOOKUP.unreflect(method);
+      }
+      catch ( IllegalAccessException e ) {
+         handle = MethodHandles.insertArguments(METHOD_INVOKE.bindTo(method), 1, (Object)new Object[0]);
+      }
+      return handle.asType(GETTER_TYPE);
+   }
+
+   private static MethodHandle getter( Field field ) {
+      try {
+         return LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+      }
+      catch ( IllegalAccessException e ) {
+         return FIELD_GET.bindTo(field);
+      }
+   }
+
+   private static MethodHandle setter( Method method ) {
+      MethodHandle handle;
+      try {
+         handle = LOOKUP.unreflect(method);
+      }
+      catch ( IllegalAccessException e ) {
+         handle = METHOD_INVOKE.bindTo(method).asCollector(Object[].class, 1);
+      }
+      return handle.asType(SETTER_TYPE);
+   }
+
+   private static MethodHandle setter( Field field ) {
+      try {
+         return LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+      }
+      catch ( IllegalAccessException e ) {
+         // e.g. final fields, which Field.set() refuses to write as well
+         return FIELD_SET.bindTo(field);
+      }
+   }
+
+   /** Reads the property, or null if the property is write-only. */
+   private final MethodHandle _getter;
+   /** Writes the property, or null if the property is read-only. */
+   private final MethodHandle _setter;
+
+   private PropertyHandle( MethodHandle getter, MethodHandle setter ) {
+      _getter = getter;
+      _setter = setter;
+   }
+
+   /**
+    * Reads the property from the bean.
+    *
+    * @param bean the bean, an instance of the class this handle was created for
+    * @return the value of the property
+    * @throws Throwable anything thrown by the read method or field access
+    */
+   Object getValue( Object bean ) throws Throwable {
+      return _getter.invokeExact(bean);
+   }
+
+   /** Returns true if the property can be read. */
+   boolean isReadable() {
+      return _getter != null;
+   }
+
+   /** Returns true if the property can be written. */
+   boolean isWritable() {
+      return _setter != null;
+   }
+
+   /**
+    * Writes the property on the bean.
+    *
+    * @param bean the bean, an instance of the class this handle was created for
+    * @param value the value of the property
+    * @throws Throwable anything thrown by the write method or field access
+    */
+   void setValue( Object bean, Object value ) throws Throwable {
+      _setter.invokeExact(bean, value);
+   }
+}
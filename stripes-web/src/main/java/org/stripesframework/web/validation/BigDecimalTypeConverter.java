@@ -29,6 +29,7 @@ import java.util.Collection;
  * @author Tim Fennell
  * @since Stripes 1.1.2
  */
+@ThreadSafe
 public class BigDecimalTypeConverter extends NumberTypeConverterSupport implements TypeConverter<BigDecimal> {
 
    /**
@@ -30,6 +30,7 @@ import java.util.Collection;
  * @author Tim Fennell
  * @since Stripes 1.1.2
  */
+@ThreadSafe
 public class BigIntegerTypeConverter extends NumberTypeConverterSupport implements TypeConverter<BigInteger> {
 
    /**
@@ -37,6 +37,7 @@ import java.util.Locale;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class BooleanTypeConverter implements TypeConverter<Boolean> {
 
    private static final Collection<String> truths = new HashSet<>();
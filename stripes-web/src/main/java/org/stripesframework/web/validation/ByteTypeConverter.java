@@ -25,6 +25,7 @@ import java.util.Collection;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class ByteTypeConverter extends NumberTypeConverterSupport implements TypeConverter<Byte> {
 
    /**
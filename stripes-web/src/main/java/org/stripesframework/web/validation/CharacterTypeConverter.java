@@ -25,6 +25,7 @@ import java.util.Locale;
  * @author Tim Fennell
  * @since Stripes 1.4
  */
+@ThreadSafe
 public class CharacterTypeConverter implements TypeConverter<Character> {
 
    /**
@@ -41,6 +41,7 @@ import java.util.Locale;
  * @author Aaron Porter
  * @since Stripes 1.5
  */
+@ThreadSafe
 public class CreditCardTypeConverter implements TypeConverter<String> {
 
    /**
@@ -20,8 +20,10 @@ import java.time.LocalDate;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 import org.stripesframework.web.config.Configuration;
+import org.stripesframework.web.util.BoundedCache;
 import org.stripesframework.web.util.Log;
 import org.stripesframework.web.util.TypeHandlerCache;
 
@@ -37,12 +39,18 @@ public class DefaultTypeConverterFactory implements TypeConverterFactory {
 
    private static final Log log = Log.getInstance(DefaultTypeConverterFactory.class);
 
+   /** The maximum number of shared converter instances, i.e. converter classes times locales. */
+   private static final int SHARED_INSTANCE_CAPACITY = 1024;
+
    /** Caches {@link TypeConverter} to {@link Class} mappings. */
    private TypeHandlerCache<Class<? extends TypeConverter<?>>> _cache;
 
    /** Stores a reference to the Configuration passed in at initialization time. */
    private Configuration _configuration;
 
+   /** Caches the shared instances of {@link ThreadSafe} converters, keyed by class and locale. */
+   private final BoundedCache<ConverterKey, TypeConverter<?>> _sharedInstances = new BoundedCache<>(SHARED_INSTANCE_CAPACITY);
+
    /**
     * Adds a TypeConverter to the set of registered TypeConverters, overriding an existing
     * converter if one was registered for the type.
@@ -56,17 +64,25 @@ public class DefaultTypeConverterFactory implements TypeConverterFactory {
    }
 
    /**
-    * Gets an instance of the TypeConverter class specified.
+    * Gets an instance of the TypeConverter class specified. Converters annotated with
+    * {@link ThreadSafe} are created once per locale and shared, all others are created anew for
+    * every call.
     *
     * @param clazz the TypeConverter type that is desired
     * @return an instance of the TypeConverter specified
     * @throws Exception if there is a problem instantiating the TypeConverter
     */
    @Override
-   @SuppressWarnings("unchecked")
    public TypeConverter getInstance( Class<? extends TypeConverter> clazz, Locale locale ) throws Exception {
-      TypeConverter converter = getConfiguration().getObjectFactory().newInstance(clazz);
-      converter.setLocale(locale);
+      if ( !clazz.isAnnotationPresent(ThreadSafe.class) ) {
+         return newInstance(clazz, locale);
+      }
+
+      ConverterKey key = new ConverterKey(clazz, locale);
+      TypeConverter<?> converter = _sharedInstances.get(key);
+      if ( converter == null ) {
+         converter = _sharedInstances.putIfAbsent(key, newInstance(clazz, locale));
+      }
       return converter;
    }
 
@@ -149,4 +165,45 @@ public class DefaultTypeConverterFactory implements TypeConverterFactory {
    protected Map<Class<?>, Class<? extends TypeConverter<?>>> getTypeConverters() {
       return _cache.getHandlers();
    }
+
+   /**
+    * Creates and initializes a new instance of the TypeConverter class specified.
+    *
+    * @param clazz the TypeConverter type that is desired
+    * @param locale the locale the converter will convert from
+    * @return a new instance of the TypeConverter specified
+    * @throws Exception if there is a problem instantiating the TypeConverter
+    */
+   @SuppressWarnings("unchecked")
+   protected TypeConverter newInstance( Class<? extends TypeConverter> clazz, Locale locale ) throws Exception {
+      TypeConverter converter = getConfiguration().getObjectFactory().newInstance(clazz);
+      converter.setLocale(locale);
+      return converter;
+   }
+
+   /** Identifies a shared converter instance by converter class and locale. */
+   private static class ConverterKey {
+
+      private final Class<?> _converterClass;
+      private final Locale   _locale;
+
+      ConverterKey( Class<?> converterClass, Locale locale ) {
+         _converterClass = converterClass;
+         _locale = locale;
+      }
+
+      @Override
+      public boolean equals( Object obj ) {
+         if ( !(obj instanceof ConverterKey) ) {
+            return false;
+         }
+         ConverterKey that = (ConverterKey)obj;
+         return _converterClass == that._converterClass && Objects.equals(_locale, that._locale);
+      }
+
+      @Override
+      public int hashCode() {
+         return 31 * _converterClass.hashCode() + Objects.hashCode(_locale);
+      }
+   }
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class DoubleTypeConverter extends NumberTypeConverterSupport implements TypeConverter<Double> {
 
    /**
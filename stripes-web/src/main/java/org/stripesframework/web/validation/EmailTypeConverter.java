@@ -43,6 +43,7 @@ import javax.mail.internet.InternetAddress;
  * @author Tim Fennell
  * @since Stripes 1.2
  */
+@ThreadSafe
 public class EmailTypeConverter implements TypeConverter<String> {
 
    /**
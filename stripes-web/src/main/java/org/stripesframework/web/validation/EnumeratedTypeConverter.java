@@ -25,6 +25,7 @@ import java.util.Locale;
  * @author Tim Fennell
  */
 @SuppressWarnings("unchecked")
+@ThreadSafe
 public class EnumeratedTypeConverter implements TypeConverter<Enum> {
 
    @Override
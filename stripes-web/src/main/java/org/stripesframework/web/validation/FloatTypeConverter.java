@@ -25,6 +25,7 @@ import java.util.Collection;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class FloatTypeConverter extends NumberTypeConverterSupport implements TypeConverter<Float> {
 
    /** The minimum value that can assigned to a float or Float. */
@@ -23,6 +23,7 @@ import java.util.Collection;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class IntegerTypeConverter extends NumberTypeConverterSupport implements TypeConverter<Integer> {
 
    /**
@@ -8,6 +8,7 @@ import java.util.Locale;
 /**
  * Converts a ISO-8601 formatted string (e.g. "2020-01-01") to a LocalDate.
  */
+@ThreadSafe
 public class LocalDateTypeConverter implements TypeConverter<LocalDate> {
 
    @Override
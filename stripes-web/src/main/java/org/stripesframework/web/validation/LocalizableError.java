@@ -14,6 +14,9 @@
  */
 package org.stripesframework.web.validation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
@@ -125,21 +128,21 @@ public class LocalizableError extends SimpleError {
     */
    @Override
    protected String getMessageTemplate( Locale locale ) {
-      String template = null;
-
       Class<? extends ActionBean> beanclass = getBeanclass();
-      if ( beanclass != null ) {
-         template = LocalizationUtility.getErrorMessage(locale, beanclass.getName() + "." + _messageKey);
-      }
-      if ( template == null ) {
-         String actionPath = getActionPath();
+      String fqn = beanclass == null ? null : beanclass.getName();
+      String actionPath = getActionPath();
+
+      String template = LocalizationUtility.getErrorMessage(locale, Arrays.asList(LocalizableError.class.getName(), fqn, actionPath, _messageKey), () -> {
+         List<String> keys = new ArrayList<>(3);
+         if ( fqn != null ) {
+            keys.add(fqn + "." + _messageKey);
+         }
          if ( actionPath != null ) {
-            template = LocalizationUtility.getErrorMessage(locale, actionPath + "." + _messageKey);
+            keys.add(actionPath + "." + _messageKey);
          }
-      }
-      if ( template == null ) {
-         template = LocalizationUtility.getErrorMessage(locale, _messageKey);
-      }
+         keys.add(_messageKey);
+         return keys.toArray(new String[0]);
+      });
 
       if ( template == null ) {
          throw new MissingResourceException("Could not find an error message with key: " + _messageKey, null, null);
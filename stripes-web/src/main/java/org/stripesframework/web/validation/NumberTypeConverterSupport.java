@@ -23,7 +23,8 @@ import java.util.Locale;
 
 /**
  * Provides the basic support for converting Strings to non-floating point numbers (i.e. shorts,
- * integers, and longs).
+ * integers, and longs). Parsing does not modify the converter, so subclasses that keep no state of
+ * their own can be marked {@link ThreadSafe}.
  *
  * @author Tim Fennell
  */
@@ -74,7 +75,9 @@ public class NumberTypeConverterSupport {
       input = preprocess(input);
       ParsePosition pp = new ParsePosition(0);
 
-      for ( NumberFormat format : _formats ) {
+      for ( NumberFormat prototype : _formats ) {
+         // NumberFormats are not thread safe, parse with a copy so converters can be shared
+         NumberFormat format = (NumberFormat)prototype.clone();
          pp.setIndex(0);
          Number number = format.parse(input, pp);
          if ( number != null && input.length() == pp.getIndex() ) {
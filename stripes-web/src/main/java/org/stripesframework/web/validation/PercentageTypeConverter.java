@@ -29,6 +29,7 @@ import java.util.regex.Pattern;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class PercentageTypeConverter extends NumberTypeConverterSupport implements TypeConverter<Number> {
 
    /** Pattern used to remove any spaces between the value and the % sign. */
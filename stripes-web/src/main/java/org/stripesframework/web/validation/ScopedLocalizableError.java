@@ -14,6 +14,7 @@
  */
 package org.stripesframework.web.validation;
 
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
@@ -126,77 +127,50 @@ public class ScopedLocalizableError extends LocalizableError {
 
    /**
     * Overrides getMessageTemplate to perform a scoped search for a message template as defined in
-    * the class level javadoc.
+    * the class level javadoc. The outcome of the search is cached per resource bundle.
     */
    @Override
    protected String getMessageTemplate( Locale locale ) {
-      String name1 = null, name2 = null, name3 = null, name4 = null, name5 = null, name6 = null, name7 = null, name8 = null, name9 = null, name10 = null, name11 = null;
-
       final String actionPath = getActionPath();
       final String fqn = getBeanclass().getName();
       final String fieldName = getFieldName();
 
-      // 1. com.myco.KittenDetailActionBean.age.outOfRange
-      name1 = fqn + "." + fieldName + "." + _key;
-      String template = LocalizationUtility.getErrorMessage(locale, name1);
-
-      if ( template == null ) {
-         // 2. com.myco.KittenDetailActionBean.age.errorMessage
-         name2 = fqn + "." + fieldName + "." + DEFAULT_NAME;
-         template = LocalizationUtility.getErrorMessage(locale, name2);
-      }
-      if ( template == null ) {
-         // 3. /cats/KittenDetail.action.age.outOfRange
-         name3 = actionPath + "." + fieldName + "." + _key;
-         template = LocalizationUtility.getErrorMessage(locale, name3);
-      }
-      if ( template == null ) {
-         // 4. /cats/KittenDetail.action.age.errorMessage
-         name4 = actionPath + "." + fieldName + "." + DEFAULT_NAME;
-         template = LocalizationUtility.getErrorMessage(locale, name4);
-      }
-      if ( template == null ) {
-         // 5. age.outOfRange
-         name5 = fieldName + "." + _key;
-         template = LocalizationUtility.getErrorMessage(locale, name5);
-      }
-      if ( template == null ) {
-         // 6. age.errorMessage
-         name6 = fieldName + "." + DEFAULT_NAME;
-         template = LocalizationUtility.getErrorMessage(locale, name6);
-      }
-      if ( template == null ) {
-         // 7. com.myco.KittenDetailActionBean.outOfRange
-         name7 = fqn + "." + _key;
-         template = LocalizationUtility.getErrorMessage(locale, name7);
-      }
-      if ( template == null ) {
-         // 8. com.myco.KittenDetailActionBean.outOfRange
-         name8 = fqn + "." + DEFAULT_NAME;
-         template = LocalizationUtility.getErrorMessage(locale, name8);
-      }
-      if ( template == null ) {
-         // 9. /cats/KittenDetail.action.outOfRange
-         name9 = actionPath + "." + _key;
-         template = LocalizationUtility.getErrorMessage(locale, name9);
-      }
-      if ( template == null ) {
-         // 10. /cats/KittenDetail.action.errorMessage
-         name10 = actionPath + "." + DEFAULT_NAME;
-         template = LocalizationUtility.getErrorMessage(locale, name10);
-      }
-      if ( template == null ) {
-         // 11. converter.integer.outOfRange
-         name11 = _defaultScope + "." + _key;
-         template = LocalizationUtility.getErrorMessage(locale, name11);
-      }
+      String template = LocalizationUtility.getErrorMessage(locale,
+            Arrays.asList(ScopedLocalizableError.class.getName(), fqn, actionPath, fieldName, _key, _defaultScope),
+            () -> getMessageKeys(fqn, actionPath, fieldName));
 
       if ( template == null ) {
-         throw new MissingResourceException(
-               "Could not find an error message with any of the following keys: " + "'" + name1 + "', '" + name2 + "', '" + name3 + "', '" + name4 + "', '"
-                     + name5 + "', '" + name6 + "', '" + name7 + "'." + name8 + "', '" + name9 + "', '" + name10 + "', '" + name11 + "'.", null, null);
+         throw new MissingResourceException("Could not find an error message with any of the following keys: '"
+               + String.join("', '", getMessageKeys(fqn, actionPath, fieldName)) + "'.", null, null);
       }
 
       return template;
    }
+
+   /** Builds the keys to search for a message template, in order of precedence. */
+   private String[] getMessageKeys( String fqn, String actionPath, String fieldName ) {
+      return new String[] {
+            // 1. com.myco.KittenDetailActionBean.age.outOfRange
+            fqn + "." + fieldName + "." + _key,
+            // 2. com.myco.KittenDetailActionBean.age.errorMessage
+            fqn + "." + fieldName + "." + DEFAULT_NAME,
+            // 3. /cats/KittenDetail.action.age.outOfRange
+            actionPath + "." + fieldName + "." + _key,
+            // 4. /cats/KittenDetail.action.age.errorMessage
+            actionPath + "." + fieldName + "." + DEFAULT_NAME,
+            // 5. age.outOfRange
+            fieldName + "." + _key,
+            // 6. age.errorMessage
+            fieldName + "." + DEFAULT_NAME,
+            // 7. com.myco.KittenDetailActionBean.outOfRange
+            fqn + "." + _key,
+            // 8. com.myco.KittenDetailActionBean.errorMessage
+            fqn + "." + DEFAULT_NAME,
+            // 9. /cats/KittenDetail.action.outOfRange
+            actionPath + "." + _key,
+            // 10. /cats/KittenDetail.action.errorMessage
+            actionPath + "." + DEFAULT_NAME,
+            // 11. converter.integer.outOfRange
+            _defaultScope + "." + _key };
+   }
 }
@@ -23,6 +23,7 @@ import java.util.Collection;
  *
  * @author Tim Fennell
  */
+@ThreadSafe
 public class ShortTypeConverter extends NumberTypeConverterSupport implements TypeConverter<Short> {
 
    /**
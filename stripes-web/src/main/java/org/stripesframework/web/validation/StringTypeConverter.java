@@ -25,6 +25,7 @@ import java.util.Locale;
  * @author Tim Fennell
  * @since Stripes 1.4
  */
+@ThreadSafe
 public class StringTypeConverter implements TypeConverter<String> {
 
    /** Simply returns the input String un-modified in any way. */
@@ -0,0 +1,26 @@
+package org.stripesframework.web.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * <p>
+ * Marks a {@link TypeConverter} whose instances may be shared by concurrent requests. Such a
+ * converter must not change its state in {@link TypeConverter#convert} and must not keep any state
+ * other than what it derives from the locale passed to {@link TypeConverter#setLocale}.
+ * {@link DefaultTypeConverterFactory} then creates a single instance per converter class and
+ * locale and reuses it, instead of creating a new instance for every converted value.
+ * </p>
+ * <p>
+ * The annotation is not inherited: a subclass of a thread safe converter is only shared if it is
+ * annotated itself.
+ * </p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface ThreadSafe {}
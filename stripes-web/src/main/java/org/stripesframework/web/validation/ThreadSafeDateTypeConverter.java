@@ -0,0 +1,229 @@
+package org.stripesframework.web.validation;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.regex.Pattern;
+
+import org.stripesframework.web.controller.StripesFilter;
+
+
+/**
+ * <p>
+ * A variant of {@link DateTypeConverter} that parses with {@link DateTimeFormatter}s instead of
+ * {@link SimpleDateFormat}s. The formatters, the format strings and the pre-process pattern are
+ * resolved once in {@link #setLocale(Locale)}, and conversion does not modify the converter, so a
+ * single instance is shared per locale by {@link DefaultTypeConverterFactory}.
+ * </p>
+ * <p>
+ * Input is pre-processed and the format strings are looked up exactly like
+ * {@link DateTypeConverter} does, using the same resource bundle keys. The format strings are
+ * translated into {@link DateTimeFormatter} patterns, so that years and month names parse like
+ * they do with {@link SimpleDateFormat}. Parsing is strict and case insensitive, which means that
+ * invalid dates such as February 30th are rejected instead of rolled over. Two digit years are
+ * read as 2000 to 2099, not relative to the current date. Dates without a time zone are
+ * interpreted in the default time zone.
+ * </p>
+ * <p>
+ * The converter is not registered by default. Register it for {@link Date} with the
+ * {@link TypeConverterFactory}, or use it through {@code @Validate(converter=...)}.
+ * </p>
+ */
+@ThreadSafe
+public class ThreadSafeDateTypeConverter implements TypeConverter<Date> {
+
+   private Locale              _locale;
+   private Pattern             _preProcessPattern;
+   private DateTimeFormatter[] _formatters;
+
+   /**
+    * Attempts to convert a String to a Date object. Pre-processes the input by invoking
+    * preProcessInput(), then tries the formatters in order until one of them parses the input.
+    */
+   @Override
+   public Date convert( String input, Class<? extends Date> targetType, Collection<ValidationError> errors ) {
+      String parseable = preProcessInput(input);
+
+      for ( DateTimeFormatter formatter : _formatters ) {
+         try {
+            return toDate(formatter.parse(parseable));
+         }
+         catch ( DateTimeException e ) { /* Do nothing, we'll get lots of these. */ }
+      }
+
+      errors.add(new ScopedLocalizableError("converter.date", "invalidDate"));
+      return null;
+   }
+
+   /**
+    * @return the current input locale.
+    */
+   public Locale getLocale() {
+      return _locale;
+   }
+
+   /**
+    * Used by Stripes to set the input locale. Resolves the pre-process pattern and creates the
+    * formatters used to convert any input.
+    */
+   @Override
+   public void setLocale( Locale locale ) {
+      _locale = locale;
+      _preProcessPattern = getPreProcessPattern();
+      _formatters = getDateTimeFormatters();
+   }
+
+   /**
+    * Checks to see how many 'parts' there are to the date (separated by spaces) and if there are
+    * only two parts it adds the current year to the end, see
+    * {@link DateTypeConverter#checkAndAppendYear(String)}.
+    */
+   protected String checkAndAppendYear( String input ) {
+      int count = 0;
+      for ( int i = 0; i < input.length(); i++ ) {
+         if ( input.charAt(i) == ' ' ) {
+            ++count;
+         }
+      }
+
+      if ( count == 1 ) {
+         input += " " + Calendar.getInstance(_locale).get(Calendar.YEAR);
+      }
+      return input;
+   }
+
+   /**
+    * Returns the formatters that will be used in sequence to try and parse the date String. Called
+    * once when the locale is set. Creates a formatter for each of the strings returned by
+    * getFormatStrings(), skipping those that are not valid {@link DateTimeFormatter} patterns.
+    */
+   protected DateTimeFormatter[] getDateTimeFormatters() {
+      List<DateTimeFormatter> formatters = new ArrayList<>();
+      for ( String formatString : getFormatStrings() ) {
+         try {
+            formatters.add(new DateTimeFormatterBuilder().parseCaseInsensitive()
+                  .appendPattern(toDateTimePattern(formatString))
+                  .toFormatter(_locale)
+                  .withResolverStyle(ResolverStyle.STRICT));
+         }
+         catch ( IllegalArgumentException e ) {
+            // not a valid java.time pattern, try the next one
+         }
+      }
+      return formatters.toArray(new DateTimeFormatter[0]);
+   }
+
+   /**
+    * Returns the format strings that will be used, in order, to try and parse the date. Looks them
+    * up like {@link DateTypeConverter#getFormatStrings()} does.
+    */
+   protected String[] getFormatStrings() {
+      try {
+         return getResourceString(DateTypeConverter.KEY_FORMAT_STRINGS).split(", *");
+      }
+      catch ( MissingResourceException mre ) {
+         int[] dateFormats = { DateFormat.SHORT, DateFormat.MEDIUM, DateFormat.LONG };
+         String[] formatStrings = new String[dateFormats.length + DateTypeConverter.formatStrings.length];
+
+         for ( int i = 0; i < dateFormats.length; i++ ) {
+            SimpleDateFormat dateFormat = (SimpleDateFormat)DateFormat.getDateInstance(dateFormats[i], _locale);
+            formatStrings[i] = preProcessInput(dateFormat.toPattern());
+         }
+
+         System.arraycopy(DateTypeConverter.formatStrings, 0, formatStrings, dateFormats.length, DateTypeConverter.formatStrings.length);
+         return formatStrings;
+      }
+   }
+
+   /**
+    * Returns the regular expression pattern used in the pre-process method. Looks it up like
+    * {@link DateTypeConverter#getPreProcessPattern()} does.
+    */
+   protected Pattern getPreProcessPattern() {
+      try {
+         return Pattern.compile(getResourceString(DateTypeConverter.KEY_PRE_PROCESS_PATTERN));
+      }
+      catch ( MissingResourceException exc ) {
+         return DateTypeConverter.PRE_PROCESS_PATTERN;
+      }
+   }
+
+   /** Convenience method to fetch a property from the resource bundle. */
+   protected String getResourceString( String key ) throws MissingResourceException {
+      return StripesFilter.getConfiguration().getLocalizationBundleFactory().getErrorMessageBundle(_locale).getString(key);
+   }
+
+   /**
+    * Pre-processes the input String to improve the chances of parsing it, see
+    * {@link DateTypeConverter#preProcessInput(String)}.
+    */
+   protected String preProcessInput( String input ) {
+      input = _preProcessPattern.matcher(input.trim()).replaceAll(" ");
+      return checkAndAppendYear(input);
+   }
+
+   /**
+    * Converts the parsed fields into a Date. Uses the instant if the input included a time zone,
+    * and otherwise the date and time of day, if any, in the default time zone.
+    */
+   protected Date toDate( TemporalAccessor parsed ) {
+      if ( parsed.isSupported(ChronoField.INSTANT_SECONDS) ) {
+         return Date.from(Instant.from(parsed));
+      }
+
+      LocalDate date = LocalDate.from(parsed);
+      LocalTime time = parsed.query(TemporalQueries.localTime());
+      return Date.from(date.atTime(time != null ? time : LocalTime.MIDNIGHT).atZone(ZoneId.systemDefault()).toInstant());
+   }
+
+   /**
+    * Translates a {@link SimpleDateFormat} pattern into a {@link DateTimeFormatter} pattern that
+    * parses alike: a year is parsed as the proleptic year, because strict resolving requires an
+    * era for the year-of-era, and an abbreviated year as well as an abbreviated month name also
+    * accept the full form.
+    */
+   private static String toDateTimePattern( String pattern ) {
+      StringBuilder builder = new StringBuilder(pattern.length() + 16);
+      boolean quoted = false;
+      int i = 0;
+      while ( i < pattern.length() ) {
+         char c = pattern.charAt(i);
+         int end = i + 1;
+         if ( c == '\'' ) {
+            quoted = !quoted;
+         } else if ( !quoted ) {
+            while ( end < pattern.length() && pattern.charAt(end) == c ) {
+               ++end;
+            }
+         }
+
+         int count = end - i;
+         if ( !quoted && c == 'y' ) {
+            builder.append(count <= 2 ? "[uuuu][uu]" : "u".repeat(count));
+         } else if ( !quoted && c == 'M' && count >= 3 ) {
+            builder.append("[MMMM][MMM]");
+         } else {
+            builder.append(pattern, i, end);
+         }
+         i = end;
+      }
+      return builder.toString();
+   }
+}
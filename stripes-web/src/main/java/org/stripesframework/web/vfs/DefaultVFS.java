@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 
@@ -151,6 +152,39 @@ public class DefaultVFS extends VFS {
       }
    }
 
+   /**
+    * Reads the resources of a JAR file in a single pass over the JAR, instead of listing them and
+    * opening each of them separately. Other locations are read as described by
+    * {@link VFS#readLocation(URL, String, Predicate, ResourceReader)}.
+    */
+   @Override
+   public void readLocation( URL location, String path, Predicate<String> filter, ResourceReader reader ) throws IOException {
+      URL jarUrl = findJarForResource(location);
+      if ( jarUrl == null ) {
+         super.readLocation(location, path, filter, reader);
+         return;
+      }
+
+      String prefix = path.endsWith("/") ? path : path + "/";
+      if ( prefix.startsWith("/") ) {
+         prefix = prefix.substring(1);
+      }
+
+      log.debug("Reading ", location);
+      try (JarInputStream jar = new JarInputStream(jarUrl.openStream())) {
+         for ( JarEntry entry; (entry = jar.getNextJarEntry()) != null; ) {
+            String name = entry.getName();
+            if ( name.startsWith("/") ) {
+               name = name.substring(1);
+            }
+            if ( !entry.isDirectory() && name.startsWith(prefix) && filter.test(name) ) {
+               log.trace("Reading resource: ", name);
+               reader.read(name, jar);
+            }
+         }
+      }
+   }
+
    /**
     * Attempts to deconstruct the given URL to find a JAR file containing the resource referenced
     * by the URL. That is, assuming the URL references a JAR entry, this method will return a URL
@@ -15,17 +15,27 @@
 package org.stripesframework.web.vfs;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.stripesframework.web.util.Log;
 
 
 /**
- * Provides a very simple API for accessing resources within an application server.
+ * <p>Provides a very simple API for accessing resources within an application server.</p>
+ *
+ * <p>{@link org.stripesframework.web.util.ResolverUtil} lists the resources of a package with
+ * {@link #list(String)} unless it reads class indexes or class headers. It then visits the
+ * locations of the package one by one, through {@link #getLocations(String)},
+ * {@link #listLocation(URL, String)} and
+ * {@link #readLocation(URL, String, Predicate, ResourceReader)}. Implementations that change how
+ * resources are found must therefore override these methods, or {@link #list(URL, String)} which
+ * all of them use, rather than {@link #list(String)} alone.</p>
  *
  * @author Ben Gunter
  */
@@ -101,6 +111,18 @@ public abstract class VFS {
       return Collections.list(Thread.currentThread().getContextClassLoader().getResources(path));
    }
 
+   /**
+    * Get a list of {@link URL}s for all the resources found at the specified path. These are the
+    * locations, such as jars and class directories, whose children {@link #list(String)} lists.
+    *
+    * @param path The resource path.
+    * @return A list of {@link URL}s, as returned by {@link ClassLoader#getResources(String)}.
+    * @throws IOException If I/O errors occur
+    */
+   public List<URL> getLocations( String path ) throws IOException {
+      return getResources(path);
+   }
+
    /** Return true if the {@link VFS} implementation is valid for the current environment. */
    public abstract boolean isValid();
 
@@ -120,6 +142,46 @@ public abstract class VFS {
       return names;
    }
 
+   /**
+    * Recursively list the full resource path of all the resources that are children of one of the
+    * locations returned by {@link #getLocations(String)}.
+    *
+    * @param location The URL returned by {@link #getLocations(String)}.
+    * @param path The path that was passed to {@link #getLocations(String)}.
+    * @return A list containing the names of the child resources.
+    * @throws IOException If I/O errors occur
+    */
+   public List<String> listLocation( URL location, String path ) throws IOException {
+      return list(location, path);
+   }
+
+   /**
+    * Recursively reads the resources that are children of one of the locations returned by
+    * {@link #getLocations(String)}, passing each resource accepted by the filter to the reader.
+    * This implementation lists the resources with {@link #listLocation(URL, String)} and opens
+    * each of them separately; subclasses may read them in a single pass instead.
+    *
+    * @param location The URL returned by {@link #getLocations(String)}.
+    * @param path The path that was passed to {@link #getLocations(String)}.
+    * @param filter Accepts the full resource paths of the resources to read.
+    * @param reader Reads the accepted resources.
+    * @throws IOException If I/O errors occur, or if thrown by the reader
+    */
+   public void readLocation( URL location, String path, Predicate<String> filter, ResourceReader reader ) throws IOException {
+      String prefix = location.toExternalForm();
+      if ( !prefix.endsWith("/") ) {
+         prefix = prefix + "/";
+      }
+
+      for ( String name : listLocation(location, path) ) {
+         if ( filter.test(name) && name.length() > path.length() ) {
+            try (InputStream in = new URL(prefix + name.substring(path.length() + 1)).openStream()) {
+               reader.read(name, in);
+            }
+         }
+      }
+   }
+
    /**
     * Recursively list the full resource path of all the resources that are children of the
     * resource identified by a URL.
@@ -131,4 +193,20 @@ public abstract class VFS {
     * @throws IOException If I/O errors occur
     */
    protected abstract List<String> list( URL url, String forPath ) throws IOException;
+
+
+   /** Reads the content of a resource found by {@link #readLocation(URL, String, Predicate, ResourceReader)}. */
+   @FunctionalInterface
+   public interface ResourceReader {
+
+      /**
+       * Reads a resource. The stream is closed by the {@link VFS} and must not be closed by the
+       * reader, which need not read it to the end.
+       *
+       * @param name The full resource path of the resource.
+       * @param in The content of the resource.
+       * @throws IOException If I/O errors occur
+       */
+      void read( String name, InputStream in ) throws IOException;
+   }
 }
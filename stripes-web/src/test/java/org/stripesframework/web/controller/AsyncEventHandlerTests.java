@@ -0,0 +1,165 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.FilterEnabledTestBase;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.ForwardResolution;
+import org.stripesframework.web.action.HandlesEvent;
+import org.stripesframework.web.action.RedirectResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.mock.MockAsyncContext;
+import org.stripesframework.web.mock.MockRoundtrip;
+
+
+/**
+ * Tests event handlers that return a CompletionStage or Callable providing the Resolution.
+ */
+public class AsyncEventHandlerTests extends FilterEnabledTestBase {
+
+   private static final Executor delayed = CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS);
+
+   @Test
+   public void testCallableIsRunOnContainerThread() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(getMockServletContext(), AsyncActionBean.class);
+      trip.execute("callable");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNotNull();
+      assertThat(trip.getForwardUrl()).isEqualTo("/async.jsp");
+      assertThat(trip.getActionBean(AsyncActionBean.class).handlingThread).isEqualTo("MockAsyncContext");
+   }
+
+   @Test
+   public void testCompletedStageIsProcessedSynchronously() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(getMockServletContext(), AsyncActionBean.class);
+      trip.execute("completed");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNull();
+      assertThat(trip.getForwardUrl()).isEqualTo("/async.jsp");
+   }
+
+   @Test
+   public void testErrorCompletesRequest() throws Exception {
+      MockRoundtrip trip = dispatchPending();
+      MockAsyncContext asyncContext = (MockAsyncContext)trip.getRequest().getAsyncContext();
+      asyncContext.error(new IOException("Connection reset"));
+      asyncContext.awaitCompletion();
+
+      assertThat(trip.getResponse().getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+      assertThat(trip.getRequest().getAttribute(StripesConstants.REQ_ATTR_ASYNC_DISPATCH)).isNull();
+   }
+
+   @Test
+   public void testFailedStageIsHandled() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(getMockServletContext(), AsyncActionBean.class);
+      trip.execute("failed");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNotNull();
+      assertThat(trip.getResponse().getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+   }
+
+   @Test
+   public void testStageCompletesRequest() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(getMockServletContext(), AsyncActionBean.class);
+      trip.execute("stage");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNotNull();
+      assertThat(trip.getRedirectUrl()).contains(StripesConstants.URL_KEY_FLASH_SCOPE_ID);
+      assertThat(trip.getActionBean(AsyncActionBean.class).handlingThread).isNotEqualTo(Thread.currentThread().getName());
+   }
+
+   @Test
+   public void testStageIsAwaitedWithoutAsyncSupport() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(getMockServletContext(), AsyncActionBean.class);
+      trip.getRequest().setAsyncSupported(false);
+      trip.execute("stage");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNull();
+      assertThat(trip.getRedirectUrl()).contains(StripesConstants.URL_KEY_FLASH_SCOPE_ID);
+   }
+
+   @Test
+   public void testTimeoutCompletesRequest() throws Exception {
+      MockRoundtrip trip = dispatchPending();
+      MockAsyncContext asyncContext = (MockAsyncContext)trip.getRequest().getAsyncContext();
+      asyncContext.timeout();
+      asyncContext.awaitCompletion();
+
+      assertThat(asyncContext.isStarted()).isFalse();
+      assertThat(trip.getResponse().getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+      assertThat(trip.getRequest().getAttribute(StripesConstants.REQ_ATTR_ASYNC_DISPATCH)).isNull();
+
+      // The Resolution provided after the timeout is ignored
+      trip.getActionBean(AsyncActionBean.class).pending.complete(new ForwardResolution("/async.jsp"));
+      assertThat(trip.getForwardUrl()).isNull();
+   }
+
+   /** Dispatches a request whose event handler does not complete, without waiting for it. */
+   private MockRoundtrip dispatchPending() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(getMockServletContext(), AsyncActionBean.class);
+      trip.setParameter("pending", "");
+      getMockServletContext().dispatchRequest(trip.getRequest(), trip.getResponse());
+
+      assertThat(trip.getRequest().isAsyncStarted()).isTrue();
+      return trip;
+   }
+
+   @UrlBinding("/test/Async.action")
+   public static class AsyncActionBean implements ActionBean {
+
+      private final    CompletableFuture<Resolution> pending = new CompletableFuture<>();
+      private          ActionBeanContext             context;
+      private volatile String                        handlingThread;
+
+      @HandlesEvent("callable")
+      public Callable<Resolution> callable() {
+         return () -> {
+            handlingThread = Thread.currentThread().getName();
+            return new ForwardResolution("/async.jsp");
+         };
+      }
+
+      @HandlesEvent("completed")
+      public CompletionStage<Resolution> completed() {
+         return CompletableFuture.completedFuture(new ForwardResolution("/async.jsp"));
+      }
+
+      @HandlesEvent("failed")
+      public CompletionStage<Resolution> failed() {
+         return CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException("Backend unavailable");
+         }, delayed);
+      }
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @HandlesEvent("pending")
+      public CompletionStage<Resolution> pending() {
+         return pending;
+      }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      @HandlesEvent("stage")
+      public CompletionStage<Resolution> stage() {
+         return CompletableFuture.supplyAsync(() -> {
+            handlingThread = Thread.currentThread().getName();
+            return new RedirectResolution("/async.jsp").flash(this);
+         }, delayed);
+      }
+   }
+}
@@ -208,6 +208,27 @@ public class BasicBindingTests extends FilterEnabledTestBase {
       assertThat(bean.getMapOfLongs().get("nine")).isEqualTo(9L);
    }
 
+   @Test
+   public void bindSimplePropertiesRepeatedly() throws Exception {
+      // Later roundtrips bind through the binding plan recorded by the first one
+      for ( int i = 0; i < 3; i++ ) {
+         MockRoundtrip trip = getRoundtrip();
+         trip.addParameter("singleString", "value" + i);
+         trip.addParameter("setOnlyString", "setOnly" + i);
+         trip.addParameter("colors", "Red", "Blue");
+         trip.addParameter("listOfLongs", String.valueOf(i), "42");
+         trip.addParameter("context", "woohaa!");
+         trip.execute();
+
+         TestActionBean bean = trip.getActionBean(TestActionBean.class);
+         assertThat(bean.getSingleString()).isEqualTo("value" + i);
+         assertThat(bean.setOnlyStringIsNotNull()).isTrue();
+         assertThat(bean.getColors()).containsExactly(TestActionBean.Color.Red, TestActionBean.Color.Blue);
+         assertThat(bean.getListOfLongs()).containsExactly((long)i, 42L);
+         assertThat(bean.getContext()).isInstanceOf(ActionBeanContext.class);
+      }
+   }
+
    @Test
    public void bindStringIndexedPropertiesII() throws Exception {
       MockRoundtrip trip = getRoundtrip();
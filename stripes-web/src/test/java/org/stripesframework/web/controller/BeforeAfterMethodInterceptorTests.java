@@ -22,6 +22,19 @@ import org.stripesframework.web.controller.LifecycleStage;
  */
 public class BeforeAfterMethodInterceptorTests {
 
+   @Test
+   public void testAppliesToStagesWithFilterMethods() {
+      BeforeAfterMethodInterceptor interceptor = new BeforeAfterMethodInterceptor();
+
+      assertThat(interceptor.appliesTo(LifecycleStage.ActionBeanResolution, null)).isTrue();
+      assertThat(interceptor.appliesTo(LifecycleStage.RequestInit, null)).isFalse();
+      assertThat(interceptor.appliesTo(LifecycleStage.ActionBeanResolution, TestActionBean2.class)).isTrue();
+      assertThat(interceptor.appliesTo(LifecycleStage.BindingAndValidation, TestActionBean2.class)).isTrue();
+      assertThat(interceptor.appliesTo(LifecycleStage.EventHandling, TestActionBean2.class)).isTrue();
+      assertThat(interceptor.appliesTo(LifecycleStage.ResolutionExecution, TestActionBean2.class)).isFalse();
+      assertThat(interceptor.appliesTo(LifecycleStage.RequestComplete, TestActionBean2.class)).isFalse();
+   }
+
    @Test
    public void testInterceptAtLifeCycleStage_ActionBeanResolution() throws Exception {
       ExecutionContext context = new TestExecutionContext();
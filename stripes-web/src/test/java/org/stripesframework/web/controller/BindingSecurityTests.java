@@ -34,6 +34,17 @@ class BindingSecurityTests extends FilterEnabledTestBase {
 
    private static final Log log = Log.getInstance(BindingSecurityTests.class);
 
+   @Test
+   void testBindingDeniedByName() {
+      NestedListValidateAnnotations bean = new NestedListValidateAnnotations();
+      BindingPolicyManager bpm = new BindingPolicyManager(NestedListValidateAnnotations.class);
+
+      assertThat(bpm.isBindingAllowed(bean, new ParameterName("blahList[0].name"))).isTrue();
+      assertThat(bpm.isBindingAllowed(bean, new ParameterName("blahList[0].internalName"))).isFalse();
+      assertThat(bpm.isBindingAllowed(bean, new ParameterName("class.classLoader.parent"))).isFalse();
+      assertThat(bpm.isBindingAllowed(bean, new ParameterName("utm_source"))).isFalse();
+   }
+
    @Test
    void testDefaultAnnotation() {
       evaluate(new DefaultAnnotation());
@@ -0,0 +1,116 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.config.RuntimeConfiguration;
+import org.stripesframework.web.mock.MockRoundtrip;
+import org.stripesframework.web.mock.MockServletContext;
+import org.stripesframework.web.util.bean.PropertyExpressionEvaluation;
+import org.stripesframework.web.validation.Validate;
+
+
+/**
+ * Tests that a property binder overriding the binding policy is consulted for every request.
+ */
+public class CustomBindingPolicyTests {
+
+   private static MockServletContext servletContext;
+
+   @BeforeAll
+   public static void setUp() {
+      Map<String, String> params = StripesTestFixture.getDefaultFilterParams();
+      params.put(RuntimeConfiguration.ACTION_BEAN_PROPERTY_BINDER, PolicyPropertyBinder.class.getName());
+      servletContext = new MockServletContext("test").addFilter(StripesFilter.class, "StripesFilter", params)
+            .setServlet(DispatcherServlet.class, "StripesDispatcher", null);
+   }
+
+   @AfterAll
+   public static void tearDown() {
+      servletContext.close();
+   }
+
+   @AfterEach
+   public void resetPolicy() {
+      PolicyPropertyBinder.denied = false;
+      PolicyPropertyBinder.permitted = false;
+   }
+
+   @Test
+   public void testPolicyDecidesOnParametersWithoutValidate() throws Exception {
+      assertThat(bind("unvalidated", "first").getUnvalidated()).isNull();
+
+      PolicyPropertyBinder.permitted = true;
+      assertThat(bind("unvalidated", "second").getUnvalidated()).isEqualTo("second");
+   }
+
+   @Test
+   public void testPolicyIsCheckedForEveryRequest() throws Exception {
+      assertThat(bind("name", "first").getName()).isEqualTo("first");
+
+      PolicyPropertyBinder.denied = true;
+      assertThat(bind("name", "second").getName()).isNull();
+   }
+
+   private PolicyActionBean bind( String parameter, String value ) throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, PolicyActionBean.class);
+      trip.addParameter(parameter, value);
+      trip.execute();
+      return trip.getActionBean(PolicyActionBean.class);
+   }
+
+
+   /** Denies all binding while {@link #denied} is set, and permits all while {@link #permitted} is set. */
+   public static class PolicyPropertyBinder extends DefaultActionBeanPropertyBinder {
+
+      static volatile boolean denied;
+      static volatile boolean permitted;
+
+      @Override
+      protected boolean isBindingAllowed( PropertyExpressionEvaluation eval ) {
+         return !denied && (permitted || super.isBindingAllowed(eval));
+      }
+   }
+
+
+   @UrlBinding("/policy/Policy.action")
+   public static class PolicyActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Validate
+      private String name;
+
+      private String unvalidated;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      public String getName() { return name; }
+
+      public String getUnvalidated() { return unvalidated; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      public void setName( String name ) { this.name = name; }
+
+      public void setUnvalidated( String unvalidated ) { this.unvalidated = unvalidated; }
+
+      @DefaultHandler
+      public Resolution view() {
+         return null;
+      }
+   }
+}
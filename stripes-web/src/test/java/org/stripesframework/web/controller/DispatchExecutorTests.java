@@ -0,0 +1,156 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.ForwardResolution;
+import org.stripesframework.web.action.HandlesEvent;
+import org.stripesframework.web.action.RedirectResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.config.Configuration;
+import org.stripesframework.web.mock.MockRoundtrip;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+/**
+ * Tests processing requests on the dispatch executor of the DispatcherServlet. Since virtual
+ * threads may not be supported by the Java runtime running the tests, the executor is replaced
+ * by one using platform threads.
+ */
+public class DispatchExecutorTests {
+
+   private static MockServletContext servletContext;
+
+   @BeforeAll
+   public static void setUp() {
+      Map<String, String> params = StripesTestFixture.getDefaultFilterParams();
+      params.put(DispatcherServlet.DISPATCH_TO_VIRTUAL_THREADS, "true");
+      servletContext = new MockServletContext("test").addFilter(StripesFilter.class, "StripesFilter", params)
+            .setServlet(ExecutorDispatcherServlet.class, "StripesDispatcher", null);
+   }
+
+   @AfterAll
+   public static void tearDown() {
+      servletContext.close();
+   }
+
+   @Test
+   public void testExceptionIsHandled() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, DispatchedActionBean.class);
+      trip.execute("fail");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNotNull();
+      assertThat(trip.getResponse().getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+   }
+
+   @Test
+   public void testRequestIsProcessedOnExecutor() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, DispatchedActionBean.class);
+      trip.execute("forward");
+
+      DispatchedActionBean bean = trip.getActionBean(DispatchedActionBean.class);
+      assertThat(trip.getRequest().getAsyncContext()).isNotNull();
+      assertThat(trip.getForwardUrl()).isEqualTo("/dispatched.jsp");
+      // forwarded on the executor rather than dispatched, which would leave the event name set
+      assertThat(trip.getRequest().getAttribute(StripesConstants.REQ_ATTR_EVENT_NAME)).isNull();
+      assertThat(bean.handlingThread).isEqualTo("DispatchExecutor");
+      assertThat(bean.configuration).isSameAs(((StripesFilter)servletContext.getFilters().get(0)).getInstanceConfiguration());
+   }
+
+   @Test
+   public void testRequestWithoutAsyncSupportIsProcessedOnRequestThread() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, DispatchedActionBean.class);
+      trip.getRequest().setAsyncSupported(false);
+      trip.execute("forward");
+
+      assertThat(trip.getRequest().getAsyncContext()).isNull();
+      assertThat(trip.getForwardUrl()).isEqualTo("/dispatched.jsp");
+      assertThat(trip.getActionBean(DispatchedActionBean.class).handlingThread).isEqualTo(Thread.currentThread().getName());
+   }
+
+   @Test
+   public void testStageIsAwaitedOnExecutor() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, DispatchedActionBean.class);
+      trip.execute("stage");
+
+      assertThat(trip.getRedirectUrl()).contains(StripesConstants.URL_KEY_FLASH_SCOPE_ID);
+      assertThat(trip.getActionBean(DispatchedActionBean.class).handlingThread).isEqualTo("DispatchExecutor");
+   }
+
+   @Test
+   public void testVirtualThreadExecutorDependsOnRuntime() {
+      ExecutorService executor = new DispatcherServlet().createDispatchExecutor();
+      try {
+         assertThat(executor != null).isEqualTo(Runtime.version().feature() >= 21);
+      }
+      finally {
+         if ( executor != null ) {
+            executor.shutdown();
+         }
+      }
+   }
+
+   @UrlBinding("/test/Dispatched.action")
+   public static class DispatchedActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+      private Configuration     configuration;
+      private String            handlingThread;
+
+      @HandlesEvent("fail")
+      public Resolution fail() {
+         throw new IllegalStateException("Backend unavailable");
+      }
+
+      @HandlesEvent("forward")
+      public Resolution forward() {
+         handlingThread = Thread.currentThread().getName();
+         configuration = StripesFilter.getConfiguration();
+         return new ForwardResolution("/dispatched.jsp");
+      }
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      @HandlesEvent("stage")
+      public CompletionStage<Resolution> stage() {
+         handlingThread = Thread.currentThread().getName();
+         return CompletableFuture.supplyAsync(() -> new RedirectResolution("/dispatched.jsp").flash(this),
+               CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+      }
+   }
+
+
+   /** Processes requests on platform threads, standing in for the virtual thread executor. */
+   public static class ExecutorDispatcherServlet extends DispatcherServlet {
+
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected ExecutorService createDispatchExecutor() {
+         return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "DispatchExecutor");
+            thread.setDaemon(true);
+            return thread;
+         });
+      }
+   }
+}
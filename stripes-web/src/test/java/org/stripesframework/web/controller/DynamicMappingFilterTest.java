@@ -0,0 +1,153 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.StreamingResolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.mock.MockFilterConfig;
+import org.stripesframework.web.mock.MockHttpServletRequest;
+import org.stripesframework.web.mock.MockHttpServletResponse;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+public class DynamicMappingFilterTest {
+
+   private static final AtomicInteger staticRequests = new AtomicInteger();
+
+   private MockServletContext _servletContext;
+   private StripesFilter      _stripesFilter;
+
+   @Test
+   public void testActionBeanIsDispatchedAfterNotFound() throws Exception {
+      givenDynamicMappingFilter(false);
+
+      MockHttpServletResponse response = whenRequested("/dynamic/mapping");
+
+      assertThat(response.getOutputString()).isEqualTo("action");
+      assertThat(staticRequests.get()).isEqualTo(1);
+   }
+
+   @Test
+   public void testDirectDispatchSkipsFilterChain() throws Exception {
+      givenDynamicMappingFilter(true);
+
+      MockHttpServletResponse response = whenRequested("/dynamic/mapping");
+
+      assertThat(response.getOutputString()).isEqualTo("action");
+      assertThat(staticRequests.get()).isZero();
+   }
+
+   @Test
+   public void testDirectDispatchSendsNotFound() throws Exception {
+      givenDynamicMappingFilter(true);
+
+      MockHttpServletResponse response = whenRequested("/missing.txt");
+
+      assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+      assertThat(staticRequests.get()).isEqualTo(1);
+   }
+
+   @Test
+   public void testDirectDispatchServesStaticResources() throws Exception {
+      givenDynamicMappingFilter(true);
+
+      MockHttpServletResponse response = whenRequested("/static.txt");
+
+      assertThat(response.getOutputString()).isEqualTo("static");
+      assertThat(staticRequests.get()).isEqualTo(1);
+   }
+
+   @Test
+   public void testNotFound() throws Exception {
+      givenDynamicMappingFilter(false);
+
+      MockHttpServletResponse response = whenRequested("/missing.txt");
+
+      assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+   }
+
+   @BeforeEach
+   public void setUp() {
+      staticRequests.set(0);
+   }
+
+   @AfterEach
+   public void tearDown() {
+      if ( _servletContext != null ) {
+         _servletContext.close();
+         _stripesFilter.destroy();
+      }
+   }
+
+   private void givenDynamicMappingFilter( boolean directDispatch ) throws Exception {
+      _servletContext = new MockServletContext("test");
+
+      // StripesFilter is initialized, but not mapped to the requests
+      MockFilterConfig filterConfig = new MockFilterConfig();
+      filterConfig.setFilterName("StripesFilter");
+      filterConfig.setServletContext(_servletContext);
+      filterConfig.addAllInitParameters(StripesTestFixture.getDefaultFilterParams());
+      _stripesFilter = new StripesFilter();
+      _stripesFilter.init(filterConfig);
+
+      _servletContext.addFilter(DynamicMappingFilter.class, "DynamicMappingFilter",
+            Collections.singletonMap(DynamicMappingFilter.DIRECT_DISPATCH_PARAM, String.valueOf(directDispatch)))
+            .setServlet(StaticResourceServlet.class, "default", null);
+   }
+
+   private MockHttpServletResponse whenRequested( String path ) throws Exception {
+      MockHttpServletRequest request = new MockHttpServletRequest("/test", path);
+      request.setMethod("GET");
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      _servletContext.acceptRequest(request, response);
+      return response;
+   }
+
+   @UrlBinding("/dynamic/{$event}")
+   public static class DynamicMappingActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @DefaultHandler
+      public Resolution mapping() {
+         return new StreamingResolution("text/plain", "action");
+      }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+   }
+
+
+   /** Stands in for the container's default servlet, which knows a single static resource. */
+   public static class StaticResourceServlet extends HttpServlet {
+
+      @Override
+      protected void service( HttpServletRequest request, HttpServletResponse response ) throws IOException {
+         staticRequests.incrementAndGet();
+         if ( "/static.txt".equals(request.getServletPath()) ) {
+            response.getWriter().write("static");
+         } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+         }
+      }
+   }
+}
@@ -0,0 +1,54 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.exception.StripesRuntimeException;
+
+
+public class EventNameIndexTests {
+
+   private static final EventNameIndex index = new EventNameIndex(Arrays.asList("save", "delete", "view"));
+
+   private static Map<String, String[]> parameters( String... names ) {
+      Map<String, String[]> parameters = new HashMap<>();
+      for ( String name : names ) {
+         parameters.put(name, new String[] { "" });
+      }
+      return parameters;
+   }
+
+   @Test
+   public void testEventIsFoundByImageParameter() {
+      assertThat(index.findEvent(parameters("delete.x", "delete.y"))).isEqualTo("delete");
+      assertThat(index.findEvent(parameters("delete", "delete.x", "delete.y"))).isEqualTo("delete");
+   }
+
+   @Test
+   public void testEventIsFoundFromEitherSide() {
+      // fewer parameters than event names
+      assertThat(index.findEvent(parameters("save"))).isEqualTo("save");
+
+      // more parameters than event names
+      assertThat(index.findEvent(parameters("a", "b", "c", "d", "e", "f", "g", "view"))).isEqualTo("view");
+      assertThat(index.findEvent(parameters("a", "b", "c", "d", "e", "f", "g", "h"))).isNull();
+   }
+
+   @Test
+   public void testIndexWithoutEvents() {
+      assertThat(EventNameIndex.EMPTY.findEvent(parameters("save"))).isNull();
+   }
+
+   @Test
+   public void testMultipleEventsAreRejected() {
+      assertThatThrownBy(() -> index.findEvent(parameters("save", "view.x"))).isInstanceOf(StripesRuntimeException.class)
+            .hasMessageContaining("Multiple event parameters");
+      assertThatThrownBy(() -> index.findEvent(parameters("a", "b", "c", "d", "e", "f", "save", "view"))).isInstanceOf(StripesRuntimeException.class)
+            .hasMessageContaining("Multiple event parameters");
+   }
+}
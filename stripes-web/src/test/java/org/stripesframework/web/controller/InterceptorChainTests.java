@@ -0,0 +1,205 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.HttpCache;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.config.BootstrapPropertyResolver;
+import org.stripesframework.web.config.Configuration;
+import org.stripesframework.web.config.DefaultConfiguration;
+import org.stripesframework.web.mock.MockFilterConfig;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+/**
+ * Tests for {@link InterceptorChain} and the chains provided by {@link Configuration}.
+ */
+public class InterceptorChainTests {
+
+   @Test
+   public void testChainsAreCachedByStageAndBeanClass() {
+      Configuration configuration = givenInitializedConfiguration(new RecordingInterceptor("always", null));
+
+      InterceptorChain unknownBean = configuration.getInterceptorChain(LifecycleStage.RequestInit, null);
+      InterceptorChain plainBean = configuration.getInterceptorChain(LifecycleStage.ResolutionExecution, PlainActionBean.class);
+
+      assertThat(configuration.getInterceptorChain(LifecycleStage.RequestInit, null)).isSameAs(unknownBean);
+      assertThat(configuration.getInterceptorChain(LifecycleStage.ResolutionExecution, PlainActionBean.class)).isSameAs(plainBean);
+      assertThat(configuration.getInterceptorChain(LifecycleStage.ResolutionExecution, CachedActionBean.class)).isNotSameAs(plainBean);
+      assertThat(configuration.getInterceptorChain(LifecycleStage.HandlerResolution, PlainActionBean.class)).isNotSameAs(plainBean);
+   }
+
+   @Test
+   public void testChainsAreNotCachedWhenInterceptorsAreOverridden() {
+      List<Interceptor> interceptors = new ArrayList<>();
+      Configuration configuration = new DefaultConfiguration() {
+
+         @Override
+         public Collection<Interceptor> getInterceptors( LifecycleStage stage ) {
+            return interceptors;
+         }
+      };
+
+      assertThat(configuration.getInterceptorChain(LifecycleStage.EventHandling, PlainActionBean.class).size()).isZero();
+      interceptors.add(new RecordingInterceptor("added", null));
+      assertThat(configuration.getInterceptorChain(LifecycleStage.EventHandling, PlainActionBean.class).size()).isEqualTo(1);
+   }
+
+   @Test
+   public void testHttpCacheInterceptorAppliesToAnnotatedBeans() {
+      HttpCacheInterceptor interceptor = new HttpCacheInterceptor();
+
+      assertThat(interceptor.appliesTo(LifecycleStage.ResolutionExecution, null)).isFalse();
+      assertThat(interceptor.appliesTo(LifecycleStage.ResolutionExecution, PlainActionBean.class)).isFalse();
+      assertThat(interceptor.appliesTo(LifecycleStage.ResolutionExecution, CachedActionBean.class)).isTrue();
+      assertThat(interceptor.appliesTo(LifecycleStage.ResolutionExecution, CachedHandlerActionBean.class)).isTrue();
+   }
+
+   @Test
+   public void testInterceptorsThatDoNotApplyAreLeftOut() throws Exception {
+      List<String> calls = new ArrayList<>();
+      RecordingInterceptor always = new RecordingInterceptor("always", calls);
+      RecordingInterceptor plainOnly = new RecordingInterceptor("plainOnly", calls) {
+
+         @Override
+         public boolean appliesTo( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+            return beanType == PlainActionBean.class;
+         }
+      };
+      Configuration configuration = givenConfiguration(always, plainOnly, new RecordingInterceptor("last", calls));
+
+      assertThat(configuration.getInterceptorChain(LifecycleStage.EventHandling, PlainActionBean.class).size()).isEqualTo(3);
+      assertThat(configuration.getInterceptorChain(LifecycleStage.EventHandling, CachedActionBean.class).getInterceptors()).hasSize(2)
+            .doesNotContain(plainOnly);
+
+      ExecutionContext ctx = new ExecutionContext();
+      ctx.setActionBean(new CachedActionBean());
+      ctx.setLifecycleStage(LifecycleStage.EventHandling, configuration);
+      ctx.wrap(context -> {
+         calls.add("target");
+         return null;
+      });
+
+      assertThat(calls).containsExactly("always", "last", "target");
+   }
+
+   @Test
+   public void testUnknownBeanClassIsPassedAsNull() {
+      List<Class<? extends ActionBean>> beanTypes = new ArrayList<>();
+      Configuration configuration = givenConfiguration(new RecordingInterceptor("recording", null) {
+
+         @Override
+         public boolean appliesTo( LifecycleStage stage, Class<? extends ActionBean> beanType ) {
+            beanTypes.add(beanType);
+            return false;
+         }
+      });
+
+      ExecutionContext ctx = new ExecutionContext();
+      ctx.setLifecycleStage(LifecycleStage.RequestInit, configuration);
+      ctx.setActionBean(new PlainActionBean());
+      ctx.setLifecycleStage(LifecycleStage.HandlerResolution, configuration);
+
+      assertThat(beanTypes).containsExactly(null, PlainActionBean.class);
+      assertThat(configuration.getInterceptorChain(LifecycleStage.HandlerResolution, PlainActionBean.class)).isSameAs(InterceptorChain.EMPTY);
+   }
+
+   private Configuration givenConfiguration( Interceptor... interceptors ) {
+      return new DefaultConfiguration() {
+
+         @Override
+         public Collection<Interceptor> getInterceptors( LifecycleStage stage ) {
+            return Arrays.asList(interceptors);
+         }
+      };
+   }
+
+   /** Creates an initialized configuration that runs the interceptors, after its own, at every stage. */
+   private Configuration givenInitializedConfiguration( Interceptor... interceptors ) {
+      DefaultConfiguration configuration = new DefaultConfiguration() {
+
+         @Override
+         protected Map<LifecycleStage, Collection<Interceptor>> initInterceptors() {
+            Map<LifecycleStage, Collection<Interceptor>> map = new EnumMap<>(LifecycleStage.class);
+            for ( LifecycleStage stage : LifecycleStage.values() ) {
+               map.put(stage, Arrays.asList(interceptors));
+            }
+            return map;
+         }
+      };
+      MockServletContext servletContext = StripesTestFixture.createServletContext();
+      try {
+         MockFilterConfig filterConfig = new MockFilterConfig();
+         filterConfig.addAllInitParameters(StripesTestFixture.getDefaultFilterParams());
+         filterConfig.setServletContext(servletContext);
+         configuration.setBootstrapPropertyResolver(new BootstrapPropertyResolver(filterConfig));
+         configuration.init();
+      }
+      finally {
+         servletContext.close();
+      }
+      return configuration;
+   }
+
+   @HttpCache(allow = false)
+   public static class CachedActionBean extends PlainActionBean {}
+
+
+   public static class CachedHandlerActionBean extends PlainActionBean {
+
+      @HttpCache(expires = 60)
+      public Resolution view() {
+         return null;
+      }
+   }
+
+
+   public static class PlainActionBean implements ActionBean {
+
+      private ActionBeanContext _context;
+
+      @Override
+      public ActionBeanContext getContext() {
+         return _context;
+      }
+
+      @Override
+      public void setContext( ActionBeanContext context ) {
+         _context = context;
+      }
+   }
+
+
+   private static class RecordingInterceptor implements Interceptor {
+
+      private final String       _name;
+      private final List<String> _calls;
+
+      RecordingInterceptor( String name, List<String> calls ) {
+         _name = name;
+         _calls = calls;
+      }
+
+      @Override
+      public Resolution intercept( ExecutionContext context ) throws Exception {
+         _calls.add(_name);
+         return context.proceed();
+      }
+
+      @Override
+      public String toString() {
+         return _name;
+      }
+   }
+}
@@ -0,0 +1,100 @@
+package org.stripesframework.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.ForwardResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.mock.MockRoundtrip;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+/**
+ * Tests tracing requests that carry the trace header and secret configured for the
+ * DispatcherServlet.
+ */
+public class ServerTimingTests {
+
+   private static MockServletContext servletContext;
+
+   @BeforeAll
+   public static void setUp() {
+      Map<String, String> params = StripesTestFixture.getDefaultFilterParams();
+      params.put(DispatcherServlet.TRACE_HEADER, "X-Stripes-Trace");
+      params.put(DispatcherServlet.TRACE_SECRET, "s3cret");
+      params.put(DispatcherServlet.TRACE_LOG_THRESHOLD, "0");
+      servletContext = new MockServletContext("test").addFilter(StripesFilter.class, "StripesFilter", params)
+            .setServlet(DispatcherServlet.class, "StripesDispatcher", null);
+   }
+
+   @AfterAll
+   public static void tearDown() {
+      servletContext.close();
+   }
+
+   @Test
+   public void testLogLineListsStages() {
+      ExecutionContext ctx = new ExecutionContext();
+      ctx.setStageTimed(true);
+      ctx.setLifecycleStage(LifecycleStage.RequestInit);
+
+      assertThat(ServerTiming.getLogLine(ctx, "/Traced.action", 1_234_567L)).isEqualTo("path=/Traced.action bean=- event=- total=1.234ms");
+   }
+
+   @Test
+   public void testRequestWithoutHeaderIsNotTraced() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, TracedActionBean.class);
+      trip.execute();
+
+      assertThat(trip.getResponse().getHeader(ServerTiming.HEADER)).isNull();
+   }
+
+   @Test
+   public void testRequestWithWrongSecretIsNotTraced() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, TracedActionBean.class);
+      trip.getRequest().addHeader("X-Stripes-Trace", "guess");
+      trip.execute();
+
+      assertThat(trip.getResponse().getHeader(ServerTiming.HEADER)).isNull();
+   }
+
+   @Test
+   public void testServerTimingListsStagesBeforeResolution() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, TracedActionBean.class);
+      trip.getRequest().addHeader("X-Stripes-Trace", "s3cret");
+      trip.execute();
+
+      String serverTiming = trip.getResponse().getHeader(ServerTiming.HEADER);
+      assertThat(trip.getForwardUrl()).isEqualTo("/traced.jsp");
+      assertThat(serverTiming).matches("RequestInit;dur=\\d+\\.\\d{3}(, \\w+;dur=\\d+\\.\\d{3})*");
+      assertThat(serverTiming).contains("ActionBeanResolution;dur=", "HandlerResolution;dur=", "EventHandling;dur=");
+      assertThat(serverTiming).doesNotContain("ResolutionExecution", "RequestComplete");
+   }
+
+
+   @UrlBinding("/trace/Traced.action")
+   public static class TracedActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      @DefaultHandler
+      public Resolution view() {
+         return new ForwardResolution("/traced.jsp");
+      }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+   }
+}
@@ -133,6 +133,52 @@ public class UrlBindingFactoryTests {
       }
    }
 
+   @Test
+   public void testMatch() {
+      UrlBindingMatch match = urlBindingFactory.match("/foo/1/bar/2/baz");
+      assertThat(match.getBeanType()).isSameAs(FooActionBean6.class);
+      assertThat(match.getParameterCount()).isEqualTo(2);
+      assertThat(match.getParameterValue(0)).isEqualTo("1");
+      assertThat(match.getParameterValue("c")).isEqualTo("2");
+
+      match = urlBindingFactory.match("/foo/1/");
+      assertThat(match.getBeanType()).isSameAs(FooActionBean2.class);
+      assertThat(match.getParameterValue("a")).isEqualTo("1");
+      assertThat(match.isParameterIncluded(1)).isTrue();
+      assertThat(match.hasParameterValue(1)).isFalse();
+
+      assertThat(urlBindingFactory.match("/nothing/here")).isNull();
+   }
+
+   @Test
+   public void testMatchToUrlBinding() {
+      checkLiveBinding("/foo/1/", "/foo{a}/{b}", "a=1;b=null;");
+      checkLiveBinding("/foo/1/2/3/4/", "/foo{a}/{b}/{c}/{d}", "a=1;b=2;c=3;d=4;");
+      checkLiveBinding("/foo/1/bar/2/baz/", "/foo{a}/bar/{c}/baz", "a=1;c=2;");
+      checkLiveBinding("/foo/1/2/.action", "/foo{a}/{b}/{c}/{d}.action", "a=1;b=2;c=null;d=null;");
+      checkLiveBinding("/foo/.action", "/foo/{a}/{b}/{c}/{d}.action", "a=null;b=null;c=null;d=null;");
+      checkLiveBinding("/sts731/XX/foo/", "/sts731{a}/foo/", "a=XX;");
+      checkLiveBinding("/foo/goo/1/2", "/foo/goo{a}", "a=1/2;");
+
+      // a parameter without a value followed by another parameter is omitted
+      checkLiveBinding("/foo//2/3", "/foo{b}/{c}", "b=2;c=3;");
+      assertThat(urlBindingFactory.match("/foo//2/3").isParameterIncluded(0)).isFalse();
+   }
+
+   @Test
+   public void testRemoveBindingFallsBackToShorterPrefix() {
+      UrlBindingFactory factory = new UrlBindingFactory();
+      factory.addUrlBindings(FooActionBean1.class);
+      factory.addUrlBindings(FooActionBean8.class);
+
+      assertThat(factory.getBindingPrototype("/foo/goo/1").getBeanType()).isSameAs(FooActionBean8.class);
+
+      factory.removeBinding(FooActionBean8.class);
+
+      assertThat(factory.getBindingPrototype("/foo/goo/1").getBeanType()).isSameAs(FooActionBean1.class);
+      assertThat(factory.getBindingPrototype("/bar/1")).isNull();
+   }
+
    @Test
    public void testUrlBindingConflict() {
       checkBinding("/clash/not", ConflictActionBean4.class);
@@ -247,6 +293,17 @@ public class UrlBindingFactoryTests {
       return binding.getParameters();
    }
 
+   private void checkLiveBinding( String uri, String expectedBinding, String expectedParameters ) {
+      UrlBinding binding = urlBindingFactory.match(uri).toUrlBinding();
+      StringBuilder parameters = new StringBuilder();
+      for ( UrlBindingParameter parameter : binding.getParameters() ) {
+         parameters.append(parameter.getName()).append('=').append(parameter.getValue()).append(';');
+      }
+
+      assertThat(binding.toString()).isEqualTo(expectedBinding);
+      assertThat(parameters.toString()).isEqualTo(expectedParameters);
+   }
+
    private String removeEscapes( String s ) {
       return s.replaceAll("\\\\(.)", "$1");
    }
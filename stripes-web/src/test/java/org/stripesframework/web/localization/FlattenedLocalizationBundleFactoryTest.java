@@ -0,0 +1,108 @@
+package org.stripesframework.web.localization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.config.BootstrapPropertyResolver;
+import org.stripesframework.web.config.DefaultConfiguration;
+import org.stripesframework.web.mock.MockFilterConfig;
+import org.stripesframework.web.mock.MockServletContext;
+
+
+public class FlattenedLocalizationBundleFactoryTest {
+
+   private static final String BUNDLE_NAME = FlattenedLocalizationBundleFactoryTest.class.getName() + "$Messages";
+
+   private MockServletContext servletContext;
+
+   @Test
+   public void testBundlesAreFlattened() throws Exception {
+      FlattenedLocalizationBundleFactory factory = createFactory(false);
+
+      ResourceBundle bundle = factory.getErrorMessageBundle(Locale.GERMAN);
+      assertThat(bundle).isInstanceOf(FlattenedResourceBundle.class);
+      assertThat(bundle.getString("greeting")).isEqualTo("Hallo");
+      assertThat(bundle.getString("farewell")).isEqualTo("Goodbye");
+      assertThat(((FlattenedResourceBundle)bundle).getResource("missing")).isNull();
+      assertThat(LocalizationUtility.getResource(bundle, "missing")).isNull();
+      assertThatThrownBy(() -> bundle.getString("missing")).isInstanceOf(MissingResourceException.class);
+
+      // both bundles have the same name, so they are flattened once
+      assertThat(factory.getFormFieldBundle(Locale.GERMAN)).isSameAs(bundle);
+   }
+
+   @Test
+   public void testBundlesAreReloaded() throws Exception {
+      FlattenedLocalizationBundleFactory factory = createFactory(false);
+
+      ResourceBundle bundle = factory.getErrorMessageBundle(Locale.GERMAN);
+      assertThat(factory.getErrorMessageBundle(Locale.GERMAN)).isSameAs(bundle);
+
+      factory.reload();
+      assertThat(factory.getErrorMessageBundle(Locale.GERMAN)).isNotSameAs(bundle);
+   }
+
+   @Test
+   public void testMissingBundle() throws Exception {
+      FlattenedLocalizationBundleFactory factory = createFactory(false);
+      servletContext.addInitParameter(DefaultLocalizationBundleFactory.ERROR_MESSAGE_BUNDLE, "NoSuchBundle");
+      factory.init(factory.getConfiguration());
+
+      assertThatThrownBy(() -> factory.getErrorMessageBundle(Locale.GERMAN)).isInstanceOf(MissingResourceException.class)
+            .hasMessageContaining("NoSuchBundle.properties");
+   }
+
+   @Test
+   public void testPreload() throws Exception {
+      FlattenedLocalizationBundleFactory factory = createFactory(true);
+
+      assertThat(factory.getFormFieldBundle(Locale.GERMAN).getString("greeting")).isEqualTo("Hallo");
+   }
+
+   @AfterEach
+   public void tearDown() {
+      servletContext.close();
+   }
+
+   private FlattenedLocalizationBundleFactory createFactory( boolean preload ) throws Exception {
+      servletContext = new MockServletContext("test");
+      servletContext.addInitParameter(DefaultLocalizationBundleFactory.ERROR_MESSAGE_BUNDLE, BUNDLE_NAME);
+      servletContext.addInitParameter(DefaultLocalizationBundleFactory.FIELD_NAME_BUNDLE, BUNDLE_NAME);
+      servletContext.addInitParameter(DefaultLocalePicker.LOCALE_LIST, "en_US, de:UTF-8");
+      servletContext.addInitParameter(FlattenedLocalizationBundleFactory.PRELOAD, String.valueOf(preload));
+
+      MockFilterConfig filterConfig = new MockFilterConfig();
+      filterConfig.setServletContext(servletContext);
+      DefaultConfiguration configuration = new DefaultConfiguration();
+      configuration.setBootstrapPropertyResolver(new BootstrapPropertyResolver(filterConfig));
+
+      FlattenedLocalizationBundleFactory factory = new FlattenedLocalizationBundleFactory();
+      factory.init(configuration);
+      return factory;
+   }
+
+
+   public static class Messages extends ListResourceBundle {
+
+      @Override
+      protected Object[][] getContents() {
+         return new Object[][] { { "greeting", "Hello" }, { "farewell", "Goodbye" } };
+      }
+   }
+
+
+   public static class Messages_de extends ListResourceBundle {
+
+      @Override
+      protected Object[][] getContents() {
+         return new Object[][] { { "greeting", "Hallo" } };
+      }
+   }
+}
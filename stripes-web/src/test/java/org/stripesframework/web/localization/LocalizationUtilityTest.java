@@ -2,6 +2,10 @@ package org.stripesframework.web.localization;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.ResourceBundle;
+
 import org.junit.jupiter.api.Test;
 
 
@@ -25,6 +29,25 @@ public class LocalizationUtilityTest {
       assertThat(output).isEqualTo("Bug Submitted By First Name");
    }
 
+   @Test
+   public void testResourceLookupsAreCached() {
+      CountingBundle bundle = new CountingBundle();
+      assertThat(LocalizationUtility.getResource(bundle, "greeting")).isEqualTo("Hello");
+      assertThat(LocalizationUtility.getResource(bundle, "greeting")).isEqualTo("Hello");
+      assertThat(LocalizationUtility.getResource(bundle, "missing")).isNull();
+      assertThat(LocalizationUtility.getResource(bundle, "missing")).isNull();
+      assertThat(bundle.lookups).isEqualTo(2);
+
+      // a reloaded bundle is a different instance, and is looked up again
+      CountingBundle reloaded = new CountingBundle();
+      assertThat(LocalizationUtility.getResource(reloaded, "missing")).isNull();
+      assertThat(reloaded.lookups).isEqualTo(1);
+
+      LocalizationUtility.clearCache();
+      assertThat(LocalizationUtility.getResource(bundle, "missing")).isNull();
+      assertThat(bundle.lookups).isEqualTo(3);
+   }
+
    @Test
    public void testSimpleCase() throws Exception {
       String input = "hello";
@@ -69,4 +92,21 @@ public class LocalizationUtilityTest {
          public static class C {}
       }
    }
+
+
+   private static class CountingBundle extends ResourceBundle {
+
+      private int lookups;
+
+      @Override
+      public Enumeration<String> getKeys() {
+         return Collections.enumeration(Collections.singleton("greeting"));
+      }
+
+      @Override
+      protected Object handleGetObject( String key ) {
+         lookups++;
+         return "greeting".equals(key) ? "Hello" : null;
+      }
+   }
 }
@@ -0,0 +1,113 @@
+package org.stripesframework.web.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.DefaultHandler;
+import org.stripesframework.web.action.ForwardResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.controller.DispatcherServlet;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockRoundtrip;
+import org.stripesframework.web.mock.MockServletContext;
+import org.stripesframework.web.validation.Validate;
+
+
+/**
+ * Tests the JDK Flight Recorder events emitted while a request is processed.
+ */
+public class FlightRecorderEventsTest {
+
+   private static MockServletContext servletContext;
+
+   @BeforeAll
+   public static void setUp() {
+      servletContext = new MockServletContext("test").addFilter(StripesFilter.class, "StripesFilter", StripesTestFixture.getDefaultFilterParams())
+            .setServlet(DispatcherServlet.class, "StripesDispatcher", null);
+   }
+
+   @AfterAll
+   public static void tearDown() {
+      servletContext.close();
+   }
+
+   @Test
+   public void testRequestEmitsEvents() throws Exception {
+      List<RecordedEvent> events;
+      Path file = Files.createTempFile("stripes", ".jfr");
+      try {
+         try ( Recording recording = new Recording() ) {
+            for ( String name : new String[] { "UrlBindingResolution", "ParameterBinding", "HandlerInvocation", "ResolutionExecution" } ) {
+               recording.enable("org.stripesframework." + name).withoutStackTrace().withThreshold(null);
+            }
+            recording.start();
+
+            MockRoundtrip trip = new MockRoundtrip(servletContext, RecordedActionBean.class);
+            trip.setParameter("count", "3");
+            trip.execute();
+
+            recording.stop();
+            recording.dump(file);
+         }
+         events = RecordingFile.readAllEvents(file);
+      }
+      finally {
+         Files.deleteIfExists(file);
+      }
+
+      List<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList());
+      assertThat(names).contains("org.stripesframework.UrlBindingResolution", "org.stripesframework.ParameterBinding",
+            "org.stripesframework.HandlerInvocation", "org.stripesframework.ResolutionExecution");
+
+      RecordedEvent binding = events.stream().filter(event -> event.getEventType().getName().equals("org.stripesframework.ParameterBinding")).findFirst()
+            .orElseThrow();
+      assertThat(binding.getString("parameter")).isEqualTo("count");
+      assertThat(binding.getInt("values")).isEqualTo(1);
+      assertThat(binding.getInt("errors")).isZero();
+
+      RecordedEvent handler = events.stream().filter(event -> event.getEventType().getName().equals("org.stripesframework.HandlerInvocation")).findFirst()
+            .orElseThrow();
+      assertThat(handler.getString("method")).isEqualTo("view");
+      assertThat(handler.getClass("beanType").getName()).isEqualTo(RecordedActionBean.class.getName());
+   }
+
+
+   @UrlBinding("/jfr/Recorded.action")
+   public static class RecordedActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Validate
+      private Integer count;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      public Integer getCount() { return count; }
+
+      public void setCount( Integer count ) { this.count = count; }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      @DefaultHandler
+      public Resolution view() {
+         return new ForwardResolution("/recorded.jsp");
+      }
+   }
+}
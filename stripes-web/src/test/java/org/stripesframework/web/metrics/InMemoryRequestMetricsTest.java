@@ -0,0 +1,150 @@
+package org.stripesframework.web.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.ActionBeanContext;
+import org.stripesframework.web.action.ForwardResolution;
+import org.stripesframework.web.action.HandlesEvent;
+import org.stripesframework.web.action.RedirectResolution;
+import org.stripesframework.web.action.Resolution;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.config.RuntimeConfiguration;
+import org.stripesframework.web.controller.DispatcherServlet;
+import org.stripesframework.web.controller.LifecycleStage;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockRoundtrip;
+import org.stripesframework.web.mock.MockServletContext;
+import org.stripesframework.web.validation.Validate;
+
+
+/**
+ * Tests the metrics recorded for requests processed by the DispatcherServlet.
+ */
+public class InMemoryRequestMetricsTest {
+
+   private static MockServletContext servletContext;
+
+   @BeforeAll
+   public static void setUp() {
+      Map<String, String> params = StripesTestFixture.getDefaultFilterParams();
+      params.put(RuntimeConfiguration.REQUEST_METRICS, InMemoryRequestMetrics.class.getName());
+      servletContext = new MockServletContext("test").addFilter(StripesFilter.class, "StripesFilter", params)
+            .setServlet(DispatcherServlet.class, "StripesDispatcher", null);
+   }
+
+   @AfterAll
+   public static void tearDown() {
+      servletContext.close();
+   }
+
+   private InMemoryRequestMetrics metrics;
+
+   @BeforeEach
+   public void resetMetrics() {
+      metrics = (InMemoryRequestMetrics)((StripesFilter)servletContext.getFilters().get(0)).getInstanceConfiguration().getRequestMetrics();
+      metrics.reset();
+   }
+
+   @Test
+   public void testConversionFailuresAndValidationErrorsAreCounted() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, MeasuredActionBean.class);
+      trip.setParameter("count", "many");
+      trip.setParameter("name", "metrics");
+      trip.execute("save");
+
+      RequestMetricsSnapshot.EventMetrics save = metrics.getSnapshot().getEvent(MeasuredActionBean.class, "save");
+      assertThat(save.getBoundParameters()).isEqualTo(1);
+      assertThat(save.getConversionFailures()).isEqualTo(1);
+      assertThat(save.getValidationErrors()).isEqualTo(1);
+      assertThat(save.getStage(LifecycleStage.EventHandling)).isNull();
+      assertThat(save.getResolutions()).containsOnlyKeys(ForwardResolution.class);
+   }
+
+   @Test
+   public void testStagesAreRecordedPerEvent() throws Exception {
+      for ( int i = 0; i < 3; i++ ) {
+         MockRoundtrip trip = new MockRoundtrip(servletContext, MeasuredActionBean.class);
+         trip.setParameter("count", String.valueOf(i));
+         trip.setParameter("name", "metrics");
+         trip.execute("save");
+      }
+      new MockRoundtrip(servletContext, MeasuredActionBean.class).execute("view");
+
+      RequestMetricsSnapshot snapshot = metrics.getSnapshot();
+      RequestMetricsSnapshot.EventMetrics save = snapshot.getEvent(MeasuredActionBean.class, "save");
+      assertThat(save.getStages()).containsOnlyKeys(LifecycleStage.values());
+      for ( LatencyHistogram.Snapshot stage : save.getStages().values() ) {
+         assertThat(stage.getCount()).isEqualTo(3);
+         assertThat(stage.getMaxNanos()).isPositive();
+      }
+      assertThat(save.getBoundParameters()).isEqualTo(6);
+      assertThat(save.getConversionFailures()).isZero();
+      assertThat(save.getValidationErrors()).isZero();
+      assertThat(save.getResolutions()).containsEntry(RedirectResolution.class, 3L);
+
+      RequestMetricsSnapshot.EventMetrics view = snapshot.getEvent(MeasuredActionBean.class, "view");
+      assertThat(view.getStage(LifecycleStage.RequestInit).getCount()).isEqualTo(1);
+      assertThat(view.getResolutions()).containsEntry(ForwardResolution.class, 1L);
+      assertThat(snapshot.getEvents()).hasSize(2);
+   }
+
+   @Test
+   public void testUnresolvedRequestsAreRecordedWithoutBean() throws Exception {
+      MockRoundtrip trip = new MockRoundtrip(servletContext, "/metrics/Unknown.action");
+      try {
+         trip.execute();
+      }
+      catch ( Exception e ) {
+         // no ActionBean is bound to the URL
+      }
+
+      RequestMetricsSnapshot.EventMetrics unresolved = metrics.getSnapshot().getEvent(null, null);
+      assertThat(unresolved.getStage(LifecycleStage.RequestInit).getCount()).isEqualTo(1);
+      assertThat(unresolved.getStage(LifecycleStage.ActionBeanResolution).getCount()).isEqualTo(1);
+      assertThat(unresolved.getStage(LifecycleStage.HandlerResolution)).isNull();
+   }
+
+   @UrlBinding("/metrics/Measured.action")
+   public static class MeasuredActionBean implements ActionBean {
+
+      private ActionBeanContext context;
+
+      @Validate
+      private Integer count;
+
+      @Validate(required = true, on = "save")
+      private String name;
+
+      @Override
+      public ActionBeanContext getContext() { return context; }
+
+      public Integer getCount() { return count; }
+
+      public String getName() { return name; }
+
+      @HandlesEvent("save")
+      public Resolution save() {
+         return new RedirectResolution("/saved.jsp");
+      }
+
+      @Override
+      public void setContext( ActionBeanContext context ) { this.context = context; }
+
+      public void setCount( Integer count ) { this.count = count; }
+
+      public void setName( String name ) { this.name = name; }
+
+      @HandlesEvent("view")
+      public Resolution view() {
+         return new ForwardResolution("/view.jsp");
+      }
+   }
+}
@@ -0,0 +1,55 @@
+package org.stripesframework.web.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+
+public class LatencyHistogramTest {
+
+   @Test
+   public void testBucketsCoverAllDurations() {
+      for ( long nanos = 0; nanos < 100_000; nanos++ ) {
+         int bucket = LatencyHistogram.getBucket(nanos);
+         assertThat(LatencyHistogram.getBucketLimit(bucket)).isGreaterThanOrEqualTo(nanos);
+         if ( bucket > 0 ) {
+            assertThat(LatencyHistogram.getBucketLimit(bucket - 1)).isLessThan(nanos);
+         }
+      }
+   }
+
+   @Test
+   public void testEmptyHistogram() {
+      LatencyHistogram.Snapshot snapshot = new LatencyHistogram().getSnapshot();
+
+      assertThat(snapshot.getCount()).isZero();
+      assertThat(snapshot.getMeanNanos()).isZero();
+      assertThat(snapshot.getValueAtPercentile(99)).isZero();
+   }
+
+   @Test
+   public void testHugeDurationsAreCountedInLastBucket() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      histogram.record(Long.MAX_VALUE);
+
+      assertThat(histogram.getSnapshot().getValueAtPercentile(50)).isEqualTo(Long.MAX_VALUE);
+   }
+
+   @Test
+   public void testPercentilesAreAccurateToOneBucket() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      for ( long micros = 1; micros <= 1000; micros++ ) {
+         histogram.record(micros * 1000);
+      }
+      LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+      assertThat(snapshot.getCount()).isEqualTo(1000);
+      assertThat(snapshot.getTotalNanos()).isEqualTo(500_500_000L);
+      assertThat(snapshot.getMaxNanos()).isEqualTo(1_000_000L);
+      assertThat(snapshot.getMeanNanos()).isEqualTo(500_500.0);
+      assertThat((double)snapshot.getValueAtPercentile(50)).isCloseTo(500_000.0, within(500_000 * 0.125));
+      assertThat((double)snapshot.getValueAtPercentile(99)).isCloseTo(990_000.0, within(990_000 * 0.125));
+      assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1_000_000L);
+   }
+}
@@ -0,0 +1,207 @@
+package org.stripesframework.web.mock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+
+/**
+ * <p>Mock implementation of an AsyncContext, as returned by
+ * {@link MockHttpServletRequest#startAsync(ServletRequest, ServletResponse)}. Like a container, it
+ * defers the completion of the request until the dispatch that started asynchronous processing
+ * has returned, and notifies the listeners once the request is completed. Tasks passed to
+ * {@link #start(Runnable)} are run on a new thread.</p>
+ *
+ * <p>Like the {@link MockRequestDispatcher}, the mock implementation does not actually dispatch
+ * the request. It records the path as the forward URL of the request and completes it.</p>
+ *
+ * <p>The mock implementation does not time out by itself. Use {@link #timeout()} and
+ * {@link #error(Throwable)} to notify the listeners as a container would.</p>
+ */
+public class MockAsyncContext implements AsyncContext {
+
+   private final ServletRequest      _request;
+   private final ServletResponse     _response;
+   private final List<AsyncListener> _listeners = new ArrayList<>();
+   private final CountDownLatch      _completed = new CountDownLatch(1);
+   private       long                _timeout   = 30000;
+   private       boolean             _started   = true;
+   private       boolean             _initialDispatch = true;
+   private       boolean             _completionPending;
+
+   /** Constructs an AsyncContext for the given request and response. */
+   public MockAsyncContext( ServletRequest request, ServletResponse response ) {
+      _request = request;
+      _response = response;
+   }
+
+   @Override
+   public void addListener( AsyncListener listener ) {
+      addListener(listener, _request, _response);
+   }
+
+   @Override
+   public synchronized void addListener( AsyncListener listener, ServletRequest request, ServletResponse response ) {
+      _listeners.add(listener);
+   }
+
+   /**
+    * Waits until the request is completed.
+    *
+    * @throws IllegalStateException if the request is not completed within the timeout
+    */
+   public void awaitCompletion() throws InterruptedException {
+      if ( !_completed.await(_timeout, TimeUnit.MILLISECONDS) ) {
+         throw new IllegalStateException("The asynchronous request was not completed within " + _timeout + "ms");
+      }
+   }
+
+   @Override
+   public void complete() {
+      synchronized ( this ) {
+         if ( !_started ) {
+            throw new IllegalStateException("The asynchronous request was already completed or dispatched");
+         }
+         _started = false;
+         if ( _initialDispatch ) {
+            _completionPending = true;
+            return;
+         }
+      }
+      notifyCompletion();
+   }
+
+   @Override
+   public <T extends AsyncListener> T createListener( Class<T> type ) throws ServletException {
+      try {
+         return type.getDeclaredConstructor().newInstance();
+      }
+      catch ( Exception e ) {
+         throw new ServletException("Could not instantiate listener " + type.getName(), e);
+      }
+   }
+
+   /** Dispatches the request to its own servlet path. */
+   @Override
+   public void dispatch() {
+      dispatch(((HttpServletRequest)_request).getServletPath());
+   }
+
+   /** Simply stores the path as the forward URL of the request, and completes the request. */
+   @Override
+   public void dispatch( String path ) {
+      try {
+         new MockRequestDispatcher(path).forward(_request, _response);
+      }
+      catch ( ServletException e ) {
+         throw new IllegalStateException(e);
+      }
+      catch ( IOException e ) {
+         throw new UncheckedIOException(e);
+      }
+      complete();
+   }
+
+   @Override
+   public void dispatch( ServletContext context, String path ) {
+      dispatch(path);
+   }
+
+   /**
+    * Notifies the listeners of an error, as a container does e.g. when the client disconnects.
+    * Like a container, completes the request if none of the listeners did.
+    */
+   public void error( Throwable throwable ) throws IOException {
+      for ( AsyncListener listener : getListeners() ) {
+         listener.onError(new AsyncEvent(this, _request, _response, throwable));
+      }
+      completeIfStarted();
+   }
+
+   @Override
+   public ServletRequest getRequest() { return _request; }
+
+   @Override
+   public ServletResponse getResponse() { return _response; }
+
+   @Override
+   public long getTimeout() { return _timeout; }
+
+   @Override
+   public boolean hasOriginalRequestAndResponse() {
+      return _request instanceof MockHttpServletRequest && _response instanceof MockHttpServletResponse;
+   }
+
+   /** Returns true until the request is completed or dispatched. */
+   public synchronized boolean isStarted() { return _started; }
+
+   /** Sets the time in milliseconds that {@link #awaitCompletion()} waits for the request. */
+   @Override
+   public void setTimeout( long timeout ) { _timeout = timeout; }
+
+   /** Runs the task on a new thread. */
+   @Override
+   public void start( Runnable task ) {
+      Thread thread = new Thread(task, "MockAsyncContext");
+      thread.setDaemon(true);
+      thread.start();
+   }
+
+   /**
+    * Notifies the listeners that the request timed out, as a container does once the timeout has
+    * elapsed. Like a container, completes the request if none of the listeners did.
+    */
+   public void timeout() throws IOException {
+      for ( AsyncListener listener : getListeners() ) {
+         listener.onTimeout(new AsyncEvent(this, _request, _response));
+      }
+      completeIfStarted();
+   }
+
+   /** Used by the servlet context to record that the dispatch that started the request returned. */
+   void dispatchReturned() {
+      synchronized ( this ) {
+         _initialDispatch = false;
+         if ( !_completionPending ) {
+            return;
+         }
+      }
+      notifyCompletion();
+   }
+
+   private void completeIfStarted() {
+      if ( isStarted() ) {
+         complete();
+      }
+   }
+
+   private synchronized List<AsyncListener> getListeners() {
+      return new ArrayList<>(_listeners);
+   }
+
+   private void notifyCompletion() {
+      try {
+         for ( AsyncListener listener : getListeners() ) {
+            listener.onComplete(new AsyncEvent(this, _request, _response));
+         }
+      }
+      catch ( IOException e ) {
+         throw new UncheckedIOException(e);
+      }
+      finally {
+         _completed.countDown();
+      }
+   }
+}
@@ -78,6 +78,8 @@ public class MockHttpServletRequest implements HttpServletRequest {
    private       Set<String>           _roles             = new HashSet<>();
    private       String                _forwardUrl;
    private final List<String>          _includedUrls      = new ArrayList<>();
+   private       boolean               _asyncSupported    = true;
+   private       MockAsyncContext      _asyncContext;
 
    // All the bits of the URL
    private String _protocol    = "https";
@@ -123,9 +125,10 @@ public class MockHttpServletRequest implements HttpServletRequest {
       return null;
    }
 
+   /** Returns the AsyncContext if asynchronous processing was started, otherwise null. */
    @Override
    public AsyncContext getAsyncContext() {
-      return null;
+      return _asyncContext;
    }
 
    /** Gets the named request attribute from an internal Map. */
@@ -173,7 +176,7 @@ public class MockHttpServletRequest implements HttpServletRequest {
 
    @Override
    public DispatcherType getDispatcherType() {
-      return null;
+      return DispatcherType.REQUEST;
    }
 
    /** Gets the URL that was forwarded to, if a forward was processed. Null otherwise. */
@@ -405,12 +408,13 @@ public class MockHttpServletRequest implements HttpServletRequest {
 
    @Override
    public boolean isAsyncStarted() {
-      return false;
+      return _asyncContext != null && _asyncContext.isStarted();
    }
 
+   /** Returns true unless disabled with {@link #setAsyncSupported(boolean)}. */
    @Override
    public boolean isAsyncSupported() {
-      return false;
+      return _asyncSupported;
    }
 
    /** Always returns true. */
@@ -455,6 +459,9 @@ public class MockHttpServletRequest implements HttpServletRequest {
    @Override
    public void removeAttribute( String name ) { _attributes.remove(name); }
 
+   /** Sets whether asynchronous processing is supported for the request. Defaults to true. */
+   public void setAsyncSupported( boolean asyncSupported ) { _asyncSupported = asyncSupported; }
+
    /** Sets the supplied value for the named request attribute. */
    @Override
    public void setAttribute( String name, Object value ) {
@@ -501,14 +508,22 @@ public class MockHttpServletRequest implements HttpServletRequest {
    /** Sets the Principal for the current request. */
    public void setUserPrincipal( Principal userPrincipal ) { _userPrincipal = userPrincipal; }
 
+   /** Starts asynchronous processing without a response, which the mock request does not know. */
    @Override
    public AsyncContext startAsync() throws IllegalStateException {
-      return null;
+      return startAsync(this, null);
    }
 
    @Override
    public AsyncContext startAsync( ServletRequest servletRequest, ServletResponse servletResponse ) throws IllegalStateException {
-      return null;
+      if ( !_asyncSupported ) {
+         throw new IllegalStateException("Asynchronous processing is not supported for the request");
+      }
+      if ( isAsyncStarted() ) {
+         throw new IllegalStateException("Asynchronous processing was already started for the request");
+      }
+      _asyncContext = new MockAsyncContext(servletRequest, servletResponse);
+      return _asyncContext;
    }
 
    @Override
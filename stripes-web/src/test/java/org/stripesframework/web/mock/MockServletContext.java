@@ -81,12 +81,16 @@ public class MockServletContext implements ServletContext {
     *
     * <p>Any exceptions that are raised during the processing of the request are  simply
     * passed through to the caller. I.e. they will be thrown from this method.</p>
+    *
+    * <p>If the request is put into asynchronous mode, this method waits until it is completed.
+    * Exceptions raised while completing it are not passed through to the caller.</p>
     */
    public void acceptRequest( MockHttpServletRequest request, MockHttpServletResponse response ) throws Exception {
-      MockFilterChain chain = new MockFilterChain();
-      chain.setServlet(_servlet);
-      chain.addFilters(_filters);
-      chain.doFilter(request, response);
+      dispatchRequest(request, response);
+
+      if ( request.getAsyncContext() != null ) {
+         ((MockAsyncContext)request.getAsyncContext()).awaitCompletion();
+      }
    }
 
    /** Adds all the values in the supplied Map to the set of init parameters. */
@@ -178,16 +182,12 @@ public class MockServletContext implements ServletContext {
    public void close() {
       removeListeners();
       removeFilters();
-      Enumeration<?> servlets = getServlets();
-      while ( servlets.hasMoreElements() ) {
-         Object servlet = servlets.nextElement();
-         if ( servlet instanceof Servlet ) {
-            try {
-               ((Servlet)servlet).destroy();
-            }
-            catch ( Exception e ) {
-               log("Exception caught destroying servlet " + servlet + " contextName=" + _contextName, e);
-            }
+      if ( _servlet != null ) {
+         try {
+            _servlet.destroy();
+         }
+         catch ( Exception e ) {
+            log("Exception caught destroying servlet " + _servlet + " contextName=" + _contextName, e);
          }
       }
    }
@@ -212,6 +212,24 @@ public class MockServletContext implements ServletContext {
 
    }
 
+   /**
+    * Runs the request and response through the set of filters to the servlet like
+    * {@link #acceptRequest(MockHttpServletRequest, MockHttpServletResponse)}, but does not wait
+    * for a request that was put into asynchronous mode to be completed. Use
+    * {@link MockAsyncContext#awaitCompletion()} on the request's AsyncContext to wait for it.
+    */
+   public void dispatchRequest( MockHttpServletRequest request, MockHttpServletResponse response ) throws Exception {
+      MockFilterChain chain = new MockFilterChain();
+      chain.setServlet(_servlet);
+      chain.addFilters(_filters);
+      chain.doFilter(request, response);
+
+      // Like a container, complete an asynchronous request only after the dispatch that started it returned
+      if ( request.getAsyncContext() != null ) {
+         ((MockAsyncContext)request.getAsyncContext()).dispatchReturned();
+      }
+   }
+
    /** Gets an attribute that has been set on the context (i.e. application) scope. */
    @Override
    public Object getAttribute( String name ) {
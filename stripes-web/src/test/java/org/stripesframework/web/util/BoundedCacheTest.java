@@ -0,0 +1,89 @@
+package org.stripesframework.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+
+public class BoundedCacheTest {
+
+   @Test
+   public void testCapacityIsBounded() {
+      BoundedCache<String, String> cache = new BoundedCache<>(100);
+      for ( int i = 0; i < 10000; i++ ) {
+         cache.computeIfAbsent("key" + i, k -> k);
+      }
+
+      BoundedCache.Stats stats = cache.getStats();
+      assertThat(stats.getSize()).isEqualTo(100);
+      assertThat(stats.getMissCount()).isEqualTo(10000);
+      assertThat(stats.getHitCount()).isZero();
+      assertThat(stats.getEvictionCount()).isEqualTo(9900);
+   }
+
+   @Test
+   public void testComputeIfAbsent() {
+      BoundedCache<String, String> cache = new BoundedCache<>(10);
+      assertThat(cache.computeIfAbsent("foo", k -> "bar")).isEqualTo("bar");
+      assertThat(cache.computeIfAbsent("foo", k -> "baz")).isEqualTo("bar");
+      assertThat(cache.putIfAbsent("foo", "baz")).isEqualTo("bar");
+
+      BoundedCache.Stats stats = cache.getStats();
+      assertThat(stats.getHitCount()).isEqualTo(1);
+      assertThat(stats.getMissCount()).isEqualTo(1);
+      assertThat(stats.getHitRate()).isEqualTo(0.5);
+   }
+
+   @Test
+   public void testDemotionWithEmptyProtectedSegment() {
+      BoundedCache<String, String> cache = new BoundedCache<>(2);
+      assertThat(cache.demote()).isFalse();
+
+      cache.computeIfAbsent("foo", k -> k);
+      assertThat(cache.demote()).isFalse();
+
+      // the entry read on probation is promoted and then demoted again
+      cache.get("foo");
+      cache.computeIfAbsent("bar", k -> k);
+      cache.get("bar");
+      cache.computeIfAbsent("baz", k -> k);
+      assertThat(cache.demote()).isTrue();
+      assertThat(cache.demote()).isFalse();
+      assertThat(cache.size()).isEqualTo(2);
+   }
+
+   @Test
+   public void testHotEntriesSurviveScan() {
+      BoundedCache<String, String> cache = new BoundedCache<>(100);
+      for ( int i = 0; i < 50; i++ ) {
+         cache.computeIfAbsent("hot" + i, k -> k);
+         cache.get("hot" + i);
+      }
+
+      // one-off keys must only displace each other
+      for ( int i = 0; i < 10000; i++ ) {
+         cache.computeIfAbsent("junk" + i, k -> k);
+      }
+
+      for ( int i = 0; i < 50; i++ ) {
+         assertThat(cache.get("hot" + i)).isEqualTo("hot" + i);
+      }
+      assertThat(cache.size()).isEqualTo(100);
+   }
+
+   @Test
+   public void testInvalidCapacity() {
+      assertThatThrownBy(() -> new BoundedCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   public void testSingleEntry() {
+      BoundedCache<String, String> cache = new BoundedCache<>(1);
+      cache.computeIfAbsent("foo", k -> k);
+      cache.get("foo");
+      cache.computeIfAbsent("bar", k -> k);
+      assertThat(cache.size()).isEqualTo(1);
+      assertThat(cache.getStats().getEvictionCount()).isEqualTo(1);
+   }
+}
@@ -0,0 +1,79 @@
+package org.stripesframework.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.junit.jupiter.api.Test;
+import org.stripesframework.web.action.UrlBinding;
+import org.stripesframework.web.controller.Intercepts;
+import org.stripesframework.web.controller.LifecycleStage;
+import org.stripesframework.web.validation.LocalizableError;
+import org.stripesframework.web.validation.SimpleError;
+
+
+public class ClassHeaderTest {
+
+   @Test
+   public void testAnnotationsAreRead() throws Exception {
+      ClassHeader header = whenHeaderRead(AnnotatedError.class, true);
+
+      assertThat(header.getName()).isEqualTo(AnnotatedError.class.getName());
+      assertThat(header.getSuperName()).isEqualTo(LocalizableError.class.getName());
+      assertThat(header.getInterfaceNames()).containsExactly(Serializable.class.getName(), Runnable.class.getName());
+      assertThat(header.getAnnotationNames()).containsExactlyInAnyOrder(UrlBinding.class.getName(), Intercepts.class.getName(),
+            Deprecated.class.getName());
+   }
+
+   @Test
+   public void testAnnotationsAreSkipped() throws Exception {
+      ClassHeader header = whenHeaderRead(AnnotatedError.class, false);
+
+      assertThat(header.getSuperName()).isEqualTo(LocalizableError.class.getName());
+      assertThat(header.getAnnotationNames()).isEmpty();
+   }
+
+   @Test
+   public void testInvalidClassFileIsRejected() {
+      assertThatThrownBy(() -> ClassHeader.read(new ByteArrayInputStream(new byte[] { 'P', 'K', 3, 4 }), true)).isInstanceOf(IOException.class);
+   }
+
+   @Test
+   public void testSuperclassIsRead() throws Exception {
+      ClassHeader header = whenHeaderRead(LocalizableError.class, true);
+
+      assertThat(header.getName()).isEqualTo(LocalizableError.class.getName());
+      assertThat(header.getSuperName()).isEqualTo(SimpleError.class.getName());
+      assertThat(header.getInterfaceNames()).isEmpty();
+   }
+
+   private ClassHeader whenHeaderRead( Class<?> type, boolean withAnnotations ) throws IOException {
+      try (InputStream in = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+         return ClassHeader.read(in, withAnnotations);
+      }
+   }
+
+   @Deprecated
+   @UrlBinding(value = "/annotated", alternates = { "/first", "/second" })
+   @Intercepts({ LifecycleStage.RequestInit, LifecycleStage.ResolutionExecution })
+   @SuppressWarnings("serial")
+   public static class AnnotatedError extends LocalizableError implements Serializable, Runnable {
+
+      private static final long LIMIT = 42L;
+
+      private final double _value = LIMIT * 1.5;
+
+      public AnnotatedError() {
+         super("annotated");
+      }
+
+      @Override
+      public void run() {
+         setFieldValue(String.valueOf(_value));
+      }
+   }
+}
@@ -5,12 +5,16 @@ import static org.assertj.core.api.Assertions.fail;
 
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Map;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.stripesframework.web.StripesTestFixture;
+import org.stripesframework.web.controller.StripesFilter;
+import org.stripesframework.web.mock.MockServletContext;
 
 
 /**
@@ -107,6 +111,74 @@ public class CryptoUtilTest {
       }
    }
 
+   @Test
+   public void legacyValuesAreDecryptedDuringRollover() throws NoSuchAlgorithmException {
+      SecretKey oldKey = CryptoUtil.getSecretKey(); // cache the old key
+
+      try {
+         SecretKey legacyKey = KeyGenerator.getInstance(CryptoUtil.ALGORITHM).generateKey();
+         CryptoUtil.setSecretKey(legacyKey);
+         String input = "A string encrypted before the rollover";
+         String legacyOutput = CryptoUtil.encrypt(input);
+
+         SecretKey key = KeyGenerator.getInstance(CryptoUtil.GCM_ALGORITHM).generateKey();
+         CryptoUtil.setSecretKey(key, legacyKey);
+         assertThat(CryptoUtil.decrypt(legacyOutput)).isEqualTo(input);
+         assertThat(CryptoUtil.decrypt(CryptoUtil.encrypt(input))).isEqualTo(input);
+
+         CryptoUtil.setSecretKey(key);
+         assertThat(CryptoUtil.decrypt(legacyOutput)).isNull();
+      }
+      finally {
+         CryptoUtil.setSecretKey(oldKey);
+      }
+   }
+
+   @Test
+   public void legacyDecryptionCanBeDisabled() throws NoSuchAlgorithmException {
+      SecretKey oldKey = CryptoUtil.getSecretKey(); // cache the old key
+
+      try {
+         SecretKey legacyKey = KeyGenerator.getInstance(CryptoUtil.ALGORITHM).generateKey();
+         CryptoUtil.setSecretKey(legacyKey);
+         String input = "A string encrypted before the rollover";
+         String legacyOutput = CryptoUtil.encrypt(input);
+         CryptoUtil.setSecretKey(KeyGenerator.getInstance(CryptoUtil.GCM_ALGORITHM).generateKey(), legacyKey);
+
+         Map<String, String> params = StripesTestFixture.getDefaultFilterParams();
+         params.put(CryptoUtil.CONFIG_LEGACY_DECRYPTION, "false");
+         MockServletContext servletContext = new MockServletContext("test").addFilter(StripesFilter.class, "StripesFilter", params);
+         try {
+            assertThat(CryptoUtil.isLegacyDecryptionEnabled()).isFalse();
+            assertThat(CryptoUtil.decrypt(legacyOutput)).isNull();
+            assertThat(CryptoUtil.decrypt(CryptoUtil.encrypt(input))).isEqualTo(input);
+         }
+         finally {
+            servletContext.close();
+         }
+
+         assertThat(CryptoUtil.isLegacyDecryptionEnabled()).isTrue();
+         assertThat(CryptoUtil.decrypt(legacyOutput)).isEqualTo(input);
+      }
+      finally {
+         CryptoUtil.setSecretKey(oldKey);
+      }
+   }
+
+   @Test
+   public void modifiedCiphertextIsRejected() {
+      String encrypted = CryptoUtil.encrypt("A string that must not be tampered with");
+      int options = Base64.URL_SAFE | Base64.DONT_BREAK_LINES;
+      byte[] bytes = Base64.decode(encrypted, options);
+      assertThat(bytes[0]).describedAs("Values should be encrypted with the versioned AES-GCM format").isEqualTo((byte)1);
+
+      for ( int i = 0; i < bytes.length; i++ ) {
+         byte[] modified = bytes.clone();
+         modified[i] ^= 0x01;
+         assertThat(CryptoUtil.decrypt(Base64.encodeBytes(modified, options))).isNull();
+      }
+   }
+
    @Test
    public void replacementKeyTest() throws NoSuchAlgorithmException {
       SecretKey oldKey = CryptoUtil.getSecretKey(); // cache the old key
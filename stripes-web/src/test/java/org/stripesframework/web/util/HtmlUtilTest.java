@@ -17,6 +17,8 @@ package org.stripesframework.web.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -27,6 +29,28 @@ import org.junit.jupiter.api.Test;
 
 public class HtmlUtilTest {
 
+   @Test
+   public void testEncode() {
+      assertThat(HtmlUtil.encode(null)).isNull();
+      assertThat(HtmlUtil.encode("<a href=\"?x=1&y=2\">it's</a>")).isEqualTo("&lt;a href=&quot;?x=1&amp;y=2&quot;&gt;it's&lt;/a&gt;");
+
+      String plain = "nothing to escape";
+      assertThat(HtmlUtil.encode(plain)).isSameAs(plain);
+   }
+
+   @Test
+   public void testEncodeToWriter() throws IOException {
+      for ( String fragment : new String[] { "", "nothing to escape", "<", "&&", "a<b>c\"d&e", "<a href=\"?x=1&y=2\">it's</a>" } ) {
+         StringWriter writer = new StringWriter();
+         HtmlUtil.encode(fragment, writer);
+         assertThat(writer.toString()).isEqualTo(HtmlUtil.encode(fragment));
+      }
+
+      StringWriter writer = new StringWriter();
+      HtmlUtil.encode(null, writer);
+      assertThat(writer.toString()).isEmpty();
+   }
+
    @Test
    public void testJoinAndSplit() {
       String[] input = { "foo", "bar", "foobar" };
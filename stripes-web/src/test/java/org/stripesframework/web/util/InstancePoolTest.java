@@ -0,0 +1,37 @@
+package org.stripesframework.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+
+public class InstancePoolTest {
+
+   @Test
+   public void testFullPoolDropsReleasedInstances() {
+      AtomicInteger created = new AtomicInteger();
+      InstancePool<Object> pool = new InstancePool<>(() -> created.incrementAndGet(), 1);
+
+      Object first = pool.borrow();
+      Object second = pool.borrow();
+      pool.release(first);
+      pool.release(second);
+
+      assertThat(pool.borrow()).isSameAs(first);
+      assertThat(pool.borrow()).isNotSameAs(second);
+      assertThat(created.get()).isEqualTo(3);
+   }
+
+   @Test
+   public void testReleasedInstanceIsReused() {
+      InstancePool<StringBuilder> pool = new InstancePool<>(StringBuilder::new);
+
+      StringBuilder borrowed = pool.borrow();
+      assertThat(pool.borrow()).isNotSameAs(borrowed);
+
+      pool.release(borrowed);
+      assertThat(pool.borrow()).isSameAs(borrowed);
+   }
+}
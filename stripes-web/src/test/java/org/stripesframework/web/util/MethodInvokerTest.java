@@ -0,0 +1,78 @@
+package org.stripesframework.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+
+public class MethodInvokerTest {
+
+   private static MethodInvoker invoker( String name, Class<?>... parameterTypes ) throws NoSuchMethodException {
+      return MethodInvoker.getInstance(Target.class.getDeclaredMethod(name, parameterTypes));
+   }
+
+   @Test
+   public void testArgumentOfWrongTypeIsRejected() throws Exception {
+      assertThatThrownBy(() -> invoker("echo", String.class).invoke(new Target(), 42)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> invoker("add", int.class).invoke(new Target(), null)).isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   public void testExceptionIsWrapped() throws Exception {
+      assertThatThrownBy(() -> invoker("fail").invoke(new Target())).isInstanceOf(InvocationTargetException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+   }
+
+   @Test
+   public void testInaccessibleMethodIsInvokedReflectively() throws Exception {
+      Method method = Target.class.getDeclaredMethod("hidden");
+      assertThatThrownBy(() -> MethodInvoker.getInstance(method).invoke(new Target())).isInstanceOf(IllegalAccessException.class);
+
+      method.setAccessible(true);
+      assertThat(MethodInvoker.getInstance(method).invoke(new Target())).isEqualTo("hidden");
+   }
+
+   @Test
+   public void testInvokersAreCached() throws Exception {
+      assertThat(invoker("name")).isSameAs(invoker("name"));
+   }
+
+   @Test
+   public void testMethodsAreInvoked() throws Exception {
+      assertThat(invoker("name").invoke(new Target())).isEqualTo("target");
+      assertThat(invoker("add", int.class).invoke(new Target(), 2)).isEqualTo(3);
+      assertThat(invoker("join", String.class, Object.class, String.class).invoke(new Target(), "a", 1, "b")).isEqualTo("a1b");
+      assertThat(invoker("none").invoke(new Target())).isNull();
+      assertThat(invoker("constant").invoke(null)).isEqualTo("constant");
+   }
+
+   @Test
+   public void testTargetIsChecked() throws Exception {
+      assertThatThrownBy(() -> invoker("name").invoke(null)).isInstanceOf(NullPointerException.class);
+      assertThatThrownBy(() -> invoker("name").invoke("other")).isInstanceOf(IllegalArgumentException.class);
+   }
+
+
+   public static class Target {
+
+      public static String constant() { return "constant"; }
+
+      public int add( int value ) { return value + 1; }
+
+      public String echo( String value ) { return value; }
+
+      public void fail() { throw new IllegalStateException(); }
+
+      public String join( String a, Object b, String c ) { return a + b + c; }
+
+      public String name() { return "target"; }
+
+      public void none() {}
+
+      private String hidden() { return "hidden"; }
+   }
+}
@@ -3,6 +3,7 @@ package org.stripesframework.web.util;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.beans.PropertyDescriptor;
+import java.beans.Transient;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
@@ -71,4 +72,19 @@ public class ReflectUtilTest {
       assertThat(pd.getReadMethod()).isNotNull();
       assertThat(pd.getWriteMethod()).isNotNull();
    }
+
+   @Test
+   public void testPropertyDescriptorKeepsFeatureAttributes() {
+      @SuppressWarnings("unused")
+      class Bean {
+
+         @Transient
+         public String getName() {
+            return null;
+         }
+      }
+
+      PropertyDescriptor pd = ReflectUtil.getPropertyDescriptor(Bean.class, "name");
+      assertThat(pd.getValue("transient")).isEqualTo(Boolean.TRUE);
+   }
 }
@@ -2,9 +2,31 @@ package org.stripesframework.web.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.ToolProvider;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stripesframework.web.action.ActionBean;
+import org.stripesframework.web.action.UrlBinding;
 import org.stripesframework.web.validation.BooleanTypeConverter;
 import org.stripesframework.web.validation.DateTypeConverter;
 import org.stripesframework.web.validation.LocalizableError;
@@ -20,6 +42,54 @@ import org.stripesframework.web.validation.TypeConverter;
  */
 public class ResolverUtilTest {
 
+   @TempDir
+   Path _tempDir;
+
+   @Test
+   public void testAnnotatedClassesAreFoundWithoutLoadingOthers() throws Exception {
+      Path jar = givenJar(givenCompiledScanCandidates());
+
+      Set<String> loaded = withContextClassLoader(new Path[] { jar }, loader -> {
+         ResolverUtil<Object> resolver = new ResolverUtil<>();
+         resolver.findAnnotated(UrlBinding.class, "com.example");
+         assertThat(resolver.getClasses()).extracting(Class::getName).containsExactly("com.example.AnnotatedClass");
+         return loader._loaded;
+      });
+
+      assertThat(loaded).containsExactly("com.example.AnnotatedClass");
+   }
+
+   @Test
+   public void testClassIndexIsIgnoredForOtherTypes() throws Exception {
+      Path indexed = givenCompiledActionBeans("indexed", "IndexedActionBean", "UnlistedActionBean");
+      Files.createDirectories(indexed.resolve("META-INF/stripes"));
+      Files.write(indexed.resolve(ClassIndex.RESOURCE), "com.example.IndexedActionBean org.stripesframework.web.action.ActionBean\n".getBytes(StandardCharsets.UTF_8));
+
+      Set<String> found = withContextClassLoader(new Path[] { indexed }, loader -> {
+         ResolverUtil<Object> resolver = new ResolverUtil<>();
+         resolver.setClassIndexUsed(true);
+         resolver.findImplementations(Object.class, "com.example");
+         return resolver.getClasses().stream().map(Class::getName).collect(Collectors.toSet());
+      });
+
+      assertThat(found).containsExactlyInAnyOrder("com.example.IndexedActionBean", "com.example.UnlistedActionBean");
+   }
+
+   @Test
+   public void testClassIndexIsReadInsteadOfScanning() throws Exception {
+      Path indexed = givenCompiledActionBeans("indexed", "IndexedActionBean", "UnlistedActionBean");
+      Files.createDirectories(indexed.resolve("META-INF/stripes"));
+      Files.write(indexed.resolve(ClassIndex.RESOURCE), "com.example.IndexedActionBean org.stripesframework.web.action.ActionBean\n".getBytes(StandardCharsets.UTF_8));
+      Path scanned = givenCompiledActionBeans("scanned", "ScannedActionBean");
+
+      Set<String> withIndex = whenActionBeansFound(true, indexed, scanned);
+      Set<String> withoutIndex = whenActionBeansFound(false, indexed, scanned);
+
+      // the index is partial on purpose, to show that the listed classes are the only ones loaded
+      assertThat(withIndex).containsExactlyInAnyOrder("com.example.IndexedActionBean", "com.example.ScannedActionBean");
+      assertThat(withoutIndex).containsExactlyInAnyOrder("com.example.IndexedActionBean", "com.example.UnlistedActionBean", "com.example.ScannedActionBean");
+   }
+
    @Test
    public void testFindExtensionsOfClass() {
       ResolverUtil<SimpleError> resolver = new ResolverUtil<>();
@@ -58,6 +128,22 @@ public class ResolverUtilTest {
       assertThat(impls.size()).describedAs("Did not find all the built in TypeConverters.").isGreaterThan(10);
    }
 
+   @Test
+   public void testOnlyMatchingClassesAreLoaded() throws Exception {
+      Path directory = givenCompiledActionBeans("directory", "DirectoryActionBean");
+      Path jar = givenJar(givenCompiledScanCandidates());
+
+      Set<String> loaded = withContextClassLoader(new Path[] { directory, jar }, loader -> {
+         ResolverUtil<ActionBean> resolver = new ResolverUtil<>();
+         resolver.findImplementations(ActionBean.class, "com.example");
+         assertThat(resolver.getClasses()).extracting(Class::getName)
+               .containsExactlyInAnyOrder("com.example.DirectoryActionBean", "com.example.JarActionBean", "com.example.SubActionBean");
+         return loader._loaded;
+      });
+
+      assertThat(loaded).containsExactlyInAnyOrder("com.example.DirectoryActionBean", "com.example.JarActionBean", "com.example.SubActionBean");
+   }
+
    @Test
    public void testSimpleFind() {
       // Because the tests package depends on stripes, it's safe to assume that
@@ -74,6 +160,104 @@ public class ResolverUtilTest {
       assertThat(impls.size()).describedAs("Did not find all the built in TypeConverters.").isGreaterThan(10);
    }
 
+   /** Compiles ActionBeans of the given names in the package com.example into a new class directory. */
+   private Path givenCompiledActionBeans( String directory, String... names ) throws IOException {
+      Map<String, String> sources = new LinkedHashMap<>();
+      for ( String name : names ) {
+         sources.put(name, "public class " + name + " implements org.stripesframework.web.action.ActionBean {\n" //
+               + "   public org.stripesframework.web.action.ActionBeanContext getContext() { return null; }\n" //
+               + "   public void setContext( org.stripesframework.web.action.ActionBeanContext context ) {}\n" //
+               + "}\n");
+      }
+      return givenCompiledClasses(directory, sources);
+   }
+
+   /** Compiles the given class declarations, by class name, in the package com.example into a new class directory. */
+   private Path givenCompiledClasses( String directory, Map<String, String> declarations ) throws IOException {
+      Path sources = Files.createDirectories(_tempDir.resolve(directory + "-sources"));
+      Path classes = Files.createDirectories(_tempDir.resolve(directory));
+      List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(), "-classpath",
+            new File(ActionBean.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath()));
+      for ( Map.Entry<String, String> declaration : declarations.entrySet() ) {
+         Path source = sources.resolve(declaration.getKey() + ".java");
+         Files.write(source, ("package com.example;\n" + declaration.getValue()).getBytes(StandardCharsets.UTF_8));
+         arguments.add(source.toString());
+      }
+
+      assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0]))).isZero();
+      return classes;
+   }
+
+   /** Compiles ActionBeans, a subclass of one, an annotated class and an unrelated class. */
+   private Path givenCompiledScanCandidates() throws IOException {
+      Map<String, String> declarations = new LinkedHashMap<>();
+      declarations.put("JarActionBean", "public abstract class JarActionBean implements org.stripesframework.web.action.ActionBean {}\n");
+      declarations.put("SubActionBean", "public abstract class SubActionBean extends JarActionBean {}\n");
+      declarations.put("AnnotatedClass", "@org.stripesframework.web.action.UrlBinding(\"/annotated\") public class AnnotatedClass {}\n");
+      declarations.put("UnrelatedClass", "public class UnrelatedClass implements java.io.Serializable {}\n");
+      return givenCompiledClasses("jar", declarations);
+   }
+
+   /** Packs a class directory into a jar next to it. */
+   private Path givenJar( Path classes ) throws IOException {
+      Path jar = classes.resolveSibling(classes.getFileName() + ".jar");
+      try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar)); Stream<Path> files = Files.walk(classes)) {
+         for ( Path file : (Iterable<Path>)files.filter(file -> !file.equals(classes))::iterator ) {
+            String name = classes.relativize(file).toString().replace(File.separatorChar, '/');
+            // the class loader finds packages by their directory entries
+            if ( Files.isDirectory(file) ) {
+               out.putNextEntry(new JarEntry(name + "/"));
+            } else {
+               out.putNextEntry(new JarEntry(name));
+               Files.copy(file, out);
+            }
+            out.closeEntry();
+         }
+      }
+      return jar;
+   }
+
+   private Set<String> whenActionBeansFound( boolean classIndexUsed, Path... classDirectories ) throws Exception {
+      return withContextClassLoader(classDirectories, loader -> {
+         ResolverUtil<ActionBean> resolver = new ResolverUtil<>();
+         resolver.setClassIndexUsed(classIndexUsed);
+         resolver.findImplementations(ActionBean.class, "com.example");
+         return resolver.getClasses().stream().map(Class::getName).collect(Collectors.toSet());
+      });
+   }
+
+   private <R> R withContextClassLoader( Path[] classpath, Function<RecordingClassLoader, R> action ) throws Exception {
+      URL[] urls = new URL[classpath.length];
+      for ( int i = 0; i < classpath.length; i++ ) {
+         urls[i] = classpath[i].toUri().toURL();
+      }
+
+      Thread thread = Thread.currentThread();
+      ClassLoader previous = thread.getContextClassLoader();
+      try (RecordingClassLoader loader = new RecordingClassLoader(urls, previous)) {
+         thread.setContextClassLoader(loader);
+         return action.apply(loader);
+      }
+      finally {
+         thread.setContextClassLoader(previous);
+      }
+   }
+
    /** Test interface used with the testFindZeroImplementatios() method. */
    private interface ZeroImplementations {}
+
+
+   /** Records the classes it loads itself, rather than its parent. */
+   private static class RecordingClassLoader extends URLClassLoader {
+
+      private final Set<String> _loaded = ConcurrentHashMap.newKeySet();
+
+      RecordingClassLoader( URL[] urls, ClassLoader parent ) { super(urls, parent); }
+
+      @Override
+      protected Class<?> findClass( String name ) throws ClassNotFoundException {
+         _loaded.add(name);
+         return super.findClass(name);
+      }
+   }
 }
@@ -0,0 +1,67 @@
+package org.stripesframework.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+
+public class SimpleMessageFormatTest {
+
+   @Test
+   public void testArgumentsAreReplaced() {
+      assertThat(SimpleMessageFormat.format("{0} is not a valid {1}", Locale.US, "Fixed", "status")).isEqualTo("Fixed is not a valid status");
+      assertThat(SimpleMessageFormat.format("{1}{0}{1}", Locale.US, "a", "b")).isEqualTo("bab");
+   }
+
+   @Test
+   public void testDatesAreFormattedPerLocale() {
+      Date date = new GregorianCalendar(2024, Calendar.MARCH, 5, 14, 30).getTime();
+      assertThat(SimpleMessageFormat.format("{0}", Locale.GERMANY, date)).isEqualTo("05.03.24, 14:30");
+      assertThat(SimpleMessageFormat.format("{0}", Locale.GERMANY, new java.sql.Date(date.getTime()))).isEqualTo("05.03.24, 14:30");
+      assertThat(SimpleMessageFormat.format("{0}", Locale.US, date)).isEqualTo(
+            DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT).withLocale(Locale.US).format(date.toInstant().atZone(ZoneId.systemDefault())));
+   }
+
+   @Test
+   public void testMissingArgumentsAreOmitted() {
+      assertThat(SimpleMessageFormat.format("{0} and {5}", Locale.US, "one")).isEqualTo("one and ");
+      assertThat(SimpleMessageFormat.format("{0} and {1}", Locale.US, "one", null)).isEqualTo("one and ");
+   }
+
+   @Test
+   public void testNumbersAreFormattedPerLocale() {
+      assertThat(SimpleMessageFormat.format("{0}", Locale.US, 1234.5)).isEqualTo("1,234.5");
+      assertThat(SimpleMessageFormat.format("{0}", Locale.GERMANY, 1234.5)).isEqualTo("1.234,5");
+      assertThat(SimpleMessageFormat.format("{0}", null, 1234.5)).isEqualTo("1234.5");
+   }
+
+   @Test
+   public void testTemplateWithoutArgumentsIsReturned() {
+      String template = "it's {an} {} error {message";
+      assertThat(SimpleMessageFormat.format(template, Locale.US, "ignored")).isSameAs(template);
+   }
+
+   @Test
+   public void testTemplatesAreCached() {
+      SimpleMessageFormat.format("cached {0}", Locale.US, "once");
+      long hits = SimpleMessageFormat.getCacheStats().getHitCount();
+
+      assertThat(SimpleMessageFormat.format("cached {0}", Locale.US, "twice")).isEqualTo("cached twice");
+      assertThat(SimpleMessageFormat.getCacheStats().getHitCount()).isGreaterThan(hits);
+   }
+
+   @Test
+   public void testUnusualBraces() {
+      assertThat(SimpleMessageFormat.format("{{0}}", Locale.US, "x")).isEqualTo("{x}");
+      assertThat(SimpleMessageFormat.format("{0}{", Locale.US, "x")).isEqualTo("x{");
+      assertThat(SimpleMessageFormat.format("{ 0} {0 } {0}", Locale.US, "x")).isEqualTo("{ 0} {0 } x");
+   }
+}
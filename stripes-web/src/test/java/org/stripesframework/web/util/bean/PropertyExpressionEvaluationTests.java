@@ -1,9 +1,12 @@
 package org.stripesframework.web.util.bean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,26 @@ public class PropertyExpressionEvaluationTests extends FilterEnabledTestBase {
       assertThat(eval.getType()).isSameAs(Long.class);
    }
 
+   @Test
+   public void testGetBasicPropertyTypeWhenKnown() {
+      PropertyExpression expr = PropertyExpression.getExpression("listOfLongs");
+      PropertyExpressionEvaluation known = new PropertyExpressionEvaluation(expr, new TestActionBean());
+
+      TestActionBean bean = new TestActionBean();
+      PropertyExpressionEvaluation eval = new PropertyExpressionEvaluation(expr, bean, known.getRootNode().getValueType());
+      assertThat(eval.getType()).isSameAs(List.class);
+      assertThat(eval.getScalarType()).isSameAs(Long.class);
+
+      eval.setValue(new ArrayList<>(Arrays.asList(1L, 2L)));
+      assertThat(bean.getListOfLongs()).containsExactly(1L, 2L);
+   }
+
+   @Test
+   public void testKnownPropertyTypeRequiresSimpleExpression() {
+      PropertyExpression expr = PropertyExpression.getExpression("testBean.intProperty");
+      assertThatThrownBy(() -> new PropertyExpressionEvaluation(expr, new TestActionBean(), int.class)).isInstanceOf(IllegalArgumentException.class);
+   }
+
    @Test
    public void testGetNestedProperties() {
       TestBean root = new TestBean();
@@ -106,6 +129,23 @@ public class PropertyExpressionEvaluationTests extends FilterEnabledTestBase {
       assertThat(eval.getType()).isSameAs(Long.class);
    }
 
+   @Test
+   public void testGetSetPublicField() {
+      TestActionBean bean = new TestActionBean();
+      BeanUtil.setPropertyValue("publicLong", bean, 42L);
+      assertThat(bean.publicLong).isEqualTo(42L);
+      assertThat(BeanUtil.getPropertyValue("publicLong", bean)).isEqualTo(42L);
+   }
+
+   @Test
+   public void testReadOnlyAndWriteOnlyProperties() {
+      assertThatThrownBy(() -> BeanUtil.setPropertyValue("name", new Wombat(), "Fred")).isInstanceOf(EvaluationException.class).hasMessageContaining("read-only");
+      assertThatThrownBy(() -> BeanUtil.getPropertyValue("setOnlyString", new TestActionBean())).isInstanceOf(EvaluationException.class)
+            .hasMessageContaining("write-only");
+      assertThatThrownBy(() -> BeanUtil.setPropertyValue("singleLong", new TestActionBean(), "notALong")).isInstanceOf(EvaluationException.class)
+            .hasMessageContaining("due to an exception");
+   }
+
    @Test
    public void testGetSimpleProperties() {
       TestBean root = new TestBean();
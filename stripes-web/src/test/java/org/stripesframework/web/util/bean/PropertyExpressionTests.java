@@ -29,6 +29,14 @@ public class PropertyExpressionTests {
       assertThat(root.getNext().getTypedValue()).isEqualTo(Boolean.TRUE);
    }
 
+   @Test
+   public void testCachedExpression() {
+      PropertyExpression expr = PropertyExpression.getExpression("cached.expression");
+      long hits = PropertyExpression.getCacheStats().getHitCount();
+      assertThat(PropertyExpression.getExpression("cached.expression")).isSameAs(expr);
+      assertThat(PropertyExpression.getCacheStats().getHitCount()).isEqualTo(hits + 1);
+   }
+
    @Test
    public void testDotNotation() {
       PropertyExpression expr = PropertyExpression.getExpression("foo.bar.splat");